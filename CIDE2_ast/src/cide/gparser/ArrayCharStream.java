@@ -0,0 +1,336 @@
+package cide.gparser;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A {@link CharStream} over a text that is read completely before parsing,
+ * e.g., a whole file. In contrast to {@link OffsetCharStream}, which reads
+ * the input piecewise into a ring buffer and stores line, column and offset
+ * of every character, the text is kept in a single array, and line and
+ * column are computed on demand from the positions where the lines start.
+ * <p>
+ * Lines, columns (with tabs expanded to 8 columns) and offsets are the same
+ * as those of an {@link OffsetCharStream} over the same text, so that the
+ * generated token managers can use either stream.
+ */
+public class ArrayCharStream implements CharStream {
+
+	private char[] chars;
+
+	private final int length;
+
+	/** position of the character read last */
+	private int pos = -1;
+
+	private int tokenBegin = 0;
+
+	protected int tabSize = 8;
+
+	/** offsets of the first characters of all lines, computed on demand */
+	private int[] lineStarts;
+
+	private int lineCount;
+
+	// line of the character for which a line was computed last
+	private int cachedLine = 0;
+
+	// character and column for which a column was computed last
+	private int cachedColumnPos = -1;
+	private int cachedColumn = 0;
+
+	public ArrayCharStream(char[] chars, int length) {
+		this.chars = chars;
+		this.length = length;
+	}
+
+	public ArrayCharStream(String text) {
+		this(text.toCharArray(), text.length());
+	}
+
+	/**
+	 * reads the whole file with the default charset of the platform, like
+	 * {@link OffsetCharStream#OffsetCharStream(InputStream)}
+	 */
+	public ArrayCharStream(File file) throws FileNotFoundException {
+		this(file, Charset.defaultCharset());
+	}
+
+	public ArrayCharStream(File file, Charset charset) throws FileNotFoundException {
+		this(decode(readFile(file), charset));
+	}
+
+	/**
+	 * reads the whole stream with the default charset of the platform. like
+	 * in an {@link OffsetCharStream}, an error while reading ends the input.
+	 */
+	public ArrayCharStream(InputStream in) {
+		this(decode(readStream(in), Charset.defaultCharset()));
+	}
+
+	/**
+	 * reads the whole reader; like in an {@link OffsetCharStream}, an error
+	 * while reading ends the input.
+	 */
+	public ArrayCharStream(Reader reader) {
+		this(readReader(reader));
+	}
+
+	private ArrayCharStream(CharBuffer text) {
+		this(text.array(), text.limit());
+	}
+
+	private static ByteBuffer readFile(File file) throws FileNotFoundException {
+		FileInputStream in = new FileInputStream(file);
+		long size = file.length();
+		if (size <= 0 || size >= Integer.MAX_VALUE)
+			return readStream(in);
+		byte[] bytes = new byte[(int) size];
+		int read = 0;
+		try {
+			int n;
+			while (read < bytes.length && (n = in.read(bytes, read, bytes.length - read)) > 0)
+				read += n;
+			if (read == bytes.length) {
+				// the file may have grown since its length was taken
+				ByteBuffer rest = readStream(in);
+				if (rest.remaining() > 0) {
+					bytes = Arrays.copyOf(bytes, read + rest.remaining());
+					rest.get(bytes, read, rest.remaining());
+					read = bytes.length;
+				}
+			}
+		} catch (IOException e) {
+			// end of input, see OffsetCharStream.FillBuff()
+		} finally {
+			close(in);
+		}
+		return ByteBuffer.wrap(bytes, 0, read);
+	}
+
+	private static ByteBuffer readStream(InputStream in) {
+		byte[] bytes = new byte[8192];
+		int read = 0;
+		try {
+			int n;
+			while ((n = in.read(bytes, read, bytes.length - read)) > 0) {
+				read += n;
+				if (read == bytes.length)
+					bytes = Arrays.copyOf(bytes, bytes.length * 2);
+			}
+		} catch (IOException e) {
+			// end of input, see OffsetCharStream.FillBuff()
+		} finally {
+			close(in);
+		}
+		return ByteBuffer.wrap(bytes, 0, read);
+	}
+
+	private static CharBuffer readReader(Reader reader) {
+		char[] chars = new char[8192];
+		int read = 0;
+		try {
+			int n;
+			while ((n = reader.read(chars, read, chars.length - read)) > 0) {
+				read += n;
+				if (read == chars.length)
+					chars = Arrays.copyOf(chars, chars.length * 2);
+			}
+		} catch (IOException e) {
+			// end of input, see OffsetCharStream.FillBuff()
+		} finally {
+			try {
+				reader.close();
+			} catch (IOException e) {
+				// nothing to do
+			}
+		}
+		return CharBuffer.wrap(chars, 0, read);
+	}
+
+	private static CharBuffer decode(ByteBuffer bytes, Charset charset) {
+		CharBuffer text = charset.decode(bytes);
+		if (!text.hasArray() || text.arrayOffset() != 0 || text.position() != 0)
+			text = CharBuffer.wrap(text.toString().toCharArray());
+		return text;
+	}
+
+	private static void close(InputStream in) {
+		try {
+			in.close();
+		} catch (IOException e) {
+			// nothing to do
+		}
+	}
+
+	protected void setTabSize(int i) {
+		tabSize = i;
+	}
+
+	protected int getTabSize(int i) {
+		return tabSize;
+	}
+
+	public char readChar() throws IOException {
+		if (pos + 1 >= length)
+			throw new IOException();
+		return chars[++pos];
+	}
+
+	public char BeginToken() throws IOException {
+		tokenBegin = pos + 1;
+		if (tokenBegin >= length) {
+			// the end of file token is located at the last character
+			tokenBegin = pos;
+			throw new IOException();
+		}
+		return chars[++pos];
+	}
+
+	public void backup(int amount) {
+		pos -= amount;
+	}
+
+	public String GetImage() {
+		return new String(chars, tokenBegin, pos - tokenBegin + 1);
+	}
+
+	public char[] GetSuffix(int len) {
+		char[] ret = new char[len];
+		System.arraycopy(chars, pos - len + 1, ret, 0, len);
+		return ret;
+	}
+
+	public void Done() {
+		chars = null;
+		lineStarts = null;
+	}
+
+	public int getOffset() {
+		return tokenBegin;
+	}
+
+	public int getLength() {
+		return pos - tokenBegin + 1;
+	}
+
+	/**
+	 * @deprecated
+	 * @see #getEndColumn
+	 */
+	@Deprecated
+	public int getColumn() {
+		return getEndColumn();
+	}
+
+	/**
+	 * @deprecated
+	 * @see #getEndLine
+	 */
+	@Deprecated
+	public int getLine() {
+		return getEndLine();
+	}
+
+	public int getEndColumn() {
+		return columnAt(pos);
+	}
+
+	public int getEndLine() {
+		return lineAt(pos);
+	}
+
+	public int getBeginColumn() {
+		return columnAt(tokenBegin);
+	}
+
+	public int getBeginLine() {
+		return lineAt(tokenBegin);
+	}
+
+	/**
+	 * a line starts after a line feed and after a carriage return that is
+	 * not followed by a line feed
+	 */
+	private void indexLines() {
+		int[] starts = new int[Math.max(16, length / 32)];
+		int count = 0;
+		starts[count++] = 0;
+		for (int i = 0; i < length; i++) {
+			char c = chars[i];
+			if (c == '\n' || (c == '\r' && (i + 1 >= length || chars[i + 1] != '\n'))) {
+				if (count == starts.length)
+					starts = Arrays.copyOf(starts, count * 2);
+				starts[count++] = i + 1;
+			}
+		}
+		lineStarts = starts;
+		lineCount = count;
+	}
+
+	/**
+	 * @return index of the line of the character at the given offset,
+	 *         starting at 0
+	 */
+	private int lineIndex(int offset) {
+		if (lineStarts == null)
+			indexLines();
+		int line = cachedLine;
+		if (offset >= lineStarts[line]
+				&& (line + 1 == lineCount || offset < lineStarts[line + 1]))
+			return line;
+		int low = 0;
+		int high = lineCount - 1;
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (lineStarts[mid] <= offset)
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		cachedLine = low;
+		return low;
+	}
+
+	private int lineAt(int offset) {
+		if (offset < 0)
+			return 1;
+		return lineIndex(offset) + 1;
+	}
+
+	private int columnAt(int offset) {
+		if (offset < 0)
+			return 0;
+		if (offset == cachedColumnPos)
+			return cachedColumn;
+		int lineStart = lineStarts[lineIndex(offset)];
+		int i;
+		int column;
+		if (cachedColumnPos >= lineStart && cachedColumnPos < offset) {
+			// continue on the same line
+			i = cachedColumnPos + 1;
+			column = cachedColumn;
+		} else {
+			i = lineStart;
+			column = 0;
+		}
+		for (; i <= offset; i++) {
+			column++;
+			if (chars[i] == '\t') {
+				column--;
+				column += (tabSize - (column % tabSize));
+			}
+		}
+		cachedColumnPos = offset;
+		cachedColumn = column;
+		return column;
+	}
+}
@@ -3,6 +3,7 @@ package builder;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.StringTokenizer;
 
 import cide.gparser.ParseException;
@@ -11,6 +12,7 @@ import composer.FSTGenComposer;
 
 import de.ovgu.cide.fstgen.ast.AbstractFSTParser;
 import de.ovgu.cide.fstgen.ast.FSTFeatureNode;
+import de.ovgu.cide.fstgen.ast.FSTNode;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 
 public abstract class ArtifactBuilder implements ArtifactBuilderInterface {
@@ -23,6 +25,8 @@ public abstract class ArtifactBuilder implements ArtifactBuilderInterface {
 	
 	private boolean preprocessNode = false;
 
+	private ParseCache parseCache = null;
+
 	public boolean isPreprocessNode() {
 		return preprocessNode;
 	}
@@ -31,6 +35,26 @@ public abstract class ArtifactBuilder implements ArtifactBuilderInterface {
 		this.preprocessNode = preprocessNode;
 	}
 
+	public ParseCache getParseCache() {
+		return parseCache;
+	}
+
+	/**
+	 * Sets the cache of parsed files or null to parse all files.
+	 */
+	public void setParseCache(ParseCache parseCache) {
+		this.parseCache = parseCache;
+	}
+
+	/**
+	 * @return whether the tree of a file depends only on the content and the
+	 *         name of the file, so that it can be stored in the
+	 *         {@link ParseCache}
+	 */
+	protected boolean isParseCacheable() {
+		return true;
+	}
+
 	public ArtifactBuilder(String suffix) {
 		String[] suffixes = new String[1];
 		suffixes[0] = suffix;
@@ -62,7 +86,9 @@ public abstract class ArtifactBuilder implements ArtifactBuilderInterface {
 	}
 	
 	public void addFeature(FSTNonTerminal feature) {
-		featureNodes.add(feature);
+		synchronized (featureNodes) {
+			featureNodes.add(feature);
+		}
 	}
 
 	public abstract void processNode(FSTNonTerminal parent, StringTokenizer st,
@@ -95,13 +121,15 @@ public abstract class ArtifactBuilder implements ArtifactBuilderInterface {
 	 * @return matching Feature Tree
 	 */
 	private FSTNonTerminal getFeatureTree(String featureName) {
-		for (FSTNonTerminal featureNode : featureNodes) {
-			if (featureNode.getName().equals(featureName))
-				return featureNode;
+		synchronized (featureNodes) {
+			for (FSTNonTerminal featureNode : featureNodes) {
+				if (featureNode.getName().equals(featureName))
+					return featureNode;
+			}
+			FSTNonTerminal newFeatureNode = new FSTFeatureNode(featureName);
+			featureNodes.add(newFeatureNode);
+			return newFeatureNode;
 		}
-		FSTNonTerminal newFeatureNode = new FSTFeatureNode(featureName);
-		featureNodes.add(newFeatureNode);
-		return newFeatureNode;
 	}
 	
 	public void preprocessFile(File inputFile) throws FileNotFoundException { }
@@ -113,10 +141,95 @@ public abstract class ArtifactBuilder implements ArtifactBuilderInterface {
 	 */
 	public void processFile(File inputFile) throws FileNotFoundException,
 			ParseException {
-		FSTGenComposer.outStream.println("processing: " + inputFile.getPath());
-		FSTNonTerminal parent = null;
+		if (parseCache != null && isParseCacheable()) {
+			addParsedFile(parseFile(inputFile));
+			return;
+		}
+		FSTGenComposer.getOutStream().println("processing: " + inputFile.getPath());
+		StringTokenizer st = new StringTokenizer(inputFile.getPath(),
+				File.separator);
+		FSTNonTerminal parent = getParentNode(inputFile, st);
+		if (parent != null && st.hasMoreTokens()) {
+			processNode(parent, st, inputFile);
+		}
+	}
+
+	/**
+	 * Parses the given file into a tree that is not yet attached to any
+	 * feature tree. In contrast to {@link #processFile(File)}, this method may
+	 * be called by several threads at once. The result must be attached with
+	 * {@link #addParsedFile(ParsedFile)}, which has to be called in the order
+	 * in which the files would have been passed to {@link #processFile(File)}.
+	 * 
+	 * @param inputFile the file to parse
+	 * @return the parsed file; parse errors are reported when it is added
+	 */
+	public ParsedFile parseFile(File inputFile) {
+		ParseCache cache = isParseCacheable() ? parseCache : null;
+		String key = cache != null ? cache.getKey(this, inputFile) : null;
+		if (key != null) {
+			ParsedFile cached = cache.load(key, inputFile);
+			if (cached != null)
+				return cached;
+		}
+		FSTNonTerminal detachedParent = new FSTNonTerminal("Folder",
+				inputFile.getParent());
+		Throwable error = null;
+		AbstractFSTParser.startRecordingFSTNodes();
+		try {
+			processNode(detachedParent, new StringTokenizer(
+					inputFile.getName(), File.separator), inputFile);
+		} catch (Throwable t) {
+			error = t;
+		}
+		List<String> generatedNames = AbstractFSTParser.getRecordedGeneratedNames();
+		List<FSTNode> fstnodes = AbstractFSTParser.stopRecordingFSTNodes();
+		ParsedFile parsedFile = new ParsedFile(inputFile, detachedParent, fstnodes, error);
+		if (key != null && error == null)
+			cache.store(key, parsedFile, generatedNames);
+		return parsedFile;
+	}
+
+	/**
+	 * Attaches a file parsed with {@link #parseFile(File)} to its feature tree.
+	 * The result is the same as if the file had been passed to
+	 * {@link #processFile(File)}, including the parse errors that are thrown.
+	 */
+	public void addParsedFile(ParsedFile parsedFile)
+			throws FileNotFoundException, ParseException {
+		File inputFile = parsedFile.getFile();
+		FSTGenComposer.getOutStream().println("processing: " + inputFile.getPath());
 		StringTokenizer st = new StringTokenizer(inputFile.getPath(),
 				File.separator);
+		FSTNonTerminal parent = getParentNode(inputFile, st);
+		if (parent == null || !st.hasMoreTokens()) {
+			return;
+		}
+		AbstractFSTParser.rememberFSTNodes(parsedFile.fstnodes);
+		for (FSTNode child : parsedFile.detachedParent.getChildren()) {
+			parent.addChild(child);
+		}
+		Throwable error = parsedFile.error;
+		if (error instanceof ParseException)
+			throw (ParseException) error;
+		if (error instanceof FileNotFoundException)
+			throw (FileNotFoundException) error;
+		if (error instanceof RuntimeException)
+			throw (RuntimeException) error;
+		if (error instanceof Error)
+			throw (Error) error;
+	}
+
+	/**
+	 * Returns the node below which the given file has to be added, creating
+	 * the folder nodes between the feature and the file if needed. Afterwards,
+	 * the only token left in st is the name of the file.
+	 * 
+	 * @return the parent node or null if the file is not in a feature of the
+	 *         base directory
+	 */
+	private FSTNonTerminal getParentNode(File inputFile, StringTokenizer st) {
+		FSTNonTerminal parent = null;
 
 		// Directory containing the Features
 
@@ -143,31 +256,50 @@ public abstract class ArtifactBuilder implements ArtifactBuilderInterface {
 			parent = getFeatureTree(featureName);
 
 			// memorize the feature to which the nodes belong
-			AbstractFSTParser.fstnodes.add(new FSTNonTerminal("Feature", parent
-					.getName()));
+			AbstractFSTParser.rememberFSTNode(new FSTNonTerminal("Feature",
+					parent.getName()));
 			// mark that the next file of FST begins
-			AbstractFSTParser.fstnodes.add(new FSTNonTerminal("EOF Marker",
+			AbstractFSTParser.rememberFSTNode(new FSTNonTerminal("EOF Marker",
 					inputFile.toString()));
 
-			while (st.hasMoreTokens()) {
-				if (st.countTokens() > 1) {
-					// still folders between current position and file
-					FSTNonTerminal newNode = new FSTNonTerminal("Folder", st
-							.nextToken());
-					FSTNonTerminal oldNode = (FSTNonTerminal) parent
-							.getCompatibleChild(newNode);
-					if (parent != null && oldNode == null) {
-						parent.addChild(newNode);
-						parent = newNode;
-					} else {
-						parent = oldNode;
-					}
-
+			// still folders between current position and file
+			while (st.countTokens() > 1) {
+				FSTNonTerminal newNode = new FSTNonTerminal("Folder", st
+						.nextToken());
+				FSTNonTerminal oldNode = (FSTNonTerminal) parent
+						.getCompatibleChild(newNode);
+				if (oldNode == null) {
+					parent.addChild(newNode);
+					parent = newNode;
 				} else {
-					processNode(parent, st, inputFile);
+					parent = oldNode;
 				}
 			}
 		}
+		return parent;
+	}
+
+	/**
+	 * A file parsed by {@link ArtifactBuilder#parseFile(File)} that has not
+	 * been attached to its feature tree yet.
+	 */
+	public static class ParsedFile {
+		private final File file;
+		final FSTNonTerminal detachedParent;
+		final List<FSTNode> fstnodes;
+		private final Throwable error;
+
+		ParsedFile(File file, FSTNonTerminal detachedParent,
+				List<FSTNode> fstnodes, Throwable error) {
+			this.file = file;
+			this.detachedParent = detachedParent;
+			this.fstnodes = fstnodes;
+			this.error = error;
+		}
+
+		public File getFile() {
+			return file;
+		}
 	}
 
 	@Override
@@ -175,7 +307,7 @@ public abstract class ArtifactBuilder implements ArtifactBuilderInterface {
 		if (inputFile.isFile()) {
 			for (String suffix : getSuffixes()) {
 				if (inputFile.getName().endsWith(suffix)) {
-					AbstractFSTParser.fstnodes.add(0, new FSTNonTerminal(
+					AbstractFSTParser.rememberFSTNodeFirst(new FSTNonTerminal(
 							"language", suffix));
 					return true;
 				}
@@ -183,4 +315,16 @@ public abstract class ArtifactBuilder implements ArtifactBuilderInterface {
 		}
 		return false;
 	}
+
+	/**
+	 * @return whether files with the given name are processed by this
+	 *         builder, regardless of whether such a file exists
+	 */
+	public boolean acceptFileName(String fileName) {
+		for (String suffix : getSuffixes()) {
+			if (fileName.endsWith(suffix))
+				return true;
+		}
+		return false;
+	}
 }
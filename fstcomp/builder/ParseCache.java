@@ -0,0 +1,388 @@
+package builder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import builder.ArtifactBuilder.ParsedFile;
+import de.ovgu.cide.fstgen.ast.AbstractFSTParser;
+import de.ovgu.cide.fstgen.ast.FSTBinaryReader;
+import de.ovgu.cide.fstgen.ast.FSTBinaryWriter;
+import de.ovgu.cide.fstgen.ast.CommandLineParameterHelper;
+import de.ovgu.cide.fstgen.ast.FSTNode;
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+
+/**
+ * Directory that stores the FSTs of parsed files, so that unchanged files do
+ * not have to be parsed again in later runs.
+ * <p>
+ * An entry is keyed by the content of the file, its name, the builder and the
+ * version of the builder (the modification time of the jar or class file it
+ * was loaded from), so that entries of changed files or grammars are never
+ * used. Unused entries are evicted (least recently used first) when the cache
+ * grows beyond its maximum size.
+ * <p>
+ * Only trees of plain {@link FSTNonTerminal}s and {@link FSTTerminal}s are
+ * cached, in the format of {@link FSTBinaryWriter}. Files whose trees contain other node classes (e.g. XML) are parsed
+ * every time.
+ */
+public class ParseCache {
+
+	private static final int MAGIC = 0x46535443; // "FSTC"
+
+	private static final int FORMAT_VERSION = 2;
+
+	private static final String SUFFIX = ".fst";
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static final Pattern GENERATED_NAME = Pattern.compile("auto[0-9]+");
+
+	private final File directory;
+
+	private final long maxSize;
+
+	private long size = -1;
+
+	private int hits = 0;
+
+	private int misses = 0;
+
+	private final Map<Class<?>, String> builderVersions = new HashMap<Class<?>, String>();
+
+	/**
+	 * @param directory directory of the cache; created if it does not exist
+	 * @param maxSize maximum size of all entries in bytes
+	 */
+	public ParseCache(File directory, long maxSize) {
+		this.directory = directory;
+		this.maxSize = maxSize;
+		directory.mkdirs();
+	}
+
+	public File getDirectory() {
+		return directory;
+	}
+
+	public synchronized int getHits() {
+		return hits;
+	}
+
+	public synchronized int getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return the tree of the file with the given key stored by an earlier
+	 *         run, or null if there is none
+	 */
+	ParsedFile load(String key, File inputFile) {
+		File entry = new File(directory, key + SUFFIX);
+		if (entry.isFile()) {
+			try {
+				ParsedFile parsedFile = read(entry, key, inputFile);
+				entry.setLastModified(System.currentTimeMillis());
+				synchronized (this) {
+					hits++;
+				}
+				return parsedFile;
+			} catch (IOException e) {
+				// outdated or damaged entry
+				remove(entry);
+			}
+		}
+		synchronized (this) {
+			misses++;
+		}
+		return null;
+	}
+
+	/**
+	 * stores the tree of a file that has been parsed without errors
+	 */
+	void store(String key, ParsedFile parsedFile, List<String> generatedNames) {
+		if (!isCacheable(parsedFile))
+			return;
+		File entry = new File(directory, key + SUFFIX);
+		File tmp = new File(directory, key + "." + Thread.currentThread().getId() + ".tmp");
+		try {
+			write(tmp, key, parsedFile, generatedNames);
+			if (!tmp.renameTo(entry)) {
+				tmp.delete();
+				return;
+			}
+		} catch (IOException e) {
+			tmp.delete();
+			return;
+		}
+		added(entry.length());
+	}
+
+	/**
+	 * removes all entries
+	 */
+	public synchronized void clear() {
+		File[] entries = directory.listFiles();
+		if (entries != null)
+			for (File entry : entries)
+				if (entry.getName().endsWith(SUFFIX))
+					entry.delete();
+		size = 0;
+	}
+
+	private synchronized void added(long entrySize) {
+		if (size < 0)
+			size = computeSize();
+		else
+			size += entrySize;
+		if (size > maxSize)
+			evict();
+	}
+
+	private synchronized void remove(File entry) {
+		long length = entry.length();
+		if (entry.delete() && size >= 0)
+			size -= length;
+	}
+
+	private long computeSize() {
+		long result = 0;
+		File[] entries = directory.listFiles();
+		if (entries != null)
+			for (File entry : entries)
+				if (entry.getName().endsWith(SUFFIX))
+					result += entry.length();
+		return result;
+	}
+
+	/**
+	 * removes the least recently used entries until the cache is filled to
+	 * three quarters of its maximum size
+	 */
+	private void evict() {
+		File[] entries = directory.listFiles();
+		if (entries == null)
+			return;
+		final Map<File, Long> lastUsed = new HashMap<File, Long>();
+		for (File entry : entries)
+			lastUsed.put(entry, entry.lastModified());
+		Arrays.sort(entries, new Comparator<File>() {
+			public int compare(File a, File b) {
+				return lastUsed.get(a).compareTo(lastUsed.get(b));
+			}
+		});
+		size = computeSize();
+		for (File entry : entries) {
+			if (size <= maxSize / 4 * 3)
+				break;
+			if (entry.getName().endsWith(SUFFIX)) {
+				long length = entry.length();
+				if (entry.delete())
+					size -= length;
+			}
+		}
+	}
+
+	/**
+	 * @return the key of the entry for the given file or null if the file
+	 *         cannot be read
+	 */
+	String getKey(ArtifactBuilder builder, File inputFile) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-1");
+			md.update(("" + FORMAT_VERSION + '\n' + builder.getClass().getName()
+					+ '\n' + getBuilderVersion(builder.getClass()) + '\n'
+					+ CommandLineParameterHelper.isJML() + '\n'
+					+ inputFile.getName() + '\n').getBytes(UTF8));
+			md.update(Files.readAllBytes(inputFile.toPath()));
+			return String.format("%040x", new BigInteger(1, md.digest()));
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private synchronized String getBuilderVersion(Class<?> builderClass) {
+		String version = builderVersions.get(builderClass);
+		if (version == null) {
+			version = "";
+			try {
+				URL location = builderClass.getProtectionDomain().getCodeSource().getLocation();
+				File source = new File(location.toURI());
+				if (source.isFile()) {
+					// jar file that contains builders and parsers
+					version = source.lastModified() + ":" + source.length();
+				} else {
+					URL classFile = builderClass.getResource(builderClass.getSimpleName() + ".class");
+					URLConnection connection = classFile.openConnection();
+					version = connection.getLastModified() + ":" + connection.getContentLength();
+				}
+			} catch (Exception e) {
+				// no version information; entries are keyed by content only
+			}
+			builderVersions.put(builderClass, version);
+		}
+		return version;
+	}
+
+	private static boolean isCacheable(ParsedFile parsedFile) {
+		IdentityHashMap<FSTNode, Integer> indices = new IdentityHashMap<FSTNode, Integer>();
+		for (FSTNode child : parsedFile.detachedParent.getChildren())
+			if (!index(child, indices))
+				return false;
+		// nodes memorized by the parser must be part of the tree
+		for (FSTNode node : parsedFile.fstnodes)
+			if (!indices.containsKey(node))
+				return false;
+		return true;
+	}
+
+	private static boolean index(FSTNode node, IdentityHashMap<FSTNode, Integer> indices) {
+		indices.put(node, indices.size());
+		if (node.getClass() == FSTNonTerminal.class) {
+			for (FSTNode child : ((FSTNonTerminal) node).getChildren())
+				if (!index(child, indices))
+					return false;
+			return true;
+		}
+		return node.getClass() == FSTTerminal.class;
+	}
+
+	private static void write(File file, String key, ParsedFile parsedFile,
+			List<String> generatedNames) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(file)));
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeUTF(key);
+			out.writeInt(generatedNames.size());
+			for (String name : generatedNames)
+				out.writeUTF(name);
+			FSTBinaryWriter trees = new FSTBinaryWriter(out);
+			IdentityHashMap<FSTNode, Integer> indices = new IdentityHashMap<FSTNode, Integer>();
+			for (FSTNode child : parsedFile.detachedParent.getChildren()) {
+				index(child, indices);
+				trees.write(child);
+			}
+			trees.finish();
+			out.writeInt(parsedFile.fstnodes.size());
+			for (FSTNode node : parsedFile.fstnodes)
+				out.writeInt(indices.get(node));
+		} finally {
+			out.close();
+		}
+	}
+
+	private static ParsedFile read(File file, String key, File inputFile)
+			throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new FileInputStream(file)));
+		try {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION
+					|| !in.readUTF().equals(key))
+				throw new IOException("not a parse cache entry: " + file);
+			// names generated for {AUTO} must be unique in this run as well
+			Map<String, String> renamed = new HashMap<String, String>();
+			int generated = in.readInt();
+			for (int i = 0; i < generated; i++)
+				renamed.put(in.readUTF(), AbstractFSTParser.generateUniqueName());
+			FSTBinaryReader trees = new RenamingReader(in, renamed);
+			FSTNonTerminal detachedParent = new FSTNonTerminal("Folder",
+					inputFile.getParent());
+			List<FSTNode> nodes = new ArrayList<FSTNode>();
+			FSTNode tree;
+			while ((tree = trees.read()) != null) {
+				detachedParent.addChild(tree);
+				collect(tree, nodes);
+			}
+			int remembered = in.readInt();
+			List<FSTNode> fstnodes = new ArrayList<FSTNode>(remembered);
+			for (int i = 0; i < remembered; i++)
+				fstnodes.add(nodes.get(in.readInt()));
+			return new ParsedFile(inputFile, detachedParent, fstnodes, null);
+		} catch (RuntimeException e) {
+			throw new IOException(e);
+		} finally {
+			in.close();
+		}
+	}
+
+	// the nodes in the order of index()
+	private static void collect(FSTNode node, List<FSTNode> nodes) {
+		nodes.add(node);
+		if (node instanceof FSTNonTerminal)
+			for (FSTNode child : ((FSTNonTerminal) node).getChildren())
+				collect(child, nodes);
+	}
+
+	/**
+	 * replaces the generated names in the types and names of the nodes
+	 */
+	private static class RenamingReader extends FSTBinaryReader {
+		private final Map<String, String> renamed;
+		private final Map<String, String> mapped = new HashMap<String, String>();
+
+		RenamingReader(DataInputStream in, Map<String, String> renamed) throws IOException {
+			super(in);
+			this.renamed = renamed;
+		}
+
+		@Override
+		protected String mapName(String name) {
+			if (name == null || renamed.isEmpty())
+				return name;
+			String result = mapped.get(name);
+			if (result == null) {
+				result = rename(name);
+				mapped.put(name, result);
+			}
+			return result;
+		}
+
+		private String rename(String name) {
+			Matcher m = GENERATED_NAME.matcher(name);
+			StringBuffer result = null;
+			while (m.find()) {
+				String replacement = renamed.get(m.group());
+				if (replacement == null || !isDelimited(name, m.start(), m.end()))
+					continue;
+				if (result == null)
+					result = new StringBuffer();
+				m.appendReplacement(result, replacement);
+			}
+			if (result == null)
+				return name;
+			m.appendTail(result);
+			return result.toString();
+		}
+
+		private static boolean isDelimited(String s, int start, int end) {
+			return (start == 0 || !Character.isJavaIdentifierPart(s.charAt(start - 1)))
+					&& (end == s.length() || !Character.isJavaIdentifierPart(s.charAt(end)));
+		}
+	}
+}
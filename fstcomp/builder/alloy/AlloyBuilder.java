@@ -1,12 +1,11 @@
 package builder.alloy;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_alloy.AlloyParser;
@@ -21,8 +20,7 @@ public class AlloyBuilder extends ArtifactBuilder {
 		FSTNonTerminal rootDocument = new FSTNonTerminal("Alloy-File", st
 				.nextToken());
 		parent.addChild(rootDocument);
-		AlloyParser p = new AlloyParser(new OffsetCharStream(
-				new FileInputStream(inputFile)));
+		AlloyParser p = new AlloyParser(new ArrayCharStream(inputFile));
 		p.Specification(false);
 		rootDocument.addChild(p.getRoot());
 	}
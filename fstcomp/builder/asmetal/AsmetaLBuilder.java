@@ -1,12 +1,11 @@
 package builder.asmetal;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_AsmetaL.AsmetaLParser;
@@ -22,8 +21,7 @@ public class AsmetaLBuilder extends ArtifactBuilder {
 				st.nextToken());
 		parent.addChild(rootDocument);
 
-		AsmetaLParser p = new AsmetaLParser(new OffsetCharStream(
-				new FileInputStream(inputFile)));
+		AsmetaLParser p = new AsmetaLParser(new ArrayCharStream(inputFile));
 		p.CompilationUnit(false);
 		rootDocument.addChild(p.getRoot());
 
@@ -23,4 +23,10 @@ public class BinaryBuilder extends ArtifactBuilder {
 		FSTTerminal contentNode = new FSTTerminal(getSuffix() + "-Content", docName, inputFile.getAbsolutePath(), "", CompositionError.COMPOSITION_RULE_NAME);
 		rootDocument.addChild(contentNode);
 	}
+
+	@Override
+	protected boolean isParseCacheable() {
+		// the tree refers to the location of the file, and there is nothing to parse
+		return false;
+	}
 }
@@ -1,12 +1,11 @@
 package builder.capprox;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_capprox.CApproxParser;
@@ -31,8 +30,7 @@ public class CApproxBuilder extends ArtifactBuilder {
 	FSTNonTerminal rootDocument = new FSTNonTerminal(type, st
 		.nextToken());
 	parent.addChild(rootDocument);
-	CApproxParser p = new CApproxParser(new OffsetCharStream(
-		new FileInputStream(inputFile)));
+	CApproxParser p = new CApproxParser(new ArrayCharStream(inputFile));
 	p.TranslationUnit(false);
 	rootDocument.addChild(p.getRoot());
 	// System.err.println(p.getRoot().toString());
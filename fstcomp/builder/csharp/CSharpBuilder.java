@@ -1,12 +1,11 @@
 package builder.csharp;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_csharp.CSharpParser;
@@ -21,8 +20,7 @@ public class CSharpBuilder extends ArtifactBuilder {
 		FSTNonTerminal rootDocument = new FSTNonTerminal("CSharp-File", st
 				.nextToken());
 		parent.addChild(rootDocument);
-		CSharpParser p = new CSharpParser(new OffsetCharStream(
-				new FileInputStream(inputFile)));
+		CSharpParser p = new CSharpParser(new ArrayCharStream(inputFile));
 		p.compilation_unit(false);
 		rootDocument.addChild(p.getRoot());
 	}
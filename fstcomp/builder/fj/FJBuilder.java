@@ -1,12 +1,11 @@
 package builder.fj;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_fj.FJParser;
@@ -21,8 +20,7 @@ public class FJBuilder extends ArtifactBuilder {
 		FSTNonTerminal rootDocument = new FSTNonTerminal("FeatherweightJava-File", st
 				.nextToken());
 		parent.addChild(rootDocument);
-		FJParser p = new FJParser(new OffsetCharStream(
-				new FileInputStream(inputFile)));
+		FJParser p = new FJParser(new ArrayCharStream(inputFile));
 		p.TypeDeclaration(false);
 		rootDocument.addChild(p.getRoot());
 	}
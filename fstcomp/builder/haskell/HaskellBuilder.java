@@ -1,12 +1,11 @@
 package builder.haskell;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_haskell.HaskellParser;
@@ -21,8 +20,7 @@ public class HaskellBuilder extends ArtifactBuilder {
 		FSTNonTerminal rootDocument = new FSTNonTerminal("Haskell-File", st
 				.nextToken());
 		parent.addChild(rootDocument);
-		HaskellParser p = new HaskellParser(new OffsetCharStream(
-				new FileInputStream(inputFile)));
+		HaskellParser p = new HaskellParser(new ArrayCharStream(inputFile));
 		p.module(false);
 		rootDocument.addChild(p.getRoot());
 	}
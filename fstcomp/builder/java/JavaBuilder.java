@@ -1,12 +1,11 @@
 package builder.java;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.CommandLineParameterHelper;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
@@ -26,14 +25,12 @@ public class JavaBuilder extends ArtifactBuilder {
 		
 		
 		if(CommandLineParameterHelper.isJML()){
-			JMLParser p = new JMLParser(new OffsetCharStream(
-					new FileInputStream(inputFile)));
+			JMLParser p = new JMLParser(new ArrayCharStream(inputFile));
 			p.CompilationUnit(false);
 			rootDocument.addChild(p.getRoot());
 		}
 		else{
-			Java15Parser p = new Java15Parser(new OffsetCharStream(
-					new FileInputStream(inputFile)));
+			Java15Parser p = new Java15Parser(new ArrayCharStream(inputFile));
 			p.CompilationUnit(false);
 			rootDocument.addChild(p.getRoot());
 		}
@@ -1,12 +1,11 @@
 package builder.javacc;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_javacc.JavaCCParser;
@@ -21,8 +20,7 @@ public class JavaCCBuilder extends ArtifactBuilder {
 		FSTNonTerminal rootDocument = new FSTNonTerminal("JavaCC-File", st
 				.nextToken());
 		parent.addChild(rootDocument);
-		JavaCCParser p = new JavaCCParser(new OffsetCharStream(
-				new FileInputStream(inputFile)));
+		JavaCCParser p = new JavaCCParser(new ArrayCharStream(inputFile));
 		p.javacc_input(false);
 		rootDocument.addChild(p.getRoot());
 	}
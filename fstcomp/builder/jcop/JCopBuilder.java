@@ -1,12 +1,11 @@
 package builder.jcop;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_jcop.JCopParser;
@@ -21,8 +20,7 @@ public class JCopBuilder extends ArtifactBuilder {
 		FSTNonTerminal rootDocument = new FSTNonTerminal("JCop-File", st
 				.nextToken());
 		parent.addChild(rootDocument);
-		JCopParser p = new JCopParser(new OffsetCharStream(
-				new FileInputStream(inputFile)));
+		JCopParser p = new JCopParser(new ArrayCharStream(inputFile));
 		p.CompilationUnit(false);
 		rootDocument.addChild(p.getRoot());
 	}
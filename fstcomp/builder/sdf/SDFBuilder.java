@@ -1,12 +1,11 @@
 package builder.sdf;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_sdf.SDFParser;
@@ -22,8 +21,7 @@ public class SDFBuilder extends ArtifactBuilder {
 		FSTNonTerminal rootDocument = new FSTNonTerminal("SDF-File",
 				st.nextToken());
 		parent.addChild(rootDocument);
-		SDFParser p = new SDFParser(new OffsetCharStream(new FileInputStream(
-				inputFile)));
+		SDFParser p = new SDFParser(new ArrayCharStream(inputFile));
 		p.Module(false);
 		rootDocument.addChild(p.getRoot());
 	}
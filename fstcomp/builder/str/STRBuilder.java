@@ -1,12 +1,11 @@
 package builder.str;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_stratego.StrategoParser;
@@ -22,8 +21,7 @@ public class STRBuilder extends ArtifactBuilder {
 		FSTNonTerminal rootDocument = new FSTNonTerminal("STR-File",
 				st.nextToken());
 		parent.addChild(rootDocument);
-		StrategoParser p = new StrategoParser(new OffsetCharStream(
-				new FileInputStream(inputFile)));
+		StrategoParser p = new StrategoParser(new ArrayCharStream(inputFile));
 		p.Module(false);
 		rootDocument.addChild(p.getRoot());
 	}
@@ -57,7 +57,7 @@ public class XMIFactory {
 	 */
 	private void extractFST(Element masterRoot, FSTNonTerminal FSTroot) {
 		
-		AbstractFSTParser.fstnodes.add(FSTroot);
+		AbstractFSTParser.rememberFSTNode(FSTroot);
 
 		NodeList modelList = masterRoot
 				.getElementsByTagName("UML:Namespace.ownedElement");
@@ -59,7 +59,7 @@ public class XMLFactory {
 	 */
 	private void extractFST(Element masterRoot, FSTNonTerminal FSTroot) {
 
-		AbstractFSTParser.fstnodes.add(FSTroot);
+		AbstractFSTParser.rememberFSTNode(FSTroot);
 		
 		NodeList childNodes = masterRoot.getChildNodes();
 
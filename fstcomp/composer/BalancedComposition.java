@@ -0,0 +1,302 @@
+package composer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import composer.rules.AsmetaLFunctionOverriding;
+import composer.rules.AsmetaLInitializationConcatenation;
+import composer.rules.AsmetaLInvariantConjunction;
+import composer.rules.AsmetaLRuleOverriding;
+import composer.rules.CompositionError;
+import composer.rules.CompositionRule;
+import composer.rules.CompositionRuleRegistry;
+import composer.rules.ConstructorConcatenation;
+import composer.rules.ExpansionOverriding;
+import composer.rules.FieldOverriding;
+import composer.rules.ImplementsListMerging;
+import composer.rules.JavaMethodOverriding;
+import composer.rules.ModifierListSpecialization;
+import composer.rules.Replacement;
+import composer.rules.StringConcatenation;
+
+import de.ovgu.cide.fstgen.ast.CommandLineParameterHelper;
+import de.ovgu.cide.fstgen.ast.FSTFeatureNode;
+import de.ovgu.cide.fstgen.ast.FSTNode;
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+
+/**
+ * Composes the features of a product as a balanced binary reduction on a
+ * fork-join pool, instead of folding them one after another into a growing
+ * tree (see {@link CmdLineInterpreter#INPUT_OPTION_COMPOSE_THREADS}). The
+ * result is the same as that of {@link FSTGenComposer#compose(FSTNode, FSTNode)}
+ * applied from left to right.
+ * <p>
+ * Superimposing the nonterminals is associative, but the composition rules
+ * are not: e.g., {@link JavaMethodOverriding} replaces <code>original()</code>
+ * only in the refining method and names the refined method after the feature
+ * it comes from. Therefore, the reduction only superimposes the trees and
+ * collects the versions of each terminal that occurs in several features.
+ * Afterwards, the rules compose these versions in the same order as the
+ * left fold, i.e., feature by feature and in preorder within a feature.
+ * Nodes that a rule adds to the parent of a terminal are inserted in front
+ * of it, where the left fold places them.
+ * <p>
+ * Rules are deferred like this only if they depend on nothing but the
+ * composed terminals; {@link #isApplicable(List)} tells whether this holds
+ * for all terminals of the features.
+ */
+class BalancedComposition {
+
+	/**
+	 * the rules that only read the terminals they compose and, at most, add
+	 * nodes to the parent
+	 */
+	private static final Set<Class<?>> DEFERRABLE_RULES = new HashSet<Class<?>>(Arrays.<Class<?>> asList(
+			Replacement.class, JavaMethodOverriding.class, StringConcatenation.class,
+			ImplementsListMerging.class, AsmetaLRuleOverriding.class,
+			AsmetaLFunctionOverriding.class, AsmetaLInitializationConcatenation.class,
+			AsmetaLInvariantConjunction.class, ConstructorConcatenation.class,
+			ModifierListSpecialization.class, FieldOverriding.class,
+			ExpansionOverriding.class, CompositionError.class));
+
+	/**
+	 * the versions of a terminal that occurs in several features, in the
+	 * order of the features
+	 */
+	private static final class Slot {
+		final List<FSTTerminal> versions = new ArrayList<FSTTerminal>();
+
+		// the composition of the versions before next
+		FSTTerminal composed;
+
+		int next = 1;
+	}
+
+	/**
+	 * the superimposition of a range of features
+	 */
+	private static final class Partial {
+		final FSTNonTerminal root;
+
+		// by the first version of the terminal, which stands for it in the tree
+		final Map<FSTTerminal, Slot> slots;
+
+		Partial(FSTNonTerminal root, Map<FSTTerminal, Slot> slots) {
+			this.root = root;
+			this.slots = slots;
+		}
+	}
+
+	private final class Reduction extends RecursiveTask<Partial> {
+		private static final long serialVersionUID = 1L;
+
+		private final List<FSTNonTerminal> features;
+
+		private final int from;
+
+		private final int to;
+
+		Reduction(List<FSTNonTerminal> features, int from, int to) {
+			this.features = features;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Partial compute() {
+			if (to - from == 1)
+				return new Partial(features.get(from), new IdentityHashMap<FSTTerminal, Slot>());
+			int middle = (from + to) >>> 1;
+			Reduction left = new Reduction(features, from, middle);
+			left.fork();
+			Partial right = new Reduction(features, middle, to).compute();
+			return superimpose(left.join(), right);
+		}
+	}
+
+	private final FSTGenComposer composer;
+
+	private final CompositionRuleRegistry rules;
+
+	private final int threads;
+
+	BalancedComposition(FSTGenComposer composer, CompositionRuleRegistry rules, int threads) {
+		this.composer = composer;
+		this.rules = rules;
+		this.threads = threads;
+	}
+
+	/**
+	 * @return whether the composition of the given features does not depend
+	 *         on the order in which they are superimposed, apart from the
+	 *         order of the features; otherwise, they have to be composed
+	 *         from left to right
+	 */
+	boolean isApplicable(List<FSTNonTerminal> features) {
+		Set<String> names = new HashSet<String>();
+		for (FSTNonTerminal feature : features) {
+			if (!names.add(feature.getName()) || !isDeferrable(feature))
+				return false;
+		}
+		return true;
+	}
+
+	private boolean isDeferrable(FSTNode node) {
+		Class<?> nodeClass = node.getClass();
+		if (nodeClass == FSTTerminal.class) {
+			CompositionRule rule = rules.getRule(((FSTTerminal) node).getCompositionMechanism());
+			if (rule == null)
+				return true;
+			if (rule.getClass() == JavaMethodOverriding.class && CommandLineParameterHelper.isJML())
+				return false;
+			return DEFERRABLE_RULES.contains(rule.getClass());
+		}
+		if (nodeClass != FSTNonTerminal.class && nodeClass != FSTFeatureNode.class)
+			return false;
+		// rules look for contract composition keywords next to the terminal
+		if (node.getType().equals("ContractCompKey"))
+			return false;
+		FSTNonTerminal nonTerminal = (FSTNonTerminal) node;
+		for (FSTNode child : nonTerminal.getChildren()) {
+			// of several compatible children, only the first one is composed
+			if (nonTerminal.getCompatibleChild(child) != child || !isDeferrable(child))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * composes the given features, which are consumed by the composition
+	 */
+	FSTNode compose(List<FSTNonTerminal> features) {
+		if (features.isEmpty())
+			return null;
+		features = new ArrayList<FSTNonTerminal>(features);
+		Partial composition;
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			composition = pool.invoke(new Reduction(features, 0, features.size()));
+		} finally {
+			pool.shutdown();
+		}
+		composeTerminals(composition, features);
+		return composition.root;
+	}
+
+	private Partial superimpose(Partial earlier, Partial later) {
+		Map<FSTTerminal, Slot> slots = earlier.slots;
+		slots.putAll(later.slots);
+		return new Partial(superimpose(earlier.root, later.root, slots), slots);
+	}
+
+	/**
+	 * superimposes the given nonterminals like
+	 * {@link FSTGenComposer#compose(FSTNode, FSTNode, FSTNonTerminal)}
+	 */
+	private FSTNonTerminal superimpose(FSTNonTerminal earlier, FSTNonTerminal later,
+			Map<FSTTerminal, Slot> slots) {
+		FSTNonTerminal composition = (FSTNonTerminal) later.getShallowClone();
+		for (FSTNode child : earlier.getChildren()) {
+			FSTNode laterChild = later.getCompatibleChild(child);
+			if (laterChild == null)
+				composition.addChild(child);
+			else if (child instanceof FSTNonTerminal)
+				composition.addChild(superimpose((FSTNonTerminal) child,
+						(FSTNonTerminal) laterChild, slots));
+			else
+				composition.addChild(join((FSTTerminal) child, (FSTTerminal) laterChild, slots));
+		}
+		for (FSTNode child : later.getChildren()) {
+			if (earlier.getCompatibleChild(child) == null)
+				composition.addChild(child);
+		}
+		return composition;
+	}
+
+	/**
+	 * @return the terminal that stands for the versions of both terminals
+	 */
+	private static FSTTerminal join(FSTTerminal earlier, FSTTerminal later,
+			Map<FSTTerminal, Slot> slots) {
+		Slot slot = slots.get(earlier);
+		if (slot == null) {
+			slot = new Slot();
+			slot.versions.add(earlier);
+			slots.put(earlier, slot);
+		}
+		Slot laterSlot = slots.remove(later);
+		if (laterSlot == null)
+			slot.versions.add(later);
+		else
+			slot.versions.addAll(laterSlot.versions);
+		return earlier;
+	}
+
+	/**
+	 * applies the composition rules to the versions of the terminals in the
+	 * order of the left fold
+	 */
+	private void composeTerminals(Partial composition, List<FSTNonTerminal> features) {
+		if (composition.slots.isEmpty())
+			return;
+		Map<String, Integer> featureIndices = new HashMap<String, Integer>();
+		List<List<Slot>> steps = new ArrayList<List<Slot>>(features.size());
+		for (FSTNonTerminal feature : features) {
+			featureIndices.put(feature.getName(), steps.size());
+			steps.add(new ArrayList<Slot>());
+		}
+		List<Slot> slots = new ArrayList<Slot>(composition.slots.size());
+		collectSlots(composition.root, composition.slots, slots);
+		for (Slot slot : slots) {
+			slot.composed = slot.versions.get(0);
+			for (int i = 1; i < slot.versions.size(); i++)
+				steps.get(featureIndices.get(slot.versions.get(i).getOriginalFeatureName())).add(slot);
+		}
+		for (List<Slot> step : steps) {
+			for (Slot slot : step)
+				composeNextVersion(slot);
+		}
+	}
+
+	private static void collectSlots(FSTNonTerminal node, Map<FSTTerminal, Slot> slots, List<Slot> result) {
+		for (FSTNode child : node.getChildren()) {
+			if (child instanceof FSTNonTerminal) {
+				collectSlots((FSTNonTerminal) child, slots, result);
+			} else {
+				Slot slot = slots.get(child);
+				if (slot != null)
+					result.add(slot);
+			}
+		}
+	}
+
+	private void composeNextVersion(Slot slot) {
+		FSTTerminal terminalA = slot.versions.get(slot.next++);
+		FSTTerminal terminalB = slot.composed;
+		FSTNonTerminal parent = terminalB.getParent();
+		// collects the nodes that the rule adds to the parent
+		FSTNonTerminal added = (FSTNonTerminal) parent.getShallowClone();
+		added.setParent(parent.getParent());
+		FSTTerminal terminalComp = (FSTTerminal) terminalA.getShallowClone();
+		terminalComp.setParent(added);
+
+		composer.composeTerminals(terminalA, terminalB, terminalComp, added);
+
+		List<FSTNode> children = parent.getChildren();
+		int index = children.indexOf(terminalB);
+		for (FSTNode child : new ArrayList<FSTNode>(added.getChildren()))
+			parent.addChild(child, index++);
+		terminalComp.setParent(parent);
+		children.set(index, terminalComp);
+		slot.composed = terminalComp;
+	}
+}
@@ -38,6 +38,24 @@ public class CmdLineInterpreter {
 	
 	public static final String INPUT_OPTION_EXPORT_ROLES_IN_JSON_FORMAT = "--export_roles_json";
 
+	public static final String INPUT_OPTION_PARSE_THREADS = "--parse-threads";
+
+	public static final String INPUT_OPTION_COMPOSE_THREADS = "--compose-threads";
+
+	public static final String INPUT_OPTION_BATCH = "--batch";
+
+	public static final String INPUT_OPTION_PARSE_CACHE = "--parse-cache";
+
+	public static final String INPUT_OPTION_PARSE_CACHE_SIZE = "--parse-cache-size";
+
+	public static final String INPUT_OPTION_INCREMENTAL = "--incremental";
+
+	public static final String INPUT_OPTION_WATCH = "--watch";
+
+	public static final String INPUT_OPTION_RULE_STATISTICS = "--rule-statistics";
+
+	public static final String INPUT_OPTION_STREAMING = "--streaming";
+
 	public boolean verbose = false;
 
 	public boolean isCount = false;
@@ -72,6 +90,25 @@ public class CmdLineInterpreter {
 	
 	public boolean exportRolesInJSONformat = false;
 
+	public int parseThreads = 1;
+
+	public int composeThreads = 1;
+
+	public String batchFileName = null;
+
+	public String parseCacheDirectoryName = null;
+
+	/** maximum size of the parse cache in megabytes */
+	public int parseCacheSize = 512;
+
+	public boolean incremental = false;
+
+	public boolean watch = false;
+
+	public boolean ruleStatistics = false;
+
+	public boolean streaming = false;
+
 	public void parseCmdLineArguments(String[] args) {
 		boolean jml = false;
 		boolean errorOccured = false;
@@ -163,6 +200,63 @@ public class CmdLineInterpreter {
 					}
 				} else if (args[i].equals(INPUT_OPTION_EXPORT_ROLES_IN_JSON_FORMAT)) {
 					exportRolesInJSONformat=true;
+				} else if (args[i].equals(INPUT_OPTION_PARSE_THREADS)) {
+					i++;
+					try {
+						parseThreads = Integer.parseInt(args[i]);
+					} catch (RuntimeException e) {
+						System.out.println("Error occured option: "
+								+ INPUT_OPTION_PARSE_THREADS);
+						errorOccured = true;
+					}
+				} else if (args[i].equals(INPUT_OPTION_COMPOSE_THREADS)) {
+					i++;
+					try {
+						composeThreads = Integer.parseInt(args[i]);
+					} catch (RuntimeException e) {
+						System.out.println("Error occured option: "
+								+ INPUT_OPTION_COMPOSE_THREADS);
+						errorOccured = true;
+					}
+				} else if (args[i].equals(INPUT_OPTION_PARSE_CACHE)) {
+					i++;
+					if (i < args.length) {
+						parseCacheDirectoryName = args[i];
+					} else {
+						System.out.println("Error occured option: "
+								+ INPUT_OPTION_PARSE_CACHE);
+						errorOccured = true;
+					}
+				} else if (args[i].equals(INPUT_OPTION_PARSE_CACHE_SIZE)) {
+					i++;
+					try {
+						parseCacheSize = Integer.parseInt(args[i]);
+					} catch (RuntimeException e) {
+						System.out.println("Error occured option: "
+								+ INPUT_OPTION_PARSE_CACHE_SIZE);
+						errorOccured = true;
+					}
+				} else if (args[i].equals(INPUT_OPTION_INCREMENTAL)) {
+					incremental = true;
+				} else if (args[i].equals(INPUT_OPTION_WATCH)) {
+					incremental = true;
+					watch = true;
+				} else if (args[i].equals(INPUT_OPTION_RULE_STATISTICS)) {
+					ruleStatistics = true;
+				} else if (args[i].equals(INPUT_OPTION_STREAMING)) {
+					streaming = true;
+				} else if (args[i].equals(INPUT_OPTION_BATCH)) {
+					i++;
+					if (i < args.length) {
+						batchFileName = args[i];
+						if (!isBaseDirectoryName)
+							equationBaseDirectoryName = getDirectoryName(new File(
+									batchFileName)) + File.separator;
+					} else {
+						System.out.println("Error occured option: "
+								+ INPUT_OPTION_BATCH);
+						errorOccured = true;
+					}
 				} else {
 					errorOccured = true;
 				}
@@ -182,25 +276,46 @@ public class CmdLineInterpreter {
 		if (errorOccured) {
 			System.out.println("Incorrect command line parameters!");
 		}
-		FSTGenComposer.outStream.println("Use `java -jar FeatureHouse.jar "
+		FSTGenComposer.getOutStream().println("Use `java -jar FeatureHouse.jar "
 				+ INPUT_OPTION_EQUATIONFILE + " <file name> ["
 				+ INPUT_OPTION_BASE_DIRECTORY + " <directory name>]'");
-		FSTGenComposer.outStream
+		FSTGenComposer.getOutStream()
 				.println("The option `"
 						+ INPUT_OPTION_EQUATIONFILE
 						+ "' defines the name of the file that lists the input features/components.");
-		FSTGenComposer.outStream
+		FSTGenComposer.getOutStream()
 				.println("The option `"
 						+ INPUT_OPTION_BASE_DIRECTORY
 						+ "' defines the working directory, which is the search path for the input features/components.");
-		FSTGenComposer.outStream.println("The option `" + INPUT_OPTION_LIFTING
+		FSTGenComposer.getOutStream().println("The option `" + INPUT_OPTION_LIFTING
 				+ "' can currently only be used with C or Java Code. It composes the "
 				+ "sources in a way that allows feature selection at runtime. "
 				+ "Use " + INPUT_OPTION_LIFTING + "Java or " + INPUT_OPTION_LIFTING + "C depending on the language.");
-		FSTGenComposer.outStream.println("The option `" + INPUT_OPTION_ANNOTATION
+		FSTGenComposer.getOutStream().println("The option `" + INPUT_OPTION_ANNOTATION
 				+ "Adds an annotation to each method stating from which feature the method originates. Only for Java.");
-		FSTGenComposer.outStream.println("The option `" + INPUT_OPTION_EXPORT_ROLES_IN_JSON_FORMAT
+		FSTGenComposer.getOutStream().println("The option `" + INPUT_OPTION_EXPORT_ROLES_IN_JSON_FORMAT
 				+ "Exports a mapping from features to code files in JSON format to file roles.meta.");
+		FSTGenComposer.getOutStream().println("The option `" + INPUT_OPTION_PARSE_THREADS
+				+ " <number>' parses the input files with the given number of threads.");
+		FSTGenComposer.getOutStream().println("The option `" + INPUT_OPTION_COMPOSE_THREADS
+				+ " <number>' composes the features pairwise in a balanced tree with the given number of threads "
+				+ "instead of one after another. The product is the same.");
+		FSTGenComposer.getOutStream().println("The option `" + INPUT_OPTION_BATCH
+				+ " <file name>' composes all expression files listed in the given file (one per line). "
+				+ "Each feature is parsed only once; each product is written to its own directory in the output directory.");
+		FSTGenComposer.getOutStream().println("The option `" + INPUT_OPTION_PARSE_CACHE
+				+ " <directory name>' stores the parsed files in the given directory and reuses them "
+				+ "in later runs as long as the files do not change. The option `" + INPUT_OPTION_PARSE_CACHE_SIZE
+				+ " <megabytes>' limits the size of this directory (default: 512).");
+		FSTGenComposer.getOutStream().println("The option `" + INPUT_OPTION_INCREMENTAL
+				+ "' recomposes only the files of the product whose input files changed since the last "
+				+ "composition (recorded in <product directory>.manifest). The option `" + INPUT_OPTION_WATCH
+				+ "' keeps running and recomposes the product incrementally whenever a file of its features changes.");
+		FSTGenComposer.getOutStream().println("The option `" + INPUT_OPTION_STREAMING
+				+ "' parses, composes and writes the files of the product one after another, so that only "
+				+ "the trees of one file are in memory at a time.");
+		FSTGenComposer.getOutStream().println("The option `" + INPUT_OPTION_RULE_STATISTICS
+				+ "' prints how often each composition rule was applied and how long it took.");
 	}
 
 	private static String getDirectoryName(File file) {
@@ -0,0 +1,249 @@
+package composer;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Records from which input files of the features each file of a product was
+ * composed. Since a composed file only depends on the files with the same
+ * path in the features, a later composition of the product has to
+ * recompose only those files whose inputs were added, changed or removed
+ * (see {@link CmdLineInterpreter#INPUT_OPTION_INCREMENTAL}).
+ * <p>
+ * An input file is identified by its path, its length and the time of its
+ * last modification. The manifest also records the features and the
+ * command line options of the composition; if they differ, the whole
+ * product has to be composed again.
+ */
+public class CompositionManifest {
+
+	private static final String HEADER = "# FeatureHouse composition manifest 1";
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private List<String> options = new ArrayList<String>();
+
+	private List<String> features = new ArrayList<String>();
+
+	/** inputs of each file of the product, sorted by the path of the file */
+	private Map<String, List<Input>> files = new TreeMap<String, List<Input>>();
+
+	private boolean modifications = false;
+
+	private static class Input {
+		final String path;
+		final long length;
+		final long lastModified;
+
+		Input(String path, long length, long lastModified) {
+			this.path = path;
+			this.length = length;
+			this.lastModified = lastModified;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Input))
+				return false;
+			Input other = (Input) obj;
+			return path.equals(other.path) && length == other.length
+					&& lastModified == other.lastModified;
+		}
+
+		@Override
+		public int hashCode() {
+			return path.hashCode() ^ (int) length ^ (int) lastModified;
+		}
+	}
+
+	/**
+	 * @return the file in which the manifest of the product in the given
+	 *         directory is stored (next to that directory)
+	 */
+	public static File getManifestFile(File productDirectory) {
+		return new File(productDirectory.getParentFile(), productDirectory.getName() + ".manifest");
+	}
+
+	/**
+	 * Collects the files of the given features.
+	 *
+	 * @param options
+	 *            command line options of the composition, without those
+	 *            that do not change its result
+	 * @param recursive
+	 *            whether the subdirectories of the feature directories are
+	 *            composed as well
+	 */
+	public static CompositionManifest scan(String baseDirectoryName, String[] features,
+			List<String> options, boolean recursive) {
+		CompositionManifest manifest = new CompositionManifest();
+		manifest.options.addAll(options);
+		for (String feature : features) {
+			if (feature.trim().length() == 0)
+				continue;
+			manifest.features.add(feature);
+			File featureDirectory = new File(baseDirectoryName, feature);
+			manifest.scanDirectory(featureDirectory, featureDirectory, recursive);
+		}
+		return manifest;
+	}
+
+	private void scanDirectory(File featureDirectory, File directory, boolean recursive) {
+		File[] children = directory.listFiles();
+		if (children == null)
+			return;
+		Arrays.sort(children);
+		for (File child : children) {
+			if (child.isFile()) {
+				String path = FileLoader.getFeaturePath(featureDirectory, child);
+				List<Input> inputs = files.get(path);
+				if (inputs == null) {
+					inputs = new ArrayList<Input>();
+					files.put(path, inputs);
+				}
+				inputs.add(new Input(child.getAbsolutePath(), child.length(), child.lastModified()));
+			} else if (recursive && child.isDirectory() && !child.getName().equals(".svn")) {
+				if (child.getName().equals("_mod"))
+					modifications = true;
+				scanDirectory(featureDirectory, child, recursive);
+			}
+		}
+	}
+
+	/**
+	 * @return the manifest stored in the given file, or null if there is
+	 *         none or it cannot be read
+	 */
+	public static CompositionManifest read(File manifestFile) {
+		if (!manifestFile.isFile())
+			return null;
+		CompositionManifest manifest = new CompositionManifest();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new FileInputStream(manifestFile), UTF8))) {
+			if (!HEADER.equals(reader.readLine()))
+				return null;
+			List<Input> inputs = null;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] fields = line.split("\t", -1);
+				if (fields[0].equals("option") && fields.length == 2) {
+					manifest.options.add(fields[1]);
+				} else if (fields[0].equals("feature") && fields.length == 2) {
+					manifest.features.add(fields[1]);
+				} else if (fields[0].equals("file") && fields.length == 2) {
+					inputs = new ArrayList<Input>();
+					manifest.files.put(fields[1], inputs);
+				} else if (fields[0].equals("input") && fields.length == 4 && inputs != null) {
+					inputs.add(new Input(fields[1], Long.parseLong(fields[2]), Long.parseLong(fields[3])));
+				} else {
+					return null;
+				}
+			}
+			return manifest;
+		} catch (IOException | NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * writes the manifest to the given file; the file is replaced only after
+	 * the manifest has been written completely
+	 */
+	public void write(File manifestFile) throws IOException {
+		File tmp = new File(manifestFile.getPath() + ".tmp");
+		try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(
+				new FileOutputStream(tmp), UTF8))) {
+			writer.print(HEADER + "\n");
+			for (String option : options)
+				writer.print("option\t" + option + "\n");
+			for (String feature : features)
+				writer.print("feature\t" + feature + "\n");
+			for (Map.Entry<String, List<Input>> file : files.entrySet()) {
+				writer.print("file\t" + file.getKey() + "\n");
+				for (Input input : file.getValue())
+					writer.print("input\t" + input.path + "\t" + input.length + "\t" + input.lastModified + "\n");
+			}
+			if (writer.checkError())
+				throw new IOException("Could not write " + tmp);
+		}
+		manifestFile.delete();
+		if (!tmp.renameTo(manifestFile))
+			throw new IOException("Could not write " + manifestFile);
+	}
+
+	/**
+	 * @return whether a product composed with <code>previous</code> can be
+	 *         updated to this manifest by recomposing single files, i.e.,
+	 *         both have the same features and options and the features do
+	 *         not contain modifications (which may change any file)
+	 */
+	public boolean isCompatible(CompositionManifest previous) {
+		return !modifications && !previous.modifications
+				&& options.equals(previous.options) && features.equals(previous.features);
+	}
+
+	/**
+	 * @return paths of the files whose inputs were added or changed since
+	 *         the previous manifest
+	 */
+	public Set<String> getChangedFiles(CompositionManifest previous) {
+		Set<String> changed = new LinkedHashSet<String>();
+		for (Map.Entry<String, List<Input>> file : files.entrySet()) {
+			if (!file.getValue().equals(previous.files.get(file.getKey())))
+				changed.add(file.getKey());
+		}
+		return changed;
+	}
+
+	/**
+	 * @return paths of the files that have no input files any more
+	 */
+	public Set<String> getRemovedFiles(CompositionManifest previous) {
+		Set<String> removed = new LinkedHashSet<String>(previous.files.keySet());
+		removed.removeAll(files.keySet());
+		return removed;
+	}
+
+	/**
+	 * removes the files to which the given input file contributed, so that
+	 * they are composed again by the next composition (e.g., after a parse
+	 * error)
+	 */
+	public void forget(File inputFile) {
+		String path = inputFile.getAbsolutePath();
+		for (Iterator<List<Input>> it = files.values().iterator(); it.hasNext();) {
+			for (Input input : it.next()) {
+				if (input.path.equals(path)) {
+					it.remove();
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return number of files of the product
+	 */
+	public int size() {
+		return files.size();
+	}
+
+	public List<String> getFeatures() {
+		return features;
+	}
+}
@@ -0,0 +1,181 @@
+package composer;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import metadata.CompositionMetadataStore;
+import de.ovgu.cide.fstgen.ast.FSTNode;
+import de.ovgu.cide.fstgen.ast.FSTSession;
+
+/**
+ * State of one composition: the memorized FST nodes, the composition meta
+ * data, the output stream and the options that the composition rules read.
+ * <p>
+ * Several compositions can run at the same time in one VM if each runs in
+ * its own session (see {@link #compose(String[])} and
+ * {@link #composeConcurrently(List, int)}). Compositions that are not run in
+ * a session share the process-wide state, as in earlier versions
+ * ({@link CompositionMetadataStore#getInstance()},
+ * {@link FSTGenComposer#outStream}, ...).
+ */
+public class CompositionSession extends FSTSession {
+
+	private static final CompositionSession processSession = new CompositionSession() {
+		@Override
+		public ArrayList<FSTNode> getFSTNodes() {
+			return FSTSession.current().getFSTNodes();
+		}
+
+		@Override
+		public int nextUniqueId() {
+			return FSTSession.current().nextUniqueId();
+		}
+
+		@Override
+		public boolean isJML() {
+			return FSTSession.current().isJML();
+		}
+
+		@Override
+		public void setJML(boolean jml) {
+			FSTSession.current().setJML(jml);
+		}
+
+		@Override
+		public PrintStream getOutStream() {
+			return FSTGenComposer.outStream;
+		}
+
+		@Override
+		public void setOutStream(PrintStream out) {
+			FSTGenComposer.outStream = out;
+		}
+	};
+
+	private volatile CompositionMetadataStore metadata = new CompositionMetadataStore();
+
+	private volatile PrintStream outStream = System.out;
+
+	private volatile boolean featureAnnotation = false;
+
+	private int generatedSwitchMethods = 0;
+
+	private FSTGenComposer composer = null;
+
+	public CompositionSession() {
+	}
+
+	public CompositionSession(PrintStream outStream) {
+		this.outStream = outStream;
+	}
+
+	/**
+	 * @return the composition session bound to the current thread or the
+	 *         process-wide session if there is none
+	 */
+	public static CompositionSession current() {
+		FSTSession session = FSTSession.current();
+		if (session instanceof CompositionSession)
+			return (CompositionSession) session;
+		return processSession;
+	}
+
+	/**
+	 * runs a new {@link FSTGenComposer} with the given command line arguments
+	 * in this session
+	 *
+	 * @return the composer, e.g. to get the features or errors of the
+	 *         composition
+	 */
+	public FSTGenComposer compose(String[] args) {
+		FSTSession previous = activate();
+		try {
+			composer = new FSTGenComposer();
+			composer.run(args);
+			return composer;
+		} finally {
+			FSTSession.restore(previous);
+		}
+	}
+
+	/**
+	 * runs one composition per element of <code>arguments</code>, each in a
+	 * new session, using at most <code>threads</code> threads
+	 *
+	 * @return the sessions in the order of <code>arguments</code>
+	 */
+	public static List<CompositionSession> composeConcurrently(
+			List<String[]> arguments, int threads) throws InterruptedException,
+			ExecutionException {
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+		try {
+			List<CompositionSession> sessions = new ArrayList<CompositionSession>();
+			List<Future<FSTGenComposer>> results = new ArrayList<Future<FSTGenComposer>>();
+			for (final String[] args : arguments) {
+				final CompositionSession session = new CompositionSession();
+				sessions.add(session);
+				results.add(executor.submit(new Callable<FSTGenComposer>() {
+					public FSTGenComposer call() {
+						return session.compose(args);
+					}
+				}));
+			}
+			for (Future<FSTGenComposer> result : results)
+				result.get();
+			return sessions;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * @return the composer of the last {@link #compose(String[])} call or null
+	 */
+	public FSTGenComposer getComposer() {
+		return composer;
+	}
+
+	public CompositionMetadataStore getMetadata() {
+		return metadata;
+	}
+
+	public void setMetadata(CompositionMetadataStore metadata) {
+		this.metadata = metadata;
+	}
+
+	/**
+	 * @return stream to which all output of the composition is directed
+	 */
+	public PrintStream getOutStream() {
+		return outStream;
+	}
+
+	public void setOutStream(PrintStream outStream) {
+		this.outStream = outStream;
+	}
+
+	/**
+	 * @return whether composed Java methods are annotated with the feature
+	 *         they come from
+	 */
+	public boolean isFeatureAnnotation() {
+		return featureAnnotation;
+	}
+
+	public void setFeatureAnnotation(boolean featureAnnotation) {
+		this.featureAnnotation = featureAnnotation;
+	}
+
+	/**
+	 * @return the next id of a switch method generated by lifting
+	 */
+	public synchronized int nextSwitchMethodId() {
+		return generatedSwitchMethods++;
+	}
+}
@@ -5,13 +5,28 @@ import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import metadata.CompositionMetadataStore;
 import printer.PrintVisitorException;
 import builder.ArtifactBuilderInterface;
+import builder.ParseCache;
 import builder.capprox.CApproxBuilder;
 import builder.java.JavaBuilder;
 import builder.xml.XMLHook;
@@ -24,6 +39,7 @@ import composer.rules.AsmetaLRuleOverriding;
 import composer.rules.CSharpMethodOverriding;
 import composer.rules.CompositionError;
 import composer.rules.CompositionRule;
+import composer.rules.CompositionRuleRegistry;
 import composer.rules.ConstructorConcatenation;
 import composer.rules.ContractComposition;
 import composer.rules.ContractKeywordComposition;
@@ -42,34 +58,68 @@ import composer.rules.rtcomp.java.JavaRuntimeFunctionRefinement;
 import composer.rules.rtcomp.java.JavaRuntimeReplacement;
 
 import counter.Counter;
-import de.ovgu.cide.fstgen.ast.AbstractFSTParser;
 import de.ovgu.cide.fstgen.ast.FSTNode;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTSession;
 import de.ovgu.cide.fstgen.ast.FSTTerminal;
+import de.ovgu.cide.fstgen.ast.FSTVisitor;
+import de.ovgu.cide.fstgen.ast.FSTVisitorPipeline;
 
 public class FSTGenComposer extends FSTGenProcessor {
 
 	protected CmdLineInterpreter cmd = new CmdLineInterpreter();
 	
 	protected CompositionMetadataStore meta = CompositionMetadataStore.getInstance();
-	protected List<CompositionRule> compositionRules;
+	protected CompositionRuleRegistry compositionRules;
+
+	// rules added with addCompositionRule()
+	private final List<CompositionRule> customRules = new ArrayList<CompositionRule>();
+
+	/**
+	 * Whether the composition may take over the subtrees of the composed
+	 * trees. If set, a subtree that exists in only one of the trees is moved
+	 * into the composition instead of being copied, so that unchanged
+	 * subtrees are shared with the input trees and only the nodes that are
+	 * composed are copied. The input trees must not be used afterwards.
+	 */
+	private boolean consumeInputs = false;
 
 	/* 
 	 * Stream to which all output should be directed. 
 	 * Normally this is set to System.out, but sometimes we want to handle output differently (e.g. unit tests).
 	 */
 	public static PrintStream outStream = System.out;
+
+	/**
+	 * time in milliseconds without further changes that watch mode waits
+	 * before it recomposes the product
+	 */
+	private static final long WATCH_DELAY = 200;
+
+	private static final WatchEvent.Kind<?>[] WATCH_EVENTS = {
+			StandardWatchEventKinds.ENTRY_CREATE,
+			StandardWatchEventKinds.ENTRY_DELETE,
+			StandardWatchEventKinds.ENTRY_MODIFY };
+	
+	/**
+	 * @return the output stream of the current composition session (see {@link CompositionSession})
+	 */
+	public static PrintStream getOutStream() {
+		return CompositionSession.current().getOutStream();
+	}
 	
 	public FSTGenComposer() {
 		super();
 	}
 
-	@SuppressWarnings("unchecked")
 	public FSTGenComposer(boolean rememberFSTNodes) {
 		super();
 		if (!rememberFSTNodes) {
-			setFstnodes((ArrayList<FSTNode>)AbstractFSTParser.fstnodes.clone());
-			AbstractFSTParser.fstnodes.clear();
+			FSTSession session = FSTSession.current();
+			synchronized (session) {
+				setFstnodes(new ArrayList<FSTNode>(session.getFSTNodes()));
+				session.getFSTNodes().clear();
+			}
 		}
 	}
 	
@@ -79,37 +129,25 @@ public class FSTGenComposer extends FSTGenProcessor {
 		JavaMethodOverriding.setFeatureAnnotation(cmd.featureAnnotation);
 		JavaRuntimeFunctionRefinement.setFeatureAnnotation(cmd.featureAnnotation);
 		
-		//select the composition rules
-		compositionRules = new ArrayList<CompositionRule>();
-		if (cmd.lifting) {
-			if (cmd.lifting_language.equals("c")) { 
-				compositionRules.add(new CRuntimeReplacement());
-				compositionRules.add(new CRuntimeFunctionRefinement());			
-			} else if (cmd.lifting_language.equals("java")) {
-				compositionRules.add(new JavaRuntimeReplacement());
-				compositionRules.add(new JavaRuntimeFunctionRefinement());
-			} else {
-				throw new InternalError("lifting language \"" + cmd.lifting_language + "\" is not implemented.");
-			}
-		} else {
-			compositionRules.add(new Replacement());
-			compositionRules.add(new JavaMethodOverriding());
-			compositionRules.add(new ContractComposition(cmd.contract_style));
-			compositionRules.add(new ContractKeywordComposition(cmd.contract_style));
-		}
-		compositionRules.add(new StringConcatenation());
-		compositionRules.add(new ImplementsListMerging());
-		compositionRules.add(new CSharpMethodOverriding());
-		compositionRules.add(new AsmetaLRuleOverriding());
-		compositionRules.add(new AsmetaLFunctionOverriding());
-		compositionRules.add(new AsmetaLInitializationConcatenation());
-		compositionRules.add(new AsmetaLInvariantConjunction());
-		compositionRules.add(new ConstructorConcatenation());
-		compositionRules.add(new ModifierListSpecialization());
-		compositionRules.add(new FieldOverriding());
-		compositionRules.add(new ExpansionOverriding());
-		compositionRules.add(new CompositionError());
+		compositionRules = createCompositionRules();
 		
+		configureFileLoader();
+		if (cmd.batchFileName != null) {
+			runBatch();
+		} else if (cmd.watch) {
+			watch(args);
+		} else if (cmd.incremental) {
+			runIncremental(args);
+		} else if (cmd.streaming) {
+			runStreaming();
+		} else {
+			composeProduct();
+		}
+		if (cmd.ruleStatistics)
+			compositionRules.printStatistics(getOutStream());
+	}
+
+	private void composeProduct() {
 		try {
 			try {
 				fileLoader.loadFiles(cmd.equationFileName, cmd.equationBaseDirectoryName, cmd.isAheadEquationFile);
@@ -118,89 +156,504 @@ public class FSTGenComposer extends FSTGenProcessor {
 				fireParseErrorOccured(e1);
 				e1.printStackTrace();
 			}
-			String outputDir = cmd.equationBaseDirectoryName;
-			if (cmd.outputDirectoryName != null)
-				outputDir = cmd.outputDirectoryName;
-
-			if (outputDir.endsWith(File.separator))
-				outputDir = outputDir.substring(0, outputDir.length()-1);
-				
+			String outputDir = getOutputDirectory();
 			featureVisitor.setWorkingDir(outputDir);
 			featureVisitor.setExpressionName(cmd.equationFileName);
 			
 			for (ArtifactBuilderInterface builder : getArtifactBuilders()) {
-				LinkedList<FSTNonTerminal> features = builder.getFeatures();
+				composeAndPrint(builder, builder.getFeatures(), cmd.equationFileName);
+			}
+			setFstnodes(FSTSession.current().getFSTNodes());
+			saveProductFiles(outputDir, cmd.equationFileName, outputDir);
+		} catch (FileNotFoundException e1) {
+			//e1.printStackTrace();
+		}
+	}
+
+	/**
+	 * adds a composition rule to the rules of all following compositions. It
+	 * takes precedence over the built-in rule of the same name.
+	 */
+	public void addCompositionRule(CompositionRule rule) {
+		customRules.add(rule);
+	}
+
+	/**
+	 * @return the composition rules of the last composition, with their
+	 *         statistics
+	 */
+	public CompositionRuleRegistry getCompositionRules() {
+		return compositionRules;
+	}
+
+	/**
+	 * selects the composition rules according to the command line
+	 */
+	protected CompositionRuleRegistry createCompositionRules() {
+		CompositionRuleRegistry rules = new CompositionRuleRegistry();
+		registerCustomRules(rules);
+		if (!registerLiftingRules(rules)) {
+			rules.register(new Replacement());
+			rules.register(new JavaMethodOverriding());
+			rules.register(new ContractComposition(cmd.contract_style));
+			rules.register(new ContractKeywordComposition(cmd.contract_style));
+		}
+		rules.register(new StringConcatenation());
+		rules.register(new ImplementsListMerging());
+		rules.register(new CSharpMethodOverriding());
+		rules.register(new AsmetaLRuleOverriding());
+		rules.register(new AsmetaLFunctionOverriding());
+		rules.register(new AsmetaLInitializationConcatenation());
+		rules.register(new AsmetaLInvariantConjunction());
+		rules.register(new ConstructorConcatenation());
+		rules.register(new ModifierListSpecialization());
+		rules.register(new FieldOverriding());
+		rules.register(new ExpansionOverriding());
+		rules.register(new CompositionError());
+		return rules;
+	}
+
+	/**
+	 * registers the rules added with {@link #addCompositionRule(CompositionRule)}
+	 */
+	protected void registerCustomRules(CompositionRuleRegistry rules) {
+		for (CompositionRule rule : customRules)
+			rules.register(rule);
+	}
+
+	/**
+	 * registers the rules for lifting, if lifting is enabled
+	 *
+	 * @return whether lifting is enabled
+	 */
+	protected boolean registerLiftingRules(CompositionRuleRegistry rules) {
+		if (!cmd.lifting)
+			return false;
+		if (cmd.lifting_language.equals("c")) { 
+			rules.register(new CRuntimeReplacement());
+			rules.register(new CRuntimeFunctionRefinement());			
+		} else if (cmd.lifting_language.equals("java")) {
+			rules.register(new JavaRuntimeReplacement());
+			rules.register(new JavaRuntimeFunctionRefinement());
+		} else {
+			throw new InternalError("lifting language \"" + cmd.lifting_language + "\" is not implemented.");
+		}
+		return true;
+	}
+
+	/**
+	 * applies the options of the command line that control how files are loaded
+	 */
+	protected void configureFileLoader() {
+		fileLoader.setParseThreads(cmd.parseThreads);
+		if (cmd.parseCacheDirectoryName != null) {
+			fileLoader.setParseCache(new ParseCache(new File(cmd.parseCacheDirectoryName),
+					cmd.parseCacheSize * 1024L * 1024L));
+		}
+	}
+
+	/**
+	 * Composes all configurations listed in the batch file. The union of
+	 * their features is parsed only once; each configuration is composed
+	 * from copies of the parsed feature trees, so the parsed trees stay
+	 * unchanged for the next configuration.
+	 */
+	private void runBatch() {
+		List<String> equationFileNames = new ArrayList<String>();
+		List<String[]> configurations = new ArrayList<String[]>();
+		LinkedHashSet<String> allFeatures = new LinkedHashSet<String>();
+		try {
+			File batchFile = new File(cmd.batchFileName);
+			for (String line : FileLoader.readLines(batchFile)) {
+				if (line.trim().length() == 0)
+					continue;
+				File equationFile = new File(line.trim());
+				if (!equationFile.isAbsolute())
+					equationFile = new File(batchFile.getAbsoluteFile().getParentFile(), line.trim());
+				String[] features = FileLoader.readFeatures(equationFile);
+				equationFileNames.add(equationFile.getPath());
+				configurations.add(features);
+				allFeatures.addAll(Arrays.asList(features));
+			}
+			allFeatures.remove("");
+			try {
+				fileLoader.loadFeatures(allFeatures.toArray(new String[allFeatures.size()]),
+						cmd.equationBaseDirectoryName, cmd.isAheadEquationFile);
+			} catch (cide.gparser.ParseException e1) {
+				System.out.println("error");
+				fireParseErrorOccured(e1);
+				e1.printStackTrace();
+			}
+		} catch (FileNotFoundException e1) {
+			System.err.println("Could not read batch file " + e1.getMessage());
+			return;
+		}
+		String outputDir = getOutputDirectory();
+		featureVisitor.setWorkingDir(outputDir);
+
+		for (int i = 0; i < configurations.size(); i++) {
+			String equationFileName = equationFileNames.get(i);
+			FSTGenComposer.getOutStream().println("composing: " + equationFileName);
+			// every product gets its own meta data
+			CompositionMetadataStore.reinitialize();
+			meta = CompositionMetadataStore.getInstance();
+			featureVisitor.setExpressionName(equationFileName);
+			for (ArtifactBuilderInterface builder : getArtifactBuilders()) {
+				composeAndPrint(builder, selectFeatures(builder.getFeatures(), configurations.get(i)), equationFileName);
+			}
+			String productDir = outputDir + File.separator + getEquationName(equationFileName);
+			saveProductFiles(outputDir, equationFileName, productDir);
+		}
+		setFstnodes(FSTSession.current().getFSTNodes());
+	}
+
+	/**
+	 * Composes the product, but parses, composes and prints only the files
+	 * whose input files changed since the last composition, as recorded in
+	 * the manifest of the product (see {@link CompositionManifest}). The
+	 * whole product is composed if there is no manifest, if the features or
+	 * options changed, or if the result depends on all files (lifting,
+	 * roles export, counting).
+	 */
+	private void runIncremental(String[] args) {
+		if (cmd.equationFileName == null)
+			return;
+		String[] features;
+		try {
+			features = FileLoader.readFeatures(new File(cmd.equationFileName));
+		} catch (FileNotFoundException e1) {
+			return;
+		}
+		String outputDir = getOutputDirectory();
+		featureVisitor.setWorkingDir(outputDir);
+		featureVisitor.setExpressionName(cmd.equationFileName);
+		File productDir = featureVisitor.getProductDirectory();
+		File manifestFile = CompositionManifest.getManifestFile(productDir);
+		CompositionManifest manifest = CompositionManifest.scan(cmd.equationBaseDirectoryName,
+				features, getCompositionOptions(args), !cmd.isAheadEquationFile);
+		CompositionManifest previous = CompositionManifest.read(manifestFile);
+
+		Set<String> files = null;
+		if (previous != null && manifest.isCompatible(previous) && !cmd.lifting
+				&& !cmd.exportRolesInJSONformat && !cmd.isCount) {
+			files = manifest.getChangedFiles(previous);
+			for (String removed : manifest.getRemovedFiles(previous)) {
+				new File(productDir, removed).delete();
+			}
+			FSTGenComposer.getOutStream().println("recomposing " + files.size() + " of "
+					+ manifest.size() + " files");
+		}
+		if (files == null || !files.isEmpty()) {
+			try {
+				fileLoader.loadFeatures(features, cmd.equationBaseDirectoryName,
+						cmd.isAheadEquationFile, files);
+			} catch (FileNotFoundException e1) {
+				//e1.printStackTrace();
+			} catch (cide.gparser.ParseException e1) {
+				System.out.println("error");
+				fireParseErrorOccured(e1);
+				e1.printStackTrace();
+			}
+			for (ArtifactBuilderInterface builder : getArtifactBuilders()) {
+				composeAndPrint(builder, builder.getFeatures(), cmd.equationFileName);
+			}
+			setFstnodes(FSTSession.current().getFSTNodes());
+			saveProductFiles(outputDir, cmd.equationFileName, outputDir);
+		}
+		// files that could not be parsed are composed again next time
+		for (File errorFile : getErrorFiles()) {
+			manifest.forget(errorFile);
+		}
+		try {
+			manifest.write(manifestFile);
+		} catch (IOException e) {
+			System.err.println("Could not write manifest " + e.getMessage());
+		}
+	}
 
-				if(cmd.isCount && (builder instanceof JavaBuilder || builder instanceof CApproxBuilder)) {
-					Counter counter = new Counter();
-					for (FSTNonTerminal feature : features) {
-						counter.collect(feature);
+	/**
+	 * Composes the product file by file. A composed file only depends on the
+	 * files with the same path in the features, so only these are parsed,
+	 * composed and printed before the next file, and only the trees of a few
+	 * files are kept in memory. With several parse threads, the following
+	 * files are parsed while a file is composed and printed (see
+	 * {@link FileLoader#loadFeatureFiles}). The whole product is loaded at
+	 * once if the result depends on all files (modifications, lifting, roles
+	 * export, counting).
+	 */
+	private void runStreaming() {
+		if (cmd.equationFileName == null)
+			return;
+		String[] features;
+		try {
+			features = FileLoader.readFeatures(new File(cmd.equationFileName));
+		} catch (FileNotFoundException e1) {
+			return;
+		}
+		Map<String, List<File>> files = fileLoader.collectFiles(features,
+				cmd.equationBaseDirectoryName, cmd.isAheadEquationFile);
+		if (files == null || cmd.lifting || cmd.exportRolesInJSONformat || cmd.isCount) {
+			composeProduct();
+			return;
+		}
+		String outputDir = getOutputDirectory();
+		featureVisitor.setWorkingDir(outputDir);
+		featureVisitor.setExpressionName(cmd.equationFileName);
+		fileLoader.loadFeatureFiles(features, cmd.equationBaseDirectoryName,
+				cmd.isAheadEquationFile, files.values(), new IFilesLoadedListener() {
+					public void filesLoaded() {
+						for (ArtifactBuilderInterface builder : getArtifactBuilders())
+							composeAndPrint(builder, builder.getFeatures(), cmd.equationFileName);
 					}
-					if(features.size() > 0)
-						counter.writeFile(new File(cmd.equationFileName + ".rsf"));
+				});
+		ParseCache parseCache = fileLoader.getParseCache();
+		if (parseCache != null) {
+			FSTGenComposer.getOutStream().println("parse cache: " + parseCache.getHits() + " hits, "
+					+ parseCache.getMisses() + " misses");
+		}
+		saveProductFiles(outputDir, cmd.equationFileName, outputDir);
+	}
+
+	/**
+	 * @return the command line arguments without the options that do not
+	 *         change the composed product
+	 */
+	private static List<String> getCompositionOptions(String[] args) {
+		List<String> options = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals(CmdLineInterpreter.INPUT_OPTION_INCREMENTAL)
+					|| args[i].equals(CmdLineInterpreter.INPUT_OPTION_WATCH)
+					|| args[i].equals(CmdLineInterpreter.INPUT_OPTION_RULE_STATISTICS)
+					|| args[i].equals(CmdLineInterpreter.INPUT_OPTION_STREAMING)) {
+				continue;
+			} else if (args[i].equals(CmdLineInterpreter.INPUT_OPTION_PARSE_THREADS)
+					|| args[i].equals(CmdLineInterpreter.INPUT_OPTION_COMPOSE_THREADS)
+					|| args[i].equals(CmdLineInterpreter.INPUT_OPTION_PARSE_CACHE)
+					|| args[i].equals(CmdLineInterpreter.INPUT_OPTION_PARSE_CACHE_SIZE)) {
+				i++;
+			} else {
+				options.add(args[i]);
+			}
+		}
+		return options;
+	}
+
+	/**
+	 * Composes the product incrementally (see
+	 * {@link #runIncremental(String[])}) and again whenever a file of its
+	 * features or the expression file changes, until the thread is
+	 * interrupted. Each composition runs in a new {@link CompositionSession}.
+	 */
+	private void watch(String[] args) {
+		List<String> incrementalArgs = new ArrayList<String>(Arrays.asList(args));
+		incrementalArgs.remove(CmdLineInterpreter.INPUT_OPTION_WATCH);
+		if (!incrementalArgs.contains(CmdLineInterpreter.INPUT_OPTION_INCREMENTAL))
+			incrementalArgs.add(CmdLineInterpreter.INPUT_OPTION_INCREMENTAL);
+
+		featureVisitor.setWorkingDir(getOutputDirectory());
+		featureVisitor.setExpressionName(cmd.equationFileName);
+		File productDir = featureVisitor.getProductDirectory().getAbsoluteFile();
+		try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+			while (true) {
+				List<Path> inputs = registerFeatureDirectories(watcher);
+				new CompositionSession(getOutStream()).compose(
+						incrementalArgs.toArray(new String[incrementalArgs.size()]));
+				FSTGenComposer.getOutStream().println("waiting for changes");
+				waitForChanges(watcher, inputs, productDir);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			System.err.println("Could not watch the feature directories: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * registers the directory of the expression file, the base directory and
+	 * the directories of all features with the given watch service
+	 * 
+	 * @return the expression file and the feature directories, i.e., the
+	 *         paths whose changes change the product
+	 */
+	private List<Path> registerFeatureDirectories(WatchService watcher) throws IOException {
+		List<Path> inputs = new ArrayList<Path>();
+		File equationFile = new File(cmd.equationFileName).getAbsoluteFile();
+		registerDirectory(watcher, equationFile.getParentFile(), false);
+		inputs.add(equationFile.toPath());
+		File baseDirectory = new File(cmd.equationBaseDirectoryName).getAbsoluteFile();
+		registerDirectory(watcher, baseDirectory, false);
+		for (String feature : FileLoader.readFeatures(equationFile)) {
+			if (feature.trim().length() > 0) {
+				File featureDirectory = new File(baseDirectory, feature);
+				registerDirectory(watcher, featureDirectory, !cmd.isAheadEquationFile);
+				inputs.add(featureDirectory.toPath());
+			}
+		}
+		return inputs;
+	}
+
+	private static void registerDirectory(WatchService watcher, File directory, boolean recursive) throws IOException {
+		if (!directory.isDirectory())
+			return;
+		directory.toPath().register(watcher, WATCH_EVENTS);
+		File[] children = directory.listFiles();
+		if (recursive && children != null) {
+			for (File child : children) {
+				if (child.isDirectory() && !child.getName().equals(".svn"))
+					registerDirectory(watcher, child, recursive);
+			}
+		}
+	}
+
+	/**
+	 * Blocks until one of the given input paths changes and no further
+	 * changes arrive for {@link #WATCH_DELAY} milliseconds, e.g., when several
+	 * files are saved at once. Changes of other files in the watched
+	 * directories (e.g., of the product and its manifest) and attribute
+	 * changes of directories are ignored.
+	 */
+	private static void waitForChanges(WatchService watcher, List<Path> inputs, File productDir) throws InterruptedException {
+		Path product = productDir.toPath();
+		String manifest = CompositionManifest.getManifestFile(productDir).getPath();
+		boolean changed = false;
+		WatchKey key = watcher.take();
+		while (key != null || !changed) {
+			if (key == null) {
+				key = watcher.take();
+			}
+			for (WatchEvent<?> event : key.pollEvents()) {
+				Object context = event.context();
+				if (!(context instanceof Path)) {
+					changed = true;
+					continue;
 				}
-				
-				for (FSTNonTerminal feature : features) {
-					setOriginalFeatureName(feature, feature.getName());
-					meta.addFeature(feature.getName());
-					meta.discoverFuncIntroductions(feature);
+				Path path = ((Path) key.watchable()).resolve((Path) context);
+				// changes in a directory are reported for the directory itself
+				if (event.kind() == StandardWatchEventKinds.ENTRY_MODIFY && Files.isDirectory(path))
+					continue;
+				if (path.startsWith(product) || path.toString().startsWith(manifest))
+					continue;
+				for (Path input : inputs) {
+					if (path.startsWith(input))
+						changed = true;
 				}
-				FSTNode composition = compose(features);
-//				modify(composition);
-
-				
-				
-				/* 
-				 * hook for general purpose visitors
-				 */
-				 /*	if (null != composition)
-        				for (FSTVisitor visitor: getFSTVisitors()) {
-        				    composition.accept(visitor);
-        				}
-				*/
-				try {
-					featureVisitor.visit((FSTNonTerminal) composition);
-				} catch (PrintVisitorException e) {
-					e.printStackTrace();
+			}
+			key.reset();
+			key = watcher.poll(WATCH_DELAY, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * @return copies of the given parsed features that are selected in the
+	 *         given configuration, in the order of the configuration
+	 */
+	private static LinkedList<FSTNonTerminal> selectFeatures(List<FSTNonTerminal> parsedFeatures, String[] configuration) {
+		LinkedList<FSTNonTerminal> features = new LinkedList<FSTNonTerminal>();
+		for (String featureName : configuration) {
+			for (FSTNonTerminal feature : parsedFeatures) {
+				if (feature.getName().equals(featureName)) {
+					features.add((FSTNonTerminal) feature.getDeepClone());
+					break;
 				}
 			}
-			setFstnodes(AbstractFSTParser.fstnodes);
-		
-			String equationName = new File(cmd.equationFileName).getName();
-			equationName = equationName.substring(0, equationName.length() - 4);
+		}
+		return features;
+	}
+
+	private String getOutputDirectory() {
+		String outputDir = cmd.equationBaseDirectoryName;
+		if (cmd.outputDirectoryName != null)
+			outputDir = cmd.outputDirectoryName;
+
+		if (outputDir.endsWith(File.separator))
+			outputDir = outputDir.substring(0, outputDir.length()-1);
+		return outputDir;
+	}
+
+	private static String getEquationName(String equationFileName) {
+		String equationName = new File(equationFileName).getName();
+		return equationName.substring(0, equationName.length() - 4);
+	}
+
+	/**
+	 * composes the given features of one builder and prints the composition
+	 */
+	private void composeAndPrint(ArtifactBuilderInterface builder, LinkedList<FSTNonTerminal> features, String equationFileName) {
+		Counter counter = null;
+		if(cmd.isCount && (builder instanceof JavaBuilder || builder instanceof CApproxBuilder)) {
+			counter = new Counter();
+		}
 		
-			if (cmd.featureAnnotation) {
-				File srcDir = new File(outputDir + File.separator + equationName+ File.separator);
-				saveFeatureAnnotationFile(srcDir);
-				if (cmd.lifting && "java".equals(cmd.lifting_language.toLowerCase())) {
-					saveSwitchIDAnnotationFile(srcDir);
-				}
+		for (FSTNonTerminal feature : features) {
+			FSTVisitorPipeline analyses = new FSTVisitorPipeline();
+			if (counter != null)
+				analyses.add(counter.getCollector());
+			analyses.add(new OriginalFeatureNameVisitor());
+			analyses.add(meta.getFuncIntroductionsVisitor());
+			// the methods of the first feature are not composed with others
+			if (cmd.featureAnnotation && feature == features.getFirst())
+				analyses.add(new FeatureAnnotationVisitor(feature.getName()));
+			meta.addFeature(feature.getName());
+			analyses.traverse(feature);
+		}
+		if (counter != null && features.size() > 0)
+			counter.writeFile(new File(equationFileName + ".rsf"));
+		FSTNode composition = compose(features);
+//		modify(composition);
+
+		/* 
+		 * hook for general purpose visitors
+		 */
+		if (!getFSTVisitors().isEmpty()) {
+			FSTVisitorPipeline visitors = new FSTVisitorPipeline();
+			for (FSTVisitor visitor : getFSTVisitors())
+				visitors.add(visitor);
+			visitors.traverse(composition);
+		}
+		try {
+			featureVisitor.visit((FSTNonTerminal) composition);
+		} catch (PrintVisitorException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * writes the files that belong to a product besides the composed sources
+	 * 
+	 * @param metaDir directory for the roles and feature selection files
+	 */
+	private void saveProductFiles(String outputDir, String equationFileName, String metaDir) {
+		String equationName = getEquationName(equationFileName);
+	
+		if (cmd.featureAnnotation) {
+			File srcDir = new File(outputDir + File.separator + equationName+ File.separator);
+			saveFeatureAnnotationFile(srcDir);
+			if (cmd.lifting && "java".equals(cmd.lifting_language.toLowerCase())) {
+				saveSwitchIDAnnotationFile(srcDir);
 			}
-			try {
-				if (cmd.exportRolesInJSONformat) {
-					meta.saveToFile(outputDir + File.separator + "roles.meta");
-				}
-				if (cmd.lifting) {
-					File cnfFile = new File(cmd.equationBaseDirectoryName, "model.cnf");
-					FSTGenComposer.outStream.println("cnfFile:" + cnfFile.getAbsolutePath());
-					if (cmd.lifting_language.equals("c")) {
-						new CRuntimeFeatureSelection(meta, cnfFile).saveTo(outputDir + File.separator + "features/featureselect");
-					} else if (cmd.lifting_language.equals("java")) {
-						new JavaRuntimeFeatureSelection(meta, cnfFile).saveTo(outputDir + File.separator);
-					}
+		}
+		try {
+			if (cmd.exportRolesInJSONformat) {
+				meta.saveToFile(metaDir + File.separator + "roles.meta");
+			}
+			if (cmd.lifting) {
+				File cnfFile = new File(cmd.equationBaseDirectoryName, "model.cnf");
+				FSTGenComposer.getOutStream().println("cnfFile:" + cnfFile.getAbsolutePath());
+				if (cmd.lifting_language.equals("c")) {
+					new CRuntimeFeatureSelection(meta, cnfFile).saveTo(metaDir + File.separator + "features/featureselect");
+				} else if (cmd.lifting_language.equals("java")) {
+					new JavaRuntimeFeatureSelection(meta, cnfFile).saveTo(metaDir + File.separator);
 				}
-			} catch (IOException e) {
-				e.printStackTrace();
 			}
-		} catch (FileNotFoundException e1) {
-			//e1.printStackTrace();
+		} catch (IOException e) {
+			e.printStackTrace();
 		}
 	}
 	
 	private void saveFeatureAnnotationFile(File srcDir) {
 		File f = new File(srcDir+File.separator+"featureHouse"+File.separator, "FeatureAnnotation.java");
 		f.getParentFile().mkdirs();
-		FSTGenComposer.outStream.println("writing FeatureAnnotation to file " +  f.getAbsolutePath());
+		FSTGenComposer.getOutStream().println("writing FeatureAnnotation to file " +  f.getAbsolutePath());
 		FileWriter fw = null;
 		try  {
 			fw = new FileWriter(f);
@@ -233,7 +686,7 @@ public class FSTGenComposer extends FSTGenProcessor {
 	private void saveSwitchIDAnnotationFile(File srcDir) {
 		File f = new File(srcDir+File.separator+"featureHouse"+File.separator, "FeatureSwitchID.java");
 		f.getParentFile().mkdirs();
-		FSTGenComposer.outStream.println("writing FeatureSwitchID to file " +  f.getAbsolutePath());
+		FSTGenComposer.getOutStream().println("writing FeatureSwitchID to file " +  f.getAbsolutePath());
 		FileWriter fw = null; 
 		try {
 			fw = new FileWriter(f);
@@ -271,20 +724,33 @@ public class FSTGenComposer extends FSTGenProcessor {
 	}
 	public static void composeWithPrintStream(String[] args, PrintStream out) {
 		FSTGenComposer composer = new FSTGenComposer();
-		FSTGenComposer.outStream = out;
+		CompositionSession.current().setOutStream(out);
 		composer.run(args);
 	}
+	/**
+	 * composes the given feature trees, which are consumed by the composition
+	 * (see {@link #consumeInputs})
+	 */
 	private FSTNode compose(List<FSTNonTerminal> tl) {
+		consumeInputs = true;
+		try {
+			if (cmd.composeThreads > 1 && !cmd.featureAnnotation) {
+				BalancedComposition balanced = new BalancedComposition(this, compositionRules, cmd.composeThreads);
+				if (balanced.isApplicable(tl))
+					return balanced.compose(tl);
+			}
+			return composeFeatures(tl);
+		} finally {
+			consumeInputs = false;
+		}
+	}
+
+	private FSTNode composeFeatures(List<FSTNonTerminal> tl) {
 		FSTNode composed = null;
 		for (FSTNode current : tl) {
-			// Several features will be merged in this node. Therefore its original feature is removed.
-			setOriginalFeatureName((FSTNonTerminal)current, "");
 			if (composed != null) {
 				composed = compose(current, composed);
 			} else {
-				if (cmd.featureAnnotation) {
-					addAnnotationToChildrenMethods(current, current.getFeatureName());
-				}
 				composed = current;
 			}
 		}
@@ -308,17 +774,66 @@ public class FSTGenComposer extends FSTGenProcessor {
 		}
 	}
 	
+	/**
+	 * sets the original feature of the terminals it visits like
+	 * {@link #setOriginalFeatureName(FSTNonTerminal, String)}
+	 */
+	private static class OriginalFeatureNameVisitor extends FSTVisitor {
+		private final Deque<String> features = new ArrayDeque<String>();
+
+		@Override
+		public boolean visit(FSTNonTerminal nonTerminal) {
+			if (nonTerminal.getType().equals("Feature"))
+				features.push(nonTerminal.getName());
+			return true;
+		}
+
+		@Override
+		public void postVisit(FSTNonTerminal nonTerminal) {
+			if (nonTerminal.getType().equals("Feature"))
+				features.pop();
+		}
+
+		@Override
+		public boolean visit(FSTTerminal terminal) {
+			terminal.setOriginalFeatureName(features.isEmpty() ? "" : features.peek());
+			return true;
+		}
+	}
+
+	/**
+	 * annotates the methods and constructors it visits like
+	 * {@link #addAnnotationToChildrenMethods(FSTNode, String)}
+	 */
+	private static class FeatureAnnotationVisitor extends FSTVisitor {
+		private final String featureName;
+
+		FeatureAnnotationVisitor(String featureName) {
+			this.featureName = featureName;
+		}
+
+		@Override
+		public boolean visit(FSTTerminal terminal) {
+			addFeatureAnnotation(terminal, featureName);
+			return true;
+		}
+	}
+
+	private static void addFeatureAnnotation(FSTTerminal terminal, String featureName) {
+		if ("MethodDecl".equals(terminal.getType()) || 
+				"ConstructorDecl".equals(terminal.getType())) {
+			String body = terminal.getBody();
+			terminal.setBody(JavaMethodOverriding.featureAnnotationPrefix + featureName +"\")\n" + body);
+		}
+	}
+
 	private void addAnnotationToChildrenMethods(FSTNode current,
 			String featureName) {
 		if (current instanceof FSTNonTerminal) {
 			for (FSTNode child : ((FSTNonTerminal)current).getChildren())
 				addAnnotationToChildrenMethods(child, featureName);
 		} else if (current instanceof FSTTerminal) {
-			if ("MethodDecl".equals(current.getType()) || 
-					"ConstructorDecl".equals(current.getType())) {
-				String body = ((FSTTerminal)current).getBody();
-				((FSTTerminal)current).setBody(JavaMethodOverriding.featureAnnotationPrefix + featureName +"\")\n" + body);
-			}
+			addFeatureAnnotation((FSTTerminal) current, featureName);
 		} else {
 			throw new RuntimeException("Somebody has introduced a subclass of FSTNode \"" + 
 				current.getClass().getName() 
@@ -352,7 +867,7 @@ public class FSTGenComposer extends FSTGenProcessor {
 					// root)
 					if (childA == null) {
 						// no compatible child, FST-node only in B
-						nonterminalComp.addChild(childB.getDeepClone());
+						nonterminalComp.addChild(consumeInputs ? childB : childB.getDeepClone());
 					} else {
 						nonterminalComp.addChild(compose(childA, childB,
 								nonterminalComp));
@@ -374,28 +889,7 @@ public class FSTGenComposer extends FSTGenProcessor {
 				FSTTerminal terminalComp = (FSTTerminal) compNode;
 				FSTNonTerminal nonterminalParent = (FSTNonTerminal) compParent;
 
-				CompositionRule applicableRule = null;
-				//get applicable rule from compositionRules
-				for (CompositionRule rule: compositionRules) {
-					if (terminalA.getCompositionMechanism().equals(rule.getRuleName())) {						
-						 applicableRule = rule;
-						 break;
-					}
-				}
-				if (applicableRule != null) {
-					//apply composition rule
-					try {
-						applicableRule.compose(terminalA, terminalB, terminalComp, nonterminalParent);
-					} catch (CompositionException e) {
-						fireCompositionErrorOccured(e);
-					}
-				} else {
-					System.err
-							.println("Error: don't know how to compose terminals: "
-									+ terminalB.toString()
-									+ " replaces "
-									+ terminalA.toString());
-				}
+				composeTerminals(terminalA, terminalB, terminalComp, nonterminalParent);
 				return terminalComp;
 			}
 			return null;
@@ -403,6 +897,28 @@ public class FSTGenComposer extends FSTGenProcessor {
 			return null;
 	}
 
+	/**
+	 * applies the composition rule of terminalA
+	 * 
+	 * @see CompositionRule#compose(FSTTerminal, FSTTerminal, FSTTerminal, FSTNonTerminal)
+	 */
+	void composeTerminals(FSTTerminal terminalA, FSTTerminal terminalB,
+			FSTTerminal terminalComp, FSTNonTerminal nonterminalParent) {
+		boolean composed = true;
+		try {
+			composed = compositionRules.compose(terminalA, terminalB, terminalComp, nonterminalParent);
+		} catch (CompositionException e) {
+			fireCompositionErrorOccured(e);
+		}
+		if (!composed) {
+			System.err
+					.println("Error: don't know how to compose terminals: "
+							+ terminalB.toString()
+							+ " replaces "
+							+ terminalA.toString());
+		}
+	}
+
 	/**
 	 * Handles children FSTNodes that do not have compatible siblings.
 	 * Such nodes sometimes have to be processed (replacing hooks, etc).
@@ -420,7 +936,7 @@ public class FSTGenComposer extends FSTGenProcessor {
 			replaceXMLHooksInNT(compParent, child);
 		} else {
 			/* Adds java Annotations (e.g. @Feature("base")) to methods and constructors in the java source code of the feature. */
-			FSTNode newChildA = child.getDeepClone();
+			FSTNode newChildA = consumeInputs ? child : child.getDeepClone();
 			if (cmd.featureAnnotation) {
 				if (newChildA instanceof FSTNonTerminal) {
 					addAnnotationToChildrenMethods(newChildA, child.getFeatureName());
@@ -3,7 +3,6 @@ package composer;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -14,7 +13,7 @@ import builder.java.JavaBuilder;
 
 import composer.rules.CSharpMethodOverriding;
 import composer.rules.CompositionError;
-import composer.rules.CompositionRule;
+import composer.rules.CompositionRuleRegistry;
 import composer.rules.ExpansionOverriding;
 import composer.rules.ImplementsListMerging;
 import composer.rules.ModifierListSpecialization;
@@ -28,16 +27,12 @@ import composer.rules.meta.InvariantCompositionMeta;
 import composer.rules.meta.JavaMethodOverridingMeta;
 import composer.rules.meta.MinimalFeatureModelInfo;
 import composer.rules.rtcomp.c.CRuntimeFeatureSelection;
-import composer.rules.rtcomp.c.CRuntimeFunctionRefinement;
-import composer.rules.rtcomp.c.CRuntimeReplacement;
 import composer.rules.rtcomp.java.JavaRuntimeFeatureSelection;
-import composer.rules.rtcomp.java.JavaRuntimeFunctionRefinement;
-import composer.rules.rtcomp.java.JavaRuntimeReplacement;
 
 import counter.Counter;
-import de.ovgu.cide.fstgen.ast.AbstractFSTParser;
 import de.ovgu.cide.fstgen.ast.FSTNode;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTSession;
 import de.ovgu.cide.fstgen.ast.FSTTerminal;
 
 public class FSTGenComposerExtension extends FSTGenComposer {
@@ -77,33 +72,9 @@ public class FSTGenComposerExtension extends FSTGenComposer {
 	private void build(String[] args, String[] featuresArg, boolean compose) {
 		meta.clearFeatures();
 		cmd.parseCmdLineArguments(args);
-		//select the composition rules
-		compositionRules = new ArrayList<CompositionRule>();
-		if (cmd.lifting) {
-			if (cmd.lifting_language.equals("c")) { 
-				compositionRules.add(new CRuntimeReplacement());
-				compositionRules.add(new CRuntimeFunctionRefinement());			
-			} else if (cmd.lifting_language.equals("java")) {
-				compositionRules.add(new JavaRuntimeReplacement());
-				compositionRules.add(new JavaRuntimeFunctionRefinement());
-			} else {
-				throw new InternalError("lifting language \"" + cmd.lifting_language + "\" is not implemented.");
-			}
-		} else {
-			compositionRules.add(new Replacement());
-			compositionRules.add(new JavaMethodOverridingMeta());
-		}
-		compositionRules.add(new InvariantCompositionMeta());
-		compositionRules.add(new ContractCompositionMeta(cmd.contract_style,modelInfo));
-		compositionRules.add(new StringConcatenation());
-		compositionRules.add(new ImplementsListMerging());
-		compositionRules.add(new CSharpMethodOverriding());
-		compositionRules.add(new ConstructorConcatenationMeta());
-		compositionRules.add(new ModifierListSpecialization());
-		compositionRules.add(new FieldOverridingMeta());
-		compositionRules.add(new ExpansionOverriding());
-		compositionRules.add(new CompositionError());
+		compositionRules = createCompositionRules();
 		
+		configureFileLoader();
 		try {
 			try {
 				fileLoader.loadFiles(cmd.equationFileName, cmd.equationBaseDirectoryName, cmd.isAheadEquationFile, featuresArg);
@@ -150,7 +121,7 @@ public class FSTGenComposerExtension extends FSTGenComposer {
 					}
 				}
 			}
-			setFstnodes(AbstractFSTParser.fstnodes);
+			setFstnodes(FSTSession.current().getFSTNodes());
 			if (!compose) {
 				return;
 			}
@@ -162,7 +133,7 @@ public class FSTGenComposerExtension extends FSTGenComposer {
 				}
 				if (cmd.lifting) {
 					File cnfFile = new File(cmd.equationBaseDirectoryName, "model.cnf");
-					FSTGenComposer.outStream.println("cnfFile:" + cnfFile.getAbsolutePath());
+					FSTGenComposer.getOutStream().println("cnfFile:" + cnfFile.getAbsolutePath());
 					if (cmd.lifting_language.equals("c")) {
 						new CRuntimeFeatureSelection(meta, cnfFile).saveTo(outputDir + File.separator + "features/featureselect");
 					} else if (cmd.lifting_language.equals("java")) {
@@ -194,6 +165,27 @@ public class FSTGenComposerExtension extends FSTGenComposer {
 		return composed;
 	}
 	
+	@Override
+	protected CompositionRuleRegistry createCompositionRules() {
+		CompositionRuleRegistry rules = new CompositionRuleRegistry();
+		registerCustomRules(rules);
+		if (!registerLiftingRules(rules)) {
+			rules.register(new Replacement());
+			rules.register(new JavaMethodOverridingMeta());
+		}
+		rules.register(new InvariantCompositionMeta());
+		rules.register(new ContractCompositionMeta(cmd.contract_style,modelInfo));
+		rules.register(new StringConcatenation());
+		rules.register(new ImplementsListMerging());
+		rules.register(new CSharpMethodOverriding());
+		rules.register(new ConstructorConcatenationMeta());
+		rules.register(new ModifierListSpecialization());
+		rules.register(new FieldOverridingMeta());
+		rules.register(new ExpansionOverriding());
+		rules.register(new CompositionError());
+		return rules;
+	}
+	
 	private void preProcessSubtree(FSTNode child) {
 		if (child instanceof FSTNonTerminal) {
 			if (child.getType().equals("MethodSpecification") && ((FSTNonTerminal) child).getChildren().isEmpty()) {
@@ -206,12 +198,7 @@ public class FSTGenComposerExtension extends FSTGenComposer {
 				}
 			}
 		} else if (child instanceof FSTTerminal) {
-			for (CompositionRule rule: compositionRules) {
-				if (((FSTTerminal) child).getCompositionMechanism().equals(rule.getRuleName())) {	
-					rule.preCompose((FSTTerminal) child);
-					break;
-				}
-			}
+			compositionRules.preCompose((FSTTerminal) child);
 		}
 	}
 	
@@ -221,12 +208,7 @@ public class FSTGenComposerExtension extends FSTGenComposer {
 				postProcess(node);
 			}
 		} else if (child instanceof FSTTerminal) {
-			for (CompositionRule rule: compositionRules) {
-				if (((FSTTerminal) child).getCompositionMechanism().equals(rule.getRuleName())) {	
-					rule.postCompose((FSTTerminal) child);
-					break;
-				}
-			}
+			compositionRules.postCompose((FSTTerminal) child);
 		}
 	}
 
@@ -23,7 +23,6 @@ import printer.str.STRPrintVisitor;
 import printer.text.TextPrintVisitor;
 import printer.xmi.XMIPrintVisitor;
 import printer.xml.XMLPrintVisitor;
-import processor.capprox.CIncludeGuardGenerator;
 import builder.ArtifactBuilderInterface;
 import builder.alloy.AlloyBuilder;
 import builder.asmetal.AsmetaLBuilder;
@@ -98,8 +97,6 @@ public class FSTGenProcessor {
 		registerPrintVisitor(new XMLPrintVisitor());
 		
 		errorFiles = new DuplicateFreeLinkedList<File>();
-		
-		registerFSTVisitor(new CIncludeGuardGenerator());
 	}
 	
 	public void setFstnodes(ArrayList<FSTNode> fstnodes) {
@@ -175,6 +172,11 @@ public class FSTGenProcessor {
 		e.printStackTrace();
 	}
 	
+	/**
+	 * registers a visitor that is run on each composition before it is
+	 * printed; all registered visitors share one traversal of the tree
+	 * (e.g., {@link processor.capprox.CIncludeGuardGenerator})
+	 */
 	public void registerFSTVisitor(FSTVisitor visitor) {
 	    fstVisitors.add(visitor);
 	}
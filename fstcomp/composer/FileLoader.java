@@ -6,8 +6,17 @@ import java.io.FileFilter;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.stream.XMLStreamException;
@@ -19,10 +28,14 @@ import modification.xmlParser.XmlParser;
 
 import org.xml.sax.SAXException;
 
+import builder.ArtifactBuilder;
+import builder.ArtifactBuilder.ParsedFile;
 import builder.ArtifactBuilderInterface;
+import builder.ParseCache;
 import cide.gparser.ParseException;
 import cide.gparser.TokenMgrError;
 import de.ovgu.cide.fstgen.ast.FSTFeatureNode;
+import de.ovgu.cide.fstgen.ast.FSTSession;
 
 public class FileLoader {
 
@@ -42,6 +55,56 @@ public class FileLoader {
 
 	private boolean preprocessFiles = false;
 
+	private int parseThreads = 1;
+
+	private ParseCache parseCache = null;
+
+	/**
+	 * pool that parses files in parallel; only exists while files are loaded
+	 * with more than one parse thread
+	 */
+	private ForkJoinPool parsePool = null;
+
+	/**
+	 * files that are parsed in parallel, in the order in which they have to be
+	 * added to the feature trees
+	 */
+	private LinkedList<PendingFile> pendingFiles = new LinkedList<PendingFile>();
+
+	/**
+	 * paths (relative to their feature directory, separated by '/') of the
+	 * files that are loaded, or null to load all files
+	 */
+	private Set<String> selectedFiles = null;
+
+	/** directory of the feature that is currently loaded */
+	private File featureDirectory = null;
+
+	public int getParseThreads() {
+		return parseThreads;
+	}
+
+	/**
+	 * Sets the number of threads used to parse files. With more than one
+	 * thread, files are parsed on a work-stealing pool and added to the
+	 * feature trees in the same order as with a single thread.
+	 */
+	public void setParseThreads(int parseThreads) {
+		this.parseThreads = Math.max(1, parseThreads);
+	}
+
+	public ParseCache getParseCache() {
+		return parseCache;
+	}
+
+	/**
+	 * Sets the cache that stores the trees of parsed files across runs, or
+	 * null to parse all files.
+	 */
+	public void setParseCache(ParseCache parseCache) {
+		this.parseCache = parseCache;
+	}
+
 	public boolean isPreprocessFiles() {
 		return preprocessFiles;
 	}
@@ -96,73 +159,306 @@ public class FileLoader {
 		File equationFile = new File(equationFileName);
 
 		String equationFileContent = "";
-		BufferedReader fileReader = null;
 		try {
-			fileReader = new BufferedReader(new FileReader(equationFile));
-			String line = fileReader.readLine();
-			while (line != null) {
-				if (!line.startsWith("#")) {
-					equationFileContent += line + " ";
-				}
-				line = fileReader.readLine();
-			}
+			for (String line : readLines(equationFile))
+				equationFileContent += line + " ";
 		} catch (FileNotFoundException e) {
 			// TODO Auto-generated catch block
 			e.printStackTrace();
-		} catch (IOException e) {
-			e.printStackTrace();
-		} finally {
-			if (fileReader != null) {
-				try {
-					fileReader.close();
-				} catch (IOException e) {
-					e.printStackTrace();
-				}
-			}
 		}
 		if (!equationFileContent.equals("")) {
 			if (features == null) {
 				features = equationFileContent.split("\\s");
 			}
-			FSTGenComposer.outStream.println("Found the following features in expression file:");
+			FSTGenComposer.getOutStream().println("Found the following features in expression file:");
 			for (String s : features)
-				FSTGenComposer.outStream.println(s);
+				FSTGenComposer.getOutStream().println(s);
 
 			// if (features.length == 0) {
 			// features = equationFileContent.split(" ");
 			// }
 			// System.out.println("BaseDirectory: " + baseDirectoryName);
-			Iterator<ArtifactBuilderInterface> iterator = builderList
-					.iterator();
-			if (!equationBaseDirectoryName.trim().endsWith(
-					"" + File.separatorChar)) {
-				equationBaseDirectoryName = equationBaseDirectoryName.trim()
-						+ File.separatorChar;
-			}
-			while (iterator.hasNext()) {
-				iterator.next().setBaseDirectoryName(
-						getDirectoryName(new File(equationBaseDirectoryName)));
+			loadFeatures(features, equationBaseDirectoryName, aheadEquation);
+		}
+	}
+
+	/**
+	 * Parses the directories of the given features (relative to the given
+	 * base directory) into the feature trees of the artifact builders.
+	 */
+	public void loadFeatures(String[] features,
+			String equationBaseDirectoryName, boolean aheadEquation)
+			throws FileNotFoundException, ParseException {
+		loadFeatures(features, equationBaseDirectoryName, aheadEquation, null);
+	}
+
+	/**
+	 * Parses only the given files of the given features into the feature
+	 * trees of the artifact builders. The feature trees of all features are
+	 * created, even if they contain none of the given files.
+	 * 
+	 * @param files
+	 *            paths of the files relative to their feature directory
+	 *            (separated by '/'), or null to parse all files
+	 */
+	public void loadFeatures(String[] features,
+			String equationBaseDirectoryName, boolean aheadEquation,
+			Set<String> files) throws FileNotFoundException, ParseException {
+		equationBaseDirectoryName = prepareBuilders(equationBaseDirectoryName);
+		selectedFiles = files;
+		try {
+			parseFeatureDirectories(features, equationBaseDirectoryName,
+					aheadEquation);
+			addPendingFiles();
+			if (parseCache != null) {
+				FSTGenComposer.getOutStream().println("parse cache: " + parseCache.getHits() + " hits, "
+						+ parseCache.getMisses() + " misses");
 			}
-			for (int i = 0; i < features.length; i++) {
-				if (features[i].trim().length() > 0) {
-					File feature = new File(equationBaseDirectoryName
-							+ features[i]);
-					if (!feature.exists()) {
-						FSTGenComposer.outStream.println("Did not find feature directory " + feature.getAbsolutePath() + "; treating it as empty feature.");
-					}
-					// Initialize each ArtifactBuilder with the current feature features[i].
-					// If we do not initialize it FSTGenMerger fails, because a feature might
-					// be empty and does not contain any code artifacts for merging.
-					Iterator<ArtifactBuilderInterface> biter = builderList.iterator();
-					
-					while (biter.hasNext()) {
-						biter.next().addFeature(new FSTFeatureNode(features[i]));
+		} finally {
+			finishLoading();
+			selectedFiles = null;
+			featureDirectory = null;
+		}
+	}
+
+	/**
+	 * Parses the files of the given features path by path into the feature
+	 * trees of the artifact builders, without searching the feature
+	 * directories (see {@link #collectFiles(String[], String, boolean)}).
+	 * After the files of a path have been added, the listener is notified;
+	 * then the feature trees are emptied for the next path. The feature trees
+	 * of all features are created for each path, even if they contain none of
+	 * its files.
+	 * <p>
+	 * With more than one parse thread, the files of the following paths are
+	 * parsed while the listener handles a path. At most twice as many paths
+	 * as there are parse threads are parsed ahead, so that only their trees
+	 * are in memory.
+	 * 
+	 * @param paths
+	 *            the files of each path, in the order of the features
+	 */
+	public void loadFeatureFiles(String[] features,
+			String equationBaseDirectoryName, boolean aheadEquation,
+			Collection<List<File>> paths, IFilesLoadedListener listener) {
+		prepareBuilders(equationBaseDirectoryName);
+		int maxPathsInFlight = parsePool == null ? 1 : 2 * parseThreads;
+		LinkedList<List<PendingFile>> inFlight = new LinkedList<List<PendingFile>>();
+		Iterator<List<File>> next = paths.iterator();
+		try {
+			while (next.hasNext() || !inFlight.isEmpty()) {
+				while (inFlight.size() < maxPathsInFlight && next.hasNext())
+					inFlight.add(submitFiles(next.next(), aheadEquation));
+				for (String feature : features) {
+					if (feature.trim().length() > 0) {
+						for (ArtifactBuilderInterface builder : builderList)
+							builder.addFeature(new FSTFeatureNode(feature));
 					}
+				}
+				try {
+					for (PendingFile file : inFlight.removeFirst())
+						addFile(file);
+				} catch (FileNotFoundException e) {
+					//e.printStackTrace();
+				} catch (ParseException e) {
+					composer.fireParseErrorOccured(e);
+					e.printStackTrace();
+				}
+				listener.filesLoaded();
+				for (ArtifactBuilderInterface builder : builderList)
+					builder.getFeatures().clear();
+				FSTSession.current().getFSTNodes().clear();
+			}
+		} finally {
+			finishLoading();
+		}
+	}
 
-					parseDirectory(feature, !aheadEquation);
+	/**
+	 * starts parsing the given files if they are parsed in parallel
+	 * 
+	 * @return the files with their builders, to be added in this order
+	 */
+	private List<PendingFile> submitFiles(List<File> files, boolean aheadEquation) {
+		List<PendingFile> result = new ArrayList<PendingFile>();
+		for (File file : files) {
+			for (ArtifactBuilderInterface builder : builderList) {
+				if (builder.acceptFile(file)) {
+					if (!aheadEquation && isPreprocessFiles())
+						builder.setPreprocessNode(true);
+					PendingFile pendingFile = new PendingFile(builder, file, !aheadEquation);
+					if (parsePool != null)
+						submitParse(pendingFile);
+					result.add(pendingFile);
 				}
 			}
 		}
+		return result;
+	}
+
+	/**
+	 * Collects the files of the given features by their path relative to
+	 * the feature directory. The files of each path are listed in the order
+	 * of the features; their paths are those that
+	 * {@link #loadFeatures(String[], String, boolean)} would parse.
+	 * 
+	 * @return the files by path, or null if a feature contains modifications
+	 *         (a _mod folder), which apply to the whole product
+	 */
+	public Map<String, List<File>> collectFiles(String[] features,
+			String equationBaseDirectoryName, boolean aheadEquation) {
+		if (!equationBaseDirectoryName.trim().endsWith(
+				"" + File.separatorChar)) {
+			equationBaseDirectoryName = equationBaseDirectoryName.trim()
+					+ File.separatorChar;
+		}
+		Map<String, List<File>> files = new LinkedHashMap<String, List<File>>();
+		for (String feature : features) {
+			if (feature.trim().length() > 0) {
+				File directory = new File(equationBaseDirectoryName + feature);
+				if (!collectFiles(directory, directory, !aheadEquation, files))
+					return null;
+			}
+		}
+		return files;
+	}
+
+	private boolean collectFiles(File featureDirectory, File directory,
+			boolean recursive, Map<String, List<File>> result) {
+		if (directory.getName().equals(MODIFICATION_FOLDER_TAG))
+			return false;
+		File[] files = directory.listFiles(fileFilter);
+		if (files != null) {
+			for (File file : files) {
+				String path = getFeaturePath(featureDirectory, file);
+				List<File> inputs = result.get(path);
+				if (inputs == null) {
+					inputs = new ArrayList<File>();
+					result.put(path, inputs);
+				}
+				inputs.add(file);
+			}
+		}
+		if (recursive) {
+			File[] directories = directory.listFiles(directoryFileFilter);
+			if (directories != null) {
+				for (File child : directories) {
+					if (!collectFiles(featureDirectory, child, recursive, result))
+						return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * prepares the artifact builders and the parse pool for loading files
+	 * 
+	 * @return the base directory, ending with a separator
+	 */
+	private String prepareBuilders(String equationBaseDirectoryName) {
+		Iterator<ArtifactBuilderInterface> iterator = builderList
+				.iterator();
+		if (!equationBaseDirectoryName.trim().endsWith(
+				"" + File.separatorChar)) {
+			equationBaseDirectoryName = equationBaseDirectoryName.trim()
+					+ File.separatorChar;
+		}
+		while (iterator.hasNext()) {
+			ArtifactBuilderInterface builder = iterator.next();
+			builder.setBaseDirectoryName(
+					getDirectoryName(new File(equationBaseDirectoryName)));
+			if (builder instanceof ArtifactBuilder)
+				((ArtifactBuilder) builder).setParseCache(parseCache);
+		}
+		if (parseThreads > 1) {
+			parsePool = new ForkJoinPool(parseThreads);
+		}
+		return equationBaseDirectoryName;
+	}
+
+	private void finishLoading() {
+		if (parsePool != null) {
+			parsePool.shutdownNow();
+			parsePool = null;
+		}
+		pendingFiles.clear();
+	}
+
+	/**
+	 * @return the path of the given file relative to the given feature
+	 *         directory, with '/' as separator
+	 */
+	static String getFeaturePath(File featureDirectory, File file) {
+		return file.getPath().substring(featureDirectory.getPath().length() + 1)
+				.replace(File.separatorChar, '/');
+	}
+
+	private boolean isSelected(File file) {
+		return selectedFiles == null
+				|| selectedFiles.contains(getFeaturePath(featureDirectory, file));
+	}
+
+	/**
+	 * @return the features listed in the given expression file
+	 */
+	public static String[] readFeatures(File equationFile) throws FileNotFoundException {
+		String equationFileContent = "";
+		for (String line : readLines(equationFile))
+			equationFileContent += line + " ";
+		return equationFileContent.split("\\s");
+	}
+
+	/**
+	 * @return the lines of the given file, without comment lines (starting
+	 *         with #)
+	 */
+	static List<String> readLines(File file) throws FileNotFoundException {
+		List<String> lines = new ArrayList<String>();
+		BufferedReader fileReader = new BufferedReader(new FileReader(file));
+		try {
+			String line = fileReader.readLine();
+			while (line != null) {
+				if (!line.startsWith("#")) {
+					lines.add(line);
+				}
+				line = fileReader.readLine();
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+		} finally {
+			try {
+				fileReader.close();
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+		return lines;
+	}
+
+	private void parseFeatureDirectories(String[] features,
+			String equationBaseDirectoryName, boolean aheadEquation)
+			throws FileNotFoundException, ParseException {
+		for (int i = 0; i < features.length; i++) {
+			if (features[i].trim().length() > 0) {
+				File feature = new File(equationBaseDirectoryName
+						+ features[i]);
+				if (!feature.exists()) {
+					FSTGenComposer.getOutStream().println("Did not find feature directory " + feature.getAbsolutePath() + "; treating it as empty feature.");
+				}
+				// Initialize each ArtifactBuilder with the current feature features[i].
+				// If we do not initialize it FSTGenMerger fails, because a feature might
+				// be empty and does not contain any code artifacts for merging.
+				Iterator<ArtifactBuilderInterface> biter = builderList.iterator();
+				
+				while (biter.hasNext()) {
+					biter.next().addFeature(new FSTFeatureNode(features[i]));
+				}
+
+				featureDirectory = feature;
+				parseDirectory(feature, !aheadEquation);
+			}
+		}
 	}
 
 	/**
@@ -209,22 +505,16 @@ public class FileLoader {
 			if (files != null) {
 
 				for (int i = 0; i < files.length; i++) {
+					if (!isSelected(files[i]))
+						continue;
 					Iterator<ArtifactBuilderInterface> iterator = builderList
 							.iterator();
 					while (iterator.hasNext()) {
 						ArtifactBuilderInterface builder = iterator.next();
 						if (builder.acceptFile(files[i])) {
-							try {
-								if (isPreprocessFiles())
-									builder.setPreprocessNode(true);
-								builder.processFile(files[i]);
-							} catch (ParseException e) {
-								composer.getErrorFiles().add(files[i]);
-								composer.fireParseErrorOccured(e);
-							} catch (TokenMgrError e) {
-								composer.getErrorFiles().add(files[i]);
-								throw (e);
-							}
+							if (isPreprocessFiles())
+								builder.setPreprocessNode(true);
+							processFile(new PendingFile(builder, files[i], recursive));
 						}
 					}
 				}
@@ -239,18 +529,14 @@ public class FileLoader {
 			File[] files = directory.listFiles(fileFilter);
 			if (files != null) {
 				for (int i = 0; i < files.length; i++) {
+					if (!isSelected(files[i]))
+						continue;
 					Iterator<ArtifactBuilderInterface> iterator = builderList
 							.iterator();
 					while (iterator.hasNext()) {
 						ArtifactBuilderInterface builder = iterator.next();
 						if (builder.acceptFile(files[i])) {
-							try {
-								builder.processFile(files[i]);
-							} catch (ParseException e) {
-								composer.getErrorFiles().add(files[i]);
-								composer.fireParseErrorOccured(e);
-								e.printStackTrace();
-							}
+							processFile(new PendingFile(builder, files[i], recursive));
 						}
 					}
 				}
@@ -263,6 +549,87 @@ public class FileLoader {
 		}
 	}
 
+	/**
+	 * Processes the given file with its builder. If files are parsed in
+	 * parallel, the file is only scheduled for parsing and added to the
+	 * feature tree by {@link #addPendingFiles()}.
+	 */
+	private void processFile(PendingFile file) throws FileNotFoundException,
+			ParseException {
+		if (parsePool == null) {
+			addFile(file);
+			return;
+		}
+		submitParse(file);
+		pendingFiles.add(file);
+	}
+
+	/**
+	 * starts parsing the given file on the parse pool, if its builder can
+	 * parse files in parallel
+	 */
+	private void submitParse(PendingFile file) {
+		if (file.builder instanceof ArtifactBuilder) {
+			final ArtifactBuilder builder = (ArtifactBuilder) file.builder;
+			final File inputFile = file.file;
+			final FSTSession session = FSTSession.current();
+			file.parsedFile = parsePool.submit(new Callable<ParsedFile>() {
+				public ParsedFile call() {
+					// parse in the session of the composition that loads the file
+					FSTSession previous = session.activate();
+					try {
+						return builder.parseFile(inputFile);
+					} finally {
+						FSTSession.restore(previous);
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Adds all files that are parsed in parallel to their feature trees in the
+	 * order in which they were found.
+	 */
+	private void addPendingFiles() throws FileNotFoundException, ParseException {
+		while (!pendingFiles.isEmpty()) {
+			addFile(pendingFiles.removeFirst());
+		}
+	}
+
+	private void addFile(PendingFile file) throws FileNotFoundException,
+			ParseException {
+		try {
+			if (file.parsedFile != null) {
+				((ArtifactBuilder) file.builder).addParsedFile(file.parsedFile.join());
+			} else {
+				file.builder.processFile(file.file);
+			}
+		} catch (ParseException e) {
+			composer.getErrorFiles().add(file.file);
+			composer.fireParseErrorOccured(e);
+			if (!file.recursive)
+				e.printStackTrace();
+		} catch (TokenMgrError e) {
+			if (file.recursive)
+				composer.getErrorFiles().add(file.file);
+			throw (e);
+		}
+	}
+
+	private static class PendingFile {
+		final ArtifactBuilderInterface builder;
+		final File file;
+		final boolean recursive;
+		ForkJoinTask<ParsedFile> parsedFile = null;
+
+		PendingFile(ArtifactBuilderInterface builder, File file, boolean recursive) {
+			this.builder = builder;
+			this.file = file;
+			this.recursive = recursive;
+		}
+	}
+
 	private String getDirectoryName(File file) {
 		String result = "";
 		if (file.isDirectory()) {
@@ -0,0 +1,11 @@
+package composer;
+
+/**
+ * Is notified by {@link FileLoader} whenever the files of one path have been
+ * added to the feature trees while a product is loaded path by path.
+ */
+public interface IFilesLoadedListener {
+
+	void filesLoaded();
+
+}
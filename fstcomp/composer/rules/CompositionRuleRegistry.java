@@ -0,0 +1,167 @@
+package composer.rules;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import composer.CompositionException;
+
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+
+/**
+ * The composition rules of a composer, keyed by the composition mechanism of
+ * the terminals they compose (see {@link CompositionRule#getRuleName()}). If
+ * several rules have the same name, the one registered first is used.
+ * <p>
+ * The registry counts how often each rule composes two terminals and how
+ * long this takes in total. Rules are registered before composition starts;
+ * afterwards, the registry may be used by several threads at once.
+ */
+public class CompositionRuleRegistry {
+
+	/**
+	 * invocations of a rule and the time spent in them
+	 */
+	public static final class RuleStatistics {
+		private final CompositionRule rule;
+		private final AtomicLong invocations = new AtomicLong();
+		private final AtomicLong nanos = new AtomicLong();
+
+		private RuleStatistics(CompositionRule rule) {
+			this.rule = rule;
+		}
+
+		public CompositionRule getRule() {
+			return rule;
+		}
+
+		public long getInvocations() {
+			return invocations.get();
+		}
+
+		/**
+		 * @return time spent in {@link CompositionRule#compose} in
+		 *         nanoseconds
+		 */
+		public long getTime() {
+			return nanos.get();
+		}
+	}
+
+	private final Map<String, RuleStatistics> rules = new HashMap<String, RuleStatistics>();
+
+	// in the order of registration
+	private final List<RuleStatistics> statistics = new ArrayList<RuleStatistics>();
+
+	/**
+	 * adds the given rule unless a rule with the same name has been
+	 * registered before
+	 *
+	 * @return whether the rule was added
+	 */
+	public boolean register(CompositionRule rule) {
+		String name = rule.getRuleName();
+		if (rules.containsKey(name))
+			return false;
+		RuleStatistics entry = new RuleStatistics(rule);
+		rules.put(name, entry);
+		statistics.add(entry);
+		return true;
+	}
+
+	/**
+	 * @return the rule for the given composition mechanism, or null if there
+	 *         is none
+	 */
+	public CompositionRule getRule(String compositionMechanism) {
+		RuleStatistics entry = rules.get(compositionMechanism);
+		return entry == null ? null : entry.rule;
+	}
+
+	/**
+	 * @return all rules in the order of registration
+	 */
+	public List<CompositionRule> getRules() {
+		List<CompositionRule> result = new ArrayList<CompositionRule>(statistics.size());
+		for (RuleStatistics entry : statistics)
+			result.add(entry.rule);
+		return result;
+	}
+
+	/**
+	 * composes the given terminals with the rule for the composition
+	 * mechanism of terminalA
+	 *
+	 * @return false if there is no rule for this mechanism
+	 * @see CompositionRule#compose(FSTTerminal, FSTTerminal, FSTTerminal,
+	 *      FSTNonTerminal)
+	 */
+	public boolean compose(FSTTerminal terminalA, FSTTerminal terminalB,
+			FSTTerminal terminalComp, FSTNonTerminal nonterminalParent)
+			throws CompositionException {
+		RuleStatistics entry = rules.get(terminalA.getCompositionMechanism());
+		if (entry == null)
+			return false;
+		long start = System.nanoTime();
+		try {
+			entry.rule.compose(terminalA, terminalB, terminalComp, nonterminalParent);
+		} finally {
+			entry.nanos.addAndGet(System.nanoTime() - start);
+			entry.invocations.incrementAndGet();
+		}
+		return true;
+	}
+
+	/**
+	 * calls {@link CompositionRule#preCompose(FSTTerminal)} of the rule for
+	 * the composition mechanism of the given terminal, if there is one
+	 */
+	public void preCompose(FSTTerminal terminal) {
+		CompositionRule rule = getRule(terminal.getCompositionMechanism());
+		if (rule != null)
+			rule.preCompose(terminal);
+	}
+
+	/**
+	 * calls {@link CompositionRule#postCompose(FSTTerminal)} of the rule for
+	 * the composition mechanism of the given terminal, if there is one
+	 */
+	public void postCompose(FSTTerminal terminal) {
+		CompositionRule rule = getRule(terminal.getCompositionMechanism());
+		if (rule != null)
+			rule.postCompose(terminal);
+	}
+
+	/**
+	 * @return the statistics of all rules in the order of registration
+	 */
+	public List<RuleStatistics> getStatistics() {
+		return new ArrayList<RuleStatistics>(statistics);
+	}
+
+	/**
+	 * prints the invocations and times of all rules that have been invoked,
+	 * the most expensive first
+	 */
+	public void printStatistics(PrintStream out) {
+		List<RuleStatistics> invoked = new ArrayList<RuleStatistics>();
+		for (RuleStatistics entry : statistics)
+			if (entry.getInvocations() > 0)
+				invoked.add(entry);
+		Collections.sort(invoked, new Comparator<RuleStatistics>() {
+			public int compare(RuleStatistics a, RuleStatistics b) {
+				return Long.compare(b.getTime(), a.getTime());
+			}
+		});
+		out.println("composition rules: invocations, time [ms]");
+		for (RuleStatistics entry : invoked)
+			out.println(String.format("  %-36s %10d %10.1f", entry.rule.getRuleName(),
+					entry.getInvocations(), entry.getTime() / 1e6));
+	}
+}
@@ -378,7 +378,7 @@ public class ContractComposition extends AbstractCompositionRule {
 			baseCases[caseId] = baseCase;
 		}
 
-		FSTGenComposer.outStream.println("baseCases(id)= " + baseCases[caseId]);
+		FSTGenComposer.getOutStream().println("baseCases(id)= " + baseCases[caseId]);
 		Pattern p = Pattern
 				.compile(
 						".*\\(\\\\(forall|exists|max|min|num_of|product|sum)[^;]*(;)[^;]*(;).*\\).*",
@@ -393,7 +393,7 @@ public class ContractComposition extends AbstractCompositionRule {
 				baseCases[caseId] = sb.toString();
 			}
 			m = p.matcher(baseCases[caseId]);
-			FSTGenComposer.outStream.println("XX " + baseCases[caseId]);
+			FSTGenComposer.getOutStream().println("XX " + baseCases[caseId]);
 		}
 		String[] clausesA = baseCases[caseId].trim().split(";");
 
@@ -1,11 +1,10 @@
 package composer.rules;
 
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 
+import cide.gparser.ArrayCharStream;
 import cide.gparser.CharStream;
-import cide.gparser.OffsetCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNode;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
@@ -40,8 +39,7 @@ public class ContractReader {
 	 * @param terminalA
 	 */
 	private void initClauses(FSTTerminal terminal) {
-		StringReader inputa = new StringReader(terminal.getBody());
-		CharStream a = new OffsetCharStream(inputa);
+		CharStream a = new ArrayCharStream(terminal.getBody());
 		ContractParser pa = new ContractParser(a);
 		try {
 			pa.SpecCaseSeq(false);
@@ -7,6 +7,7 @@ import java.util.StringTokenizer;
 import metadata.CompositionMetadataStore;
 
 import composer.CompositionException;
+import composer.CompositionSession;
 
 import de.ovgu.cide.fstgen.ast.CommandLineParameterHelper;
 import de.ovgu.cide.fstgen.ast.FSTNode;
@@ -15,14 +16,13 @@ import de.ovgu.cide.fstgen.ast.FSTTerminal;
 
 public class JavaMethodOverriding extends AbstractCompositionRule {
 
-	private static boolean addFeatureAnnotations = false;
 
 	public static final String featureAnnotationPrefix = "@featureHouse.FeatureAnnotation(name=\"";
 
 	public final static String COMPOSITION_RULE_NAME = "JavaMethodOverriding";
 
 	public static void setFeatureAnnotation(boolean addFeatureAnnotation) {
-		JavaMethodOverriding.addFeatureAnnotations = addFeatureAnnotation;
+		CompositionSession.current().setFeatureAnnotation(addFeatureAnnotation);
 	}
 
 	private FSTNode getContractCompositionKeyword(FSTNode node) {
@@ -99,7 +99,7 @@ public class JavaMethodOverriding extends AbstractCompositionRule {
 					+ (terminalB.getOriginalFeatureName());
 			String newBody = getNewBody(terminalA, terminalB, terminalComp,
 					oldMethodName).replaceAll(toReplace, newMethodName + "(");
-			if (addFeatureAnnotations) {
+			if (CompositionSession.current().isFeatureAnnotation()) {
 				newBody = JavaMethodOverriding.featureAnnotationPrefix
 						+ (terminalA.getOriginalFeatureName()) + "\")\n" + newBody;
 			}
@@ -11,7 +11,7 @@ public class Replacement extends AbstractCompositionRule {
 	public void compose(FSTTerminal terminalA, FSTTerminal terminalB,
 			FSTTerminal terminalComp, FSTNonTerminal nonterminalParent) {
 		
-		FSTGenComposer.outStream.println("Terminal replacement: " +
+		FSTGenComposer.getOutStream().println("Terminal replacement: " +
 				 terminalA.toString() + " replaces " +
 				 terminalB.toString());
 		
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.StringTokenizer;
 
+import composer.CompositionSession;
 import composer.rules.AbstractCompositionRule;
 import composer.rules.JavaMethodOverriding;
 
@@ -15,11 +16,9 @@ public class JavaRuntimeFunctionRefinement extends AbstractCompositionRule {
 	private final String SWITCH_METHOD_ANNOTATION_NAME = "featureSwitch";
 	private final String SWITCH_METHOD_ANNOTATION = JavaMethodOverriding.featureAnnotationPrefix + SWITCH_METHOD_ANNOTATION_NAME + "\")\n";
 	private final String SWITCH_ID_ANNOTATION = "@featureHouse.FeatureSwitchID(id=";
-	private static int generatedSwitchMethods = 0;
 	
-	private static boolean addFeatureAnnotations = false;
 	public static void setFeatureAnnotation(boolean addFeatureAnnotation) {
-		JavaRuntimeFunctionRefinement.addFeatureAnnotations=addFeatureAnnotation;
+		CompositionSession.current().setFeatureAnnotation(addFeatureAnnotation);
 	}
 
 	@Override
@@ -56,7 +55,7 @@ public class JavaRuntimeFunctionRefinement extends AbstractCompositionRule {
 			String newBody = terminalComp.getBody().replaceAll(toReplace, beforeFunctionName + "(");
 			newBody = replaceFunctionName(roleFunctionName, sigB.name, newBody);
 			
-			if (addFeatureAnnotations) {
+			if (CompositionSession.current().isFeatureAnnotation()) {
 				//split the body of terminalComp2 in its major components; modify them seperately
 				int methodNamePosition = JavaMethodOverriding.extractMethodPrefixEnd(newBody, sigB.name);
 				int annotationsEnd = JavaMethodOverriding.extractMethodAnnotationsEnd(newBody);
@@ -105,7 +104,7 @@ public class JavaRuntimeFunctionRefinement extends AbstractCompositionRule {
 					"    }\n" +
 					"}\n\n";
 			}
-			if (addFeatureAnnotations) {
+			if (CompositionSession.current().isFeatureAnnotation()) {
 				// featureNameTermB is not equal to JavaMethodOverriding.getFeatureName(terminalB), because this is the newest included feature; the method might come from an older one
 				String featureNameTermB=extractMethodOriginFeature(newBody2);
 				newBody3 = getSwitchMethodAnnotation(featureNameTermA, featureNameTermB) + newBody3;
@@ -135,7 +134,7 @@ public class JavaRuntimeFunctionRefinement extends AbstractCompositionRule {
 	private String getSwitchMethodAnnotation(String thenFeature, String elseFeature) {
 		return SWITCH_METHOD_ANNOTATION +
 				SWITCH_ID_ANNOTATION + 
-				(generatedSwitchMethods++) + 
+				CompositionSession.current().nextSwitchMethodId() + 
 				", thenFeature=\"" + thenFeature + "\""+ 
 				", elseFeature=\"" + elseFeature + "\""+
 				")\n";
@@ -8,6 +8,9 @@ import java.util.LinkedList;
 
 import de.ovgu.cide.fstgen.ast.FSTNode;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+import de.ovgu.cide.fstgen.ast.FSTVisitor;
+import de.ovgu.cide.fstgen.ast.FSTVisitorPipeline;
 
 public class Counter {
 	private class Entry {
@@ -25,26 +28,51 @@ public class Counter {
 	LinkedList<Entry> data = new LinkedList<Entry>();
 	
 	public void collect(FSTNode node) {
-	
-		if(node.getType().equals("ClassDeclaration") ||
-				node.getType().equals("MethodDecl") ||
-				node.getType().equals("InnerEnumDecl") ||
-				node.getType().equals("InnerClassDecl") ||
-				node.getType().equals("FieldDecl") ||
-				node.getType().equals("ConstructorDecl")) {
-			
-			collectJava(node);
-			
-		} else if(node.getType().equals("Func") ||
-				node.getType().equals("StmtYL") ||
-				node.getType().equals("StmtTL")) {
-			collectC(node);
-		}
+		collectNode(node);
 		if(node instanceof FSTNonTerminal)
 		for(FSTNode child : ((FSTNonTerminal)node).getChildren())
 			collect(child);
     }
 
+	/**
+	 * @return a visitor that collects the nodes it visits like
+	 *         {@link #collect(FSTNode)}, to be run in a
+	 *         {@link FSTVisitorPipeline}
+	 */
+	public FSTVisitor getCollector() {
+		return new FSTVisitor() {
+			@Override
+			public boolean visit(FSTTerminal terminal) {
+				collectNode(terminal);
+				return true;
+			}
+
+			@Override
+			public boolean visit(FSTNonTerminal nonTerminal) {
+				collectNode(nonTerminal);
+				return true;
+			}
+		};
+	}
+
+	private void collectNode(FSTNode node) {
+		switch (node.getType()) {
+		case "ClassDeclaration":
+		case "MethodDecl":
+		case "InnerEnumDecl":
+		case "InnerClassDecl":
+		case "FieldDecl":
+		case "ConstructorDecl":
+			collectJava(node);
+			break;
+		case "Func":
+		case "StmtYL":
+		case "StmtTL":
+			collectC(node);
+			break;
+		}
+	}
+
 	private void collectJava(FSTNode node) {
 		String name = node.getName();
 		String type = node.getType();
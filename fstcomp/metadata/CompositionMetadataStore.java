@@ -8,9 +8,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
 
+import composer.CompositionSession;
 import de.ovgu.cide.fstgen.ast.FSTNode;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.ast.FSTTerminal;
+import de.ovgu.cide.fstgen.ast.FSTVisitor;
+import de.ovgu.cide.fstgen.ast.FSTVisitorPipeline;
 
 /**
  * 
@@ -39,12 +42,12 @@ public final class CompositionMetadataStore {
 	}
 	
 	/**
-	 * This creates a new CompositionMetadataStore.
-	 * Useful if FSTGenComposer is used multiple times in the same VM.
+	 * This creates a new CompositionMetadataStore for the current composition session.
+	 * Useful if FSTGenComposer is used multiple times in the same VM without sessions.
 	 * This method must be called BEFORE the second/third/fourth/... call to FSTGenComposer.main()!
 	 */
 	public static void reinitialize() {
-		instance = new CompositionMetadataStore();
+		CompositionSession.current().setMetadata(new CompositionMetadataStore());
 	}
 	
 	/**
@@ -87,14 +90,7 @@ public final class CompositionMetadataStore {
 	 */
 	public void discoverFuncIntroductions(FSTNode n) {
 		if (n instanceof FSTTerminal) {
-			FSTTerminal nTerm = (FSTTerminal)n;
-			if (n.getType().equals("Func")) { // This is for features implemented in C
-				String funcName = getMethodName(n);
-				putMapping(funcName, nTerm.getOriginalFeatureName(), funcName);
-			} else if (n.getType().equals("MethodDecl")) { // This is for features implemented in Java
-				String funcName = getJavaMethodName(n);
-				putMapping(funcName, nTerm.getOriginalFeatureName(), funcName);
-			}
+			discoverFuncIntroduction((FSTTerminal) n);
 		} else if (n instanceof FSTNonTerminal) {
 			FSTNonTerminal nt = (FSTNonTerminal) n;
 			for (FSTNode child: nt.getChildren()) {
@@ -102,6 +98,31 @@ public final class CompositionMetadataStore {
 			}
 		}
 	}
+
+	/**
+	 * @return a visitor that discovers the function introductions of the
+	 *         terminals it visits like {@link #discoverFuncIntroductions(FSTNode)},
+	 *         to be run in a {@link FSTVisitorPipeline}
+	 */
+	public FSTVisitor getFuncIntroductionsVisitor() {
+		return new FSTVisitor() {
+			@Override
+			public boolean visit(FSTTerminal terminal) {
+				discoverFuncIntroduction(terminal);
+				return true;
+			}
+		};
+	}
+
+	private void discoverFuncIntroduction(FSTTerminal nTerm) {
+		if (nTerm.getType().equals("Func")) { // This is for features implemented in C
+			String funcName = getMethodName(nTerm);
+			putMapping(funcName, nTerm.getOriginalFeatureName(), funcName);
+		} else if (nTerm.getType().equals("MethodDecl")) { // This is for features implemented in Java
+			String funcName = getJavaMethodName(nTerm);
+			putMapping(funcName, nTerm.getOriginalFeatureName(), funcName);
+		}
+	}
 	
 	/**
 	 * extracts the method name (function name for C) from the node
@@ -227,20 +248,22 @@ public final class CompositionMetadataStore {
 		}
 	}
 	
-	private CompositionMetadataStore() {}	
+	/**
+	 * Creates an empty store. Use {@link #getInstance()} to get the store of the
+	 * current composition.
+	 */
+	public CompositionMetadataStore() {}	
 	
 	@Override
 	protected final Object clone() throws CloneNotSupportedException {
 		throw new CloneNotSupportedException();
 	}
 		
-	private static CompositionMetadataStore instance = null;
-	
-	public static final synchronized CompositionMetadataStore getInstance() {
-		if (instance == null) {
-			instance = new CompositionMetadataStore();
-		}
-		return instance;
+	/**
+	 * @return the store of the current composition session (see {@link CompositionSession})
+	 */
+	public static final CompositionMetadataStore getInstance() {
+		return CompositionSession.current().getMetadata();
 	}
 
 	/**
@@ -1,10 +1,8 @@
 package modification.content.Parseables;
 
-import java.io.StringReader;
-
 import modification.content.Content;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.CharStream;
-import cide.gparser.OffsetCharStream;
 
 /**
  * 
@@ -31,6 +29,6 @@ public abstract class ParseableCodeSnippet implements Content {
      * @return
      */
     public CharStream getCharStream() {	
-	return new OffsetCharStream(new StringReader(content));
+	return new ArrayCharStream(content);
     }
 }
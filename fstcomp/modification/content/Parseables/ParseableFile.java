@@ -1,12 +1,11 @@
 package modification.content.Parseables;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 
 import modification.content.Content;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.CharStream;
-import cide.gparser.OffsetCharStream;
 
 /**
  * 
@@ -34,6 +33,6 @@ public abstract class ParseableFile implements Content {
      * @throws FileNotFoundException
      */
     public CharStream getCharStream() throws FileNotFoundException {
-	return new OffsetCharStream(new FileInputStream(file));
+	return new ArrayCharStream(file);
     }
 }
@@ -3,13 +3,15 @@ package printer;
 import java.io.File;
 
 import de.ovgu.cide.fstgen.ast.FSTNode;
+import de.ovgu.cide.fstgen.ast.FSTSymbols;
 
 public abstract class ArtifactPrintVisitor implements PrintVisitorInterface {
 	
 	private String suffix;
 	
 	public ArtifactPrintVisitor(String suffix) {
-		this.suffix = suffix;
+		// same instance as the types of the nodes to accept
+		this.suffix = FSTSymbols.intern(suffix);
 	}
 	
 	protected String getSuffix() {
@@ -49,6 +49,18 @@ public class FeaturePrintVisitor {
 		return visitors;
 	}
 	
+	/**
+	 * @return the directory to which the composed files are printed: the
+	 *         working directory plus the name of the expression file without
+	 *         its extension
+	 */
+	public File getProductDirectory() {
+		StringBuffer sb = new StringBuffer(getExpressionName());
+		sb.setLength(sb.lastIndexOf("."));
+		sb.delete(0, sb.lastIndexOf(File.separator) + 1);
+		return new File(getWorkingDir() + File.separator + sb.toString());
+	}
+
 	public void visit(FSTNonTerminal root) throws PrintVisitorException {
 		visit(root, null, null, null);
 	}
@@ -56,10 +68,7 @@ public class FeaturePrintVisitor {
 	private void visit(FSTNonTerminal nonterminal, File featurePath, File folderPath, File oldFolderPath) throws PrintVisitorException {
 		if(nonterminal != null) {
 			if(nonterminal.getType().equals("Feature")) {
-				StringBuffer sb = new StringBuffer(getExpressionName());
-				sb.setLength(sb.lastIndexOf("."));
-				sb.delete(0, sb.lastIndexOf(File.separator) + 1);
-				featurePath = new File(getWorkingDir() + File.separator + sb.toString());
+				featurePath = getProductDirectory();
 				featurePath.mkdir();
 				folderPath = featurePath;
 				for(FSTNode child : nonterminal.getChildren()) {
@@ -1,11 +1,11 @@
 package printer.asmetal;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.PrintStream;
+import java.io.IOException;
 
 import printer.ArtifactPrintVisitor;
 import printer.PrintVisitorException;
+import de.ovgu.cide.fstgen.ast.AbstractFSTPrintVisitor;
 import de.ovgu.cide.fstgen.ast.FSTNode;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_AsmetaL.SimplePrintVisitor;
@@ -26,7 +26,7 @@ public class AsmetaLPrintVisitor extends ArtifactPrintVisitor {
 
 				SimplePrintVisitor visitor;
 				try {
-					visitor = new SimplePrintVisitor(new PrintStream(fileName));
+					visitor = new SimplePrintVisitor(AbstractFSTPrintVisitor.openOutput(new File(fileName)));
 					
 					// in order to display the problems during composition, the
 					// runtime exception needs to be caught
@@ -35,8 +35,8 @@ public class AsmetaLPrintVisitor extends ArtifactPrintVisitor {
 					} catch (RuntimeException r) {
 						r.printStackTrace();
 					}
-					visitor.getResult();
-				} catch (FileNotFoundException e) {
+					visitor.close();
+				} catch (IOException e) {
 					throw new PrintVisitorException(e.getMessage());
 				}
 			}
@@ -1,11 +1,11 @@
 package printer.capprox;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.PrintStream;
+import java.io.IOException;
 
 import printer.ArtifactPrintVisitor;
 import printer.PrintVisitorException;
+import de.ovgu.cide.fstgen.ast.AbstractFSTPrintVisitor;
 import de.ovgu.cide.fstgen.ast.FSTNode;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_capprox.SimplePrintVisitor;
@@ -23,10 +23,10 @@ public class CApproxPrintVisitor extends ArtifactPrintVisitor {
 
 				SimplePrintVisitor visitor;
 				try {
-					visitor = new SimplePrintVisitor(new PrintStream(fileName));
+					visitor = new SimplePrintVisitor(AbstractFSTPrintVisitor.openOutput(new File(fileName)));
 					visitor.visit((FSTNonTerminal)child);
-					visitor.getResult();
-				} catch (FileNotFoundException e) {
+					visitor.close();
+				} catch (IOException e) {
 					throw new PrintVisitorException(e.getMessage());
 				}
 			}
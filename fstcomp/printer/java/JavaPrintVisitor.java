@@ -1,8 +1,7 @@
 package printer.java;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.PrintStream;
+import java.io.IOException;
 
 import printer.ArtifactPrintVisitor;
 import printer.PrintVisitorException;
@@ -25,15 +24,15 @@ public class JavaPrintVisitor extends ArtifactPrintVisitor {
 				AbstractFSTPrintVisitor visitor;
 				try {
 					if(CommandLineParameterHelper.isJML()){
-						visitor = new de.ovgu.cide.fstgen.parsers.generated_jml_contract_composition.SimplePrintVisitor(new PrintStream(fileName));
+						visitor = new de.ovgu.cide.fstgen.parsers.generated_jml_contract_composition.SimplePrintVisitor(AbstractFSTPrintVisitor.openOutput(new File(fileName)));
 					}
 					else{
-						visitor = new de.ovgu.cide.fstgen.parsers.generated_java15.SimplePrintVisitor(new PrintStream(fileName));
+						visitor = new de.ovgu.cide.fstgen.parsers.generated_java15.SimplePrintVisitor(AbstractFSTPrintVisitor.openOutput(new File(fileName)));
 					}
 					
 					visitor.visit((FSTNonTerminal)child);
-					visitor.getResult();
-				} catch (FileNotFoundException e) {
+					visitor.close();
+				} catch (IOException e) {
 					throw new PrintVisitorException(e.getMessage());
 				}
 			}
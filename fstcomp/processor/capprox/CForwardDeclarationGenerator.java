@@ -14,13 +14,13 @@ public class CForwardDeclarationGenerator extends FSTVisitor {
 	// System.out.println(s);
 	if (terminal.getType() == "Func")
 	    if (terminal.getBody().matches(s)) {
-	    	FSTGenComposer.outStream.println(terminal);
+	    	FSTGenComposer.getOutStream().println(terminal);
 		
 		FSTTerminal forwardDeclaration = new FSTTerminal("Func",
 			terminal.getName(), terminal.getBody().replaceAll(
 				"(?s)(?m)\\{.*", ";"), "", terminal
 				.getCompositionMechanism());
-		FSTGenComposer.outStream.println(forwardDeclaration);
+		FSTGenComposer.getOutStream().println(forwardDeclaration);
 		
 		 ((FSTNonTerminal) terminal.getParent())
 		 .addChild(forwardDeclaration);
@@ -30,7 +30,7 @@ public class CForwardDeclarationGenerator extends FSTVisitor {
 
     public boolean visit(FSTNonTerminal nonTerminal) {
 	if (nonTerminal.getType() == "Feature")
-		FSTGenComposer.outStream.println(nonTerminal);
+		FSTGenComposer.getOutStream().println(nonTerminal);
 	return true;
     }
 
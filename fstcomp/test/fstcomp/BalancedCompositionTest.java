@@ -0,0 +1,57 @@
+package fstcomp;
+
+import static fstcomp.ComposerTestUtil.JAVA_FILES;
+import static fstcomp.ComposerTestUtil.compose;
+import static fstcomp.ComposerTestUtil.deleteDirWithContents;
+import static fstcomp.ComposerTestUtil.setupProductLineFeatures;
+import static fstcomp.ComposerTestUtil.write;
+import static org.junit.Assert.assertEquals;
+import integrationtests.Checksum;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class BalancedCompositionTest {
+
+	@Test
+	public void balancedCompositionComposesLikeLeftFold() throws Exception {
+		List<ComposerTestUtil.Feature> features = new ArrayList<ComposerTestUtil.Feature>();
+		StringBuilder expression = new StringBuilder();
+		for (int i = 0; i < 11; i++) {
+			ComposerTestUtil.Feature feature = new ComposerTestUtil.Feature("F" + i);
+			StringBuilder a = new StringBuilder("import java.util.List;\n\npublic class A implements I" + i % 3 + " {\n");
+			a.append("\tint f" + i % 4 + (i % 2 == 0 ? " = " + i : "") + ";\n");
+			a.append("\tA() { f" + i % 4 + "++; }\n");
+			a.append("\tint m() { return " + (i == 0 ? "1" : "original() + " + i) + "; }\n");
+			if (i % 3 == 1)
+				a.append("\tvoid n" + i + "() { m(); }\n");
+			if (i % 4 == 2)
+				a.append("\tint k() { return " + (i == 2 ? "0" : "original() * " + i) + "; }\n");
+			a.append("}\n");
+			feature.addFile("A.java", a.toString());
+			if (i % 5 == 3)
+				feature.addFile("B" + i + ".java", "class B" + i + " {\n\tvoid b() {}\n}\n");
+			if (i % 2 == 1)
+				feature.addFile("C.java", "class C {\n\tvoid c() { original(); }\n\tvoid c" + i + "() {}\n}\n");
+			features.add(feature);
+			expression.append("F" + i + "\n");
+		}
+		File mainDir = setupProductLineFeatures(features);
+		String featuresDir = new File(mainDir, "features").getAbsolutePath();
+		String expressionFile = new File(mainDir, "p.features").getAbsolutePath();
+		write(new File(expressionFile), expression.toString());
+
+		File leftFold = new File(mainDir, "fold");
+		compose(expressionFile, leftFold.getAbsolutePath(), featuresDir, null);
+		File balanced = new File(mainDir, "balanced");
+		compose(expressionFile, balanced.getAbsolutePath(), featuresDir,
+				new String[] {"--compose-threads", "4"});
+
+		assertEquals(Checksum.calculateChecksum(new File(leftFold, "p"), JAVA_FILES),
+				Checksum.calculateChecksum(new File(balanced, "p"), JAVA_FILES));
+		deleteDirWithContents(mainDir);
+	}
+}
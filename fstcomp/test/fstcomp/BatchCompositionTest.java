@@ -0,0 +1,66 @@
+package fstcomp;
+
+import static fstcomp.ComposerTestUtil.JAVA_FILES;
+import static fstcomp.ComposerTestUtil.compose;
+import static fstcomp.ComposerTestUtil.deleteDirWithContents;
+import static fstcomp.ComposerTestUtil.setupProductLineFeatures;
+import static fstcomp.ComposerTestUtil.write;
+import static org.junit.Assert.assertEquals;
+import integrationtests.Checksum;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import composer.FSTGenComposer;
+
+public class BatchCompositionTest {
+
+	@Test
+	public void batchComposesLikeSingleRuns() throws Exception {
+		List<ComposerTestUtil.Feature> features = new ArrayList<ComposerTestUtil.Feature>();
+		ComposerTestUtil.Feature base = new ComposerTestUtil.Feature("Base");
+		base.addFile("A.java", "class A {\n\tint m() { return 1; }\n}\n");
+		features.add(base);
+		ComposerTestUtil.Feature ext = new ComposerTestUtil.Feature("Ext");
+		ext.addFile("A.java", "class A {\n\tint m() { return original() + 1; }\n}\n");
+		features.add(ext);
+		ComposerTestUtil.Feature log = new ComposerTestUtil.Feature("Log");
+		log.addFile("A.java", "class A {\n\tint m() { return original() * 2; }\n}\n");
+		features.add(log);
+		File mainDir = setupProductLineFeatures(features);
+		String featuresDir = new File(mainDir, "features").getAbsolutePath();
+		write(new File(mainDir, "p1.features"), "Base\nExt\nLog\n");
+		write(new File(mainDir, "p2.features"), "Base\nLog\n");
+		write(new File(mainDir, "p3.features"), "Base\nLog\nExt\n");
+		write(new File(mainDir, "batch.txt"), "p1.features\n# comment\np2.features\np3.features\n");
+
+		File singleDir = new File(mainDir, "single");
+		for (String product : new String[] {"p1", "p2", "p3"})
+			compose(new File(mainDir, product + ".features").getAbsolutePath(),
+					singleDir.getAbsolutePath(), featuresDir, null);
+
+		File batchDir = new File(mainDir, "batch");
+		batchDir.mkdir();
+		PrintStream ps = new PrintStream(new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {/* ignore all output */}
+		});
+		FSTGenComposer.composeWithPrintStream(new String[] {
+				"--batch", new File(mainDir, "batch.txt").getAbsolutePath(),
+				"--base-directory", featuresDir,
+				"--output-directory", batchDir.getAbsolutePath()}, ps);
+		ps.close();
+
+		for (String product : new String[] {"p1", "p2", "p3"}) {
+			assertEquals(Checksum.calculateChecksum(new File(singleDir, product), JAVA_FILES),
+					Checksum.calculateChecksum(new File(batchDir, product), JAVA_FILES));
+		}
+		deleteDirWithContents(mainDir);
+	}
+}
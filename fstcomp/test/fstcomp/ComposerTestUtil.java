@@ -1,6 +1,7 @@
 package fstcomp;
 import java.io.File;
 import java.io.FileWriter;
+import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
@@ -13,6 +14,17 @@ import composer.FSTGenComposer;
 
 public class ComposerTestUtil {
 
+	/**
+	 * accepts the Java files and the directories, e.g. for
+	 * {@link integrationtests.Checksum#calculateChecksum(File, FilenameFilter)}
+	 */
+	public static final FilenameFilter JAVA_FILES = new FilenameFilter() {
+		@Override
+		public boolean accept(File dir, String name) {
+			return name.endsWith(".java") || new File(dir, name).isDirectory();
+		}
+	};
+
 	public static void compose(String expression, String outputDirectory, String baseDirectory, String[] extraArgs) {
 
 		new File(outputDirectory).mkdir();
@@ -102,6 +114,12 @@ public class ComposerTestUtil {
 				+ 2000 + " attempts (tried "
 				+ startTime + "_" + "0 to " + startTime + "_" + (2000 - 1) + ')');
 	}
+	public static void write(File file, String content) throws IOException {
+		try (FileWriter fw = new FileWriter(file)) {
+			fw.write(content);
+		}
+	}
+
 	/**
 	 * Deletes any contents of the given directory if possible (might have problems if files are accessed concurrently).
 	 */
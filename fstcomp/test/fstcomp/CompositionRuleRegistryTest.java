@@ -0,0 +1,77 @@
+package fstcomp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import composer.CompositionException;
+import composer.rules.AbstractCompositionRule;
+import composer.rules.CompositionRuleRegistry;
+import composer.rules.Replacement;
+import composer.rules.StringConcatenation;
+
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+
+public class CompositionRuleRegistryTest {
+
+	private static class UpperCaseConcatenation extends AbstractCompositionRule {
+		@Override
+		public String getRuleName() {
+			return StringConcatenation.COMPOSITION_RULE_NAME;
+		}
+
+		@Override
+		public void compose(FSTTerminal terminalA, FSTTerminal terminalB,
+				FSTTerminal terminalComp, FSTNonTerminal nonterminalParent) {
+			terminalComp.setBody((terminalB.getBody() + terminalA.getBody()).toUpperCase());
+		}
+	}
+
+	private static FSTTerminal terminal(String body, String compose) {
+		return new FSTTerminal("Text", "-", body, "", compose);
+	}
+
+	@Test
+	public void firstRegisteredRuleWins() throws CompositionException {
+		CompositionRuleRegistry rules = new CompositionRuleRegistry();
+		UpperCaseConcatenation custom = new UpperCaseConcatenation();
+		assertTrue(rules.register(custom));
+		assertFalse(rules.register(new StringConcatenation()));
+		assertTrue(rules.register(new Replacement()));
+		assertSame(custom, rules.getRule(StringConcatenation.COMPOSITION_RULE_NAME));
+		assertEquals(2, rules.getRules().size());
+
+		FSTTerminal a = terminal("a", StringConcatenation.COMPOSITION_RULE_NAME);
+		FSTTerminal b = terminal("b", StringConcatenation.COMPOSITION_RULE_NAME);
+		FSTTerminal comp = terminal("a", StringConcatenation.COMPOSITION_RULE_NAME);
+		assertTrue(rules.compose(a, b, comp, null));
+		assertEquals("BA", comp.getBody());
+	}
+
+	@Test
+	public void unknownMechanismsAreNotComposed() throws CompositionException {
+		CompositionRuleRegistry rules = new CompositionRuleRegistry();
+		rules.register(new StringConcatenation());
+		FSTTerminal a = terminal("a", "Unknown");
+		assertNull(rules.getRule("Unknown"));
+		assertFalse(rules.compose(a, terminal("b", "Unknown"), a, null));
+	}
+
+	@Test
+	public void invocationsAreCounted() throws CompositionException {
+		CompositionRuleRegistry rules = new CompositionRuleRegistry();
+		rules.register(new StringConcatenation());
+		rules.register(new Replacement());
+		for (int i = 0; i < 3; i++) {
+			FSTTerminal a = terminal("a", StringConcatenation.COMPOSITION_RULE_NAME);
+			rules.compose(a, terminal("b", StringConcatenation.COMPOSITION_RULE_NAME), a, null);
+		}
+		assertEquals(3, rules.getStatistics().get(0).getInvocations());
+		assertEquals(0, rules.getStatistics().get(1).getInvocations());
+	}
+}
@@ -0,0 +1,67 @@
+package fstcomp;
+
+import static fstcomp.ComposerTestUtil.JAVA_FILES;
+import static fstcomp.ComposerTestUtil.compose;
+import static fstcomp.ComposerTestUtil.deleteDirWithContents;
+import static fstcomp.ComposerTestUtil.setupProductLineFeatures;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import integrationtests.Checksum;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import composer.CompositionSession;
+
+public class CompositionSessionTest {
+
+	private static String[] arguments(File mainDir, File outputDir, boolean featureAnnotation) {
+		List<String> args = new ArrayList<String>(Arrays.asList(
+				"--base-directory", new File(mainDir, "features").getAbsolutePath(),
+				"--expression", new File(mainDir, "features.exp").getAbsolutePath(),
+				"--output-directory", outputDir.getAbsolutePath()));
+		if (featureAnnotation)
+			args.add("--featureAnnotationJava");
+		outputDir.mkdir();
+		return args.toArray(new String[0]);
+	}
+
+	@Test
+	public void concurrentSessionsComposeLikeSequentialRuns() throws Exception {
+		List<ComposerTestUtil.Feature> features = new ArrayList<ComposerTestUtil.Feature>();
+		ComposerTestUtil.Feature base = new ComposerTestUtil.Feature("Base");
+		base.addFile("A.java", "class A {\n\tint m() { return 1; }\n}\n");
+		features.add(base);
+		ComposerTestUtil.Feature ext = new ComposerTestUtil.Feature("Ext");
+		ext.addFile("A.java", "class A {\n\tint m() { return original() + 1; }\n\tint n() { return 2; }\n}\n");
+		features.add(ext);
+		File mainDir = setupProductLineFeatures(features);
+
+		String[] plain = arguments(mainDir, new File(mainDir, "plain"), false);
+		String[] annotated = arguments(mainDir, new File(mainDir, "annotated"), true);
+		compose(new File(mainDir, "features.exp").getAbsolutePath(), plain[5], plain[1], null);
+		compose(new File(mainDir, "features.exp").getAbsolutePath(), annotated[5], annotated[1],
+				new String[] {"--featureAnnotationJava"});
+
+		List<String[]> runs = new ArrayList<String[]>();
+		for (int i = 0; i < 4; i++) {
+			runs.add(arguments(mainDir, new File(mainDir, "plain" + i), false));
+			runs.add(arguments(mainDir, new File(mainDir, "annotated" + i), true));
+		}
+		List<CompositionSession> sessions = CompositionSession.composeConcurrently(runs, 4);
+
+		String plainChecksum = Checksum.calculateChecksum(new File(plain[5]), JAVA_FILES);
+		String annotatedChecksum = Checksum.calculateChecksum(new File(annotated[5]), JAVA_FILES);
+		assertFalse(plainChecksum.equals(annotatedChecksum));
+		for (int i = 0; i < runs.size(); i++) {
+			String expected = (i % 2 == 0) ? plainChecksum : annotatedChecksum;
+			assertEquals(expected, Checksum.calculateChecksum(new File(runs.get(i)[5]), JAVA_FILES));
+			assertEquals(Arrays.asList("Base", "Ext"), sessions.get(i).getMetadata().getFeatures());
+		}
+		deleteDirWithContents(mainDir);
+	}
+}
@@ -0,0 +1,80 @@
+package fstcomp;
+
+import static fstcomp.ComposerTestUtil.compose;
+import static fstcomp.ComposerTestUtil.deleteDirWithContents;
+import static fstcomp.ComposerTestUtil.setupProductLineFeatures;
+import static fstcomp.ComposerTestUtil.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class IncrementalCompositionTest {
+
+	private static final String[] INCREMENTAL = new String[] {"--incremental"};
+
+	private static File composeProduct(File mainDir, String outputName, String[] extraArgs) {
+		File outputDir = new File(mainDir, outputName);
+		compose(new File(mainDir, "features.exp").getAbsolutePath(), outputDir.getAbsolutePath(),
+				new File(mainDir, "features").getAbsolutePath(), extraArgs);
+		return new File(outputDir, "features");
+	}
+
+	private static String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), "UTF-8");
+	}
+
+	@Test
+	public void onlyChangedFilesAreRecomposed() throws IOException {
+		List<ComposerTestUtil.Feature> features = new ArrayList<ComposerTestUtil.Feature>();
+		ComposerTestUtil.Feature base = new ComposerTestUtil.Feature("Base");
+		base.addFile("A.java", "class A {\n\tint m() { return 1; }\n}\n");
+		base.addFile("B.java", "class B {\n}\n");
+		base.addFile("pkg/C.java", "package pkg;\nclass C {\n\tint n() { return 1; }\n}\n");
+		features.add(base);
+		ComposerTestUtil.Feature ext = new ComposerTestUtil.Feature("Ext");
+		ext.addFile("A.java", "class A {\n\tint m() { return original() + 1; }\n}\n");
+		ext.addFile("pkg/C.java", "package pkg;\nclass C {\n\tint o() { return 2; }\n}\n");
+		features.add(ext);
+		File mainDir = setupProductLineFeatures(features);
+
+		File full = composeProduct(mainDir, "full", null);
+		File product = composeProduct(mainDir, "out", INCREMENTAL);
+		assertTrue(new File(mainDir, "out/features.manifest").isFile());
+		for (String file : new String[] {"A.java", "B.java", "pkg/C.java"})
+			assertEquals(read(new File(full, file)), read(new File(product, file)));
+
+		// files that are printed again lose the marker
+		write(new File(product, "B.java"), "marker");
+		write(new File(mainDir, "features/Ext/A.java"), "class A {\n\tint m() { return original() + 20; }\n}\n");
+		write(new File(mainDir, "features/Ext/D.java"), "class D {\n}\n");
+		new File(mainDir, "features/Ext/pkg/C.java").delete();
+		full = composeProduct(mainDir, "full2", null);
+		composeProduct(mainDir, "out", INCREMENTAL);
+		assertEquals("marker", read(new File(product, "B.java")));
+		for (String file : new String[] {"A.java", "D.java", "pkg/C.java"})
+			assertEquals(read(new File(full, file)), read(new File(product, file)));
+
+		// nothing changed
+		composeProduct(mainDir, "out", INCREMENTAL);
+		assertEquals("marker", read(new File(product, "B.java")));
+
+		// removed files are removed from the product
+		new File(mainDir, "features/Ext/D.java").delete();
+		composeProduct(mainDir, "out", INCREMENTAL);
+		assertFalse(new File(product, "D.java").exists());
+
+		// other options compose the whole product
+		composeProduct(mainDir, "out", new String[] {"--incremental", "--featureAnnotationJava"});
+		assertFalse("marker".equals(read(new File(product, "B.java"))));
+
+		deleteDirWithContents(mainDir);
+	}
+}
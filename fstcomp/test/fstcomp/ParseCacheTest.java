@@ -0,0 +1,90 @@
+package fstcomp;
+
+import static fstcomp.ComposerTestUtil.JAVA_FILES;
+import static fstcomp.ComposerTestUtil.compose;
+import static fstcomp.ComposerTestUtil.deleteDirWithContents;
+import static fstcomp.ComposerTestUtil.setupProductLineFeatures;
+import static fstcomp.ComposerTestUtil.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import integrationtests.Checksum;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ParseCacheTest {
+
+	private static String composeProduct(File mainDir, String outputName, String[] extraArgs) {
+		File outputDir = new File(mainDir, outputName);
+		compose(new File(mainDir, "features.exp").getAbsolutePath(), outputDir.getAbsolutePath(),
+				new File(mainDir, "features").getAbsolutePath(), extraArgs);
+		return Checksum.calculateChecksum(outputDir, JAVA_FILES);
+	}
+
+	private static long sizeOf(File directory) {
+		long size = 0;
+		for (File file : directory.listFiles())
+			size += file.length();
+		return size;
+	}
+
+	@Test
+	public void cachedTreesComposeLikeParsedTrees() throws IOException {
+		List<ComposerTestUtil.Feature> features = new ArrayList<ComposerTestUtil.Feature>();
+		ComposerTestUtil.Feature base = new ComposerTestUtil.Feature("Base");
+		// initializers get generated names, which must stay unique
+		base.addFile("A.java", "class A {\n\tstatic int x;\n\tstatic { x = 1; }\n\tint m() { return x; }\n}\n");
+		features.add(base);
+		ComposerTestUtil.Feature ext = new ComposerTestUtil.Feature("Ext");
+		ext.addFile("A.java", "class A {\n\tstatic { x = 2; }\n\tint m() { return original() + 1; }\n}\n");
+		ext.addFile("B.java", "class B {\n}\n");
+		features.add(ext);
+		File mainDir = setupProductLineFeatures(features);
+		File cacheDir = new File(mainDir, "cache");
+		String[] cacheArgs = new String[] {"--parse-cache", cacheDir.getAbsolutePath()};
+
+		String parsed = composeProduct(mainDir, "parsed", null);
+		assertEquals(parsed, composeProduct(mainDir, "cold", cacheArgs));
+		assertEquals(3, cacheDir.listFiles().length);
+		assertEquals(parsed, composeProduct(mainDir, "warm", cacheArgs));
+		assertEquals(3, cacheDir.listFiles().length);
+
+		// changed files get new entries
+		write(new File(mainDir, "features/Ext/B.java"), "class B {\n\tint n() { return 3; }\n}\n");
+		String changed = composeProduct(mainDir, "changed", null);
+		assertFalse(parsed.equals(changed));
+		assertEquals(changed, composeProduct(mainDir, "changedCached", cacheArgs));
+		assertEquals(4, cacheDir.listFiles().length);
+
+		deleteDirWithContents(mainDir);
+	}
+
+	@Test
+	public void cacheIsEvictedWhenFull() throws IOException {
+		List<ComposerTestUtil.Feature> features = new ArrayList<ComposerTestUtil.Feature>();
+		for (int i = 0; i < 20; i++) {
+			ComposerTestUtil.Feature feature = new ComposerTestUtil.Feature("F" + i);
+			StringBuilder body = new StringBuilder("class A" + i + " {\n");
+			for (int j = 0; j < 2000; j++)
+				body.append("\tint m" + j + "() { return " + j + "; }\n");
+			feature.addFile("A" + i + ".java", body.append("}\n").toString());
+			features.add(feature);
+		}
+		File mainDir = setupProductLineFeatures(features);
+		File cacheDir = new File(mainDir, "cache");
+
+		String parsed = composeProduct(mainDir, "parsed", null);
+		assertEquals(parsed, composeProduct(mainDir, "cached", new String[] {
+				"--parse-cache", cacheDir.getAbsolutePath(), "--parse-cache-size", "1"}));
+		int entries = cacheDir.listFiles().length;
+		assertTrue(entries > 0 && entries < 20);
+		assertTrue(sizeOf(cacheDir) <= 1024 * 1024);
+
+		deleteDirWithContents(mainDir);
+	}
+}
@@ -0,0 +1,58 @@
+package fstcomp;
+
+import static fstcomp.ComposerTestUtil.JAVA_FILES;
+import static fstcomp.ComposerTestUtil.compose;
+import static fstcomp.ComposerTestUtil.deleteDirWithContents;
+import static fstcomp.ComposerTestUtil.setupProductLineFeatures;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import integrationtests.Checksum;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class StreamingCompositionTest {
+
+	@Test
+	public void streamingComposesLikeLoadingAllFiles() throws Exception {
+		assertStreamingComposesLikeLoadingAllFiles(new String[] {"--streaming"});
+	}
+
+	@Test
+	public void pipelinedStreamingComposesLikeLoadingAllFiles() throws Exception {
+		assertStreamingComposesLikeLoadingAllFiles(new String[] {"--streaming", "--parse-threads", "3"});
+	}
+
+	private static void assertStreamingComposesLikeLoadingAllFiles(String[] options) throws Exception {
+		List<ComposerTestUtil.Feature> features = new ArrayList<ComposerTestUtil.Feature>();
+		ComposerTestUtil.Feature base = new ComposerTestUtil.Feature("Base");
+		base.addFile("p/A.java", "package p;\nclass A {\n\tint m() { return 1; }\n}\n");
+		base.addFile("p/q/B.java", "package p.q;\nclass B {\n\tvoid b() {}\n}\n");
+		features.add(base);
+		ComposerTestUtil.Feature ext = new ComposerTestUtil.Feature("Ext");
+		ext.addFile("p/A.java", "package p;\nclass A {\n\tint m() { return original() + 1; }\n\tint n() { return 2; }\n}\n");
+		ext.addFile("C.java", "class C {\n\tint f;\n}\n");
+		features.add(ext);
+		ComposerTestUtil.Feature log = new ComposerTestUtil.Feature("Log");
+		log.addFile("p/A.java", "package p;\nclass A {\n\tint m() { return original() * 2; }\n}\n");
+		log.addFile("p/q/B.java", "package p.q;\nclass B {\n\tvoid b() { original(); }\n}\n");
+		log.addFile("C.java", "class C {\n\tint f = 1;\n}\n");
+		features.add(log);
+		File mainDir = setupProductLineFeatures(features);
+		String featuresDir = new File(mainDir, "features").getAbsolutePath();
+		String expression = new File(mainDir, "features.exp").getAbsolutePath();
+
+		File allFiles = new File(mainDir, "all");
+		compose(expression, allFiles.getAbsolutePath(), featuresDir, null);
+		File streamed = new File(mainDir, "streamed");
+		compose(expression, streamed.getAbsolutePath(), featuresDir, options);
+
+		assertTrue(new File(streamed, "features/p/q/B.java").exists());
+		assertEquals(Checksum.calculateChecksum(new File(allFiles, "features"), JAVA_FILES),
+				Checksum.calculateChecksum(new File(streamed, "features"), JAVA_FILES));
+		deleteDirWithContents(mainDir);
+	}
+}
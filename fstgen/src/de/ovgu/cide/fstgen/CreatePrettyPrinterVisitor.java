@@ -3,7 +3,10 @@ package de.ovgu.cide.fstgen;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintStream;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import cide.astgen.nparser.ast.NAbstractValue;
 import cide.astgen.nparser.ast.NChoice;
@@ -41,7 +44,9 @@ public class CreatePrettyPrinterVisitor extends NCreateFileVisitor {
 
 	/**
 	 * I only care fore nonterminals. those are printed in the order types of
-	 * FST child nodes appear
+	 * FST child nodes appear. each type becomes a case of a switch statement;
+	 * the children of a node are grouped by type once and each unit takes its
+	 * children from these groups.
 	 */
 	@Override
 	public boolean visit(NChoice c) {
@@ -54,16 +59,20 @@ public class CreatePrettyPrinterVisitor extends NCreateFileVisitor {
 			return false;
 		if (c.units.isEmpty())
 			return false;
+		// only the first choice of a type was ever reached
+		if (!printedTypes.add(JavaCCPrintVisitor.getFSTType(c)))
+			return false;
 
-		println("if (nonTerminal.getType().equals("
-				+ JavaCCPrintVisitor.getFSTType(c) + ")) {", 2);
+		println("case " + JavaCCPrintVisitor.getFSTType(c) + ": {", 2);
 		// println(c.genClassname() + " n = (" + c.genClassname() + ")node;",
 		// 3);
 
 		println("printFeatures(nonTerminal,true);",3);
+		if (hasChildren(c))
+			println("ChildGroups children = groupChildren(nonTerminal);", 3);
 		if (c.isList()) {
 			println(
-					"Iterator<FSTNode> listElements = getChildren(nonTerminal, \""
+					"Iterator<FSTNode> listElements = children.getChildren(\""
 							+ c.getListType() + "\").iterator();", 3);
 		}
 
@@ -85,6 +94,15 @@ public class CreatePrettyPrinterVisitor extends NCreateFileVisitor {
 		return c.findAnnotation("FSTNonTerminal") != null;
 	}
 
+	private boolean hasChildren(NChoice c) {
+		if (c.isList())
+			return true;
+		for (NAbstractValue unit : c.units)
+			if (unit instanceof NNonTerminal)
+				return true;
+		return false;
+	}
+
 	private void printToken(String token, int indent) {
 		/*
 		 * Special rule for fixed tokens that need to be referenced as
@@ -140,7 +158,7 @@ public class CreatePrettyPrinterVisitor extends NCreateFileVisitor {
 		} else {
 			if (!NAbstractValue.isMultiType(unit.type)) {
 				println("{", 3);// necessary to keep variable v local
-				println("FSTNode v=getChild(nonTerminal, \"" + unit.getName()
+				println("FSTNode v=children.getChild(\"" + unit.getName()
 						+ "\");", 4);
 				println("if (v!=null) {", 4);
 				for (String t : unit.innerPreTokens)
@@ -151,7 +169,7 @@ public class CreatePrettyPrinterVisitor extends NCreateFileVisitor {
 				println("}", 4);
 				println("}", 3);
 			} else {
-				println("for (FSTNode v : getChildren(nonTerminal,\""
+				println("for (FSTNode v : children.getChildren(\""
 						+ unit.getName() + "\")) {", 3);
 				for (String t : unit.innerPreTokens)
 					printToken(t, 4);
@@ -168,7 +186,8 @@ public class CreatePrettyPrinterVisitor extends NCreateFileVisitor {
 			println("package " + targetPackage + ";\n", 0);
 		println("import java.util.*;", 0);
 		println("import cide.gast.*;\n", 0);
-		println("import java.io.PrintStream;\n", 0);
+		println("import java.io.PrintStream;", 0);
+		println("import java.io.Writer;\n", 0);
 		println("import cide.languages.*;\n", 0);
 		println("import de.ovgu.cide.fstgen.ast.*;\n", 0);
 		println(
@@ -178,11 +197,16 @@ public class CreatePrettyPrinterVisitor extends NCreateFileVisitor {
 		println("super(out); generateSpaces="
 				+ (autoSpacingPrettyPrinter ? "true" : "false") + ";", 2);
 		println("}", 1);
+		println("public SimplePrintVisitor(Writer out) {", 1);
+		println("super(out); generateSpaces="
+				+ (autoSpacingPrettyPrinter ? "true" : "false") + ";", 2);
+		println("}", 1);
 		println("public SimplePrintVisitor() {", 1);
 		println("super(); generateSpaces="
 				+ (autoSpacingPrettyPrinter ? "true" : "false") + ";", 2);
 		println("}", 1);
 		println("public boolean visit(FSTNonTerminal nonTerminal) {", 1);
+		println("switch (nonTerminal.getType()) {", 2);
 		// println("public boolean visit(ASTNode node) {", 1);
 		// println("if (node instanceof ASTStringNode){", 2);
 		// println("printToken(((ASTStringNode)node).getValue());", 3);
@@ -196,26 +220,31 @@ public class CreatePrettyPrinterVisitor extends NCreateFileVisitor {
 	}
 
 	// put(a,b) means that b is a subtype of a
-	private final HashMap<String, String> subtypeRelation = new HashMap<String, String>();
+	private final Map<String, String> subtypeRelation = new TreeMap<String, String>();
+
+	// types for which a case has been printed
+	private final Set<String> printedTypes = new HashSet<String>();
 
 	private void printTail() {
+		println("}", 2);
 		println(
 				"throw new RuntimeException(\"Unknown Non Terminal in FST \"+nonTerminal);",
 				2);
 		println("}", 1);
 
-		// subtype function
+		// subtype functions
+		println("protected String getSupertype(String type) {", 1);
+		println("switch (type) {", 2);
+		for (Map.Entry<String, String> subtype : subtypeRelation.entrySet())
+			println("case " + subtype.getKey() + ": return \""
+					+ subtype.getValue() + "\";", 2);
+		println("default: return null;", 2);
+		println("}", 2);
+		println("}", 1);
 		println(
 				"protected boolean isSubtype(String type, String expectedType) {",
 				1);
-		println("if (type.equals(expectedType)) return true;", 2);
-
-		for (String key : subtypeRelation.keySet()) {
-			println("if (type.equals(" + key + ") && expectedType.equals(\""
-					+ subtypeRelation.get(key) + "\")) return true;", 2);
-		}
-
-		println("return false;", 2);
+		println("return type.equals(expectedType) || expectedType.equals(getSupertype(type));", 2);
 		println("}", 1);
 
 		println("}", 0);
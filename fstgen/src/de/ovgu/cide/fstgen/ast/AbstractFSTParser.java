@@ -20,7 +20,7 @@ public class AbstractFSTParser {
 		boolean isInTerminal = false;
 	}
 
-	private static class Replacement {
+	static class Replacement {
 		Replacement(String c, FSTInfo v) {
 			productionName = c;
 			value = v;
@@ -66,9 +66,102 @@ public class AbstractFSTParser {
 
 	private Stack<Context> currentContext = new Stack<Context>();
 
-	// memorize all FSTNonTerminals that are created
+	/*
+	 * text of the parsed file, appended token by token as terminals are
+	 * created. source index = file offset - sourceDelta within the current
+	 * run, which starts at sourceRunStart and ends with sourceEnd. a token
+	 * whose image does not match its position in the file (e.g., tokens
+	 * created by lexical actions or skipped characters) ends the run; the
+	 * next terminal starts a new one.
+	 */
+	private final SourceText source = new SourceText();
+	private int sourceDelta;
+	private int sourceRunStart;
+	private Token sourceEnd;
+
+	/**
+	 * memorizes all FSTNonTerminals that are created outside of any
+	 * {@link FSTSession}; parsers running in a session memorize their nodes
+	 * in {@link FSTSession#getFSTNodes()} instead
+	 */
 	public static ArrayList<FSTNode> fstnodes = new ArrayList<FSTNode>();
 
+	// nodes memorized by the current thread while it is recording
+	private static final ThreadLocal<List<FSTNode>> recordedFSTNodes = new ThreadLocal<List<FSTNode>>();
+
+	// names generated by the current thread while it is recording
+	private static final ThreadLocal<List<String>> recordedGeneratedNames = new ThreadLocal<List<String>>();
+
+	/**
+	 * memorizes the given node in the node list of the current
+	 * {@link FSTSession}. If the current thread is recording (see
+	 * {@link #startRecordingFSTNodes()}), the node is collected for this
+	 * thread only, so that parsers running in parallel can append their nodes
+	 * in a deterministic order later.
+	 */
+	public static void rememberFSTNode(FSTNode node) {
+		List<FSTNode> recorded = recordedFSTNodes.get();
+		if (recorded != null) {
+			recorded.add(node);
+		} else {
+			FSTSession session = FSTSession.current();
+			synchronized (session) {
+				session.getFSTNodes().add(node);
+			}
+		}
+	}
+
+	/**
+	 * memorizes the given node at the beginning of the node list of the
+	 * current {@link FSTSession}
+	 */
+	public static void rememberFSTNodeFirst(FSTNode node) {
+		FSTSession session = FSTSession.current();
+		synchronized (session) {
+			session.getFSTNodes().add(0, node);
+		}
+	}
+
+	/**
+	 * memorizes all given nodes in the node list of the current
+	 * {@link FSTSession}
+	 */
+	public static void rememberFSTNodes(List<FSTNode> nodes) {
+		FSTSession session = FSTSession.current();
+		synchronized (session) {
+			session.getFSTNodes().addAll(nodes);
+		}
+	}
+
+	/**
+	 * collects all nodes memorized by the current thread until
+	 * {@link #stopRecordingFSTNodes()} is called instead of adding them to
+	 * the current {@link FSTSession}
+	 */
+	public static void startRecordingFSTNodes() {
+		recordedFSTNodes.set(new ArrayList<FSTNode>());
+		recordedGeneratedNames.set(new ArrayList<String>());
+	}
+
+	/**
+	 * @return the names generated for <code>{AUTO}</code> by the current
+	 *         thread since {@link #startRecordingFSTNodes()}
+	 */
+	public static List<String> getRecordedGeneratedNames() {
+		return recordedGeneratedNames.get();
+	}
+
+	/**
+	 * @return the nodes memorized by the current thread since
+	 *         {@link #startRecordingFSTNodes()}
+	 */
+	public static List<FSTNode> stopRecordingFSTNodes() {
+		List<FSTNode> recorded = recordedFSTNodes.get();
+		recordedFSTNodes.remove();
+		recordedGeneratedNames.remove();
+		return recorded;
+	}
+
 	protected AbstractFSTParser() {
 		// list that finally contains the root element
 		currentContext.push(new Context(false));
@@ -110,52 +203,27 @@ public class AbstractFSTParser {
 
 			FSTNonTerminal nonTerminal = new FSTNonTerminal(type, name,
 					c.children);
-			fstnodes.add(nonTerminal);
+			rememberFSTNode(nonTerminal);
 			cc().children.add(nonTerminal);
 		}
 		return new FSTInfo(type, exportName);
 	}
 
-	private String applyReplacements(String name, List<Replacement> replList,
-			FSTInfoType type) {
-
-		for (Replacement replacement : replList) {
-			String value;
-			if (type == FSTInfoType.NAME)
-				value = replacement.value.exportedName;
-			else
-				// if (type==FSTInfoType.COMPOSITION)
-				value = replacement.value.exportedComposition;
-
-			String listName = "{" + replacement.productionName + "}^";
-			int listStart = name.indexOf(listName);
-			// is list
-			if (listStart >= 0) {
-				char sepChar = name.charAt(listStart + listName.length());
-				name = name.replace(listName, value
-						+ (sepChar == '~' ? "" : sepChar) + listName);
-			} else {
-				// no list
-				name = name.replace("{" + replacement.productionName + "}",
-						value);
-			}
-		}
-
-		while (name.contains("{AUTO}")) {
-			name = name.replace("{AUTO}", generateName());
-		}
-
-		name = name.replaceAll("(.)\\{[^\\{\\}]*?\\}\\^\\1", "");
-		name = name.replaceAll("\\{[^\\{\\}]*?\\}\\^.", "");
-
-		return name;
-
+	private String applyReplacements(String pattern,
+			List<Replacement> replList, FSTInfoType type) {
+		return NameTemplate.get(pattern).apply(replList, type);
 	}
 
-	private static int uniqueId = 0;
-
-	private CharSequence generateName() {
-		return "auto" + (++uniqueId);
+	/**
+	 * @return a name for <code>{AUTO}</code> that is unique in the current
+	 *         {@link FSTSession}
+	 */
+	public static String generateUniqueName() {
+		String name = "auto" + FSTSession.current().nextUniqueId();
+		List<String> recorded = recordedGeneratedNames.get();
+		if (recorded != null)
+			recorded.add(name);
+		return name;
 	}
 
 	/**
@@ -176,10 +244,21 @@ public class AbstractFSTParser {
 			String mergingMechanism, Token first, Token last) {
 		AbstractFSTParser.Context c = currentContext.pop();
 
-		String prefix = getPrefix(first);
-		String body = getBody(first, last);
-		c.nameReplacements.add(new Replacement("TOSTRING", new FSTInfo(type,
-				stripWhitespace(body))));
+		// the text of the terminal is a slice of the file, if possible, and
+		// is only built when it is needed for a name
+		CharSequence prefix = null;
+		CharSequence body = null;
+		if (!c.isInTerminal && first != null && appendSource(first, last)) {
+			prefix = source.slice(getPrefixStart(first) - sourceDelta,
+					first.offset - sourceDelta);
+			body = source.slice(first.offset - sourceDelta, last.getEndOffset()
+					- sourceDelta);
+		}
+		if (mentionsText(c.nameReplacements, type, namePattern,
+				exportNamePattern, compositionMechanism, mergingMechanism))
+			c.nameReplacements.add(new Replacement(TOSTRING, new FSTInfo(
+					type, stripWhitespace(body != null ? body : getBody(first,
+							last)))));
 
 		String exportName = applyReplacements(exportNamePattern,
 				c.nameReplacements, FSTInfoType.NAME);
@@ -196,6 +275,10 @@ public class AbstractFSTParser {
 
 			cc().children.addAll(c.children);
 			if (first != null) {
+				if (body == null) {
+					prefix = getPrefix(first);
+					body = getBody(first, last);
+				}
 				/** do not remove parameters beginLine and endLine, this is necessary @ FeatureIDE **/
 				cc().children.add(new FSTTerminal(type, name, body, prefix,
 						compositionMechanism, mergingMechanism, first.beginLine, last.endLine));
@@ -219,8 +302,112 @@ public class AbstractFSTParser {
 		return compositionMechanism;
 	}
 
-	private String stripWhitespace(String body) {
-		return body.replaceAll("\\s", "");
+	private static final String TOSTRING = "TOSTRING";
+
+	/**
+	 * @return whether the text of the terminal is used by one of the given
+	 *         patterns, directly or through a name exported by a child
+	 */
+	private static boolean mentionsText(List<Replacement> replacements,
+			String... patterns) {
+		for (String pattern : patterns)
+			if (pattern != null && NameTemplate.get(pattern).references(TOSTRING))
+				return true;
+		for (Replacement replacement : replacements)
+			if (mentionsText(replacement.value.exportedName)
+					|| mentionsText(replacement.value.exportedComposition))
+				return true;
+		return false;
+	}
+
+	private static boolean mentionsText(String value) {
+		return value != null && value.contains("{" + TOSTRING + "}");
+	}
+
+	/**
+	 * removes all whitespace (the characters matched by \s)
+	 */
+	private static String stripWhitespace(CharSequence body) {
+		StringBuilder result = new StringBuilder(body.length());
+		for (int i = 0; i < body.length(); i++) {
+			char c = body.charAt(i);
+			switch (c) {
+			case ' ':
+			case '\t':
+			case '\n':
+			case '\u000B':
+			case '\f':
+			case '\r':
+				break;
+			default:
+				result.append(c);
+			}
+		}
+		return result.toString();
+	}
+
+	/**
+	 * appends the text of all tokens up to last to the source text, unless
+	 * this has been done already
+	 * 
+	 * @return whether the text from the special tokens of first up to last
+	 *         is part of the current run of the source text
+	 */
+	private boolean appendSource(Token first, Token last) {
+		// terminals without tokens (last is the token before first)
+		if (last.next == first || first.offset > last.offset)
+			return false;
+		Token token;
+		if (sourceEnd == null) {
+			sourceRunStart = source.length();
+			sourceDelta = getPrefixStart(first) - sourceRunStart;
+			token = first;
+		} else if (last.getEndOffset() > sourceEnd.getEndOffset()) {
+			token = sourceEnd.next;
+		} else {
+			token = null;
+		}
+		while (token != null && sourceEnd != last) {
+			if (!appendToken(token)) {
+				sourceEnd = null;
+				return false;
+			}
+			sourceEnd = token;
+			token = token.next;
+		}
+		return sourceEnd == last
+				&& getPrefixStart(first) - sourceDelta >= sourceRunStart;
+	}
+
+	private boolean appendToken(Token token) {
+		Token special = token.specialToken;
+		if (special != null) {
+			while (special.specialToken != null)
+				special = special.specialToken;
+			for (; special != null && special != token; special = special.next)
+				if (!appendImage(special))
+					return false;
+		}
+		return appendImage(token);
+	}
+
+	private boolean appendImage(Token token) {
+		if (token.image == null || token.image.length() != token.length
+				|| token.offset - sourceDelta != source.length())
+			return false;
+		source.append(token.image);
+		return true;
+	}
+
+	/**
+	 * @return offset of the first special token before the given token, or
+	 *         of the token if there is none
+	 */
+	private static int getPrefixStart(Token token) {
+		Token t = token;
+		while (t.specialToken != null)
+			t = t.specialToken;
+		return t.offset;
 	}
 
 	/**
@@ -232,7 +419,7 @@ public class AbstractFSTParser {
 	 * @return
 	 */
 	private String getBody(Token first, Token last) {
-		StringBuffer body = new StringBuffer();
+		StringBuilder body = new StringBuilder();
 		Token token = first;
 		if (token != null) {
 			while (token != null && token != last.next) {
@@ -248,12 +435,14 @@ public class AbstractFSTParser {
 	}
 
 	private String getPrefix(Token token) {
-		StringBuffer result = new StringBuffer();
-		Token t = token.specialToken;
-		while (t != null) {
-			result.insert(0, t.image);
-			t = t.specialToken;
-		}
+		if (token.specialToken == null)
+			return "";
+		List<String> images = new ArrayList<String>();
+		for (Token t = token.specialToken; t != null; t = t.specialToken)
+			images.add(t.image);
+		StringBuilder result = new StringBuilder();
+		for (int i = images.size() - 1; i >= 0; i--)
+			result.append(images.get(i));
 		return result.toString();
 	}
 
@@ -1,21 +1,38 @@
 package de.ovgu.cide.fstgen.ast;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
+import java.io.PrintWriter;
 import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public abstract class AbstractFSTPrintVisitor extends FSTVisitor {
 
-	private final StringBuffer buffer = new StringBuffer();
-	private final PrintStream outputStream;
+	/** size of the buffer of the writers returned by {@link #openOutput(File)} */
+	public static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
 
-	private List<String> tokensInCurrentLine = new ArrayList<String>();
+	/** copy of the printed text, or null if only the output is written */
+	private final StringBuilder buffer;
+	private final Writer output;
+	private IOException outputError;
+
+	// strings, or texts of terminals that are still slices of the parsed file
+	private List<CharSequence> tokensInCurrentLine = new ArrayList<CharSequence>();
 	private int indentInCurrentLine = 0;
 	private static String[] JMLModifiers = { "spec_public", "spec_protected",
 			"model", "ghost", "pure", "helper", "instance", "uninitialized",
@@ -23,15 +40,59 @@ public abstract class AbstractFSTPrintVisitor extends FSTVisitor {
 			"code_safe_math", "code_bigint_math", "non_null", "nullable",
 			"nullable_by_default", "extract" };
 
+	/**
+	 * prints to the given stream and keeps a copy of the printed text for
+	 * {@link #getResult()}
+	 */
 	public AbstractFSTPrintVisitor(PrintStream out) {
-		this.outputStream = out;
+		this(new PrintWriter(out), true);
+	}
+
+	/**
+	 * prints to the given writer only; {@link #close()} has to be called when
+	 * the visitor is done
+	 */
+	public AbstractFSTPrintVisitor(Writer out) {
+		this(out, false);
+	}
+
+	/**
+	 * @param keepResult
+	 *            whether a copy of the printed text is kept for
+	 *            {@link #getResult()}
+	 */
+	public AbstractFSTPrintVisitor(Writer out, boolean keepResult) {
+		this.output = out;
+		this.buffer = keepResult ? new StringBuilder() : null;
 	}
 
+	/**
+	 * prints into memory only, see {@link #getResult()}
+	 */
 	public AbstractFSTPrintVisitor() {
-		this.outputStream = null;
+		this.output = null;
+		this.buffer = new StringBuilder();
+	}
+
+	/**
+	 * opens a buffered writer for the given file that encodes the text with
+	 * the default charset of the platform, which is the charset the parsers
+	 * read their input files with
+	 */
+	public static Writer openOutput(File file) throws FileNotFoundException {
+		return openOutput(file, Charset.defaultCharset());
+	}
+
+	public static Writer openOutput(File file, Charset charset) throws FileNotFoundException {
+		return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), charset),
+				OUTPUT_BUFFER_SIZE);
 	}
 
 	protected void printToken(String token) {
+		printToken((CharSequence) token);
+	}
+
+	private void printToken(CharSequence token) {
 		if (tokensInCurrentLine.size() == 0)
 			indentInCurrentLine = indent;
 		tokensInCurrentLine.add(token);
@@ -59,14 +120,14 @@ public abstract class AbstractFSTPrintVisitor extends FSTVisitor {
 		for (int i = 0; i < indentInCurrentLine; i++)
 			print('\t');
 
-		String lastToken = null;
-		Iterator<String> i = tokensInCurrentLine.iterator();
+		CharSequence lastToken = null;
+		Iterator<CharSequence> i = tokensInCurrentLine.iterator();
 		while (i.hasNext()) {
-			String token = i.next();
+			CharSequence token = i.next();
 			if (generateSpaces)
 				if (lastToken != null
-						&& !getNoSpaceAfterToken().contains(lastToken)
-						&& !getNoSpaceBeforeToken().contains(token))
+						&& !contains(getNoSpaceAfterToken(), lastToken)
+						&& !contains(getNoSpaceBeforeToken(), token))
 					print(' ');
 
 			print(token);
@@ -79,32 +140,136 @@ public abstract class AbstractFSTPrintVisitor extends FSTVisitor {
 		indentInCurrentLine = 0;
 	}
 
+	private static boolean contains(List<String> tokens, CharSequence token) {
+		if (token instanceof String)
+			return tokens.contains(token);
+		for (String t : tokens)
+			if (t.contentEquals(token))
+				return true;
+		return false;
+	}
+
+	private void print(CharSequence s) {
+		if (s instanceof String) {
+			print((String) s);
+		} else if (s instanceof TerminalText) {
+			print(((TerminalText) s).prefix);
+			print(((TerminalText) s).body);
+		} else if (s instanceof SourceText.Slice) {
+			SourceText.Slice slice = (SourceText.Slice) s;
+			if (buffer != null)
+				slice.appendTo(buffer);
+			if (output != null && outputError == null) {
+				try {
+					slice.writeTo(output);
+				} catch (IOException e) {
+					outputError = e;
+				}
+			}
+		} else {
+			print(s.toString());
+		}
+	}
+
+	/**
+	 * prefix and body of a terminal, printed without concatenating them
+	 */
+	private static final class TerminalText implements CharSequence {
+		final CharSequence prefix;
+		final CharSequence body;
+
+		TerminalText(CharSequence prefix, CharSequence body) {
+			this.prefix = prefix;
+			this.body = body;
+		}
+
+		@Override
+		public int length() {
+			return prefix.length() + body.length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return index < prefix.length() ? prefix.charAt(index) : body
+					.charAt(index - prefix.length());
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return toString().subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return prefix.toString() + body;
+		}
+	}
+
 	/**
 	 * to not use if you intent to print tokens
 	 * 
 	 * @param s
 	 */
 	protected void print(String s) {
-		buffer.append(s);
-		if (outputStream != null)
-			outputStream.print(s);
+		if (buffer != null)
+			buffer.append(s);
+		if (output != null && outputError == null) {
+			try {
+				output.write(s);
+			} catch (IOException e) {
+				outputError = e;
+			}
+		}
 	}
 
 	private void print(char s) {
-		buffer.append(s);
-		if (outputStream != null)
-			outputStream.print(s);
+		if (buffer != null)
+			buffer.append(s);
+		if (output != null && outputError == null) {
+			try {
+				output.write(s);
+			} catch (IOException e) {
+				outputError = e;
+			}
+		}
 	}
 
 	private int indent = 0;
 
-	public String getResult() {
+	/**
+	 * prints the current line and closes the output.
+	 * 
+	 * @throws IOException
+	 *             if the output could not be written
+	 */
+	public void close() throws IOException {
 		if (tokensInCurrentLine.size() > 0)
 			closeLine();
-		if (outputStream != null) {
-			outputStream.close();
+		if (output != null) {
+			try {
+				output.close();
+			} catch (IOException e) {
+				if (outputError == null)
+					outputError = e;
+			}
 		}
-		return buffer.toString();
+		if (outputError != null)
+			throw outputError;
+	}
+
+	/**
+	 * closes the output like {@link #close()} but ignores errors.
+	 * 
+	 * @return the printed text, or null if the visitor does not keep a copy
+	 *         of it (see {@link #AbstractFSTPrintVisitor(Writer, boolean)})
+	 */
+	public String getResult() {
+		try {
+			close();
+		} catch (IOException e) {
+			// like a PrintStream, which ignores errors as well
+		}
+		return buffer == null ? null : buffer.toString();
 	}
 
 	private List<String> noSpaceAfterToken;
@@ -148,7 +313,11 @@ public abstract class AbstractFSTPrintVisitor extends FSTVisitor {
 	}
 
 	protected FSTNode getChild(FSTNonTerminal nonTerminal, String childType) {
-		List<FSTNode> result = getChildren(nonTerminal, childType);
+		return single(nonTerminal, childType, getChildren(nonTerminal, childType));
+	}
+
+	private static FSTNode single(FSTNonTerminal nonTerminal, String childType,
+			List<FSTNode> result) {
 		if (result.size() > 1) {
 			throw new RuntimeException(
 					"Cannot handle multple FST nodes of type " + childType
@@ -163,6 +332,72 @@ public abstract class AbstractFSTPrintVisitor extends FSTVisitor {
 		return null;
 	}
 
+	/**
+	 * @return the direct supertype of the given type, or null if it has none.
+	 *         generated visitors override this consistently with
+	 *         {@link #isSubtype(String, String)}, which is required by
+	 *         {@link #groupChildren(FSTNonTerminal)}
+	 */
+	protected String getSupertype(String type) {
+		return null;
+	}
+
+	/**
+	 * groups the children of the given node by their type and by their
+	 * supertype in a single pass, so that the children of several types can
+	 * be looked up without scanning all children for each type
+	 */
+	protected ChildGroups groupChildren(FSTNonTerminal nonTerminal) {
+		ChildGroups groups = new ChildGroups(nonTerminal);
+		for (FSTNode node : nonTerminal.getChildren()) {
+			String type = node.getType();
+			groups.add(type, node);
+			String supertype = getSupertype(type);
+			if (supertype != null && !supertype.equals(type))
+				groups.add(supertype, node);
+		}
+		return groups;
+	}
+
+	/**
+	 * children of a node grouped by type, see
+	 * {@link AbstractFSTPrintVisitor#groupChildren(FSTNonTerminal)}
+	 */
+	protected static final class ChildGroups {
+		private final FSTNonTerminal nonTerminal;
+		private final Map<String, List<FSTNode>> groups = new HashMap<String, List<FSTNode>>();
+
+		private ChildGroups(FSTNonTerminal nonTerminal) {
+			this.nonTerminal = nonTerminal;
+		}
+
+		private void add(String type, FSTNode node) {
+			List<FSTNode> group = groups.get(type);
+			if (group == null) {
+				group = new ArrayList<FSTNode>(2);
+				groups.put(type, group);
+			}
+			group.add(node);
+		}
+
+		/**
+		 * @return the children of the given type in their order, like
+		 *         {@link AbstractFSTPrintVisitor#getChildren(FSTNonTerminal, String)}
+		 */
+		public List<FSTNode> getChildren(String childType) {
+			List<FSTNode> group = groups.get(childType);
+			return group == null ? Collections.<FSTNode> emptyList() : group;
+		}
+
+		/**
+		 * @return the child of the given type, like
+		 *         {@link AbstractFSTPrintVisitor#getChild(FSTNonTerminal, String)}
+		 */
+		public FSTNode getChild(String childType) {
+			return single(nonTerminal, childType, getChildren(childType));
+		}
+	}
+
 	@Override
 	public boolean visit(FSTTerminal terminal) {
 		printFeatures(terminal, true);
@@ -175,7 +410,14 @@ public abstract class AbstractFSTPrintVisitor extends FSTVisitor {
 				e.printStackTrace();
 			}
 		} else {
-			printToken(terminal.getSpecialTokenPrefix() + terminal.getBody());
+			CharSequence prefix = terminal.getSpecialTokenPrefixText();
+			CharSequence body = terminal.getBodyText();
+			if (prefix == null || body == null)
+				printToken(String.valueOf(prefix) + body);
+			else if (prefix.length() == 0)
+				printToken(body);
+			else
+				printToken(new TerminalText(prefix, body));
 		}
 
 		printFeatures(terminal, false);
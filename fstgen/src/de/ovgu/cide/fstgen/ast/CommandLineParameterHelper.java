@@ -2,14 +2,13 @@ package de.ovgu.cide.fstgen.ast;
 
 public class CommandLineParameterHelper {
 
-	private static boolean isJML=false;
-	
+	// the flag is kept per FSTSession so that concurrent runs do not interfere
 	public static void setJML(boolean status){
-		isJML = status;
+		FSTSession.current().setJML(status);
 	}
 	
 	public static boolean isJML(){
-		return isJML;
+		return FSTSession.current().isJML();
 	}
 	
 	
@@ -0,0 +1,165 @@
+package de.ovgu.cide.fstgen.ast;
+
+import static de.ovgu.cide.fstgen.ast.FSTBinaryWriter.END;
+import static de.ovgu.cide.fstgen.ast.FSTBinaryWriter.FEATURE;
+import static de.ovgu.cide.fstgen.ast.FSTBinaryWriter.FORMAT_VERSION;
+import static de.ovgu.cide.fstgen.ast.FSTBinaryWriter.MAGIC;
+import static de.ovgu.cide.fstgen.ast.FSTBinaryWriter.NEW_STRING;
+import static de.ovgu.cide.fstgen.ast.FSTBinaryWriter.NONTERMINAL;
+import static de.ovgu.cide.fstgen.ast.FSTBinaryWriter.NULL_STRING;
+import static de.ovgu.cide.fstgen.ast.FSTBinaryWriter.TERMINAL;
+import static de.ovgu.cide.fstgen.ast.FSTBinaryWriter.UTF8;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the trees written by an {@link FSTBinaryWriter}, one after another.
+ */
+public class FSTBinaryReader implements Closeable {
+
+	private final DataInputStream in;
+
+	private final List<String> strings = new ArrayList<String>();
+
+	private boolean finished = false;
+
+	/**
+	 * reads the header of the format; a {@link DataInputStream} is used as it
+	 * is and is not read beyond the end of the trees, all other streams are
+	 * buffered
+	 *
+	 * @throws IOException
+	 *             if the stream was not written by an {@link FSTBinaryWriter}
+	 *             of this version
+	 */
+	public FSTBinaryReader(InputStream in) throws IOException {
+		if (in instanceof DataInputStream)
+			this.in = (DataInputStream) in;
+		else
+			this.in = new DataInputStream(new BufferedInputStream(in));
+		if (this.in.readInt() != MAGIC)
+			throw new IOException("not a binary FST stream");
+		int version = readNumber();
+		if (version != FORMAT_VERSION)
+			throw new IOException("unsupported version " + version
+					+ " of binary FST stream");
+	}
+
+	/**
+	 * @return the next tree or null at the end of the trees
+	 */
+	public FSTNode read() throws IOException {
+		if (finished)
+			return null;
+		int kind = readNumber();
+		if (kind == END) {
+			finished = true;
+			return null;
+		}
+		return readNode(kind);
+	}
+
+	private FSTNode readNode(int kind) throws IOException {
+		switch (kind) {
+		case NONTERMINAL:
+		case FEATURE: {
+			String type = mapName(readString());
+			String name = mapName(readString());
+			FSTNonTerminal nonTerminal;
+			if (kind == FEATURE) {
+				nonTerminal = new FSTFeatureNode(name);
+				nonTerminal.setType(type);
+			} else {
+				nonTerminal = new FSTNonTerminal(type, name);
+			}
+			int children = readNumber();
+			for (int i = 0; i < children; i++)
+				nonTerminal.addChild(readNode(readNumber()));
+			return nonTerminal;
+		}
+		case TERMINAL: {
+			String type = mapName(readString());
+			String name = mapName(readString());
+			String body = readText();
+			String prefix = readString();
+			String compose = readString();
+			String merge = readString();
+			String contractCompKey = readString();
+			String feature = readString();
+			int beginLine = readLine();
+			int endLine = readLine();
+			FSTTerminal terminal = new FSTTerminal(type, name, body, prefix,
+					compose, merge, beginLine, endLine);
+			// the constructor moves the body of contract composition keys
+			terminal.setBody(body);
+			terminal.setContractCompKey(contractCompKey);
+			terminal.setOriginalFeatureName(feature);
+			return terminal;
+		}
+		default:
+			throw new IOException("unknown node kind " + kind);
+		}
+	}
+
+	/**
+	 * called for the type and name of every node that is read; returns the
+	 * given string by default
+	 */
+	protected String mapName(String name) {
+		return name;
+	}
+
+	private String readString() throws IOException {
+		int code = readNumber();
+		if (code == NULL_STRING)
+			return null;
+		if (code != NEW_STRING) {
+			if (code - 2 >= strings.size())
+				throw new IOException("unknown string " + (code - 2));
+			return strings.get(code - 2);
+		}
+		String s = readUTF8(readNumber());
+		strings.add(s);
+		return s;
+	}
+
+	private String readText() throws IOException {
+		int length = readNumber();
+		if (length == 0)
+			return null;
+		return readUTF8(length - 1);
+	}
+
+	private String readUTF8(int length) throws IOException {
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, UTF8);
+	}
+
+	private int readLine() throws IOException {
+		int n = readNumber();
+		return (n >>> 1) ^ -(n & 1);
+	}
+
+	private int readNumber() throws IOException {
+		int n = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = in.readUnsignedByte();
+			n |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return n;
+		}
+		throw new IOException("malformed number");
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
@@ -0,0 +1,181 @@
+package de.ovgu.cide.fstgen.ast;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes trees of {@link FSTNonTerminal}s, {@link FSTFeatureNode}s and
+ * {@link FSTTerminal}s in a compact binary format, which
+ * {@link FSTBinaryReader} reads without parsing the original files again.
+ * Trees are written one after another as they are passed to
+ * {@link #write(FSTNode)}.
+ * <p>
+ * Format (all numbers are unsigned LEB128 varints, lines are zigzag
+ * encoded):
+ *
+ * <pre>
+ * stream   := "FSTB" version tree* END
+ * tree     := (NONTERMINAL | FEATURE) string(type) string(name) count tree*
+ *           | TERMINAL string(type) string(name) text(body) string(prefix)
+ *             string(composition) string(merging) string(contractCompKey)
+ *             string(feature) line(begin) line(end)
+ * string   := 0 (null) | 1 length utf8 (new entry of the string table)
+ *           | index + 2 (entry of the string table)
+ * text     := 0 (null) | length + 1 utf8
+ * </pre>
+ *
+ * Types, names, prefixes and mechanisms repeat often and are stored once per
+ * stream in the string table; bodies are stored as they are.
+ */
+public class FSTBinaryWriter implements Closeable {
+
+	static final int MAGIC = 0x46535442; // "FSTB"
+
+	static final int FORMAT_VERSION = 1;
+
+	static final int END = 0;
+
+	static final int NONTERMINAL = 1;
+
+	static final int FEATURE = 2;
+
+	static final int TERMINAL = 3;
+
+	static final int NULL_STRING = 0;
+
+	static final int NEW_STRING = 1;
+
+	static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private final DataOutputStream out;
+
+	private final Map<String, Integer> strings = new HashMap<String, Integer>();
+
+	private boolean finished = false;
+
+	/**
+	 * writes the header of the format; a {@link DataOutputStream} is used as
+	 * it is, so that callers may write data of their own before and after the
+	 * trees, all other streams are buffered
+	 */
+	public FSTBinaryWriter(OutputStream out) throws IOException {
+		if (out instanceof DataOutputStream)
+			this.out = (DataOutputStream) out;
+		else
+			this.out = new DataOutputStream(new BufferedOutputStream(out));
+		this.out.writeInt(MAGIC);
+		writeNumber(FORMAT_VERSION);
+	}
+
+	/**
+	 * writes the given node and all nodes below it
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the tree contains nodes of other classes, e.g. XML nodes
+	 */
+	public void write(FSTNode node) throws IOException {
+		if (finished)
+			throw new IllegalStateException("stream has been finished");
+		writeNode(node);
+	}
+
+	private void writeNode(FSTNode node) throws IOException {
+		Class<?> nodeClass = node.getClass();
+		if (nodeClass == FSTNonTerminal.class || nodeClass == FSTFeatureNode.class) {
+			writeNumber(nodeClass == FSTFeatureNode.class ? FEATURE : NONTERMINAL);
+			writeString(node.getType());
+			writeString(node.getName());
+			List<FSTNode> children = ((FSTNonTerminal) node).getChildren();
+			writeNumber(children.size());
+			for (FSTNode child : children)
+				writeNode(child);
+		} else if (nodeClass == FSTTerminal.class) {
+			FSTTerminal terminal = (FSTTerminal) node;
+			writeNumber(TERMINAL);
+			writeString(terminal.getType());
+			writeString(terminal.getName());
+			writeText(terminal.getBodyText());
+			CharSequence prefix = terminal.getSpecialTokenPrefixText();
+			writeString(prefix == null ? null : prefix.toString());
+			writeString(terminal.getCompositionMechanism());
+			writeString(terminal.getMergingMechanism());
+			writeString(terminal.getContractCompKey());
+			writeString(terminal.getOriginalFeatureName());
+			writeLine(terminal.beginLine);
+			writeLine(terminal.endLine);
+		} else {
+			throw new IllegalArgumentException("cannot write nodes of "
+					+ nodeClass.getName());
+		}
+	}
+
+	private void writeString(String s) throws IOException {
+		if (s == null) {
+			writeNumber(NULL_STRING);
+			return;
+		}
+		Integer index = strings.get(s);
+		if (index != null) {
+			writeNumber(index + 2);
+			return;
+		}
+		strings.put(s, strings.size());
+		byte[] bytes = s.getBytes(UTF8);
+		writeNumber(NEW_STRING);
+		writeNumber(bytes.length);
+		out.write(bytes);
+	}
+
+	private void writeText(CharSequence text) throws IOException {
+		if (text == null) {
+			writeNumber(0);
+			return;
+		}
+		byte[] bytes = text.toString().getBytes(UTF8);
+		writeNumber(bytes.length + 1);
+		out.write(bytes);
+	}
+
+	private void writeLine(int line) throws IOException {
+		writeNumber((line << 1) ^ (line >> 31));
+	}
+
+	private void writeNumber(int n) throws IOException {
+		while ((n & ~0x7F) != 0) {
+			out.write((n & 0x7F) | 0x80);
+			n >>>= 7;
+		}
+		out.write(n);
+	}
+
+	/**
+	 * marks the end of the trees and flushes the output, but does not close
+	 * it
+	 */
+	public void finish() throws IOException {
+		if (!finished) {
+			writeNumber(END);
+			finished = true;
+		}
+		out.flush();
+	}
+
+	/**
+	 * finishes the stream and closes the output
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			finish();
+		} finally {
+			out.close();
+		}
+	}
+}
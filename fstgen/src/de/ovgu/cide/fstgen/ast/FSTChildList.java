@@ -0,0 +1,240 @@
+package de.ovgu.cide.fstgen.ast;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Insertion-ordered list of the children of a {@link FSTNonTerminal}.
+ * <p>
+ * Besides the ordered list, the children are indexed by (type, name) so that
+ * {@link FSTNonTerminal#getCompatibleChild(FSTNode)} does not have to scan
+ * all children. The index is kept up to date by every modification of the
+ * list (including modifications through {@link #iterator()}) and by
+ * {@link FSTNode#setName(String)}/{@link FSTNode#setType(String)} of children
+ * whose parent is the owner of this list.
+ * <p>
+ * Children that override {@link FSTNode#compatibleWith(FSTNode)} (e.g.
+ * {@link FSTFeatureNode}) cannot be indexed by (type, name). As long as such
+ * a child is present, lookups fall back to a linear scan.
+ */
+class FSTChildList extends AbstractList<FSTNode> implements RandomAccess {
+
+	private static final ClassValue<Boolean> CUSTOM_COMPATIBILITY = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("compatibleWith", FSTNode.class)
+						.getDeclaringClass() != FSTNode.class;
+			} catch (NoSuchMethodException e) {
+				return true;
+			}
+		}
+	};
+
+	private static final class Key {
+		// types of nodes are canonical (see FSTSymbols)
+		private final String type;
+		private final String name;
+		private final int hash;
+
+		Key(String type, String name) {
+			this.type = type;
+			this.name = name;
+			this.hash = 31 * (type == null ? 0 : type.hashCode())
+					+ (name == null ? 0 : name.hashCode());
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return hash == other.hash && type == other.type
+					&& equal(name, other.name);
+		}
+
+		private static boolean equal(String a, String b) {
+			return a == null ? b == null : a.equals(b);
+		}
+	}
+
+	private final ArrayList<FSTNode> list;
+
+	/**
+	 * maps a (type, name) key either to the only child with this key or to a
+	 * list of all children with this key (in no particular order)
+	 */
+	private final HashMap<Key, Object> index;
+
+	private int customCompatibilityChildren = 0;
+
+	FSTChildList() {
+		list = new ArrayList<FSTNode>();
+		index = new HashMap<Key, Object>();
+	}
+
+	FSTChildList(Collection<? extends FSTNode> children) {
+		list = new ArrayList<FSTNode>(children);
+		index = new HashMap<Key, Object>(Math.max(16, list.size() * 2));
+		for (FSTNode child : list)
+			indexChild(child);
+	}
+
+	@Override
+	public FSTNode get(int i) {
+		return list.get(i);
+	}
+
+	@Override
+	public int size() {
+		return list.size();
+	}
+
+	@Override
+	public FSTNode set(int i, FSTNode child) {
+		FSTNode old = list.set(i, child);
+		unindexChild(old);
+		indexChild(child);
+		return old;
+	}
+
+	@Override
+	public void add(int i, FSTNode child) {
+		list.add(i, child);
+		indexChild(child);
+		modCount++;
+	}
+
+	@Override
+	public FSTNode remove(int i) {
+		FSTNode old = list.remove(i);
+		unindexChild(old);
+		modCount++;
+		return old;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		// children are compared by identity (FSTNode does not override equals)
+		for (int i = 0; i < list.size(); i++) {
+			if (list.get(i) == o) {
+				remove(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		list.clear();
+		index.clear();
+		customCompatibilityChildren = 0;
+		modCount++;
+	}
+
+	/**
+	 * returns the first child (in list order) that is compatible with the
+	 * given node, or null if there is none
+	 */
+	FSTNode getCompatible(FSTNode node) {
+		if (customCompatibilityChildren > 0)
+			return scanCompatible(node);
+
+		Object entry = index.get(new Key(node.getType(), node.getName()));
+		if (entry == null)
+			return null;
+		if (entry instanceof FSTNode) {
+			FSTNode child = (FSTNode) entry;
+			if (child.compatibleWith(node))
+				return child;
+			// the child was renamed behind our back; rebuild the index
+			reindex();
+			return scanCompatible(node);
+		}
+		// several children share this key: the first one in list order wins
+		return scanCompatible(node);
+	}
+
+	/**
+	 * updates the index after the type or name of the given child has changed
+	 */
+	void rekey(FSTNode child, String oldType, String oldName) {
+		if (removeFromIndex(child, new Key(oldType, oldName)))
+			addToIndex(child, new Key(child.getType(), child.getName()));
+	}
+
+	private FSTNode scanCompatible(FSTNode node) {
+		for (FSTNode child : list) {
+			if (child.compatibleWith(node))
+				return child;
+		}
+		return null;
+	}
+
+	private void reindex() {
+		index.clear();
+		customCompatibilityChildren = 0;
+		for (FSTNode child : list)
+			indexChild(child);
+	}
+
+	private void indexChild(FSTNode child) {
+		if (CUSTOM_COMPATIBILITY.get(child.getClass()))
+			customCompatibilityChildren++;
+		else
+			addToIndex(child, new Key(child.getType(), child.getName()));
+	}
+
+	private void unindexChild(FSTNode child) {
+		if (CUSTOM_COMPATIBILITY.get(child.getClass()))
+			customCompatibilityChildren--;
+		else
+			removeFromIndex(child, new Key(child.getType(), child.getName()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addToIndex(FSTNode child, Key key) {
+		Object entry = index.get(key);
+		if (entry == null) {
+			index.put(key, child);
+		} else if (entry instanceof FSTNode) {
+			List<FSTNode> bucket = new ArrayList<FSTNode>(2);
+			bucket.add((FSTNode) entry);
+			bucket.add(child);
+			index.put(key, bucket);
+		} else {
+			((List<FSTNode>) entry).add(child);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean removeFromIndex(FSTNode child, Key key) {
+		Object entry = index.get(key);
+		if (entry == child) {
+			index.remove(key);
+			return true;
+		}
+		if (entry instanceof List) {
+			List<FSTNode> bucket = (List<FSTNode>) entry;
+			for (int i = 0; i < bucket.size(); i++) {
+				if (bucket.get(i) == child) {
+					bucket.remove(i);
+					if (bucket.size() == 1)
+						index.put(key, bucket.get(0));
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
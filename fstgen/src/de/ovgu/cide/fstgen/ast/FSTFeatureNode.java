@@ -12,4 +12,11 @@ public class FSTFeatureNode extends FSTNonTerminal {
     public FSTNode getShallowClone() {
     	return new FSTFeatureNode(getName());
     }
+
+    public FSTNode getDeepClone() {
+    	FSTFeatureNode clone = new FSTFeatureNode(getName());
+    	for (FSTNode child : getChildren())
+    		clone.addChild(child.getDeepClone());
+    	return clone;
+    }
 }
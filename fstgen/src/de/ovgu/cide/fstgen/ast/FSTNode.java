@@ -2,6 +2,7 @@ package de.ovgu.cide.fstgen.ast;
 
 public abstract class FSTNode {
 	private String name;
+	// canonical, see FSTSymbols
 	private String type;
 	private FSTNonTerminal parent = null;
 	public int index = -1;
@@ -12,7 +13,10 @@ public abstract class FSTNode {
 	}
 
 	public void setName(String name) {
+		String oldName = this.name;
 		this.name = name;
+		if (parent != null)
+			parent.childKeyChanged(this, type, oldName);
 	}
 
 	public String getName() {
@@ -20,7 +24,10 @@ public abstract class FSTNode {
 	}
 
 	public void setType(String type) {
-		this.type = type;
+		String oldType = this.type;
+		this.type = FSTSymbols.intern(type);
+		if (parent != null)
+			parent.childKeyChanged(this, oldType, name);
 	}
 
 	public String getType() {
@@ -36,7 +43,7 @@ public abstract class FSTNode {
 	}
 	
 	public boolean compatibleWith(FSTNode node) {
-		return this.getType().equals(node.getType()) && this.getName().equals(node.getName());
+		return this.getType() == node.getType() && this.getName().equals(node.getName());
 	}
 	
 	public abstract FSTNode getShallowClone() ;
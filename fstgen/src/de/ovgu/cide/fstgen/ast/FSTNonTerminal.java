@@ -5,16 +5,16 @@ import java.util.List;
 
 public class FSTNonTerminal extends FSTNode {
 
-    private List<FSTNode> children;
+    private FSTChildList children;
 
     public FSTNonTerminal(String type, String name) {
 	super(type, name);
-	this.children = new LinkedList<FSTNode>();
+	this.children = new FSTChildList();
     }
 
     public FSTNonTerminal(String type, String name, List<FSTNode> children) {
 	super(type, name);
-	this.children = children;
+	this.children = new FSTChildList(children);
 	for (FSTNode child : children)
 	    child.setParent(this);
     }
@@ -40,7 +40,7 @@ public class FSTNonTerminal extends FSTNode {
     /** replaces all children of this node <p>needed for FST processing
      * @param newChildren - new children to set */
     public void setChildren(List<FSTNode> newChildren) {
-        this.children = newChildren;
+        this.children = new FSTChildList(newChildren);
     }
 
     public void addChild(FSTNode child) {
@@ -53,12 +53,18 @@ public class FSTNonTerminal extends FSTNode {
     	children.add(index, child);
     }
 
+    /**
+     * returns the first child that is compatible with the given node.
+     * <p>the lookup uses the (type, name) index of the child list and
+     * therefore takes constant time for the common case.
+     */
     public FSTNode getCompatibleChild(FSTNode node) {
-	for (FSTNode child : getChildren()) {
-	    if (child.compatibleWith(node))
-		return child;
-	}
-	return null;
+	return children.getCompatible(node);
+    }
+
+    /** called by a child after its type or name has changed */
+    void childKeyChanged(FSTNode child, String oldType, String oldName) {
+	children.rekey(child, oldType, oldName);
     }
 
     public String toStringShort() {
@@ -0,0 +1,88 @@
+package de.ovgu.cide.fstgen.ast;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State of the FST parsers and printers that belongs to one run (e.g. one
+ * composition) instead of the whole process.
+ * <p>
+ * A session is bound to the threads that work for it with
+ * {@link #activate()}. Code that runs outside of any session uses a
+ * process-wide session whose node list is {@link AbstractFSTParser#fstnodes},
+ * which is the behavior of earlier versions.
+ */
+public class FSTSession {
+
+	private static final FSTSession processSession = new FSTSession() {
+		@Override
+		public ArrayList<FSTNode> getFSTNodes() {
+			return AbstractFSTParser.fstnodes;
+		}
+	};
+
+	private static final ThreadLocal<FSTSession> currentSession = new ThreadLocal<FSTSession>();
+
+	private final ArrayList<FSTNode> fstnodes = new ArrayList<FSTNode>();
+
+	private final AtomicInteger uniqueId = new AtomicInteger();
+
+	private volatile boolean jml = false;
+
+	/**
+	 * @return the session bound to the current thread or the process-wide
+	 *         session if there is none
+	 */
+	public static FSTSession current() {
+		FSTSession session = currentSession.get();
+		return session != null ? session : processSession;
+	}
+
+	/**
+	 * Binds this session to the current thread.
+	 *
+	 * @return the session that was bound before; pass it to
+	 *         {@link #restore(FSTSession)} when done
+	 */
+	public FSTSession activate() {
+		FSTSession previous = currentSession.get();
+		currentSession.set(this);
+		return previous;
+	}
+
+	/**
+	 * Binds the given session (as returned by {@link #activate()}) to the
+	 * current thread again.
+	 */
+	public static void restore(FSTSession previous) {
+		if (previous == null)
+			currentSession.remove();
+		else
+			currentSession.set(previous);
+	}
+
+	/**
+	 * @return all FSTNonTerminals created by the parsers of this session (see
+	 *         {@link AbstractFSTParser#rememberFSTNode(FSTNode)}). Modify
+	 *         only while synchronized on this session.
+	 */
+	public ArrayList<FSTNode> getFSTNodes() {
+		return fstnodes;
+	}
+
+	/**
+	 * @return a number that is unique within this session, used for
+	 *         <code>{AUTO}</code> names
+	 */
+	public int nextUniqueId() {
+		return uniqueId.incrementAndGet();
+	}
+
+	public boolean isJML() {
+		return jml;
+	}
+
+	public void setJML(boolean jml) {
+		this.jml = jml;
+	}
+}
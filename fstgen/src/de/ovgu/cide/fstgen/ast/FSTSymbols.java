@@ -0,0 +1,36 @@
+package de.ovgu.cide.fstgen.ast;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonical instances of the types of nodes and of the composition and
+ * merging mechanisms of terminals. These come from the grammars, so there
+ * are only few of them, each shared by many nodes. Nodes store only
+ * canonical instances, so that types can be matched by identity.
+ * <p>
+ * The canonical instance of a symbol is the one of {@link String#intern()},
+ * i.e., the same instance as the string literal. Names are not interned;
+ * there are about as many names as nodes.
+ */
+public final class FSTSymbols {
+
+	private static final ConcurrentMap<String, String> symbols = new ConcurrentHashMap<String, String>();
+
+	private FSTSymbols() {
+	}
+
+	/**
+	 * @return the canonical instance of the given symbol, or null for null
+	 */
+	public static String intern(String symbol) {
+		if (symbol == null)
+			return null;
+		String canonical = symbols.get(symbol);
+		if (canonical == null) {
+			canonical = symbol.intern();
+			symbols.putIfAbsent(canonical, canonical);
+		}
+		return canonical;
+	}
+}
@@ -5,24 +5,30 @@ public class FSTTerminal extends FSTNode {
 	public final static String defaultCompositionMechanism = "Replacement";
 	public final static String defaultMergingMechanism = "Default";
 
-	private String body;
+	// either a String or a slice of the parsed file (see SourceText)
+	private CharSequence body;
 
+	// canonical, see FSTSymbols
 	private String compose = defaultCompositionMechanism;
 	private String merge = defaultMergingMechanism;
 	private String contractCompKey;
 
-	private String prefix;
+	private CharSequence prefix;
 
 	public int beginLine = -1;
 	public int endLine = -1;
 	private String feature;
 
 	public FSTTerminal(String type, String name, String body, String prefix) {
+		this(type, name, (CharSequence) body, (CharSequence) prefix);
+	}
+
+	FSTTerminal(String type, String name, CharSequence body, CharSequence prefix) {
 		super(type, name);
 		this.body = body;
 		this.prefix = prefix;
 		if (type.equals("ContractCompKey")) {
-			this.contractCompKey = body;
+			this.contractCompKey = body == null ? null : body.toString();
 			this.body = "\n\t";
 		}
 	}
@@ -30,31 +36,52 @@ public class FSTTerminal extends FSTNode {
 	public FSTTerminal(String type, String name, String body, String prefix,
 			String compositionMechanism) {
 		this(type, name, body, prefix);
-		this.compose = compositionMechanism;
+		this.compose = FSTSymbols.intern(compositionMechanism);
 	}
 
 	public FSTTerminal(String type, String name, String body, String prefix,
 			String compositionMechanism, String mergingMechanism) {
 		this(type, name, body, prefix, compositionMechanism);
-		this.merge = mergingMechanism;
+		this.merge = FSTSymbols.intern(mergingMechanism);
 	}
 
 	public FSTTerminal(String type, String name, String body, String prefix,
 			String compositionMechanism, String mergingMechanism,
 			int beginLine, int endLine) {
-		this(type, name, body, prefix, compositionMechanism);
-		this.merge = mergingMechanism;
+		this(type, name, (CharSequence) body, (CharSequence) prefix,
+				compositionMechanism, mergingMechanism, beginLine, endLine);
+	}
+
+	FSTTerminal(String type, String name, CharSequence body, CharSequence prefix,
+			String compositionMechanism, String mergingMechanism,
+			int beginLine, int endLine) {
+		this(type, name, body, prefix);
+		this.compose = FSTSymbols.intern(compositionMechanism);
+		this.merge = FSTSymbols.intern(mergingMechanism);
 		this.beginLine = beginLine;
 		this.endLine = endLine;
 	}
 
-	private FSTTerminal(String type, String name, String body, String prefix,
+	private FSTTerminal(String type, String name, CharSequence body, CharSequence prefix,
 			String compositionMechanism, String mergingMechanism, String feature) {
-		this(type, name, body, prefix, compositionMechanism, mergingMechanism);
+		this(type, name, body, prefix);
+		this.compose = FSTSymbols.intern(compositionMechanism);
+		this.merge = FSTSymbols.intern(mergingMechanism);
 		setOriginalFeatureName(feature);
 	}
 
 	public String getSpecialTokenPrefix() {
+		if (prefix != null && !(prefix instanceof String))
+			prefix = prefix.toString();
+		return (String) prefix;
+	}
+
+	/**
+	 * @return the prefix like {@link #getSpecialTokenPrefix()}, but without
+	 *         turning it into a string if it is still a slice of the parsed
+	 *         file
+	 */
+	public CharSequence getSpecialTokenPrefixText() {
 		return prefix;
 	}
 
@@ -64,16 +91,16 @@ public class FSTTerminal extends FSTNode {
 
 	@Override
 	public FSTNode getShallowClone() {
-		return new FSTTerminal(getType(), getName(), getBody(),
-				getSpecialTokenPrefix(), getCompositionMechanism(),
-				getMergingMechanism(), getOriginalFeatureName());
+		return new FSTTerminal(getType(), getName(), body, prefix,
+				getCompositionMechanism(), getMergingMechanism(),
+				getOriginalFeatureName());
 	}
 
 	@Override
 	public FSTNode getDeepClone() {
-		return new FSTTerminal(getType(), getName(), getBody(),
-				getSpecialTokenPrefix(), getCompositionMechanism(),
-				getMergingMechanism(), getOriginalFeatureName());
+		return new FSTTerminal(getType(), getName(), body, prefix,
+				getCompositionMechanism(), getMergingMechanism(),
+				getOriginalFeatureName());
 	}
 
 	public void setBody(String b) {
@@ -81,6 +108,16 @@ public class FSTTerminal extends FSTNode {
 	}
 
 	public String getBody() {
+		if (body != null && !(body instanceof String))
+			body = body.toString();
+		return (String) body;
+	}
+
+	/**
+	 * @return the body like {@link #getBody()}, but without turning it into a
+	 *         string if it is still a slice of the parsed file
+	 */
+	public CharSequence getBodyText() {
 		return body;
 	}
 
@@ -98,7 +135,7 @@ public class FSTTerminal extends FSTNode {
 				+ " \""
 				// + (prefix.length() != 0 ? prefix.replaceAll("\\s", " ") : "")
 				// + "\" \""
-				+ (body.length() != 0 ? body.replaceAll("\\s", " ") : "")
+				+ (body.length() != 0 ? body.toString().replaceAll("\\s", " ") : "")
 				+ "\" compose:" + compose + " merge: " + merge + "]";
 	}
 
@@ -118,11 +155,11 @@ public class FSTTerminal extends FSTNode {
 	}
 
 	public void setCompositionMechanism(String compositionMechanism) {
-		compose = compositionMechanism;
+		compose = FSTSymbols.intern(compositionMechanism);
 	}
 
 	public void setMergingMechanism(String mergingMechanism) {
-		merge = mergingMechanism;
+		merge = FSTSymbols.intern(mergingMechanism);
 	}
 
 	public String getContractCompKey() {
@@ -0,0 +1,120 @@
+package de.ovgu.cide.fstgen.ast;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Runs several {@link FSTVisitor}s in a single traversal of a tree. Each
+ * visitor sees the nodes as with {@link FSTNode#accept(FSTVisitor)}: a
+ * nonterminal is visited before its children and post-visited after them,
+ * and a visitor that returns false for a nonterminal does not see its
+ * descendants, while the others still do. At each node, the visitors are
+ * called in the order in which they were added.
+ * <p>
+ * The traversal keeps an explicit stack instead of recursing, so it does not
+ * overflow the call stack on deep trees. The children of a nonterminal are
+ * taken after all visitors have visited it, so a visitor may change the
+ * children of the node it visits.
+ */
+public class FSTVisitorPipeline {
+
+	private final List<FSTVisitor> visitors = new ArrayList<FSTVisitor>();
+
+	/**
+	 * a nonterminal whose children are being traversed
+	 */
+	private static final class Frame {
+		final FSTNonTerminal node;
+
+		// the visitors that visited the node and are post-visiting it
+		final boolean[] visited;
+
+		// the visitors that descend into the children
+		final boolean[] descending;
+
+		final FSTNode[] children;
+
+		int next;
+
+		Frame(FSTNonTerminal node, boolean[] visited, boolean[] descending, FSTNode[] children) {
+			this.node = node;
+			this.visited = visited;
+			this.descending = descending;
+			this.children = children;
+		}
+	}
+
+	private static final FSTNode[] NO_CHILDREN = new FSTNode[0];
+
+	public FSTVisitorPipeline add(FSTVisitor visitor) {
+		visitors.add(visitor);
+		return this;
+	}
+
+	public List<FSTVisitor> getVisitors() {
+		return visitors;
+	}
+
+	public boolean isEmpty() {
+		return visitors.isEmpty();
+	}
+
+	/**
+	 * traverses the given tree once with all visitors of the pipeline
+	 */
+	public void traverse(FSTNode root) {
+		if (root == null || visitors.isEmpty())
+			return;
+		boolean[] all = new boolean[visitors.size()];
+		Arrays.fill(all, true);
+		if (!(root instanceof FSTNonTerminal)) {
+			visitLeaf(root, all);
+			return;
+		}
+		Deque<Frame> stack = new ArrayDeque<Frame>();
+		stack.push(enter((FSTNonTerminal) root, all));
+		while (!stack.isEmpty()) {
+			Frame frame = stack.peek();
+			if (frame.next == frame.children.length) {
+				stack.pop();
+				leave(frame);
+			} else {
+				FSTNode child = frame.children[frame.next++];
+				if (child instanceof FSTNonTerminal)
+					stack.push(enter((FSTNonTerminal) child, frame.descending));
+				else
+					visitLeaf(child, frame.descending);
+			}
+		}
+	}
+
+	private Frame enter(FSTNonTerminal node, boolean[] active) {
+		boolean[] descending = new boolean[active.length];
+		boolean any = false;
+		for (int i = 0; i < active.length; i++) {
+			if (active[i] && visitors.get(i).visit(node)) {
+				descending[i] = true;
+				any = true;
+			}
+		}
+		FSTNode[] children = any ? node.getChildren().toArray(NO_CHILDREN) : NO_CHILDREN;
+		return new Frame(node, active, descending, children);
+	}
+
+	private void leave(Frame frame) {
+		for (int i = 0; i < frame.visited.length; i++) {
+			if (frame.visited[i])
+				visitors.get(i).postVisit(frame.node);
+		}
+	}
+
+	private void visitLeaf(FSTNode node, boolean[] active) {
+		for (int i = 0; i < active.length; i++) {
+			if (active[i])
+				node.accept(visitors.get(i));
+		}
+	}
+}
@@ -0,0 +1,258 @@
+package de.ovgu.cide.fstgen.ast;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import de.ovgu.cide.fstgen.ast.AbstractFSTParser.Replacement;
+
+/**
+ * a name, type or composition pattern of a production (e.g.
+ * <code>{Name}{ImportPackage}</code>), split once into literal text and
+ * references to the names exported by child productions. A reference is
+ * either <code>{Production}</code>, replaced by the name of the first child
+ * of this production, or <code>{Production}^s</code>, replaced by the names
+ * of all children of this production, separated by s (no separator for
+ * <code>~</code>). <code>{AUTO}</code> is replaced by a unique name.
+ * <p>
+ * Templates whose literal text contains braces, and values that contain
+ * braces, may form new references while being replaced; these are replaced
+ * one after another on the whole text, as the patterns have always been
+ * applied.
+ */
+final class NameTemplate {
+
+	private static final Pattern SEPARATED_LIST_END = Pattern
+			.compile("(.)\\{[^\\{\\}]*?\\}\\^\\1");
+
+	private static final Pattern LIST_END = Pattern
+			.compile("\\{[^\\{\\}]*?\\}\\^.");
+
+	private static final String AUTO = "AUTO";
+
+	private static final ConcurrentMap<String, NameTemplate> templates = new ConcurrentHashMap<String, NameTemplate>();
+
+	/**
+	 * @return the template for the given pattern, compiled on first use
+	 */
+	static NameTemplate get(String pattern) {
+		NameTemplate template = templates.get(pattern);
+		if (template == null) {
+			template = new NameTemplate(pattern);
+			NameTemplate existing = templates.putIfAbsent(pattern, template);
+			if (existing != null)
+				template = existing;
+		}
+		return template;
+	}
+
+	private final String pattern;
+
+	/** literal text before each reference and after the last one */
+	private final String[] literals;
+
+	/** names of the referenced productions */
+	private final String[] names;
+
+	/** separator of each list reference, 0 for a single reference */
+	private final char[] separators;
+
+	/** whether the template can be filled in a single pass */
+	private final boolean simple;
+
+	private NameTemplate(String pattern) {
+		this.pattern = pattern;
+		List<String> literals = new ArrayList<String>();
+		List<String> names = new ArrayList<String>();
+		StringBuilder separators = new StringBuilder();
+		boolean simple = true;
+
+		int literalStart = 0;
+		int i = 0;
+		while (i < pattern.length()) {
+			int open = pattern.indexOf('{', i);
+			if (open < 0)
+				break;
+			int close = pattern.indexOf('}', open + 1);
+			int nextOpen = pattern.indexOf('{', open + 1);
+			if (close < 0 || (nextOpen >= 0 && nextOpen < close)) {
+				// a brace that does not start a reference
+				simple = false;
+				i = open + 1;
+				continue;
+			}
+			char separator = 0;
+			int end = close + 1;
+			if (end < pattern.length() && pattern.charAt(end) == '^') {
+				if (end + 1 == pattern.length()) {
+					simple = false;
+					break;
+				}
+				separator = pattern.charAt(end + 1);
+				end += 2;
+			}
+			literals.add(pattern.substring(literalStart, open));
+			names.add(pattern.substring(open + 1, close));
+			separators.append(separator);
+			literalStart = i = end;
+		}
+		literals.add(pattern.substring(literalStart));
+
+		this.literals = literals.toArray(new String[literals.size()]);
+		this.names = names.toArray(new String[names.size()]);
+		this.separators = separators.toString().toCharArray();
+
+		for (String literal : this.literals)
+			if (hasBraces(literal))
+				simple = false;
+		for (int r = 0; r < this.names.length && simple; r++) {
+			// all lists of a production use the separator of the first one,
+			// and single references to a production with a list are kept
+			for (int s = 0; s < r; s++)
+				if (this.names[s].equals(this.names[r])
+						&& (this.separators[s] == 0) != (this.separators[r] == 0))
+					simple = false;
+			if (this.separators[r] != 0 && this.names[r].equals(AUTO))
+				simple = false;
+		}
+		for (int r = 0; r < this.names.length && simple; r++)
+			for (int s = 0; s < r; s++)
+				if (this.names[s].equals(this.names[r]))
+					this.separators[r] = this.separators[s];
+		this.simple = simple;
+	}
+
+	/**
+	 * @return whether the pattern refers to the name exported by the given
+	 *         production
+	 */
+	boolean references(String production) {
+		for (String name : names)
+			if (name.equals(production))
+				return true;
+		return false;
+	}
+
+	/**
+	 * @return the pattern with all references replaced by the names (or
+	 *         compositions, see {@link AbstractFSTParser.FSTInfoType}) of the
+	 *         given replacements
+	 */
+	String apply(List<Replacement> replacements,
+			AbstractFSTParser.FSTInfoType type) {
+		if (names.length == 0 && simple)
+			return pattern;
+		if (!simple || !canFill(replacements, type))
+			return applySequentially(pattern, replacements, type);
+
+		StringBuilder result = new StringBuilder(pattern.length() + 32);
+		String auto = null;
+		for (int r = 0; r < names.length; r++) {
+			result.append(literals[r]);
+			String name = names[r];
+			char separator = separators[r];
+			if (separator == 0) {
+				Replacement replacement = find(replacements, name);
+				if (replacement != null)
+					result.append(value(replacement, type));
+				else if (name.equals(AUTO)) {
+					// all occurrences share one generated name
+					if (auto == null)
+						auto = AbstractFSTParser.generateUniqueName();
+					result.append(auto);
+				} else
+					result.append('{').append(name).append('}');
+			} else {
+				for (Replacement replacement : replacements)
+					if (replacement.productionName.equals(name)) {
+						result.append(value(replacement, type));
+						if (separator != '~')
+							result.append(separator);
+					}
+				result.append('{').append(name).append("}^").append(separator);
+			}
+		}
+		result.append(literals[names.length]);
+
+		String name = result.toString();
+		if (name.indexOf("}^") >= 0)
+			name = removeListEnds(name);
+		return name;
+	}
+
+	/**
+	 * @return whether all values used by this template are free of braces,
+	 *         so that no value can form a new reference
+	 */
+	private boolean canFill(List<Replacement> replacements,
+			AbstractFSTParser.FSTInfoType type) {
+		for (Replacement replacement : replacements)
+			if (references(replacement.productionName)
+					&& hasBraces(value(replacement, type)))
+				return false;
+		return true;
+	}
+
+	private static Replacement find(List<Replacement> replacements, String name) {
+		for (Replacement replacement : replacements)
+			if (replacement.productionName.equals(name))
+				return replacement;
+		return null;
+	}
+
+	private static String value(Replacement replacement,
+			AbstractFSTParser.FSTInfoType type) {
+		if (type == AbstractFSTParser.FSTInfoType.NAME)
+			return replacement.value.exportedName;
+		else
+			// if (type==FSTInfoType.COMPOSITION)
+			return replacement.value.exportedComposition;
+	}
+
+	private static boolean hasBraces(String s) {
+		return s.indexOf('{') >= 0 || s.indexOf('}') >= 0;
+	}
+
+	/**
+	 * removes the ends of all lists, i.e., the references that remain after
+	 * all names of a list were inserted, together with the separator after
+	 * the last name
+	 */
+	private static String removeListEnds(String name) {
+		name = SEPARATED_LIST_END.matcher(name).replaceAll("");
+		return LIST_END.matcher(name).replaceAll("");
+	}
+
+	/**
+	 * replaces the references of one replacement after another on the whole
+	 * text, so that values may contain references themselves
+	 */
+	private static String applySequentially(String name,
+			List<Replacement> replList, AbstractFSTParser.FSTInfoType type) {
+		for (Replacement replacement : replList) {
+			String value = value(replacement, type);
+
+			String listName = "{" + replacement.productionName + "}^";
+			int listStart = name.indexOf(listName);
+			// is list
+			if (listStart >= 0) {
+				char sepChar = name.charAt(listStart + listName.length());
+				name = name.replace(listName, value
+						+ (sepChar == '~' ? "" : sepChar) + listName);
+			} else {
+				// no list
+				name = name.replace("{" + replacement.productionName + "}",
+						value);
+			}
+		}
+
+		while (name.contains("{AUTO}")) {
+			name = name.replace("{AUTO}",
+					AbstractFSTParser.generateUniqueName());
+		}
+
+		return removeListEnds(name);
+	}
+}
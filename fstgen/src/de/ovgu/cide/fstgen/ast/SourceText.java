@@ -0,0 +1,87 @@
+package de.ovgu.cide.fstgen.ast;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * the text of a parsed file, assembled once from the images of its tokens.
+ * terminals refer to their body and prefix as slices of this text (see
+ * {@link FSTTerminal#getBodyText()}), so that no string has to be built for
+ * a terminal that is only printed again.
+ * <p>
+ * The text only grows; characters that have been appended never change.
+ */
+final class SourceText {
+
+	private char[] chars = new char[4096];
+
+	private int length = 0;
+
+	int length() {
+		return length;
+	}
+
+	void append(String s) {
+		int newLength = length + s.length();
+		if (newLength > chars.length) {
+			char[] newChars = new char[Math.max(newLength, chars.length * 2)];
+			System.arraycopy(chars, 0, newChars, 0, length);
+			chars = newChars;
+		}
+		s.getChars(0, s.length(), chars, length);
+		length = newLength;
+	}
+
+	CharSequence slice(int start, int end) {
+		if (start == end)
+			return "";
+		return new Slice(this, start, end);
+	}
+
+	/**
+	 * a part of a {@link SourceText}
+	 */
+	static final class Slice implements CharSequence {
+		private final SourceText text;
+		private final int start;
+		private final int end;
+
+		private Slice(SourceText text, int start, int end) {
+			this.text = text;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public int length() {
+			return end - start;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= end - start)
+				throw new IndexOutOfBoundsException(String.valueOf(index));
+			return text.chars[start + index];
+		}
+
+		@Override
+		public CharSequence subSequence(int from, int to) {
+			if (from < 0 || to > end - start || from > to)
+				throw new IndexOutOfBoundsException(from + ", " + to);
+			return text.slice(start + from, start + to);
+		}
+
+		void appendTo(StringBuilder builder) {
+			builder.append(text.chars, start, end - start);
+		}
+
+		void writeTo(Writer writer) throws IOException {
+			writer.write(text.chars, start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return new String(text.chars, start, end - start);
+		}
+	}
+}
@@ -4,6 +4,7 @@ import java.util.*;
 import cide.gast.*;
 
 import java.io.PrintStream;
+import java.io.Writer;
 
 import cide.languages.*;
 
@@ -13,38 +14,44 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 	public SimplePrintVisitor(PrintStream out) {
 		super(out); generateSpaces=true;
 	}
+	public SimplePrintVisitor(Writer out) {
+		super(out); generateSpaces=true;
+	}
 	public SimplePrintVisitor() {
 		super(); generateSpaces=true;
 	}
 	public boolean visit(FSTNonTerminal nonTerminal) {
-		if (nonTerminal.getType().equals("Specification")) {
+		switch (nonTerminal.getType()) {
+		case "Specification": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Module");
+				FSTNode v=children.getChild("Module");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
-			for (FSTNode v : getChildren(nonTerminal,"Open")) {
+			for (FSTNode v : children.getChildren("Open")) {
 				v.accept(this);
 			}
-			for (FSTNode v : getChildren(nonTerminal,"Paragraph")) {
+			for (FSTNode v : children.getChildren("Paragraph")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Module")) {
+		case "Module": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("module");
 			{
-				FSTNode v=getChild(nonTerminal, "Name");
+				FSTNode v=children.getChild("Name");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ExactlyClause");
+				FSTNode v=children.getChild("ExactlyClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -52,23 +59,24 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Open")) {
+		case "Open": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("open");
 			{
-				FSTNode v=getChild(nonTerminal, "Name");
+				FSTNode v=children.getChild("Name");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "RefClause");
+				FSTNode v=children.getChild("RefClause");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "AsClause");
+				FSTNode v=children.getChild("AsClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -76,10 +84,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Paragraph5")) {
+		case "Paragraph5": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "EnumDecl");
+				FSTNode v=children.getChild("EnumDecl");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -87,10 +96,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Paragraph6")) {
+		case "Paragraph6": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "SigDecl");
+				FSTNode v=children.getChild("SigDecl");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -98,10 +108,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("NameOrBlock1")) {
+		case "NameOrBlock1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "NonEmptyName");
+				FSTNode v=children.getChild("NonEmptyName");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -109,10 +120,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("NameOrBlock2")) {
+		case "NameOrBlock2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Block");
+				FSTNode v=children.getChild("Block");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -120,10 +132,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SigDecl")) {
+		case "SigDecl": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "Name").iterator();
-			for (FSTNode v : getChildren(nonTerminal,"SigQual")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("Name").iterator();
+			for (FSTNode v : children.getChildren("SigQual")) {
 				v.accept(this);
 			}
 			printToken("sig");
@@ -135,21 +148,21 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 				listElements.next().accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "SigExt");
+				FSTNode v=children.getChild("SigExt");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("{");
 			{
-				FSTNode v=getChild(nonTerminal, "SigBody");
+				FSTNode v=children.getChild("SigBody");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("}");
 			{
-				FSTNode v=getChild(nonTerminal, "Block");
+				FSTNode v=children.getChild("Block");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -157,10 +170,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SigBody")) {
+		case "SigBody": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Decls");
+				FSTNode v=children.getChild("Decls");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -168,9 +182,10 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Decls")) {
+		case "Decls": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "Decl").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("Decl").iterator();
 			if (listElements.hasNext()) {
 				listElements.next().accept(this);
 			}
@@ -181,12 +196,13 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("EnumDecl")) {
+		case "EnumDecl": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "Name").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("Name").iterator();
 			printToken("enum");
 			{
-				FSTNode v=getChild(nonTerminal, "Name");
+				FSTNode v=children.getChild("Name");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -203,126 +219,132 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Block")) {
+		case "Block": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("{");
-			for (FSTNode v : getChildren(nonTerminal,"Expr")) {
+			for (FSTNode v : children.getChildren("Expr")) {
 				v.accept(this);
 			}
 			printToken("}");
 			printFeatures(nonTerminal,false);
 			return false;
 		}
+		}
 		throw new RuntimeException("Unknown Non Terminal in FST "+nonTerminal);
 	}
+	protected String getSupertype(String type) {
+		switch (type) {
+		case "ArrowOpClause1": return "ArrowOpClause";
+		case "ArrowOpClause2": return "ArrowOpClause";
+		case "ArrowOpClause3": return "ArrowOpClause";
+		case "ArrowOpClause4": return "ArrowOpClause";
+		case "BinOp1": return "BinOp";
+		case "BinOp10": return "BinOp";
+		case "BinOp11": return "BinOp";
+		case "BinOp12": return "BinOp";
+		case "BinOp13": return "BinOp";
+		case "BinOp14": return "BinOp";
+		case "BinOp15": return "BinOp";
+		case "BinOp16": return "BinOp";
+		case "BinOp17": return "BinOp";
+		case "BinOp18": return "BinOp";
+		case "BinOp2": return "BinOp";
+		case "BinOp3": return "BinOp";
+		case "BinOp4": return "BinOp";
+		case "BinOp5": return "BinOp";
+		case "BinOp6": return "BinOp";
+		case "BinOp7": return "BinOp";
+		case "BinOp8": return "BinOp";
+		case "BinOp9": return "BinOp";
+		case "BlockOrBar1": return "BlockOrBar";
+		case "BlockOrBar2": return "BlockOrBar";
+		case "CompareOp1": return "CompareOp";
+		case "CompareOp2": return "CompareOp";
+		case "CompareOp3": return "CompareOp";
+		case "CompareOp4": return "CompareOp";
+		case "CompareOp5": return "CompareOp";
+		case "CompareOp6": return "CompareOp";
+		case "Expr51": return "Expr5";
+		case "Expr510": return "Expr5";
+		case "Expr511": return "Expr5";
+		case "Expr512": return "Expr5";
+		case "Expr513": return "Expr5";
+		case "Expr514": return "Expr5";
+		case "Expr52": return "Expr5";
+		case "Expr53": return "Expr5";
+		case "Expr54": return "Expr5";
+		case "Expr55": return "Expr5";
+		case "Expr56": return "Expr5";
+		case "Expr57": return "Expr5";
+		case "Expr58": return "Expr5";
+		case "Expr59": return "Expr5";
+		case "FunDecl1": return "FunDecl";
+		case "FunDecl2": return "FunDecl";
+		case "FunDecl3": return "FunDecl";
+		case "FunDecl4": return "FunDecl";
+		case "FunDecl5": return "FunDecl";
+		case "FunDecl6": return "FunDecl";
+		case "ImpliesClause1": return "ImpliesClause";
+		case "ImpliesClause2": return "ImpliesClause";
+		case "Integer1": return "Integer";
+		case "Integer2": return "Integer";
+		case "NameClause1": return "NameClause";
+		case "NameClause2": return "NameClause";
+		case "NameClause3": return "NameClause";
+		case "NameOrBlock1": return "NameOrBlock";
+		case "NameOrBlock2": return "NameOrBlock";
+		case "NonEmptyNameClause1": return "NonEmptyNameClause";
+		case "NonEmptyNameClause2": return "NonEmptyNameClause";
+		case "NotClause1": return "NotClause";
+		case "NotClause2": return "NotClause";
+		case "Paragraph1": return "Paragraph";
+		case "Paragraph2": return "Paragraph";
+		case "Paragraph3": return "Paragraph";
+		case "Paragraph4": return "Paragraph";
+		case "Paragraph5": return "Paragraph";
+		case "Paragraph6": return "Paragraph";
+		case "Quant1": return "Quant";
+		case "Quant2": return "Quant";
+		case "Quant3": return "Quant";
+		case "Quant4": return "Quant";
+		case "Quant5": return "Quant";
+		case "Quant6": return "Quant";
+		case "Ref1": return "Ref";
+		case "Ref2": return "Ref";
+		case "Ref3": return "Ref";
+		case "Ref4": return "Ref";
+		case "RunOrCheck1": return "RunOrCheck";
+		case "RunOrCheck2": return "RunOrCheck";
+		case "Scope1": return "Scope";
+		case "Scope2": return "Scope";
+		case "SigExt1": return "SigExt";
+		case "SigExt2": return "SigExt";
+		case "SigQual1": return "SigQual";
+		case "SigQual2": return "SigQual";
+		case "SigQual3": return "SigQual";
+		case "SigQual4": return "SigQual";
+		case "SigQual5": return "SigQual";
+		case "TypeScopeClause1": return "TypeScopeClause";
+		case "TypeScopeClause2": return "TypeScopeClause";
+		case "TypeScopeClause3": return "TypeScopeClause";
+		case "TypeScopeClause4": return "TypeScopeClause";
+		case "UnOp1": return "UnOp";
+		case "UnOp10": return "UnOp";
+		case "UnOp11": return "UnOp";
+		case "UnOp12": return "UnOp";
+		case "UnOp2": return "UnOp";
+		case "UnOp3": return "UnOp";
+		case "UnOp4": return "UnOp";
+		case "UnOp5": return "UnOp";
+		case "UnOp6": return "UnOp";
+		case "UnOp7": return "UnOp";
+		case "UnOp8": return "UnOp";
+		case "UnOp9": return "UnOp";
+		default: return null;
+		}
+	}
 	protected boolean isSubtype(String type, String expectedType) {
-		if (type.equals(expectedType)) return true;
-		if (type.equals("Paragraph2") && expectedType.equals("Paragraph")) return true;
-		if (type.equals("BinOp13") && expectedType.equals("BinOp")) return true;
-		if (type.equals("NotClause1") && expectedType.equals("NotClause")) return true;
-		if (type.equals("Expr513") && expectedType.equals("Expr5")) return true;
-		if (type.equals("BinOp7") && expectedType.equals("BinOp")) return true;
-		if (type.equals("CompareOp5") && expectedType.equals("CompareOp")) return true;
-		if (type.equals("Quant3") && expectedType.equals("Quant")) return true;
-		if (type.equals("ImpliesClause2") && expectedType.equals("ImpliesClause")) return true;
-		if (type.equals("UnOp7") && expectedType.equals("UnOp")) return true;
-		if (type.equals("Ref2") && expectedType.equals("Ref")) return true;
-		if (type.equals("NameClause1") && expectedType.equals("NameClause")) return true;
-		if (type.equals("Expr53") && expectedType.equals("Expr5")) return true;
-		if (type.equals("FunDecl4") && expectedType.equals("FunDecl")) return true;
-		if (type.equals("ArrowOpClause2") && expectedType.equals("ArrowOpClause")) return true;
-		if (type.equals("NonEmptyNameClause1") && expectedType.equals("NonEmptyNameClause")) return true;
-		if (type.equals("Expr512") && expectedType.equals("Expr5")) return true;
-		if (type.equals("BinOp8") && expectedType.equals("BinOp")) return true;
-		if (type.equals("BinOp12") && expectedType.equals("BinOp")) return true;
-		if (type.equals("UnOp6") && expectedType.equals("UnOp")) return true;
-		if (type.equals("CompareOp4") && expectedType.equals("CompareOp")) return true;
-		if (type.equals("Paragraph3") && expectedType.equals("Paragraph")) return true;
-		if (type.equals("BlockOrBar2") && expectedType.equals("BlockOrBar")) return true;
-		if (type.equals("Ref3") && expectedType.equals("Ref")) return true;
-		if (type.equals("ImpliesClause1") && expectedType.equals("ImpliesClause")) return true;
-		if (type.equals("Quant4") && expectedType.equals("Quant")) return true;
-		if (type.equals("Ref4") && expectedType.equals("Ref")) return true;
-		if (type.equals("Expr52") && expectedType.equals("Expr5")) return true;
-		if (type.equals("SigQual5") && expectedType.equals("SigQual")) return true;
-		if (type.equals("FunDecl3") && expectedType.equals("FunDecl")) return true;
-		if (type.equals("ArrowOpClause3") && expectedType.equals("ArrowOpClause")) return true;
-		if (type.equals("NonEmptyNameClause2") && expectedType.equals("NonEmptyNameClause")) return true;
-		if (type.equals("Paragraph4") && expectedType.equals("Paragraph")) return true;
-		if (type.equals("UnOp5") && expectedType.equals("UnOp")) return true;
-		if (type.equals("BinOp15") && expectedType.equals("BinOp")) return true;
-		if (type.equals("Quant1") && expectedType.equals("Quant")) return true;
-		if (type.equals("BlockOrBar1") && expectedType.equals("BlockOrBar")) return true;
-		if (type.equals("Scope2") && expectedType.equals("Scope")) return true;
-		if (type.equals("NameClause3") && expectedType.equals("NameClause")) return true;
-		if (type.equals("FunDecl2") && expectedType.equals("FunDecl")) return true;
-		if (type.equals("UnOp11") && expectedType.equals("UnOp")) return true;
-		if (type.equals("BinOp1") && expectedType.equals("BinOp")) return true;
-		if (type.equals("Expr55") && expectedType.equals("Expr5")) return true;
-		if (type.equals("SigQual4") && expectedType.equals("SigQual")) return true;
-		if (type.equals("BinOp9") && expectedType.equals("BinOp")) return true;
-		if (type.equals("SigExt1") && expectedType.equals("SigExt")) return true;
-		if (type.equals("CompareOp6") && expectedType.equals("CompareOp")) return true;
-		if (type.equals("Paragraph5") && expectedType.equals("Paragraph")) return true;
-		if (type.equals("BinOp14") && expectedType.equals("BinOp")) return true;
-		if (type.equals("NotClause2") && expectedType.equals("NotClause")) return true;
-		if (type.equals("UnOp4") && expectedType.equals("UnOp")) return true;
-		if (type.equals("Expr514") && expectedType.equals("Expr5")) return true;
-		if (type.equals("Quant2") && expectedType.equals("Quant")) return true;
-		if (type.equals("BinOp2") && expectedType.equals("BinOp")) return true;
-		if (type.equals("ArrowOpClause1") && expectedType.equals("ArrowOpClause")) return true;
-		if (type.equals("UnOp10") && expectedType.equals("UnOp")) return true;
-		if (type.equals("Expr54") && expectedType.equals("Expr5")) return true;
-		if (type.equals("NameClause2") && expectedType.equals("NameClause")) return true;
-		if (type.equals("SigQual3") && expectedType.equals("SigQual")) return true;
-		if (type.equals("FunDecl1") && expectedType.equals("FunDecl")) return true;
-		if (type.equals("BinOp17") && expectedType.equals("BinOp")) return true;
-		if (type.equals("Expr57") && expectedType.equals("Expr5")) return true;
-		if (type.equals("TypeScopeClause1") && expectedType.equals("TypeScopeClause")) return true;
-		if (type.equals("SigQual1") && expectedType.equals("SigQual")) return true;
-		if (type.equals("BinOp3") && expectedType.equals("BinOp")) return true;
-		if (type.equals("UnOp3") && expectedType.equals("UnOp")) return true;
-		if (type.equals("CompareOp1") && expectedType.equals("CompareOp")) return true;
-		if (type.equals("Paragraph6") && expectedType.equals("Paragraph")) return true;
-		if (type.equals("TypeScopeClause2") && expectedType.equals("TypeScopeClause")) return true;
-		if (type.equals("BinOp16") && expectedType.equals("BinOp")) return true;
-		if (type.equals("Expr56") && expectedType.equals("Expr5")) return true;
-		if (type.equals("UnOp12") && expectedType.equals("UnOp")) return true;
-		if (type.equals("BinOp4") && expectedType.equals("BinOp")) return true;
-		if (type.equals("SigQual2") && expectedType.equals("SigQual")) return true;
-		if (type.equals("Scope1") && expectedType.equals("Scope")) return true;
-		if (type.equals("NameOrBlock2") && expectedType.equals("NameOrBlock")) return true;
-		if (type.equals("UnOp2") && expectedType.equals("UnOp")) return true;
-		if (type.equals("RunOrCheck1") && expectedType.equals("RunOrCheck")) return true;
-		if (type.equals("Expr59") && expectedType.equals("Expr5")) return true;
-		if (type.equals("UnOp9") && expectedType.equals("UnOp")) return true;
-		if (type.equals("TypeScopeClause3") && expectedType.equals("TypeScopeClause")) return true;
-		if (type.equals("Expr511") && expectedType.equals("Expr5")) return true;
-		if (type.equals("BinOp5") && expectedType.equals("BinOp")) return true;
-		if (type.equals("FunDecl6") && expectedType.equals("FunDecl")) return true;
-		if (type.equals("NameOrBlock1") && expectedType.equals("NameOrBlock")) return true;
-		if (type.equals("ArrowOpClause4") && expectedType.equals("ArrowOpClause")) return true;
-		if (type.equals("RunOrCheck2") && expectedType.equals("RunOrCheck")) return true;
-		if (type.equals("CompareOp3") && expectedType.equals("CompareOp")) return true;
-		if (type.equals("Expr51") && expectedType.equals("Expr5")) return true;
-		if (type.equals("UnOp1") && expectedType.equals("UnOp")) return true;
-		if (type.equals("Integer1") && expectedType.equals("Integer")) return true;
-		if (type.equals("Quant5") && expectedType.equals("Quant")) return true;
-		if (type.equals("BinOp10") && expectedType.equals("BinOp")) return true;
-		if (type.equals("UnOp8") && expectedType.equals("UnOp")) return true;
-		if (type.equals("BinOp18") && expectedType.equals("BinOp")) return true;
-		if (type.equals("TypeScopeClause4") && expectedType.equals("TypeScopeClause")) return true;
-		if (type.equals("Expr510") && expectedType.equals("Expr5")) return true;
-		if (type.equals("FunDecl5") && expectedType.equals("FunDecl")) return true;
-		if (type.equals("Expr58") && expectedType.equals("Expr5")) return true;
-		if (type.equals("Paragraph1") && expectedType.equals("Paragraph")) return true;
-		if (type.equals("BinOp6") && expectedType.equals("BinOp")) return true;
-		if (type.equals("Ref1") && expectedType.equals("Ref")) return true;
-		if (type.equals("SigExt2") && expectedType.equals("SigExt")) return true;
-		if (type.equals("BinOp11") && expectedType.equals("BinOp")) return true;
-		if (type.equals("CompareOp2") && expectedType.equals("CompareOp")) return true;
-		if (type.equals("Integer2") && expectedType.equals("Integer")) return true;
-		if (type.equals("Quant6") && expectedType.equals("Quant")) return true;
-		return false;
+		return type.equals(expectedType) || expectedType.equals(getSupertype(type));
 	}
 }
@@ -4,6 +4,7 @@ import java.util.*;
 import cide.gast.*;
 
 import java.io.PrintStream;
+import java.io.Writer;
 
 import cide.languages.*;
 
@@ -13,14 +14,19 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 	public SimplePrintVisitor(PrintStream out) {
 		super(out); generateSpaces=true;
 	}
+	public SimplePrintVisitor(Writer out) {
+		super(out); generateSpaces=true;
+	}
 	public SimplePrintVisitor() {
 		super(); generateSpaces=true;
 	}
 	public boolean visit(FSTNonTerminal nonTerminal) {
-		if (nonTerminal.getType().equals("TranslationUnit")) {
+		switch (nonTerminal.getType()) {
+		case "TranslationUnit": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Sequence_CodeUnit_TopLevel");
+				FSTNode v=children.getChild("Sequence_CodeUnit_TopLevel");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -28,26 +34,28 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Sequence_CodeUnit_TopLevel")) {
+		case "Sequence_CodeUnit_TopLevel": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"CodeUnit_TopLevel")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("CodeUnit_TopLevel")) {
 				v.accept(this);
 				hintNewLine();
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("StructDec")) {
+		case "StructDec": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("struct");
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("{");
-			for (FSTNode v : getChildren(nonTerminal,"Statement")) {
+			for (FSTNode v : children.getChildren("Statement")) {
 				v.accept(this);
 			}
 			printToken("}");
@@ -55,106 +63,111 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
+		}
 		throw new RuntimeException("Unknown Non Terminal in FST "+nonTerminal);
 	}
+	protected String getSupertype(String type) {
+		switch (type) {
+		case "AnyStmtToken1": return "AnyStmtToken";
+		case "AnyStmtToken10": return "AnyStmtToken";
+		case "AnyStmtToken11": return "AnyStmtToken";
+		case "AnyStmtToken12": return "AnyStmtToken";
+		case "AnyStmtToken13": return "AnyStmtToken";
+		case "AnyStmtToken14": return "AnyStmtToken";
+		case "AnyStmtToken15": return "AnyStmtToken";
+		case "AnyStmtToken16": return "AnyStmtToken";
+		case "AnyStmtToken17": return "AnyStmtToken";
+		case "AnyStmtToken18": return "AnyStmtToken";
+		case "AnyStmtToken19": return "AnyStmtToken";
+		case "AnyStmtToken2": return "AnyStmtToken";
+		case "AnyStmtToken20": return "AnyStmtToken";
+		case "AnyStmtToken21": return "AnyStmtToken";
+		case "AnyStmtToken22": return "AnyStmtToken";
+		case "AnyStmtToken23": return "AnyStmtToken";
+		case "AnyStmtToken24": return "AnyStmtToken";
+		case "AnyStmtToken25": return "AnyStmtToken";
+		case "AnyStmtToken26": return "AnyStmtToken";
+		case "AnyStmtToken27": return "AnyStmtToken";
+		case "AnyStmtToken28": return "AnyStmtToken";
+		case "AnyStmtToken29": return "AnyStmtToken";
+		case "AnyStmtToken3": return "AnyStmtToken";
+		case "AnyStmtToken30": return "AnyStmtToken";
+		case "AnyStmtToken31": return "AnyStmtToken";
+		case "AnyStmtToken4": return "AnyStmtToken";
+		case "AnyStmtToken5": return "AnyStmtToken";
+		case "AnyStmtToken6": return "AnyStmtToken";
+		case "AnyStmtToken7": return "AnyStmtToken";
+		case "AnyStmtToken8": return "AnyStmtToken";
+		case "AnyStmtToken9": return "AnyStmtToken";
+		case "AnyTypeDefToken1": return "AnyTypeDefToken";
+		case "AnyTypeDefToken2": return "AnyTypeDefToken";
+		case "AnyTypeDefToken3": return "AnyTypeDefToken";
+		case "Blck": return "CodeUnit_InBlock";
+		case "BlockOrSemi1": return "BlockOrSemi";
+		case "BlockOrSemi2": return "BlockOrSemi";
+		case "BlockOrSemi3": return "BlockOrSemi";
+		case "BlockOrSingleStatement1": return "BlockOrSingleStatement";
+		case "BlockOrSingleStatement2": return "BlockOrSingleStatement";
+		case "CodeUnit_InBlock10": return "CodeUnit_InBlock";
+		case "Define": return "CodeUnit_TopLevel";
+		case "DefineBL": return "CodeUnit_InBlock";
+		case "Do": return "CodeUnit_InBlock";
+		case "ExternDec": return "CodeUnit_TopLevel";
+		case "For": return "CodeUnit_InBlock";
+		case "Func": return "CodeUnit_TopLevel";
+		case "If": return "CodeUnit_InBlock";
+		case "IfDefBL": return "CodeUnit_InBlock";
+		case "IfDefLine1": return "IfDefLine";
+		case "IfDefLine2": return "IfDefLine";
+		case "IfDefLine3": return "IfDefLine";
+		case "IfDefTL": return "CodeUnit_TopLevel";
+		case "IfElseIf1": return "IfElseIf";
+		case "IfElseIf2": return "IfElseIf";
+		case "Include": return "CodeUnit_TopLevel";
+		case "IncludeBL": return "CodeUnit_InBlock";
+		case "Modifier1": return "Modifier";
+		case "Modifier2": return "Modifier";
+		case "Modifier3": return "Modifier";
+		case "Modifier4": return "Modifier";
+		case "Modifier5": return "Modifier";
+		case "Modifier6": return "Modifier";
+		case "PPDefineStatement1": return "PPDefineStatement";
+		case "PPDefineStatement2": return "PPDefineStatement";
+		case "PPOtherIgnore1": return "PPOtherIgnore";
+		case "PPOtherIgnore2": return "PPOtherIgnore";
+		case "PPOtherIgnore3": return "PPOtherIgnore";
+		case "Preprocessor": return "CodeUnit_TopLevel";
+		case "PreprocessorBL": return "CodeUnit_InBlock";
+		case "Stmt": return "CodeUnit_InBlock";
+		case "StmtTL": return "CodeUnit_TopLevel";
+		case "StructDec": return "CodeUnit_TopLevel";
+		case "SwCase1": return "SwCase";
+		case "SwCase2": return "SwCase";
+		case "SwCaseLabel1": return "SwCaseLabel";
+		case "SwCaseLabel2": return "SwCaseLabel";
+		case "Switch": return "CodeUnit_InBlock";
+		case "TypeDef1": return "TypeDef";
+		case "TypeDef2": return "TypeDef";
+		case "TypeDef_": return "CodeUnit_TopLevel";
+		case "VarDeclToken1": return "VarDeclToken";
+		case "VarDeclToken10": return "VarDeclToken";
+		case "VarDeclToken11": return "VarDeclToken";
+		case "VarDeclToken12": return "VarDeclToken";
+		case "VarDeclToken2": return "VarDeclToken";
+		case "VarDeclToken3": return "VarDeclToken";
+		case "VarDeclToken4": return "VarDeclToken";
+		case "VarDeclToken5": return "VarDeclToken";
+		case "VarDeclToken6": return "VarDeclToken";
+		case "VarDeclToken7": return "VarDeclToken";
+		case "VarDeclToken8": return "VarDeclToken";
+		case "VarDeclToken9": return "VarDeclToken";
+		case "VarDeclTokenOrComma1": return "VarDeclTokenOrComma";
+		case "VarDeclTokenOrComma2": return "VarDeclTokenOrComma";
+		case "While": return "CodeUnit_InBlock";
+		default: return null;
+		}
+	}
 	protected boolean isSubtype(String type, String expectedType) {
-		if (type.equals(expectedType)) return true;
-		if (type.equals("VarDeclToken10") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("AnyStmtToken8") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("PPDefineStatement1") && expectedType.equals("PPDefineStatement")) return true;
-		if (type.equals("AnyTypeDefToken1") && expectedType.equals("AnyTypeDefToken")) return true;
-		if (type.equals("AnyStmtToken27") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("SwCaseLabel2") && expectedType.equals("SwCaseLabel")) return true;
-		if (type.equals("VarDeclTokenOrComma2") && expectedType.equals("VarDeclTokenOrComma")) return true;
-		if (type.equals("IfDefTL") && expectedType.equals("CodeUnit_TopLevel")) return true;
-		if (type.equals("Func") && expectedType.equals("CodeUnit_TopLevel")) return true;
-		if (type.equals("Modifier6") && expectedType.equals("Modifier")) return true;
-		if (type.equals("BlockOrSingleStatement1") && expectedType.equals("BlockOrSingleStatement")) return true;
-		if (type.equals("Modifier2") && expectedType.equals("Modifier")) return true;
-		if (type.equals("AnyStmtToken4") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("AnyStmtToken17") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("AnyStmtToken23") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("IfElseIf1") && expectedType.equals("IfElseIf")) return true;
-		if (type.equals("PreprocessorBL") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("For") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("AnyStmtToken13") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("SwCase1") && expectedType.equals("SwCase")) return true;
-		if (type.equals("VarDeclToken7") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("PPOtherIgnore1") && expectedType.equals("PPOtherIgnore")) return true;
-		if (type.equals("IfDefLine2") && expectedType.equals("IfDefLine")) return true;
-		if (type.equals("BlockOrSemi2") && expectedType.equals("BlockOrSemi")) return true;
-		if (type.equals("VarDeclToken3") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("TypeDef2") && expectedType.equals("TypeDef")) return true;
-		if (type.equals("Define") && expectedType.equals("CodeUnit_TopLevel")) return true;
-		if (type.equals("PPDefineStatement2") && expectedType.equals("PPDefineStatement")) return true;
-		if (type.equals("VarDeclToken11") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("AnyStmtToken7") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("IfDefBL") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("Preprocessor") && expectedType.equals("CodeUnit_TopLevel")) return true;
-		if (type.equals("AnyStmtToken28") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("AnyStmtToken10") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("ExternDec") && expectedType.equals("CodeUnit_TopLevel")) return true;
-		if (type.equals("VarDeclTokenOrComma1") && expectedType.equals("VarDeclTokenOrComma")) return true;
-		if (type.equals("If") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("Modifier3") && expectedType.equals("Modifier")) return true;
-		if (type.equals("AnyStmtToken3") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("AnyStmtToken24") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("IfElseIf2") && expectedType.equals("IfElseIf")) return true;
-		if (type.equals("AnyStmtToken30") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("AnyStmtToken18") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("Blck") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("TypeDef_") && expectedType.equals("CodeUnit_TopLevel")) return true;
-		if (type.equals("AnyStmtToken14") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("SwCase2") && expectedType.equals("SwCase")) return true;
-		if (type.equals("StructDec") && expectedType.equals("CodeUnit_TopLevel")) return true;
-		if (type.equals("IfDefLine1") && expectedType.equals("IfDefLine")) return true;
-		if (type.equals("VarDeclToken8") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("PPOtherIgnore2") && expectedType.equals("PPOtherIgnore")) return true;
-		if (type.equals("AnyStmtToken20") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("Stmt") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("BlockOrSemi3") && expectedType.equals("BlockOrSemi")) return true;
-		if (type.equals("VarDeclToken4") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("VarDeclToken1") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("VarDeclToken12") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("IncludeBL") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("PPOtherIgnore3") && expectedType.equals("PPOtherIgnore")) return true;
-		if (type.equals("AnyStmtToken6") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("Modifier4") && expectedType.equals("Modifier")) return true;
-		if (type.equals("AnyStmtToken11") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("AnyStmtToken29") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("AnyStmtToken2") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("AnyStmtToken25") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("DefineBL") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("AnyStmtToken19") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("While") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("AnyStmtToken21") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("VarDeclToken5") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("AnyStmtToken31") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("VarDeclToken9") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("AnyTypeDefToken2") && expectedType.equals("AnyTypeDefToken")) return true;
-		if (type.equals("AnyStmtToken15") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("CodeUnit_InBlock10") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("SwCaseLabel1") && expectedType.equals("SwCaseLabel")) return true;
-		if (type.equals("AnyStmtToken26") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("AnyStmtToken5") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("VarDeclToken2") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("AnyStmtToken1") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("Include") && expectedType.equals("CodeUnit_TopLevel")) return true;
-		if (type.equals("Modifier5") && expectedType.equals("Modifier")) return true;
-		if (type.equals("StmtTL") && expectedType.equals("CodeUnit_TopLevel")) return true;
-		if (type.equals("BlockOrSingleStatement2") && expectedType.equals("BlockOrSingleStatement")) return true;
-		if (type.equals("Switch") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("AnyStmtToken12") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("Modifier1") && expectedType.equals("Modifier")) return true;
-		if (type.equals("VarDeclToken6") && expectedType.equals("VarDeclToken")) return true;
-		if (type.equals("BlockOrSemi1") && expectedType.equals("BlockOrSemi")) return true;
-		if (type.equals("AnyStmtToken22") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("AnyTypeDefToken3") && expectedType.equals("AnyTypeDefToken")) return true;
-		if (type.equals("IfDefLine3") && expectedType.equals("IfDefLine")) return true;
-		if (type.equals("TypeDef1") && expectedType.equals("TypeDef")) return true;
-		if (type.equals("Do") && expectedType.equals("CodeUnit_InBlock")) return true;
-		if (type.equals("AnyStmtToken16") && expectedType.equals("AnyStmtToken")) return true;
-		if (type.equals("AnyStmtToken9") && expectedType.equals("AnyStmtToken")) return true;
-		return false;
+		return type.equals(expectedType) || expectedType.equals(getSupertype(type));
 	}
 }
@@ -4,6 +4,7 @@ import java.util.*;
 import cide.gast.*;
 
 import java.io.PrintStream;
+import java.io.Writer;
 
 import cide.languages.*;
 
@@ -13,31 +14,37 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 	public SimplePrintVisitor(PrintStream out) {
 		super(out); generateSpaces=true;
 	}
+	public SimplePrintVisitor(Writer out) {
+		super(out); generateSpaces=true;
+	}
 	public SimplePrintVisitor() {
 		super(); generateSpaces=true;
 	}
 	public boolean visit(FSTNonTerminal nonTerminal) {
-		if (nonTerminal.getType().equals("CompilationUnit")) {
+		switch (nonTerminal.getType()) {
+		case "CompilationUnit": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "PackageDeclaration");
+				FSTNode v=children.getChild("PackageDeclaration");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
-			for (FSTNode v : getChildren(nonTerminal,"ImportDeclarationWr")) {
+			for (FSTNode v : children.getChildren("ImportDeclarationWr")) {
 				v.accept(this);
 			}
-			for (FSTNode v : getChildren(nonTerminal,"TypeDeclaration")) {
+			for (FSTNode v : children.getChildren("TypeDeclaration")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Modifiers")) {
+		case "Modifiers": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers2");
+				FSTNode v=children.getChild("Modifiers2");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -45,10 +52,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("AnnotationTypeDeclaration")) {
+		case "AnnotationTypeDeclaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -56,53 +64,54 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printToken("@");
 			printToken("interface");
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("{");
-			for (FSTNode v : getChildren(nonTerminal,"AnnotationTypeMemberDeclaration")) {
+			for (FSTNode v : children.getChildren("AnnotationTypeMemberDeclaration")) {
 				v.accept(this);
 			}
 			printToken("}");
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ClassDeclaration")) {
+		case "ClassDeclaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ClassOrInterface");
+				FSTNode v=children.getChild("ClassOrInterface");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "TypeParameters");
+				FSTNode v=children.getChild("TypeParameters");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ExtendsList");
+				FSTNode v=children.getChild("ExtendsList");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -110,7 +119,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printToken("{");
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"ClassOrInterfaceBodyDeclaration")) {
+			for (FSTNode v : children.getChildren("ClassOrInterfaceBodyDeclaration")) {
 				v.accept(this);
 				hintNewLine();
 				hintNewLine();
@@ -121,24 +130,25 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("EnumDecl")) {
+		case "EnumDecl": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "EnumConstant").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("EnumConstant").iterator();
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("enum");
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -152,7 +162,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 				listElements.next().accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "EnumBodyInternal");
+				FSTNode v=children.getChild("EnumBodyInternal");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -161,20 +171,22 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("EnumBodyInternal")) {
+		case "EnumBodyInternal": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken(";");
-			for (FSTNode v : getChildren(nonTerminal,"ClassOrInterfaceBodyDeclaration")) {
+			for (FSTNode v : children.getChildren("ClassOrInterfaceBodyDeclaration")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ClassOrInterfaceBodyDeclaration1")) {
+		case "ClassOrInterfaceBodyDeclaration1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("/*@");
 			{
-				FSTNode v=getChild(nonTerminal, "JMLDeclaration");
+				FSTNode v=children.getChild("JMLDeclaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -183,40 +195,41 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("InnerClassDecl")) {
+		case "InnerClassDecl": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ClassOrInterface");
+				FSTNode v=children.getChild("ClassOrInterface");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "TypeParameters");
+				FSTNode v=children.getChild("TypeParameters");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ExtendsList");
+				FSTNode v=children.getChild("ExtendsList");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -224,7 +237,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printToken("{");
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"ClassOrInterfaceBodyDeclaration")) {
+			for (FSTNode v : children.getChildren("ClassOrInterfaceBodyDeclaration")) {
 				v.accept(this);
 				hintNewLine();
 				hintNewLine();
@@ -235,24 +248,25 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("InnerEnumDecl")) {
+		case "InnerEnumDecl": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "EnumConstant").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("EnumConstant").iterator();
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("enum");
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -266,7 +280,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 				listElements.next().accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "EnumBodyInternal");
+				FSTNode v=children.getChild("EnumBodyInternal");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -275,17 +289,18 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ConstructorDeclarationWithSpec")) {
+		case "ConstructorDeclarationWithSpec": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "MethodSpecification");
+				FSTNode v=children.getChild("MethodSpecification");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			hintNewLine();
 			{
-				FSTNode v=getChild(nonTerminal, "ConstructorDecl");
+				FSTNode v=children.getChild("ConstructorDecl");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -293,10 +308,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("FieldDecl")) {
+		case "FieldDecl": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "ModFieldDeclaration");
+				FSTNode v=children.getChild("ModFieldDeclaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -304,17 +320,18 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("MethodDeclarationWithSpec")) {
+		case "MethodDeclarationWithSpec": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "MethodSpecification");
+				FSTNode v=children.getChild("MethodSpecification");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			hintNewLine();
 			{
-				FSTNode v=getChild(nonTerminal, "MethodDecl");
+				FSTNode v=children.getChild("MethodDecl");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -322,10 +339,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("AnnotationInnerAnnotation")) {
+		case "AnnotationInnerAnnotation": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -333,53 +351,54 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printToken("@");
 			printToken("interface");
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("{");
-			for (FSTNode v : getChildren(nonTerminal,"AnnotationTypeMemberDeclaration")) {
+			for (FSTNode v : children.getChildren("AnnotationTypeMemberDeclaration")) {
 				v.accept(this);
 			}
 			printToken("}");
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("AnnotationInnerClass")) {
+		case "AnnotationInnerClass": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ClassOrInterface");
+				FSTNode v=children.getChild("ClassOrInterface");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "TypeParameters");
+				FSTNode v=children.getChild("TypeParameters");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ExtendsList");
+				FSTNode v=children.getChild("ExtendsList");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -387,7 +406,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printToken("{");
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"ClassOrInterfaceBodyDeclaration")) {
+			for (FSTNode v : children.getChildren("ClassOrInterfaceBodyDeclaration")) {
 				v.accept(this);
 				hintNewLine();
 				hintNewLine();
@@ -398,24 +417,25 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("AnnotationInnerEnum")) {
+		case "AnnotationInnerEnum": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "EnumConstant").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("EnumConstant").iterator();
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("enum");
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -429,7 +449,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 				listElements.next().accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "EnumBodyInternal");
+				FSTNode v=children.getChild("EnumBodyInternal");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -438,13 +458,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("JMLDeclaration1")) {
+		case "JMLDeclaration1": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"Modifier")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("Modifier")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "Invariant");
+				FSTNode v=children.getChild("Invariant");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -452,13 +473,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("JMLDeclaration2")) {
+		case "JMLDeclaration2": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"Modifier")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("Modifier")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "HistoryConstraint");
+				FSTNode v=children.getChild("HistoryConstraint");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -466,13 +488,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("JMLDeclaration3")) {
+		case "JMLDeclaration3": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"Modifier")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("Modifier")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "RepresentsClause");
+				FSTNode v=children.getChild("RepresentsClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -480,13 +503,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("JMLDeclaration4")) {
+		case "JMLDeclaration4": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"Modifier")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("Modifier")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "InitiallyClause");
+				FSTNode v=children.getChild("InitiallyClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -494,13 +518,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("JMLDeclaration5")) {
+		case "JMLDeclaration5": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"Modifier")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("Modifier")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "MonitorsForClause");
+				FSTNode v=children.getChild("MonitorsForClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -508,13 +533,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("JMLDeclaration6")) {
+		case "JMLDeclaration6": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"Modifier")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("Modifier")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ReadableIfClause");
+				FSTNode v=children.getChild("ReadableIfClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -522,13 +548,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("JMLDeclaration7")) {
+		case "JMLDeclaration7": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"Modifier")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("Modifier")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "WritableIfClause");
+				FSTNode v=children.getChild("WritableIfClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -536,13 +563,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("JMLDeclaration8")) {
+		case "JMLDeclaration8": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"Modifier")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("Modifier")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "AxiomClause");
+				FSTNode v=children.getChild("AxiomClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -550,13 +578,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("JMLDeclaration9")) {
+		case "JMLDeclaration9": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"Modifier")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("Modifier")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "DataGroupClause");
+				FSTNode v=children.getChild("DataGroupClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -564,13 +593,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("JMLDeclaration10")) {
+		case "JMLDeclaration10": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"Modifier")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("Modifier")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "MapsIntoClause");
+				FSTNode v=children.getChild("MapsIntoClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -578,10 +608,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("MethodSpecification")) {
+		case "MethodSpecification": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "AlsoKeyword");
+				FSTNode v=children.getChild("AlsoKeyword");
 				if (v!=null) {
 					printToken("/*@");
 					v.accept(this);
@@ -589,7 +620,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "Specification");
+				FSTNode v=children.getChild("Specification");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -597,17 +628,18 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Specification")) {
+		case "Specification": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("/*@");
 			{
-				FSTNode v=getChild(nonTerminal, "SpecCaseSeq");
+				FSTNode v=children.getChild("SpecCaseSeq");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "RedundantSpec");
+				FSTNode v=children.getChild("RedundantSpec");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -616,24 +648,26 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SpecCaseSeq")) {
+		case "SpecCaseSeq": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "SpecCase");
+				FSTNode v=children.getChild("SpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
-			for (FSTNode v : getChildren(nonTerminal,"AlsoSpecCase")) {
+			for (FSTNode v : children.getChildren("AlsoSpecCase")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("AlsoSpecCase")) {
+		case "AlsoSpecCase": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "SpecCase");
+				FSTNode v=children.getChild("SpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -641,10 +675,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SpecCase1")) {
+		case "SpecCase1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "LightweightSpecCase");
+				FSTNode v=children.getChild("LightweightSpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -652,10 +687,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SpecCase2")) {
+		case "SpecCase2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "HeavyWeightSpecCase");
+				FSTNode v=children.getChild("HeavyWeightSpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -663,10 +699,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SpecCase3")) {
+		case "SpecCase3": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "ModelProgram");
+				FSTNode v=children.getChild("ModelProgram");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -674,10 +711,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("LightweightSpecCase")) {
+		case "LightweightSpecCase": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "GenericSpecCase");
+				FSTNode v=children.getChild("GenericSpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -685,10 +723,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("GenericSpecCase1")) {
+		case "GenericSpecCase1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "OriginalCaseKeyword");
+				FSTNode v=children.getChild("OriginalCaseKeyword");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -696,22 +735,23 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("GenericSpecCase2")) {
+		case "GenericSpecCase2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "SpecVarDecls");
+				FSTNode v=children.getChild("SpecVarDecls");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "SpecHeader");
+				FSTNode v=children.getChild("SpecHeader");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "GenericSpecBody");
+				FSTNode v=children.getChild("GenericSpecBody");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -719,16 +759,17 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("GenericSpecCase3")) {
+		case "GenericSpecCase3": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "SpecVarDecls");
+				FSTNode v=children.getChild("SpecVarDecls");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "GenericSpecBody");
+				FSTNode v=children.getChild("GenericSpecBody");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -736,10 +777,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("GenericSpecBody1")) {
+		case "GenericSpecBody1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "SimpleSpecBody");
+				FSTNode v=children.getChild("SimpleSpecBody");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -747,10 +789,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("GenericSpecBody2")) {
+		case "GenericSpecBody2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "GenericSpecCaseSeq");
+				FSTNode v=children.getChild("GenericSpecCaseSeq");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -758,10 +801,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("RedundantSpec")) {
+		case "RedundantSpec": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Implications");
+				FSTNode v=children.getChild("Implications");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -769,10 +813,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Implications")) {
+		case "Implications": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "SpecCaseSeq");
+				FSTNode v=children.getChild("SpecCaseSeq");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -780,10 +825,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("HeavyWeightSpecCase1")) {
+		case "HeavyWeightSpecCase1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "BehaviorSpecCase");
+				FSTNode v=children.getChild("BehaviorSpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -791,10 +837,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("HeavyWeightSpecCase2")) {
+		case "HeavyWeightSpecCase2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "ExceptionalBehaviorSpecCase");
+				FSTNode v=children.getChild("ExceptionalBehaviorSpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -802,10 +849,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("HeavyWeightSpecCase3")) {
+		case "HeavyWeightSpecCase3": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "NormalBehaviorSpecCase");
+				FSTNode v=children.getChild("NormalBehaviorSpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -813,22 +861,23 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("BehaviorSpecCase")) {
+		case "BehaviorSpecCase": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Privacy");
+				FSTNode v=children.getChild("Privacy");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "BehaviorKeyword");
+				FSTNode v=children.getChild("BehaviorKeyword");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "GenericSpecCase");
+				FSTNode v=children.getChild("GenericSpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -836,32 +885,33 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("BehaviorKeyword1")) {
+		case "BehaviorKeyword1": {
 			printFeatures(nonTerminal,true);
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("BehaviorKeyword2")) {
+		case "BehaviorKeyword2": {
 			printFeatures(nonTerminal,true);
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("NormalBehaviorSpecCase")) {
+		case "NormalBehaviorSpecCase": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Privacy");
+				FSTNode v=children.getChild("Privacy");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "NormalBehaviorKeyword");
+				FSTNode v=children.getChild("NormalBehaviorKeyword");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "NormalSpecCase");
+				FSTNode v=children.getChild("NormalSpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -869,20 +919,21 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("NormalBehaviorKeyword1")) {
+		case "NormalBehaviorKeyword1": {
 			printFeatures(nonTerminal,true);
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("NormalBehaviorKeyword2")) {
+		case "NormalBehaviorKeyword2": {
 			printFeatures(nonTerminal,true);
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("NormalSpecCase")) {
+		case "NormalSpecCase": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "GenericSpecCase");
+				FSTNode v=children.getChild("GenericSpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -890,22 +941,23 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ExceptionalBehaviorSpecCase")) {
+		case "ExceptionalBehaviorSpecCase": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Privacy");
+				FSTNode v=children.getChild("Privacy");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ExceptionalBehaviorKeyword");
+				FSTNode v=children.getChild("ExceptionalBehaviorKeyword");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ExceptionalSpecCase");
+				FSTNode v=children.getChild("ExceptionalSpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -913,20 +965,21 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ExceptionalBehaviorKeyword1")) {
+		case "ExceptionalBehaviorKeyword1": {
 			printFeatures(nonTerminal,true);
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ExceptionalBehaviorKeyword2")) {
+		case "ExceptionalBehaviorKeyword2": {
 			printFeatures(nonTerminal,true);
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ExceptionalSpecCase")) {
+		case "ExceptionalSpecCase": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "GenericSpecCase");
+				FSTNode v=children.getChild("GenericSpecCase");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -934,16 +987,17 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SpecVarDecls1")) {
+		case "SpecVarDecls1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "ForallVarDecls");
+				FSTNode v=children.getChild("ForallVarDecls");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "OldVarDecls");
+				FSTNode v=children.getChild("OldVarDecls");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -951,10 +1005,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SpecVarDecls2")) {
+		case "SpecVarDecls2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "OldVarDecls");
+				FSTNode v=children.getChild("OldVarDecls");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -962,36 +1017,38 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ForallVarDecls")) {
+		case "ForallVarDecls": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "ForallVarDeclarator");
+				FSTNode v=children.getChild("ForallVarDeclarator");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
-			for (FSTNode v : getChildren(nonTerminal,"ForallVarDeclarator")) {
+			for (FSTNode v : children.getChildren("ForallVarDeclarator")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ForallVarDeclarator")) {
+		case "ForallVarDeclarator": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "BoundVarModifiers");
+				FSTNode v=children.getChild("BoundVarModifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "TypeSpec");
+				FSTNode v=children.getChild("TypeSpec");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "QuantifiedVarDeclarator");
+				FSTNode v=children.getChild("QuantifiedVarDeclarator");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -999,36 +1056,38 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("OldVarDecls")) {
+		case "OldVarDecls": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "OldVarDeclarator");
+				FSTNode v=children.getChild("OldVarDeclarator");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
-			for (FSTNode v : getChildren(nonTerminal,"OldVarDeclarator")) {
+			for (FSTNode v : children.getChildren("OldVarDeclarator")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("OldVarDeclarator")) {
+		case "OldVarDeclarator": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "BoundVarModifiers");
+				FSTNode v=children.getChild("BoundVarModifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "TypeSpec");
+				FSTNode v=children.getChild("TypeSpec");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "SpecVariableDeclarators");
+				FSTNode v=children.getChild("SpecVariableDeclarators");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1036,38 +1095,41 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SpecHeader")) {
+		case "SpecHeader": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "RequiresClause");
+				FSTNode v=children.getChild("RequiresClause");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
-			for (FSTNode v : getChildren(nonTerminal,"RequiresClause")) {
+			for (FSTNode v : children.getChildren("RequiresClause")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBody")) {
+		case "SimpleSpecBody": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "SimpleSpecBodyClause");
+				FSTNode v=children.getChild("SimpleSpecBodyClause");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
-			for (FSTNode v : getChildren(nonTerminal,"SimpleSpecBodyClause")) {
+			for (FSTNode v : children.getChildren("SimpleSpecBodyClause")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause1")) {
+		case "SimpleSpecBodyClause1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "DivergesClause");
+				FSTNode v=children.getChild("DivergesClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1075,10 +1137,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause2")) {
+		case "SimpleSpecBodyClause2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "AssignableClause");
+				FSTNode v=children.getChild("AssignableClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1086,10 +1149,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause3")) {
+		case "SimpleSpecBodyClause3": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "AccessibleClause");
+				FSTNode v=children.getChild("AccessibleClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1097,10 +1161,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause4")) {
+		case "SimpleSpecBodyClause4": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "CapturesClause");
+				FSTNode v=children.getChild("CapturesClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1108,10 +1173,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause5")) {
+		case "SimpleSpecBodyClause5": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "CallableClause");
+				FSTNode v=children.getChild("CallableClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1119,10 +1185,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause6")) {
+		case "SimpleSpecBodyClause6": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "WhenClause");
+				FSTNode v=children.getChild("WhenClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1130,10 +1197,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause7")) {
+		case "SimpleSpecBodyClause7": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "WorkingSpaceClause");
+				FSTNode v=children.getChild("WorkingSpaceClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1141,10 +1209,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause8")) {
+		case "SimpleSpecBodyClause8": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "DurationClause");
+				FSTNode v=children.getChild("DurationClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1152,10 +1221,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause9")) {
+		case "SimpleSpecBodyClause9": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "EnsuresClause");
+				FSTNode v=children.getChild("EnsuresClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1163,10 +1233,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause10")) {
+		case "SimpleSpecBodyClause10": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "SignalsOnlyClause");
+				FSTNode v=children.getChild("SignalsOnlyClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1174,10 +1245,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause11")) {
+		case "SimpleSpecBodyClause11": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "SignalsClause");
+				FSTNode v=children.getChild("SignalsClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1185,10 +1257,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SimpleSpecBodyClause12")) {
+		case "SimpleSpecBodyClause12": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "MeasuredClause");
+				FSTNode v=children.getChild("MeasuredClause");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -1196,458 +1269,463 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
+		}
 		throw new RuntimeException("Unknown Non Terminal in FST "+nonTerminal);
 	}
+	protected String getSupertype(String type) {
+		switch (type) {
+		case "AbruptBehaviorKeyword1": return "AbruptBehaviorKeyword";
+		case "AbruptBehaviorKeyword2": return "AbruptBehaviorKeyword";
+		case "AccessibleKeyword1": return "AccessibleKeyword";
+		case "AccessibleKeyword2": return "AccessibleKeyword";
+		case "AdditiveOp1": return "AdditiveOp";
+		case "AdditiveOp2": return "AdditiveOp";
+		case "AllocationExpression1": return "AllocationExpression";
+		case "AllocationExpression2": return "AllocationExpression";
+		case "AllocationExpressionInit1": return "AllocationExpressionInit";
+		case "AllocationExpressionInit2": return "AllocationExpressionInit";
+		case "AnnoationEmptyDecl": return "AnnotationTypeMemberDeclaration";
+		case "Annotation1": return "Annotation";
+		case "Annotation2": return "Annotation";
+		case "Annotation3": return "Annotation";
+		case "AnnotationFieldDecl": return "AnnotationTypeMemberDeclaration";
+		case "AnnotationInnerAnnotation": return "AnnotationTypeMemberDeclaration";
+		case "AnnotationInnerClass": return "AnnotationTypeMemberDeclaration";
+		case "AnnotationInnerEnum": return "AnnotationTypeMemberDeclaration";
+		case "AnnotationMethodDecl": return "AnnotationTypeMemberDeclaration";
+		case "AnnotationTypeDeclaration": return "TypeDeclaration";
+		case "ArrayDimsAndInits1": return "ArrayDimsAndInits";
+		case "ArrayDimsAndInits2": return "ArrayDimsAndInits";
+		case "AssignableKeyword1": return "AssignableKeyword";
+		case "AssignableKeyword2": return "AssignableKeyword";
+		case "AssignableKeyword3": return "AssignableKeyword";
+		case "AssignableKeyword4": return "AssignableKeyword";
+		case "AssignableKeyword5": return "AssignableKeyword";
+		case "AssignableKeyword6": return "AssignableKeyword";
+		case "AssignmentOperator1": return "AssignmentOperator";
+		case "AssignmentOperator10": return "AssignmentOperator";
+		case "AssignmentOperator11": return "AssignmentOperator";
+		case "AssignmentOperator12": return "AssignmentOperator";
+		case "AssignmentOperator2": return "AssignmentOperator";
+		case "AssignmentOperator3": return "AssignmentOperator";
+		case "AssignmentOperator4": return "AssignmentOperator";
+		case "AssignmentOperator5": return "AssignmentOperator";
+		case "AssignmentOperator6": return "AssignmentOperator";
+		case "AssignmentOperator7": return "AssignmentOperator";
+		case "AssignmentOperator8": return "AssignmentOperator";
+		case "AssignmentOperator9": return "AssignmentOperator";
+		case "AssumeKeyword1": return "AssumeKeyword";
+		case "AssumeKeyword2": return "AssumeKeyword";
+		case "BehaviorKeyword1": return "BehaviorKeyword";
+		case "BehaviorKeyword2": return "BehaviorKeyword";
+		case "BlockStatement1": return "BlockStatement";
+		case "BlockStatement2": return "BlockStatement";
+		case "BlockStatement3": return "BlockStatement";
+		case "BlockStatement4": return "BlockStatement";
+		case "BooleanLiteral1": return "BooleanLiteral";
+		case "BooleanLiteral2": return "BooleanLiteral";
+		case "BoundVarModifiers1": return "BoundVarModifiers";
+		case "BoundVarModifiers2": return "BoundVarModifiers";
+		case "BreaksKeyword1": return "BreaksKeyword";
+		case "BreaksKeyword2": return "BreaksKeyword";
+		case "CallableKeyword1": return "CallableKeyword";
+		case "CallableKeyword2": return "CallableKeyword";
+		case "CallableMethodsList1": return "CallableMethodsList";
+		case "CallableMethodsList2": return "CallableMethodsList";
+		case "CapturesKeyword1": return "CapturesKeyword";
+		case "CapturesKeyword2": return "CapturesKeyword";
+		case "CastExpression1": return "CastExpression";
+		case "CastExpression2": return "CastExpression";
+		case "CastLAOp1": return "CastLAOp";
+		case "CastLAOp2": return "CastLAOp";
+		case "CastLAOp3": return "CastLAOp";
+		case "CastLAOp4": return "CastLAOp";
+		case "CastLAOp5": return "CastLAOp";
+		case "CastLAOp6": return "CastLAOp";
+		case "CastLAOp7": return "CastLAOp";
+		case "CastLAOp8": return "CastLAOp";
+		case "CastLookahead1": return "CastLookahead";
+		case "CastLookahead2": return "CastLookahead";
+		case "CastLookahead3": return "CastLookahead";
+		case "ClassDeclaration": return "TypeDeclaration";
+		case "ClassOrInterface1": return "ClassOrInterface";
+		case "ClassOrInterface2": return "ClassOrInterface";
+		case "ClassOrInterfaceBodyDeclaration1": return "ClassOrInterfaceBodyDeclaration";
+		case "ConditionalExpression1": return "ConditionalExpression";
+		case "ConditionalExpression2": return "ConditionalExpression";
+		case "ConstrainedList1": return "ConstrainedList";
+		case "ConstrainedList2": return "ConstrainedList";
+		case "ConstraintKeyword1": return "ConstraintKeyword";
+		case "ConstraintKeyword2": return "ConstraintKeyword";
+		case "ConstructorDeclarationWithSpec": return "ClassOrInterfaceBodyDeclaration";
+		case "ContinuesKeyword1": return "ContinuesKeyword";
+		case "ContinuesKeyword2": return "ContinuesKeyword";
+		case "DivergesKeyword1": return "DivergesKeyword";
+		case "DivergesKeyword2": return "DivergesKeyword";
+		case "DurationClause1": return "DurationClause";
+		case "DurationClause2": return "DurationClause";
+		case "DurationKeyword1": return "DurationKeyword";
+		case "DurationKeyword2": return "DurationKeyword";
+		case "EmptyDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "EmptyTypeDecl": return "TypeDeclaration";
+		case "EnsuresKeyword1": return "EnsuresKeyword";
+		case "EnsuresKeyword2": return "EnsuresKeyword";
+		case "EnsuresKeyword3": return "EnsuresKeyword";
+		case "EnsuresKeyword4": return "EnsuresKeyword";
+		case "EnumConstant1": return "EnumConstant";
+		case "EnumConstant2": return "EnumConstant";
+		case "EnumDecl": return "TypeDeclaration";
+		case "EqualityOp1": return "EqualityOp";
+		case "EqualityOp2": return "EqualityOp";
+		case "EquivalenceOp1": return "EquivalenceOp";
+		case "EquivalenceOp2": return "EquivalenceOp";
+		case "ExceptionalBehaviorKeyword1": return "ExceptionalBehaviorKeyword";
+		case "ExceptionalBehaviorKeyword2": return "ExceptionalBehaviorKeyword";
+		case "ExplicitConstructorInvocation1": return "ExplicitConstructorInvocation";
+		case "ExplicitConstructorInvocation2": return "ExplicitConstructorInvocation";
+		case "FieldDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "ForInit1": return "ForInit";
+		case "ForInit2": return "ForInit";
+		case "ForStatementInternal1": return "ForStatementInternal";
+		case "ForStatementInternal2": return "ForStatementInternal";
+		case "ForStatementInternal3": return "ForStatementInternal";
+		case "GenericSpecBody1": return "GenericSpecBody";
+		case "GenericSpecBody2": return "GenericSpecBody";
+		case "GenericSpecCase1": return "GenericSpecCase";
+		case "GenericSpecCase2": return "GenericSpecCase";
+		case "GenericSpecCase3": return "GenericSpecCase";
+		case "GenericSpecStatementBody1": return "GenericSpecStatementBody";
+		case "GenericSpecStatementBody2": return "GenericSpecStatementBody";
+		case "GenericSpecStatementCase1": return "GenericSpecStatementCase";
+		case "GenericSpecStatementCase2": return "GenericSpecStatementCase";
+		case "GroupNamePrefix1": return "GroupNamePrefix";
+		case "GroupNamePrefix2": return "GroupNamePrefix";
+		case "HeavyWeightSpecCase1": return "HeavyWeightSpecCase";
+		case "HeavyWeightSpecCase2": return "HeavyWeightSpecCase";
+		case "HeavyWeightSpecCase3": return "HeavyWeightSpecCase";
+		case "HenceByKeyword1": return "HenceByKeyword";
+		case "HenceByKeyword2": return "HenceByKeyword";
+		case "ImpliesExpr1": return "ImpliesExpr";
+		case "ImpliesExpr2": return "ImpliesExpr";
+		case "ImportDeclarationWr1": return "ImportDeclarationWr";
+		case "ImportDeclarationWr2": return "ImportDeclarationWr";
+		case "InKeyword1": return "InKeyword";
+		case "InKeyword2": return "InKeyword";
+		case "InitializerDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "InnerClassDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "InnerEnumDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "InvariantKeyword1": return "InvariantKeyword";
+		case "InvariantKeyword2": return "InvariantKeyword";
+		case "JMLAnnotationStatement1": return "JMLAnnotationStatement";
+		case "JMLAnnotationStatement2": return "JMLAnnotationStatement";
+		case "JMLAnnotationStatement3": return "JMLAnnotationStatement";
+		case "JMLAnnotationStatement4": return "JMLAnnotationStatement";
+		case "JMLAnnotationStatement5": return "JMLAnnotationStatement";
+		case "JMLAnnotationStatement6": return "JMLAnnotationStatement";
+		case "JMLAnnotationStatement7": return "JMLAnnotationStatement";
+		case "JMLDeclaration1": return "JMLDeclaration";
+		case "JMLDeclaration10": return "JMLDeclaration";
+		case "JMLDeclaration2": return "JMLDeclaration";
+		case "JMLDeclaration3": return "JMLDeclaration";
+		case "JMLDeclaration4": return "JMLDeclaration";
+		case "JMLDeclaration5": return "JMLDeclaration";
+		case "JMLDeclaration6": return "JMLDeclaration";
+		case "JMLDeclaration7": return "JMLDeclaration";
+		case "JMLDeclaration8": return "JMLDeclaration";
+		case "JMLDeclaration9": return "JMLDeclaration";
+		case "JMLModifier1": return "JMLModifier";
+		case "JMLModifier10": return "JMLModifier";
+		case "JMLModifier11": return "JMLModifier";
+		case "JMLModifier12": return "JMLModifier";
+		case "JMLModifier13": return "JMLModifier";
+		case "JMLModifier14": return "JMLModifier";
+		case "JMLModifier15": return "JMLModifier";
+		case "JMLModifier16": return "JMLModifier";
+		case "JMLModifier17": return "JMLModifier";
+		case "JMLModifier18": return "JMLModifier";
+		case "JMLModifier2": return "JMLModifier";
+		case "JMLModifier3": return "JMLModifier";
+		case "JMLModifier4": return "JMLModifier";
+		case "JMLModifier5": return "JMLModifier";
+		case "JMLModifier6": return "JMLModifier";
+		case "JMLModifier7": return "JMLModifier";
+		case "JMLModifier8": return "JMLModifier";
+		case "JMLModifier9": return "JMLModifier";
+		case "JmlPrimary1": return "JmlPrimary";
+		case "JmlPrimary10": return "JmlPrimary";
+		case "JmlPrimary11": return "JmlPrimary";
+		case "JmlPrimary12": return "JmlPrimary";
+		case "JmlPrimary13": return "JmlPrimary";
+		case "JmlPrimary14": return "JmlPrimary";
+		case "JmlPrimary15": return "JmlPrimary";
+		case "JmlPrimary16": return "JmlPrimary";
+		case "JmlPrimary17": return "JmlPrimary";
+		case "JmlPrimary18": return "JmlPrimary";
+		case "JmlPrimary19": return "JmlPrimary";
+		case "JmlPrimary2": return "JmlPrimary";
+		case "JmlPrimary20": return "JmlPrimary";
+		case "JmlPrimary21": return "JmlPrimary";
+		case "JmlPrimary22": return "JmlPrimary";
+		case "JmlPrimary23": return "JmlPrimary";
+		case "JmlPrimary24": return "JmlPrimary";
+		case "JmlPrimary25": return "JmlPrimary";
+		case "JmlPrimary26": return "JmlPrimary";
+		case "JmlPrimary3": return "JmlPrimary";
+		case "JmlPrimary4": return "JmlPrimary";
+		case "JmlPrimary5": return "JmlPrimary";
+		case "JmlPrimary6": return "JmlPrimary";
+		case "JmlPrimary7": return "JmlPrimary";
+		case "JmlPrimary8": return "JmlPrimary";
+		case "JmlPrimary9": return "JmlPrimary";
+		case "Literal1": return "Literal";
+		case "Literal2": return "Literal";
+		case "Literal3": return "Literal";
+		case "Literal4": return "Literal";
+		case "Literal5": return "Literal";
+		case "Literal6": return "Literal";
+		case "MapsKeyword1": return "MapsKeyword";
+		case "MapsKeyword2": return "MapsKeyword";
+		case "MapsMemberRefExpr1": return "MapsMemberRefExpr";
+		case "MapsMemberRefExpr2": return "MapsMemberRefExpr";
+		case "MeasuredByKeyword1": return "MeasuredByKeyword";
+		case "MeasuredByKeyword2": return "MeasuredByKeyword";
+		case "MeasuredClause1": return "MeasuredClause";
+		case "MeasuredClause2": return "MeasuredClause";
+		case "MemberFieldRef1": return "MemberFieldRef";
+		case "MemberFieldRef2": return "MemberFieldRef";
+		case "MemberValue1": return "MemberValue";
+		case "MemberValue2": return "MemberValue";
+		case "MemberValue3": return "MemberValue";
+		case "MemberValue4": return "MemberValue";
+		case "MethodDeclarationBody1": return "MethodDeclarationBody";
+		case "MethodDeclarationBody2": return "MethodDeclarationBody";
+		case "MethodDeclarationWithSpec": return "ClassOrInterfaceBodyDeclaration";
+		case "MethodName1": return "MethodName";
+		case "MethodName2": return "MethodName";
+		case "MethodOrConstructorKeyword1": return "MethodOrConstructorKeyword";
+		case "MethodOrConstructorKeyword2": return "MethodOrConstructorKeyword";
+		case "MethodRef1": return "MethodRef";
+		case "MethodRef2": return "MethodRef";
+		case "MethodRefRest1": return "MethodRefRest";
+		case "MethodRefRest2": return "MethodRefRest";
+		case "MethodRefStart1": return "MethodRefStart";
+		case "MethodRefStart2": return "MethodRefStart";
+		case "MethodRefStart3": return "MethodRefStart";
+		case "ModelProgStatement1": return "ModelProgStatement";
+		case "ModelProgStatement2": return "ModelProgStatement";
+		case "ModelProgStatement3": return "ModelProgStatement";
+		case "ModelProgStatement4": return "ModelProgStatement";
+		case "Modifier1": return "Modifier";
+		case "Modifier10": return "Modifier";
+		case "Modifier11": return "Modifier";
+		case "Modifier12": return "Modifier";
+		case "Modifier13": return "Modifier";
+		case "Modifier2": return "Modifier";
+		case "Modifier3": return "Modifier";
+		case "Modifier4": return "Modifier";
+		case "Modifier5": return "Modifier";
+		case "Modifier6": return "Modifier";
+		case "Modifier7": return "Modifier";
+		case "Modifier8": return "Modifier";
+		case "Modifier9": return "Modifier";
+		case "MultiplicativeOp1": return "MultiplicativeOp";
+		case "MultiplicativeOp2": return "MultiplicativeOp";
+		case "MultiplicativeOp3": return "MultiplicativeOp";
+		case "NonStarsClose1": return "NonStarsClose";
+		case "NonStarsClose2": return "NonStarsClose";
+		case "NormalBehaviorKeyword1": return "NormalBehaviorKeyword";
+		case "NormalBehaviorKeyword2": return "NormalBehaviorKeyword";
+		case "OldExpression1": return "OldExpression";
+		case "OldExpression2": return "OldExpression";
+		case "OriginalCaseKeyword1": return "OriginalCaseKeyword";
+		case "OriginalCaseKeyword2": return "OriginalCaseKeyword";
+		case "OriginalClauseKeyword1": return "OriginalClauseKeyword";
+		case "OriginalClauseKeyword2": return "OriginalClauseKeyword";
+		case "ParamModifier1": return "ParamModifier";
+		case "ParamModifier2": return "ParamModifier";
+		case "ParamModifier3": return "ParamModifier";
+		case "PostfixOp1": return "PostfixOp";
+		case "PostfixOp2": return "PostfixOp";
+		case "PredOrNot1": return "PredOrNot";
+		case "PredOrNot2": return "PredOrNot";
+		case "PrimaryPrefix1": return "PrimaryPrefix";
+		case "PrimaryPrefix2": return "PrimaryPrefix";
+		case "PrimaryPrefix3": return "PrimaryPrefix";
+		case "PrimaryPrefix4": return "PrimaryPrefix";
+		case "PrimaryPrefix5": return "PrimaryPrefix";
+		case "PrimaryPrefix6": return "PrimaryPrefix";
+		case "PrimaryPrefix7": return "PrimaryPrefix";
+		case "PrimaryPrefix8": return "PrimaryPrefix";
+		case "PrimarySuffix1": return "PrimarySuffix";
+		case "PrimarySuffix2": return "PrimarySuffix";
+		case "PrimarySuffix3": return "PrimarySuffix";
+		case "PrimarySuffix4": return "PrimarySuffix";
+		case "PrimarySuffix5": return "PrimarySuffix";
+		case "PrimarySuffix6": return "PrimarySuffix";
+		case "PrimarySuffix7": return "PrimarySuffix";
+		case "PrimitiveType1": return "PrimitiveType";
+		case "PrimitiveType2": return "PrimitiveType";
+		case "PrimitiveType3": return "PrimitiveType";
+		case "PrimitiveType4": return "PrimitiveType";
+		case "PrimitiveType5": return "PrimitiveType";
+		case "PrimitiveType6": return "PrimitiveType";
+		case "PrimitiveType7": return "PrimitiveType";
+		case "PrimitiveType8": return "PrimitiveType";
+		case "Privacy1": return "Privacy";
+		case "Privacy2": return "Privacy";
+		case "Privacy3": return "Privacy";
+		case "Quantifier1": return "Quantifier";
+		case "Quantifier2": return "Quantifier";
+		case "Quantifier3": return "Quantifier";
+		case "Quantifier4": return "Quantifier";
+		case "Quantifier5": return "Quantifier";
+		case "Quantifier6": return "Quantifier";
+		case "Quantifier7": return "Quantifier";
+		case "ReferenceTypeP1": return "ReferenceTypeP";
+		case "ReferenceTypeP2": return "ReferenceTypeP";
+		case "RefiningStatement1": return "RefiningStatement";
+		case "RefiningStatement2": return "RefiningStatement";
+		case "RelationalOp1": return "RelationalOp";
+		case "RelationalOp2": return "RelationalOp";
+		case "RelationalOp3": return "RelationalOp";
+		case "RelationalOp4": return "RelationalOp";
+		case "RepresentsClause1": return "RepresentsClause";
+		case "RepresentsClause2": return "RepresentsClause";
+		case "RepresentsClause3": return "RepresentsClause";
+		case "RepresentsKeyword1": return "RepresentsKeyword";
+		case "RepresentsKeyword2": return "RepresentsKeyword";
+		case "RequiresKeyword1": return "RequiresKeyword";
+		case "RequiresKeyword2": return "RequiresKeyword";
+		case "RequiresKeyword3": return "RequiresKeyword";
+		case "RequiresKeyword4": return "RequiresKeyword";
+		case "ResultType1": return "ResultType";
+		case "ResultType2": return "ResultType";
+		case "ReturnsKeyword1": return "ReturnsKeyword";
+		case "ReturnsKeyword2": return "ReturnsKeyword";
+		case "ShiftOp1": return "ShiftOp";
+		case "ShiftOp2": return "ShiftOp";
+		case "ShiftOp3": return "ShiftOp";
+		case "SignalsKeyword1": return "SignalsKeyword";
+		case "SignalsKeyword2": return "SignalsKeyword";
+		case "SignalsKeyword3": return "SignalsKeyword";
+		case "SignalsKeyword4": return "SignalsKeyword";
+		case "SignalsOnlyClause1": return "SignalsOnlyClause";
+		case "SignalsOnlyClause2": return "SignalsOnlyClause";
+		case "SignalsOnlyKeyword1": return "SignalsOnlyKeyword";
+		case "SignalsOnlyKeyword2": return "SignalsOnlyKeyword";
+		case "SimpleSpecBodyClause1": return "SimpleSpecBodyClause";
+		case "SimpleSpecBodyClause10": return "SimpleSpecBodyClause";
+		case "SimpleSpecBodyClause11": return "SimpleSpecBodyClause";
+		case "SimpleSpecBodyClause12": return "SimpleSpecBodyClause";
+		case "SimpleSpecBodyClause2": return "SimpleSpecBodyClause";
+		case "SimpleSpecBodyClause3": return "SimpleSpecBodyClause";
+		case "SimpleSpecBodyClause4": return "SimpleSpecBodyClause";
+		case "SimpleSpecBodyClause5": return "SimpleSpecBodyClause";
+		case "SimpleSpecBodyClause6": return "SimpleSpecBodyClause";
+		case "SimpleSpecBodyClause7": return "SimpleSpecBodyClause";
+		case "SimpleSpecBodyClause8": return "SimpleSpecBodyClause";
+		case "SimpleSpecBodyClause9": return "SimpleSpecBodyClause";
+		case "SimpleSpecStatementClause1": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause10": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause11": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause12": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause13": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause14": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause15": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause2": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause3": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause4": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause5": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause6": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause7": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause8": return "SimpleSpecStatementClause";
+		case "SimpleSpecStatementClause9": return "SimpleSpecStatementClause";
+		case "SpecArrayRefExpr1": return "SpecArrayRefExpr";
+		case "SpecArrayRefExpr2": return "SpecArrayRefExpr";
+		case "SpecArrayRefExpr3": return "SpecArrayRefExpr";
+		case "SpecCase1": return "SpecCase";
+		case "SpecCase2": return "SpecCase";
+		case "SpecCase3": return "SpecCase";
+		case "SpecInitializer1": return "SpecInitializer";
+		case "SpecInitializer2": return "SpecInitializer";
+		case "SpecStatement1": return "SpecStatement";
+		case "SpecStatement2": return "SpecStatement";
+		case "SpecStatement3": return "SpecStatement";
+		case "SpecStatement4": return "SpecStatement";
+		case "SpecVarDecls1": return "SpecVarDecls";
+		case "SpecVarDecls2": return "SpecVarDecls";
+		case "Statement1": return "Statement";
+		case "Statement10": return "Statement";
+		case "Statement11": return "Statement";
+		case "Statement12": return "Statement";
+		case "Statement13": return "Statement";
+		case "Statement14": return "Statement";
+		case "Statement15": return "Statement";
+		case "Statement16": return "Statement";
+		case "Statement17": return "Statement";
+		case "Statement18": return "Statement";
+		case "Statement19": return "Statement";
+		case "Statement2": return "Statement";
+		case "Statement3": return "Statement";
+		case "Statement4": return "Statement";
+		case "Statement5": return "Statement";
+		case "Statement6": return "Statement";
+		case "Statement7": return "Statement";
+		case "Statement8": return "Statement";
+		case "Statement9": return "Statement";
+		case "StatementExpression1": return "StatementExpression";
+		case "StatementExpression2": return "StatementExpression";
+		case "StatementExpression3": return "StatementExpression";
+		case "StatementExpressionAssignment1": return "StatementExpressionAssignment";
+		case "StatementExpressionAssignment2": return "StatementExpressionAssignment";
+		case "StatementExpressionAssignment3": return "StatementExpressionAssignment";
+		case "StoreRef1": return "StoreRef";
+		case "StoreRef2": return "StoreRef";
+		case "StoreRefKeyword1": return "StoreRefKeyword";
+		case "StoreRefKeyword2": return "StoreRefKeyword";
+		case "StoreRefKeyword3": return "StoreRefKeyword";
+		case "StoreRefList1": return "StoreRefList";
+		case "StoreRefList2": return "StoreRefList";
+		case "StoreRefName1": return "StoreRefName";
+		case "StoreRefName2": return "StoreRefName";
+		case "StoreRefName3": return "StoreRefName";
+		case "StoreRefNameSuffix1": return "StoreRefNameSuffix";
+		case "StoreRefNameSuffix2": return "StoreRefNameSuffix";
+		case "StoreRefNameSuffix3": return "StoreRefNameSuffix";
+		case "StoreRefNameSuffix4": return "StoreRefNameSuffix";
+		case "SwitchLabel1": return "SwitchLabel";
+		case "SwitchLabel2": return "SwitchLabel";
+		case "TryStatementEnd1": return "TryStatementEnd";
+		case "TryStatementEnd2": return "TryStatementEnd";
+		case "Type1": return "Type";
+		case "Type2": return "Type";
+		case "TypeArgument1": return "TypeArgument";
+		case "TypeArgument2": return "TypeArgument";
+		case "TypeSpec1": return "TypeSpec";
+		case "TypeSpec2": return "TypeSpec";
+		case "UnaryExpression1": return "UnaryExpression";
+		case "UnaryExpression2": return "UnaryExpression";
+		case "UnaryExpression3": return "UnaryExpression";
+		case "UnaryExpression4": return "UnaryExpression";
+		case "UnaryExpressionNotPlusMinus1": return "UnaryExpressionNotPlusMinus";
+		case "UnaryExpressionNotPlusMinus2": return "UnaryExpressionNotPlusMinus";
+		case "UnaryExpressionNotPlusMinus3": return "UnaryExpressionNotPlusMinus";
+		case "UnaryOp1": return "UnaryOp";
+		case "UnaryOp2": return "UnaryOp";
+		case "VariableInitializer1": return "VariableInitializer";
+		case "VariableInitializer2": return "VariableInitializer";
+		case "WhenKeyword1": return "WhenKeyword";
+		case "WhenKeyword2": return "WhenKeyword";
+		case "WildcardBounds1": return "WildcardBounds";
+		case "WildcardBounds2": return "WildcardBounds";
+		case "WorkingSpaceClause1": return "WorkingSpaceClause";
+		case "WorkingSpaceClause2": return "WorkingSpaceClause";
+		case "WorkingSpaceKeyword1": return "WorkingSpaceKeyword";
+		case "WorkingSpaceKeyword2": return "WorkingSpaceKeyword";
+		default: return null;
+		}
+	}
 	protected boolean isSubtype(String type, String expectedType) {
-		if (type.equals(expectedType)) return true;
-		if (type.equals("ClassDeclaration") && expectedType.equals("TypeDeclaration")) return true;
-		if (type.equals("TypeArgument1") && expectedType.equals("TypeArgument")) return true;
-		if (type.equals("HenceByKeyword1") && expectedType.equals("HenceByKeyword")) return true;
-		if (type.equals("RefiningStatement2") && expectedType.equals("RefiningStatement")) return true;
-		if (type.equals("SpecArrayRefExpr2") && expectedType.equals("SpecArrayRefExpr")) return true;
-		if (type.equals("AssumeKeyword2") && expectedType.equals("AssumeKeyword")) return true;
-		if (type.equals("Statement17") && expectedType.equals("Statement")) return true;
-		if (type.equals("ExplicitConstructorInvocation1") && expectedType.equals("ExplicitConstructorInvocation")) return true;
-		if (type.equals("SimpleSpecBodyClause1") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("StatementExpressionAssignment2") && expectedType.equals("StatementExpressionAssignment")) return true;
-		if (type.equals("JMLModifier10") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("PrimarySuffix7") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("DurationClause2") && expectedType.equals("DurationClause")) return true;
-		if (type.equals("NonStarsClose1") && expectedType.equals("NonStarsClose")) return true;
-		if (type.equals("BreaksKeyword2") && expectedType.equals("BreaksKeyword")) return true;
-		if (type.equals("Statement3") && expectedType.equals("Statement")) return true;
-		if (type.equals("SpecVarDecls1") && expectedType.equals("SpecVarDecls")) return true;
-		if (type.equals("CastLAOp3") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("MapsKeyword1") && expectedType.equals("MapsKeyword")) return true;
-		if (type.equals("AccessibleKeyword2") && expectedType.equals("AccessibleKeyword")) return true;
-		if (type.equals("SimpleSpecStatementClause15") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("SpecArrayRefExpr3") && expectedType.equals("SpecArrayRefExpr")) return true;
-		if (type.equals("SimpleSpecStatementClause14") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("SpecVarDecls2") && expectedType.equals("SpecVarDecls")) return true;
-		if (type.equals("MeasuredClause1") && expectedType.equals("MeasuredClause")) return true;
-		if (type.equals("StatementExpressionAssignment3") && expectedType.equals("StatementExpressionAssignment")) return true;
-		if (type.equals("Modifier13") && expectedType.equals("Modifier")) return true;
-		if (type.equals("PrimarySuffix6") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("Statement16") && expectedType.equals("Statement")) return true;
-		if (type.equals("NonStarsClose2") && expectedType.equals("NonStarsClose")) return true;
-		if (type.equals("AllocationExpression2") && expectedType.equals("AllocationExpression")) return true;
-		if (type.equals("Statement2") && expectedType.equals("Statement")) return true;
-		if (type.equals("BreaksKeyword1") && expectedType.equals("BreaksKeyword")) return true;
-		if (type.equals("CastLAOp4") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("CapturesKeyword1") && expectedType.equals("CapturesKeyword")) return true;
-		if (type.equals("JMLAnnotationStatement1") && expectedType.equals("JMLAnnotationStatement")) return true;
-		if (type.equals("AnnotationFieldDecl") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("StoreRefList2") && expectedType.equals("StoreRefList")) return true;
-		if (type.equals("Statement19") && expectedType.equals("Statement")) return true;
-		if (type.equals("Type2") && expectedType.equals("Type")) return true;
-		if (type.equals("JMLModifier12") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("PrimarySuffix5") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("PrimaryPrefix1") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("MethodRefStart2") && expectedType.equals("MethodRefStart")) return true;
-		if (type.equals("CastLAOp1") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("GroupNamePrefix1") && expectedType.equals("GroupNamePrefix")) return true;
-		if (type.equals("Statement1") && expectedType.equals("Statement")) return true;
-		if (type.equals("InKeyword2") && expectedType.equals("InKeyword")) return true;
-		if (type.equals("CapturesKeyword2") && expectedType.equals("CapturesKeyword")) return true;
-		if (type.equals("SpecArrayRefExpr1") && expectedType.equals("SpecArrayRefExpr")) return true;
-		if (type.equals("JMLAnnotationStatement2") && expectedType.equals("JMLAnnotationStatement")) return true;
-		if (type.equals("HenceByKeyword2") && expectedType.equals("HenceByKeyword")) return true;
-		if (type.equals("TypeArgument2") && expectedType.equals("TypeArgument")) return true;
-		if (type.equals("PrimarySuffix3") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("StoreRefList1") && expectedType.equals("StoreRefList")) return true;
-		if (type.equals("StatementExpressionAssignment1") && expectedType.equals("StatementExpressionAssignment")) return true;
-		if (type.equals("Statement18") && expectedType.equals("Statement")) return true;
-		if (type.equals("Type1") && expectedType.equals("Type")) return true;
-		if (type.equals("PrimaryPrefix2") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("MethodRefStart3") && expectedType.equals("MethodRefStart")) return true;
-		if (type.equals("PrimarySuffix4") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("JMLModifier11") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("DurationClause1") && expectedType.equals("DurationClause")) return true;
-		if (type.equals("AccessibleKeyword1") && expectedType.equals("AccessibleKeyword")) return true;
-		if (type.equals("CastLAOp2") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("InKeyword1") && expectedType.equals("InKeyword")) return true;
-		if (type.equals("JMLAnnotationStatement7") && expectedType.equals("JMLAnnotationStatement")) return true;
-		if (type.equals("JMLDeclaration9") && expectedType.equals("JMLDeclaration")) return true;
-		if (type.equals("MultiplicativeOp1") && expectedType.equals("MultiplicativeOp")) return true;
-		if (type.equals("StatementExpression1") && expectedType.equals("StatementExpression")) return true;
-		if (type.equals("Modifier10") && expectedType.equals("Modifier")) return true;
-		if (type.equals("JMLAnnotationStatement3") && expectedType.equals("JMLAnnotationStatement")) return true;
-		if (type.equals("SimpleSpecStatementClause11") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("ClassOrInterface2") && expectedType.equals("ClassOrInterface")) return true;
-		if (type.equals("GenericSpecStatementBody2") && expectedType.equals("GenericSpecStatementBody")) return true;
-		if (type.equals("Statement7") && expectedType.equals("Statement")) return true;
-		if (type.equals("AnnotationInnerAnnotation") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("JMLModifier14") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("SimpleSpecBodyClause5") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("JMLDeclaration8") && expectedType.equals("JMLDeclaration")) return true;
-		if (type.equals("ConstrainedList2") && expectedType.equals("ConstrainedList")) return true;
-		if (type.equals("JMLAnnotationStatement4") && expectedType.equals("JMLAnnotationStatement")) return true;
-		if (type.equals("ClassOrInterface1") && expectedType.equals("ClassOrInterface")) return true;
-		if (type.equals("SimpleSpecStatementClause10") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("Statement6") && expectedType.equals("Statement")) return true;
-		if (type.equals("JMLModifier13") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("SimpleSpecBodyClause4") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("ConstraintKeyword1") && expectedType.equals("ConstraintKeyword")) return true;
-		if (type.equals("StatementExpression3") && expectedType.equals("StatementExpression")) return true;
-		if (type.equals("JMLAnnotationStatement5") && expectedType.equals("JMLAnnotationStatement")) return true;
-		if (type.equals("ConstrainedList1") && expectedType.equals("ConstrainedList")) return true;
-		if (type.equals("MethodRef2") && expectedType.equals("MethodRef")) return true;
-		if (type.equals("AnnotationTypeDeclaration") && expectedType.equals("TypeDeclaration")) return true;
-		if (type.equals("OldExpression1") && expectedType.equals("OldExpression")) return true;
-		if (type.equals("JMLModifier17") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("ImpliesExpr1") && expectedType.equals("ImpliesExpr")) return true;
-		if (type.equals("SimpleSpecStatementClause13") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("Modifier12") && expectedType.equals("Modifier")) return true;
-		if (type.equals("JmlPrimary20") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("Statement5") && expectedType.equals("Statement")) return true;
-		if (type.equals("AllocationExpression1") && expectedType.equals("AllocationExpression")) return true;
-		if (type.equals("StoreRefKeyword3") && expectedType.equals("StoreRefKeyword")) return true;
-		if (type.equals("SimpleSpecBodyClause3") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("JMLAnnotationStatement6") && expectedType.equals("JMLAnnotationStatement")) return true;
-		if (type.equals("ConstraintKeyword2") && expectedType.equals("ConstraintKeyword")) return true;
-		if (type.equals("StatementExpression2") && expectedType.equals("StatementExpression")) return true;
-		if (type.equals("JMLModifier16") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("MethodRef1") && expectedType.equals("MethodRef")) return true;
-		if (type.equals("ExplicitConstructorInvocation2") && expectedType.equals("ExplicitConstructorInvocation")) return true;
-		if (type.equals("SimpleSpecBodyClause2") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("ImpliesExpr2") && expectedType.equals("ImpliesExpr")) return true;
-		if (type.equals("JmlPrimary21") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("Modifier11") && expectedType.equals("Modifier")) return true;
-		if (type.equals("SimpleSpecStatementClause12") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("Modifier1") && expectedType.equals("Modifier")) return true;
-		if (type.equals("Statement4") && expectedType.equals("Statement")) return true;
-		if (type.equals("GenericSpecStatementBody1") && expectedType.equals("GenericSpecStatementBody")) return true;
-		if (type.equals("JMLModifier15") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("StoreRefKeyword2") && expectedType.equals("StoreRefKeyword")) return true;
-		if (type.equals("AllocationExpressionInit1") && expectedType.equals("AllocationExpressionInit")) return true;
-		if (type.equals("OriginalCaseKeyword1") && expectedType.equals("OriginalCaseKeyword")) return true;
-		if (type.equals("ReferenceTypeP2") && expectedType.equals("ReferenceTypeP")) return true;
-		if (type.equals("JMLDeclaration4") && expectedType.equals("JMLDeclaration")) return true;
-		if (type.equals("AssignmentOperator10") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("PredOrNot1") && expectedType.equals("PredOrNot")) return true;
-		if (type.equals("StoreRef2") && expectedType.equals("StoreRef")) return true;
-		if (type.equals("GenericSpecStatementCase2") && expectedType.equals("GenericSpecStatementCase")) return true;
-		if (type.equals("Modifier2") && expectedType.equals("Modifier")) return true;
-		if (type.equals("ForInit1") && expectedType.equals("ForInit")) return true;
-		if (type.equals("GenericSpecStatementCase1") && expectedType.equals("GenericSpecStatementCase")) return true;
-		if (type.equals("AssignableKeyword2") && expectedType.equals("AssignableKeyword")) return true;
-		if (type.equals("AllocationExpressionInit2") && expectedType.equals("AllocationExpressionInit")) return true;
-		if (type.equals("OriginalCaseKeyword2") && expectedType.equals("OriginalCaseKeyword")) return true;
-		if (type.equals("WorkingSpaceKeyword2") && expectedType.equals("WorkingSpaceKeyword")) return true;
-		if (type.equals("ReferenceTypeP1") && expectedType.equals("ReferenceTypeP")) return true;
-		if (type.equals("JMLDeclaration3") && expectedType.equals("JMLDeclaration")) return true;
-		if (type.equals("PredOrNot2") && expectedType.equals("PredOrNot")) return true;
-		if (type.equals("StoreRef1") && expectedType.equals("StoreRef")) return true;
-		if (type.equals("AssignmentOperator9") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("Modifier3") && expectedType.equals("Modifier")) return true;
-		if (type.equals("SimpleSpecBodyClause12") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("GenericSpecCase3") && expectedType.equals("GenericSpecCase")) return true;
-		if (type.equals("AssignableKeyword3") && expectedType.equals("AssignableKeyword")) return true;
-		if (type.equals("OriginalClauseKeyword1") && expectedType.equals("OriginalClauseKeyword")) return true;
-		if (type.equals("RepresentsKeyword2") && expectedType.equals("RepresentsKeyword")) return true;
-		if (type.equals("ForInit2") && expectedType.equals("ForInit")) return true;
-		if (type.equals("Modifier4") && expectedType.equals("Modifier")) return true;
-		if (type.equals("Statement9") && expectedType.equals("Statement")) return true;
-		if (type.equals("SimpleSpecStatementClause8") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("EquivalenceOp2") && expectedType.equals("EquivalenceOp")) return true;
-		if (type.equals("GenericSpecCase2") && expectedType.equals("GenericSpecCase")) return true;
-		if (type.equals("EqualityOp1") && expectedType.equals("EqualityOp")) return true;
-		if (type.equals("AssignableKeyword4") && expectedType.equals("AssignableKeyword")) return true;
-		if (type.equals("SimpleSpecBodyClause11") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("MemberValue1") && expectedType.equals("MemberValue")) return true;
-		if (type.equals("MultiplicativeOp3") && expectedType.equals("MultiplicativeOp")) return true;
-		if (type.equals("RepresentsKeyword1") && expectedType.equals("RepresentsKeyword")) return true;
-		if (type.equals("WorkingSpaceClause2") && expectedType.equals("WorkingSpaceClause")) return true;
-		if (type.equals("AssignmentOperator12") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("JMLDeclaration7") && expectedType.equals("JMLDeclaration")) return true;
-		if (type.equals("MethodName2") && expectedType.equals("MethodName")) return true;
-		if (type.equals("MethodDeclarationBody2") && expectedType.equals("MethodDeclarationBody")) return true;
-		if (type.equals("JMLDeclaration5") && expectedType.equals("JMLDeclaration")) return true;
-		if (type.equals("DivergesKeyword1") && expectedType.equals("DivergesKeyword")) return true;
-		if (type.equals("Statement8") && expectedType.equals("Statement")) return true;
-		if (type.equals("SimpleSpecStatementClause9") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("Modifier5") && expectedType.equals("Modifier")) return true;
-		if (type.equals("AnnotationInnerClass") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("BlockStatement4") && expectedType.equals("BlockStatement")) return true;
-		if (type.equals("GenericSpecCase1") && expectedType.equals("GenericSpecCase")) return true;
-		if (type.equals("EqualityOp2") && expectedType.equals("EqualityOp")) return true;
-		if (type.equals("AssignableKeyword5") && expectedType.equals("AssignableKeyword")) return true;
-		if (type.equals("MemberValue2") && expectedType.equals("MemberValue")) return true;
-		if (type.equals("SimpleSpecBodyClause10") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("RequiresKeyword4") && expectedType.equals("RequiresKeyword")) return true;
-		if (type.equals("MultiplicativeOp2") && expectedType.equals("MultiplicativeOp")) return true;
-		if (type.equals("AssignmentOperator11") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("JMLDeclaration6") && expectedType.equals("JMLDeclaration")) return true;
-		if (type.equals("MethodName1") && expectedType.equals("MethodName")) return true;
-		if (type.equals("AssignmentOperator6") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("BlockStatement3") && expectedType.equals("BlockStatement")) return true;
-		if (type.equals("CastLAOp7") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("EnsuresKeyword4") && expectedType.equals("EnsuresKeyword")) return true;
-		if (type.equals("WildcardBounds1") && expectedType.equals("WildcardBounds")) return true;
-		if (type.equals("JmlPrimary9") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("SimpleSpecStatementClause6") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("Modifier6") && expectedType.equals("Modifier")) return true;
-		if (type.equals("EnumDecl") && expectedType.equals("TypeDeclaration")) return true;
-		if (type.equals("PrimarySuffix2") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("MemberValue3") && expectedType.equals("MemberValue")) return true;
-		if (type.equals("AssignmentOperator5") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("EmptyTypeDecl") && expectedType.equals("TypeDeclaration")) return true;
-		if (type.equals("EnsuresKeyword3") && expectedType.equals("EnsuresKeyword")) return true;
-		if (type.equals("EquivalenceOp1") && expectedType.equals("EquivalenceOp")) return true;
-		if (type.equals("CastLAOp8") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("WildcardBounds2") && expectedType.equals("WildcardBounds")) return true;
-		if (type.equals("BlockStatement2") && expectedType.equals("BlockStatement")) return true;
-		if (type.equals("Modifier7") && expectedType.equals("Modifier")) return true;
-		if (type.equals("SimpleSpecStatementClause7") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("WorkingSpaceClause1") && expectedType.equals("WorkingSpaceClause")) return true;
-		if (type.equals("PrimarySuffix1") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("AssignmentOperator4") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("MemberValue4") && expectedType.equals("MemberValue")) return true;
-		if (type.equals("BlockStatement1") && expectedType.equals("BlockStatement")) return true;
-		if (type.equals("JmlPrimary7") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("CastLAOp5") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("ResultType1") && expectedType.equals("ResultType")) return true;
-		if (type.equals("EnsuresKeyword2") && expectedType.equals("EnsuresKeyword")) return true;
-		if (type.equals("AssignmentOperator8") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("Modifier8") && expectedType.equals("Modifier")) return true;
-		if (type.equals("JMLDeclaration2") && expectedType.equals("JMLDeclaration")) return true;
-		if (type.equals("SimpleSpecStatementClause4") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("AnnoationEmptyDecl") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("MeasuredClause2") && expectedType.equals("MeasuredClause")) return true;
-		if (type.equals("AnnotationMethodDecl") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("OriginalClauseKeyword2") && expectedType.equals("OriginalClauseKeyword")) return true;
-		if (type.equals("DurationKeyword1") && expectedType.equals("DurationKeyword")) return true;
-		if (type.equals("InvariantKeyword2") && expectedType.equals("InvariantKeyword")) return true;
-		if (type.equals("JmlPrimary8") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("ResultType2") && expectedType.equals("ResultType")) return true;
-		if (type.equals("CastLAOp6") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("AssignmentOperator7") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("EnsuresKeyword1") && expectedType.equals("EnsuresKeyword")) return true;
-		if (type.equals("SimpleSpecStatementClause5") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("Modifier9") && expectedType.equals("Modifier")) return true;
-		if (type.equals("JMLDeclaration1") && expectedType.equals("JMLDeclaration")) return true;
-		if (type.equals("AssignableKeyword1") && expectedType.equals("AssignableKeyword")) return true;
-		if (type.equals("BooleanLiteral1") && expectedType.equals("BooleanLiteral")) return true;
-		if (type.equals("InvariantKeyword1") && expectedType.equals("InvariantKeyword")) return true;
-		if (type.equals("DurationKeyword2") && expectedType.equals("DurationKeyword")) return true;
-		if (type.equals("HeavyWeightSpecCase1") && expectedType.equals("HeavyWeightSpecCase")) return true;
-		if (type.equals("CallableMethodsList2") && expectedType.equals("CallableMethodsList")) return true;
-		if (type.equals("PrimitiveType5") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("SpecStatement3") && expectedType.equals("SpecStatement")) return true;
-		if (type.equals("AssignmentOperator2") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("RelationalOp2") && expectedType.equals("RelationalOp")) return true;
-		if (type.equals("Privacy1") && expectedType.equals("Privacy")) return true;
-		if (type.equals("TryStatementEnd2") && expectedType.equals("TryStatementEnd")) return true;
-		if (type.equals("SignalsKeyword4") && expectedType.equals("SignalsKeyword")) return true;
-		if (type.equals("StoreRefNameSuffix4") && expectedType.equals("StoreRefNameSuffix")) return true;
-		if (type.equals("JmlPrimary4") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("SignalsOnlyClause2") && expectedType.equals("SignalsOnlyClause")) return true;
-		if (type.equals("AssumeKeyword1") && expectedType.equals("AssumeKeyword")) return true;
-		if (type.equals("HeavyWeightSpecCase2") && expectedType.equals("HeavyWeightSpecCase")) return true;
-		if (type.equals("StoreRefNameSuffix2") && expectedType.equals("StoreRefNameSuffix")) return true;
-		if (type.equals("SpecStatement4") && expectedType.equals("SpecStatement")) return true;
-		if (type.equals("Literal1") && expectedType.equals("Literal")) return true;
-		if (type.equals("PrimitiveType6") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("TypeSpec1") && expectedType.equals("TypeSpec")) return true;
-		if (type.equals("AssignmentOperator3") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("JmlPrimary18") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("RelationalOp3") && expectedType.equals("RelationalOp")) return true;
-		if (type.equals("Privacy2") && expectedType.equals("Privacy")) return true;
-		if (type.equals("JmlPrimary19") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("TryStatementEnd1") && expectedType.equals("TryStatementEnd")) return true;
-		if (type.equals("MethodRefRest2") && expectedType.equals("MethodRefRest")) return true;
-		if (type.equals("JmlPrimary3") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("StoreRefNameSuffix3") && expectedType.equals("StoreRefNameSuffix")) return true;
-		if (type.equals("StoreRefNameSuffix1") && expectedType.equals("StoreRefNameSuffix")) return true;
-		if (type.equals("TypeSpec2") && expectedType.equals("TypeSpec")) return true;
-		if (type.equals("FieldDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("PrimitiveType7") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("SpecStatement1") && expectedType.equals("SpecStatement")) return true;
-		if (type.equals("SignalsKeyword2") && expectedType.equals("SignalsKeyword")) return true;
-		if (type.equals("JMLModifier9") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("JmlPrimary6") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("BehaviorKeyword2") && expectedType.equals("BehaviorKeyword")) return true;
-		if (type.equals("Privacy3") && expectedType.equals("Privacy")) return true;
-		if (type.equals("WhenKeyword2") && expectedType.equals("WhenKeyword")) return true;
-		if (type.equals("SimpleSpecStatementClause3") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("CallableMethodsList1") && expectedType.equals("CallableMethodsList")) return true;
-		if (type.equals("SimpleSpecStatementClause1") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("RelationalOp1") && expectedType.equals("RelationalOp")) return true;
-		if (type.equals("PrimitiveType8") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("AssignmentOperator1") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("SpecStatement2") && expectedType.equals("SpecStatement")) return true;
-		if (type.equals("BehaviorKeyword1") && expectedType.equals("BehaviorKeyword")) return true;
-		if (type.equals("SignalsKeyword3") && expectedType.equals("SignalsKeyword")) return true;
-		if (type.equals("WhenKeyword1") && expectedType.equals("WhenKeyword")) return true;
-		if (type.equals("SimpleSpecStatementClause2") && expectedType.equals("SimpleSpecStatementClause")) return true;
-		if (type.equals("JmlPrimary5") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("AbruptBehaviorKeyword2") && expectedType.equals("AbruptBehaviorKeyword")) return true;
-		if (type.equals("VariableInitializer1") && expectedType.equals("VariableInitializer")) return true;
-		if (type.equals("JMLModifier7") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("MemberFieldRef1") && expectedType.equals("MemberFieldRef")) return true;
-		if (type.equals("RequiresKeyword2") && expectedType.equals("RequiresKeyword")) return true;
-		if (type.equals("ForStatementInternal2") && expectedType.equals("ForStatementInternal")) return true;
-		if (type.equals("StoreRefName3") && expectedType.equals("StoreRefName")) return true;
-		if (type.equals("UnaryExpressionNotPlusMinus2") && expectedType.equals("UnaryExpressionNotPlusMinus")) return true;
-		if (type.equals("PrimitiveType1") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("ParamModifier1") && expectedType.equals("ParamModifier")) return true;
-		if (type.equals("PrimitiveType2") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("SpecCase3") && expectedType.equals("SpecCase")) return true;
-		if (type.equals("SignalsKeyword1") && expectedType.equals("SignalsKeyword")) return true;
-		if (type.equals("VariableInitializer2") && expectedType.equals("VariableInitializer")) return true;
-		if (type.equals("AssignableKeyword6") && expectedType.equals("AssignableKeyword")) return true;
-		if (type.equals("MemberFieldRef2") && expectedType.equals("MemberFieldRef")) return true;
-		if (type.equals("RequiresKeyword3") && expectedType.equals("RequiresKeyword")) return true;
-		if (type.equals("JMLModifier8") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("UnaryExpressionNotPlusMinus3") && expectedType.equals("UnaryExpressionNotPlusMinus")) return true;
-		if (type.equals("ForStatementInternal1") && expectedType.equals("ForStatementInternal")) return true;
-		if (type.equals("CastLookahead3") && expectedType.equals("CastLookahead")) return true;
-		if (type.equals("StoreRefName2") && expectedType.equals("StoreRefName")) return true;
-		if (type.equals("DivergesKeyword2") && expectedType.equals("DivergesKeyword")) return true;
-		if (type.equals("ParamModifier2") && expectedType.equals("ParamModifier")) return true;
-		if (type.equals("RelationalOp4") && expectedType.equals("RelationalOp")) return true;
-		if (type.equals("HeavyWeightSpecCase3") && expectedType.equals("HeavyWeightSpecCase")) return true;
-		if (type.equals("Annotation1") && expectedType.equals("Annotation")) return true;
-		if (type.equals("PrimitiveType3") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("SpecCase2") && expectedType.equals("SpecCase")) return true;
-		if (type.equals("RepresentsClause1") && expectedType.equals("RepresentsClause")) return true;
-		if (type.equals("ConditionalExpression2") && expectedType.equals("ConditionalExpression")) return true;
-		if (type.equals("JMLModifier5") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("StoreRefName1") && expectedType.equals("StoreRefName")) return true;
-		if (type.equals("MethodDeclarationBody1") && expectedType.equals("MethodDeclarationBody")) return true;
-		if (type.equals("JmlPrimary2") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("ClassOrInterfaceBodyDeclaration1") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("ParamModifier3") && expectedType.equals("ParamModifier")) return true;
-		if (type.equals("ModelProgStatement3") && expectedType.equals("ModelProgStatement")) return true;
-		if (type.equals("ReturnsKeyword1") && expectedType.equals("ReturnsKeyword")) return true;
-		if (type.equals("AbruptBehaviorKeyword1") && expectedType.equals("AbruptBehaviorKeyword")) return true;
-		if (type.equals("Annotation2") && expectedType.equals("Annotation")) return true;
-		if (type.equals("PrimitiveType4") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("SpecCase1") && expectedType.equals("SpecCase")) return true;
-		if (type.equals("RequiresKeyword1") && expectedType.equals("RequiresKeyword")) return true;
-		if (type.equals("MeasuredByKeyword1") && expectedType.equals("MeasuredByKeyword")) return true;
-		if (type.equals("JMLModifier6") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("ConditionalExpression1") && expectedType.equals("ConditionalExpression")) return true;
-		if (type.equals("JmlPrimary1") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("SignalsOnlyClause1") && expectedType.equals("SignalsOnlyClause")) return true;
-		if (type.equals("ForStatementInternal3") && expectedType.equals("ForStatementInternal")) return true;
-		if (type.equals("BooleanLiteral2") && expectedType.equals("BooleanLiteral")) return true;
-		if (type.equals("MethodOrConstructorKeyword2") && expectedType.equals("MethodOrConstructorKeyword")) return true;
-		if (type.equals("InnerEnumDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("UnaryExpressionNotPlusMinus1") && expectedType.equals("UnaryExpressionNotPlusMinus")) return true;
-		if (type.equals("WorkingSpaceKeyword1") && expectedType.equals("WorkingSpaceKeyword")) return true;
-		if (type.equals("ModelProgStatement4") && expectedType.equals("ModelProgStatement")) return true;
-		if (type.equals("SignalsOnlyKeyword1") && expectedType.equals("SignalsOnlyKeyword")) return true;
-		if (type.equals("ModelProgStatement1") && expectedType.equals("ModelProgStatement")) return true;
-		if (type.equals("MethodOrConstructorKeyword1") && expectedType.equals("MethodOrConstructorKeyword")) return true;
-		if (type.equals("Statement10") && expectedType.equals("Statement")) return true;
-		if (type.equals("SimpleSpecBodyClause6") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("ArrayDimsAndInits1") && expectedType.equals("ArrayDimsAndInits")) return true;
-		if (type.equals("MapsMemberRefExpr2") && expectedType.equals("MapsMemberRefExpr")) return true;
-		if (type.equals("CallableKeyword1") && expectedType.equals("CallableKeyword")) return true;
-		if (type.equals("ReturnsKeyword2") && expectedType.equals("ReturnsKeyword")) return true;
-		if (type.equals("RepresentsClause3") && expectedType.equals("RepresentsClause")) return true;
-		if (type.equals("CallableKeyword2") && expectedType.equals("CallableKeyword")) return true;
-		if (type.equals("CastExpression2") && expectedType.equals("CastExpression")) return true;
-		if (type.equals("JMLModifier3") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("MeasuredByKeyword2") && expectedType.equals("MeasuredByKeyword")) return true;
-		if (type.equals("JmlPrimary25") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("JmlPrimary11") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("Annotation3") && expectedType.equals("Annotation")) return true;
-		if (type.equals("Quantifier4") && expectedType.equals("Quantifier")) return true;
-		if (type.equals("UnaryExpression3") && expectedType.equals("UnaryExpression")) return true;
-		if (type.equals("PostfixOp1") && expectedType.equals("PostfixOp")) return true;
-		if (type.equals("GenericSpecBody2") && expectedType.equals("GenericSpecBody")) return true;
-		if (type.equals("MapsKeyword2") && expectedType.equals("MapsKeyword")) return true;
-		if (type.equals("SpecInitializer2") && expectedType.equals("SpecInitializer")) return true;
-		if (type.equals("OldExpression2") && expectedType.equals("OldExpression")) return true;
-		if (type.equals("JMLModifier18") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("StoreRefKeyword1") && expectedType.equals("StoreRefKeyword")) return true;
-		if (type.equals("SwitchLabel2") && expectedType.equals("SwitchLabel")) return true;
-		if (type.equals("ModelProgStatement2") && expectedType.equals("ModelProgStatement")) return true;
-		if (type.equals("SimpleSpecBodyClause7") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("Statement11") && expectedType.equals("Statement")) return true;
-		if (type.equals("ArrayDimsAndInits2") && expectedType.equals("ArrayDimsAndInits")) return true;
-		if (type.equals("InnerClassDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("JMLModifier4") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("CastExpression1") && expectedType.equals("CastExpression")) return true;
-		if (type.equals("JmlPrimary24") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("RepresentsClause2") && expectedType.equals("RepresentsClause")) return true;
-		if (type.equals("JmlPrimary10") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("ExceptionalBehaviorKeyword2") && expectedType.equals("ExceptionalBehaviorKeyword")) return true;
-		if (type.equals("ContinuesKeyword1") && expectedType.equals("ContinuesKeyword")) return true;
-		if (type.equals("PostfixOp2") && expectedType.equals("PostfixOp")) return true;
-		if (type.equals("GenericSpecBody1") && expectedType.equals("GenericSpecBody")) return true;
-		if (type.equals("Quantifier3") && expectedType.equals("Quantifier")) return true;
-		if (type.equals("UnaryExpression2") && expectedType.equals("UnaryExpression")) return true;
-		if (type.equals("SwitchLabel1") && expectedType.equals("SwitchLabel")) return true;
-		if (type.equals("ShiftOp2") && expectedType.equals("ShiftOp")) return true;
-		if (type.equals("ExceptionalBehaviorKeyword1") && expectedType.equals("ExceptionalBehaviorKeyword")) return true;
-		if (type.equals("CastLookahead2") && expectedType.equals("CastLookahead")) return true;
-		if (type.equals("AdditiveOp1") && expectedType.equals("AdditiveOp")) return true;
-		if (type.equals("ContinuesKeyword2") && expectedType.equals("ContinuesKeyword")) return true;
-		if (type.equals("SimpleSpecBodyClause8") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("EnumConstant1") && expectedType.equals("EnumConstant")) return true;
-		if (type.equals("ImportDeclarationWr2") && expectedType.equals("ImportDeclarationWr")) return true;
-		if (type.equals("AdditiveOp2") && expectedType.equals("AdditiveOp")) return true;
-		if (type.equals("JmlPrimary23") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("Quantifier2") && expectedType.equals("Quantifier")) return true;
-		if (type.equals("JMLModifier1") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("InitializerDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("Literal6") && expectedType.equals("Literal")) return true;
-		if (type.equals("NormalBehaviorKeyword1") && expectedType.equals("NormalBehaviorKeyword")) return true;
-		if (type.equals("JmlPrimary13") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("UnaryOp2") && expectedType.equals("UnaryOp")) return true;
-		if (type.equals("SignalsOnlyKeyword2") && expectedType.equals("SignalsOnlyKeyword")) return true;
-		if (type.equals("ShiftOp1") && expectedType.equals("ShiftOp")) return true;
-		if (type.equals("MapsMemberRefExpr1") && expectedType.equals("MapsMemberRefExpr")) return true;
-		if (type.equals("ConstructorDeclarationWithSpec") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("SimpleSpecBodyClause9") && expectedType.equals("SimpleSpecBodyClause")) return true;
-		if (type.equals("CastLookahead1") && expectedType.equals("CastLookahead")) return true;
-		if (type.equals("Quantifier1") && expectedType.equals("Quantifier")) return true;
-		if (type.equals("PrimaryPrefix8") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("JmlPrimary22") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("ImportDeclarationWr1") && expectedType.equals("ImportDeclarationWr")) return true;
-		if (type.equals("JMLModifier2") && expectedType.equals("JMLModifier")) return true;
-		if (type.equals("UnaryExpression4") && expectedType.equals("UnaryExpression")) return true;
-		if (type.equals("MethodDeclarationWithSpec") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("EnumConstant2") && expectedType.equals("EnumConstant")) return true;
-		if (type.equals("JmlPrimary12") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("NormalBehaviorKeyword2") && expectedType.equals("NormalBehaviorKeyword")) return true;
-		if (type.equals("Statement14") && expectedType.equals("Statement")) return true;
-		if (type.equals("MethodRefStart1") && expectedType.equals("MethodRefStart")) return true;
-		if (type.equals("UnaryOp1") && expectedType.equals("UnaryOp")) return true;
-		if (type.equals("EmptyDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("JmlPrimary15") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("Literal4") && expectedType.equals("Literal")) return true;
-		if (type.equals("JMLDeclaration10") && expectedType.equals("JMLDeclaration")) return true;
-		if (type.equals("PrimaryPrefix7") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("AnnotationInnerEnum") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("Statement15") && expectedType.equals("Statement")) return true;
-		if (type.equals("ShiftOp3") && expectedType.equals("ShiftOp")) return true;
-		if (type.equals("JmlPrimary14") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("Literal5") && expectedType.equals("Literal")) return true;
-		if (type.equals("Quantifier7") && expectedType.equals("Quantifier")) return true;
-		if (type.equals("PrimaryPrefix6") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("Statement12") && expectedType.equals("Statement")) return true;
-		if (type.equals("PrimaryPrefix4") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("MethodRefRest1") && expectedType.equals("MethodRefRest")) return true;
-		if (type.equals("GroupNamePrefix2") && expectedType.equals("GroupNamePrefix")) return true;
-		if (type.equals("JmlPrimary17") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("Literal2") && expectedType.equals("Literal")) return true;
-		if (type.equals("Quantifier6") && expectedType.equals("Quantifier")) return true;
-		if (type.equals("UnaryExpression1") && expectedType.equals("UnaryExpression")) return true;
-		if (type.equals("PrimaryPrefix5") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("RefiningStatement1") && expectedType.equals("RefiningStatement")) return true;
-		if (type.equals("BoundVarModifiers1") && expectedType.equals("BoundVarModifiers")) return true;
-		if (type.equals("Statement13") && expectedType.equals("Statement")) return true;
-		if (type.equals("PrimaryPrefix3") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("SpecInitializer1") && expectedType.equals("SpecInitializer")) return true;
-		if (type.equals("JmlPrimary16") && expectedType.equals("JmlPrimary")) return true;
-		if (type.equals("Quantifier5") && expectedType.equals("Quantifier")) return true;
-		if (type.equals("Literal3") && expectedType.equals("Literal")) return true;
-		if (type.equals("BoundVarModifiers2") && expectedType.equals("BoundVarModifiers")) return true;
-		if (type.equals("JmlPrimary26") && expectedType.equals("JmlPrimary")) return true;
-		return false;
+		return type.equals(expectedType) || expectedType.equals(getSupertype(type));
 	}
 }
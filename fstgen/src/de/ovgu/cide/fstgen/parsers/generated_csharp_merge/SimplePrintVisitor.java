@@ -4,6 +4,7 @@ import java.util.*;
 import cide.gast.*;
 
 import java.io.PrintStream;
+import java.io.Writer;
 
 import cide.languages.*;
 
@@ -13,23 +14,28 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 	public SimplePrintVisitor(PrintStream out) {
 		super(out); generateSpaces=true;
 	}
+	public SimplePrintVisitor(Writer out) {
+		super(out); generateSpaces=true;
+	}
 	public SimplePrintVisitor() {
 		super(); generateSpaces=true;
 	}
 	public boolean visit(FSTNonTerminal nonTerminal) {
-		if (nonTerminal.getType().equals("compilation_unit")) {
+		switch (nonTerminal.getType()) {
+		case "compilation_unit": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"using_directive")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("using_directive")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "attributes_either");
+				FSTNode v=children.getChild("attributes_either");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "compilation_unitEnd");
+				FSTNode v=children.getChild("compilation_unitEnd");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -37,28 +43,30 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("compilation_unitEnd")) {
+		case "compilation_unitEnd": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"namespace_member_declaration_no_attr")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("namespace_member_declaration_no_attr")) {
 				v.accept(this);
 			}
-			for (FSTNode v : getChildren(nonTerminal,"namespace_member_declaration")) {
+			for (FSTNode v : children.getChildren("namespace_member_declaration")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("namespace_declaration")) {
+		case "namespace_declaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("namespace");
 			{
-				FSTNode v=getChild(nonTerminal, "type_name");
+				FSTNode v=children.getChild("type_name");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "namespace_body");
+				FSTNode v=children.getChild("namespace_body");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -66,15 +74,16 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("namespace_body")) {
+		case "namespace_body": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("{");
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"using_directive")) {
+			for (FSTNode v : children.getChildren("using_directive")) {
 				v.accept(this);
 			}
-			for (FSTNode v : getChildren(nonTerminal,"namespace_member_declaration")) {
+			for (FSTNode v : children.getChildren("namespace_member_declaration")) {
 				v.accept(this);
 			}
 			hintDecIndent();
@@ -84,10 +93,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("namespace_member_declaration_no_attr1")) {
+		case "namespace_member_declaration_no_attr1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "namespace_declaration");
+				FSTNode v=children.getChild("namespace_declaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -95,16 +105,17 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("namespace_member_declaration_no_attr2")) {
+		case "namespace_member_declaration_no_attr2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "class_modifiers");
+				FSTNode v=children.getChild("class_modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "type_declaration");
+				FSTNode v=children.getChild("type_declaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -112,10 +123,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("namespace_member_declaration1")) {
+		case "namespace_member_declaration1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "namespace_declaration");
+				FSTNode v=children.getChild("namespace_declaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -123,22 +135,23 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("namespace_member_declaration2")) {
+		case "namespace_member_declaration2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "attributes");
+				FSTNode v=children.getChild("attributes");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "class_modifiers");
+				FSTNode v=children.getChild("class_modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "namespace_member_declarationEnd");
+				FSTNode v=children.getChild("namespace_member_declarationEnd");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -146,10 +159,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("namespace_member_declarationEnd1")) {
+		case "namespace_member_declarationEnd1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "type_declaration");
+				FSTNode v=children.getChild("type_declaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -157,16 +171,17 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("namespace_member_declarationEnd2")) {
+		case "namespace_member_declarationEnd2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "type");
+				FSTNode v=children.getChild("type");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "typeEnd");
+				FSTNode v=children.getChild("typeEnd");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -174,10 +189,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("type_declaration1")) {
+		case "type_declaration1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "class_declaration");
+				FSTNode v=children.getChild("class_declaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -185,10 +201,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("type_declaration2")) {
+		case "type_declaration2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "struct_declaration");
+				FSTNode v=children.getChild("struct_declaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -196,10 +213,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("type_declaration3")) {
+		case "type_declaration3": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "interface_declaration");
+				FSTNode v=children.getChild("interface_declaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -207,10 +225,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("type_declaration4")) {
+		case "type_declaration4": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "enum_declaration");
+				FSTNode v=children.getChild("enum_declaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -218,10 +237,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("type_declaration5")) {
+		case "type_declaration5": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "delegate_declaration");
+				FSTNode v=children.getChild("delegate_declaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -229,35 +249,36 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("class_declaration")) {
+		case "class_declaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("class");
 			{
-				FSTNode v=getChild(nonTerminal, "identifier");
+				FSTNode v=children.getChild("identifier");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "type_parameter_list");
+				FSTNode v=children.getChild("type_parameter_list");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "class_base");
+				FSTNode v=children.getChild("class_base");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "type_parameter_constraint_clauses");
+				FSTNode v=children.getChild("type_parameter_constraint_clauses");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "class_body");
+				FSTNode v=children.getChild("class_body");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -265,12 +286,13 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("class_body")) {
+		case "class_body": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("{");
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"class_member_declaration")) {
+			for (FSTNode v : children.getChildren("class_member_declaration")) {
 				v.accept(this);
 			}
 			hintDecIndent();
@@ -280,22 +302,23 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("class_member_declaration")) {
+		case "class_member_declaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "attributes");
+				FSTNode v=children.getChild("attributes");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "class_modifiers");
+				FSTNode v=children.getChild("class_modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "class_member_declarationEnd");
+				FSTNode v=children.getChild("class_member_declarationEnd");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -303,10 +326,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("class_member_declarationEnd5")) {
+		case "class_member_declarationEnd5": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "type_declaration");
+				FSTNode v=children.getChild("type_declaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -314,35 +338,36 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("struct_declaration")) {
+		case "struct_declaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("struct");
 			{
-				FSTNode v=getChild(nonTerminal, "identifier");
+				FSTNode v=children.getChild("identifier");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "type_parameter_list");
+				FSTNode v=children.getChild("type_parameter_list");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "base_interfaces");
+				FSTNode v=children.getChild("base_interfaces");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "type_parameter_constraint_clauses");
+				FSTNode v=children.getChild("type_parameter_constraint_clauses");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "class_body");
+				FSTNode v=children.getChild("class_body");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -350,11 +375,12 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("base_interfaces")) {
+		case "base_interfaces": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken(":");
 			{
-				FSTNode v=getChild(nonTerminal, "interface_type_list");
+				FSTNode v=children.getChild("interface_type_list");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -362,35 +388,36 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("interface_declaration")) {
+		case "interface_declaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("interface");
 			{
-				FSTNode v=getChild(nonTerminal, "identifier");
+				FSTNode v=children.getChild("identifier");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "type_parameter_list");
+				FSTNode v=children.getChild("type_parameter_list");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "base_interfaces");
+				FSTNode v=children.getChild("base_interfaces");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "type_parameter_constraint_clauses");
+				FSTNode v=children.getChild("type_parameter_constraint_clauses");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "interface_body");
+				FSTNode v=children.getChild("interface_body");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -398,12 +425,13 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("interface_body")) {
+		case "interface_body": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("{");
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"interface_member_declaration")) {
+			for (FSTNode v : children.getChildren("interface_member_declaration")) {
 				v.accept(this);
 			}
 			hintDecIndent();
@@ -413,23 +441,24 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("enum_declaration")) {
+		case "enum_declaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("enum");
 			{
-				FSTNode v=getChild(nonTerminal, "identifier");
+				FSTNode v=children.getChild("identifier");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "enum_base");
+				FSTNode v=children.getChild("enum_base");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "enum_body");
+				FSTNode v=children.getChild("enum_body");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -437,36 +466,37 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("delegate_declaration")) {
+		case "delegate_declaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("delegate");
 			{
-				FSTNode v=getChild(nonTerminal, "type");
+				FSTNode v=children.getChild("type");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "identifier");
+				FSTNode v=children.getChild("identifier");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "type_parameter_list");
+				FSTNode v=children.getChild("type_parameter_list");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("(");
 			{
-				FSTNode v=getChild(nonTerminal, "formal_parameter_list");
+				FSTNode v=children.getChild("formal_parameter_list");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "type_parameter_constraint_clauses");
+				FSTNode v=children.getChild("type_parameter_constraint_clauses");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -477,325 +507,330 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
+		}
 		throw new RuntimeException("Unknown Non Terminal in FST "+nonTerminal);
 	}
+	protected String getSupertype(String type) {
+		switch (type) {
+		case "ConstructorDecl": return "typeEnd";
+		case "FieldDecl": return "type_nameEnd";
+		case "IDENTIFIER_CSHARP1": return "IDENTIFIER_CSHARP";
+		case "IDENTIFIER_CSHARP2": return "IDENTIFIER_CSHARP";
+		case "IDENTIFIER_CSHARP3": return "IDENTIFIER_CSHARP";
+		case "IDENTIFIER_CSHARP4": return "IDENTIFIER_CSHARP";
+		case "IDENTIFIER_CSHARP5": return "IDENTIFIER_CSHARP";
+		case "IDENTIFIER_CSHARP6": return "IDENTIFIER_CSHARP";
+		case "IDENTIFIER_CSHARP7": return "IDENTIFIER_CSHARP";
+		case "IDENTIFIER_CSHARP8": return "IDENTIFIER_CSHARP";
+		case "IDENTIFIER_CSHARP9": return "IDENTIFIER_CSHARP";
+		case "MethodDecl": return "type_nameEnd";
+		case "PropertyDecl": return "type_nameEnd";
+		case "accessor_modifier1": return "accessor_modifier";
+		case "accessor_modifier2": return "accessor_modifier";
+		case "accessor_modifier3": return "accessor_modifier";
+		case "additive_operator1": return "additive_operator";
+		case "additive_operator2": return "additive_operator";
+		case "anonymous_function_body1": return "anonymous_function_body";
+		case "anonymous_function_body2": return "anonymous_function_body";
+		case "argumentPrefix1": return "argumentPrefix";
+		case "argumentPrefix2": return "argumentPrefix";
+		case "argumentPrefix3": return "argumentPrefix";
+		case "array_creation_postfix_expressionInternal1": return "array_creation_postfix_expressionInternal";
+		case "array_creation_postfix_expressionInternal2": return "array_creation_postfix_expressionInternal";
+		case "array_creation_postfix_expressionInternal3": return "array_creation_postfix_expressionInternal";
+		case "array_creation_postfix_expressionInternal4": return "array_creation_postfix_expressionInternal";
+		case "array_creation_postfix_expressionInternal5": return "array_creation_postfix_expressionInternal";
+		case "assignment_operator1": return "assignment_operator";
+		case "assignment_operator10": return "assignment_operator";
+		case "assignment_operator11": return "assignment_operator";
+		case "assignment_operator12": return "assignment_operator";
+		case "assignment_operator13": return "assignment_operator";
+		case "assignment_operator14": return "assignment_operator";
+		case "assignment_operator2": return "assignment_operator";
+		case "assignment_operator3": return "assignment_operator";
+		case "assignment_operator4": return "assignment_operator";
+		case "assignment_operator5": return "assignment_operator";
+		case "assignment_operator6": return "assignment_operator";
+		case "assignment_operator7": return "assignment_operator";
+		case "assignment_operator8": return "assignment_operator";
+		case "assignment_operator9": return "assignment_operator";
+		case "attribute_sectionEnd1": return "attribute_sectionEnd";
+		case "attribute_sectionEnd2": return "attribute_sectionEnd";
+		case "attribute_sectionEnd3": return "attribute_sectionEnd";
+		case "attribute_section_start1": return "attribute_section_start";
+		case "attribute_section_start2": return "attribute_section_start";
+		case "attribute_target1": return "attribute_target";
+		case "attribute_target2": return "attribute_target";
+		case "attribute_target3": return "attribute_target";
+		case "attribute_target_specifier_mod1": return "attribute_target_specifier_mod";
+		case "attribute_target_specifier_mod2": return "attribute_target_specifier_mod";
+		case "base_access1": return "base_access";
+		case "base_access2": return "base_access";
+		case "body1": return "body";
+		case "body2": return "body";
+		case "boolean_literal1": return "boolean_literal";
+		case "boolean_literal2": return "boolean_literal";
+		case "catch_clauseEnd1": return "catch_clauseEnd";
+		case "catch_clauseEnd2": return "catch_clauseEnd";
+		case "class_member_declarationEnd1": return "class_member_declarationEnd";
+		case "class_member_declarationEnd2": return "class_member_declarationEnd";
+		case "class_member_declarationEnd3": return "class_member_declarationEnd";
+		case "class_member_declarationEnd4": return "class_member_declarationEnd";
+		case "class_member_declarationEnd5": return "class_member_declarationEnd";
+		case "class_member_declarationEnd6": return "class_member_declarationEnd";
+		case "class_member_declarationEnd7": return "class_member_declarationEnd";
+		case "class_modifier1": return "class_modifier";
+		case "class_modifier10": return "class_modifier";
+		case "class_modifier11": return "class_modifier";
+		case "class_modifier12": return "class_modifier";
+		case "class_modifier13": return "class_modifier";
+		case "class_modifier14": return "class_modifier";
+		case "class_modifier15": return "class_modifier";
+		case "class_modifier2": return "class_modifier";
+		case "class_modifier3": return "class_modifier";
+		case "class_modifier4": return "class_modifier";
+		case "class_modifier5": return "class_modifier";
+		case "class_modifier6": return "class_modifier";
+		case "class_modifier7": return "class_modifier";
+		case "class_modifier8": return "class_modifier";
+		case "class_modifier9": return "class_modifier";
+		case "class_type1": return "class_type";
+		case "class_type2": return "class_type";
+		case "class_type3": return "class_type";
+		case "constructor_initializerInt1": return "constructor_initializerInt";
+		case "constructor_initializerInt2": return "constructor_initializerInt";
+		case "conversion_operator1": return "conversion_operator";
+		case "conversion_operator2": return "conversion_operator";
+		case "creation_expressionPostFix1": return "creation_expressionPostFix";
+		case "creation_expressionPostFix2": return "creation_expressionPostFix";
+		case "creation_expressionPostFix3": return "creation_expressionPostFix";
+		case "embedded_statement1": return "embedded_statement";
+		case "embedded_statement10": return "embedded_statement";
+		case "embedded_statement11": return "embedded_statement";
+		case "embedded_statement12": return "embedded_statement";
+		case "embedded_statement13": return "embedded_statement";
+		case "embedded_statement14": return "embedded_statement";
+		case "embedded_statement2": return "embedded_statement";
+		case "embedded_statement3": return "embedded_statement";
+		case "embedded_statement4": return "embedded_statement";
+		case "embedded_statement5": return "embedded_statement";
+		case "embedded_statement6": return "embedded_statement";
+		case "embedded_statement7": return "embedded_statement";
+		case "embedded_statement8": return "embedded_statement";
+		case "embedded_statement9": return "embedded_statement";
+		case "equality_operator1": return "equality_operator";
+		case "equality_operator2": return "equality_operator";
+		case "event_declarationInt1": return "event_declarationInt";
+		case "event_declarationInt2": return "event_declarationInt";
+		case "explicit_anonymous_function_parameter_modifier1": return "explicit_anonymous_function_parameter_modifier";
+		case "explicit_anonymous_function_parameter_modifier2": return "explicit_anonymous_function_parameter_modifier";
+		case "expression1": return "expression";
+		case "expression2": return "expression";
+		case "expression3": return "expression";
+		case "floating_point_type1": return "floating_point_type";
+		case "floating_point_type2": return "floating_point_type";
+		case "for_initializer1": return "for_initializer";
+		case "for_initializer2": return "for_initializer";
+		case "formal_parameter_listEnd1": return "formal_parameter_listEnd";
+		case "formal_parameter_listEnd2": return "formal_parameter_listEnd";
+		case "formal_parameter_listEndInt1": return "formal_parameter_listEndInt";
+		case "formal_parameter_listEndInt2": return "formal_parameter_listEndInt";
+		case "global_attribute_target1": return "global_attribute_target";
+		case "global_attribute_target2": return "global_attribute_target";
+		case "goto_statementEnd1": return "goto_statementEnd";
+		case "goto_statementEnd2": return "goto_statementEnd";
+		case "goto_statementEnd3": return "goto_statementEnd";
+		case "identifier1": return "identifier";
+		case "identifier2": return "identifier";
+		case "identifier3": return "identifier";
+		case "implicit_anonymous_function_signature1": return "implicit_anonymous_function_signature";
+		case "implicit_anonymous_function_signature2": return "implicit_anonymous_function_signature";
+		case "indexer_baseInt1": return "indexer_baseInt";
+		case "indexer_baseInt2": return "indexer_baseInt";
+		case "integral_type1": return "integral_type";
+		case "integral_type2": return "integral_type";
+		case "integral_type3": return "integral_type";
+		case "integral_type4": return "integral_type";
+		case "integral_type5": return "integral_type";
+		case "integral_type6": return "integral_type";
+		case "integral_type7": return "integral_type";
+		case "integral_type8": return "integral_type";
+		case "integral_type9": return "integral_type";
+		case "interface_member_declarationEnd1": return "interface_member_declarationEnd";
+		case "interface_member_declarationEnd2": return "interface_member_declarationEnd";
+		case "interface_member_declarationEndType1": return "interface_member_declarationEndType";
+		case "interface_member_declarationEndType2": return "interface_member_declarationEndType";
+		case "interface_member_declarationEndTypeIdentifier1": return "interface_member_declarationEndTypeIdentifier";
+		case "interface_member_declarationEndTypeIdentifier2": return "interface_member_declarationEndTypeIdentifier";
+		case "interface_member_modifier1": return "interface_member_modifier";
+		case "interface_member_modifier2": return "interface_member_modifier";
+		case "iteration_statement1": return "iteration_statement";
+		case "iteration_statement2": return "iteration_statement";
+		case "iteration_statement3": return "iteration_statement";
+		case "iteration_statement4": return "iteration_statement";
+		case "jump_statement1": return "jump_statement";
+		case "jump_statement2": return "jump_statement";
+		case "jump_statement3": return "jump_statement";
+		case "jump_statement4": return "jump_statement";
+		case "jump_statement5": return "jump_statement";
+		case "literal1": return "literal";
+		case "literal2": return "literal";
+		case "literal3": return "literal";
+		case "literal4": return "literal";
+		case "literal5": return "literal";
+		case "literal6": return "literal";
+		case "literal7": return "literal";
+		case "local_variable_initializer1": return "local_variable_initializer";
+		case "local_variable_initializer2": return "local_variable_initializer";
+		case "local_variable_initializer3": return "local_variable_initializer";
+		case "multiplicative_operator1": return "multiplicative_operator";
+		case "multiplicative_operator2": return "multiplicative_operator";
+		case "multiplicative_operator3": return "multiplicative_operator";
+		case "namespace_member_declaration1": return "namespace_member_declaration";
+		case "namespace_member_declaration2": return "namespace_member_declaration";
+		case "namespace_member_declarationEnd1": return "namespace_member_declarationEnd";
+		case "namespace_member_declarationEnd2": return "namespace_member_declarationEnd";
+		case "namespace_member_declaration_no_attr1": return "namespace_member_declaration_no_attr";
+		case "namespace_member_declaration_no_attr2": return "namespace_member_declaration_no_attr";
+		case "non_array_type1": return "non_array_type";
+		case "non_array_type2": return "non_array_type";
+		case "numeric_type1": return "numeric_type";
+		case "numeric_type2": return "numeric_type";
+		case "numeric_type3": return "numeric_type";
+		case "operator_declaration1": return "operator_declaration";
+		case "operator_declaration2": return "operator_declaration";
+		case "overloadable_binary_operator1": return "overloadable_binary_operator";
+		case "overloadable_binary_operator10": return "overloadable_binary_operator";
+		case "overloadable_binary_operator11": return "overloadable_binary_operator";
+		case "overloadable_binary_operator12": return "overloadable_binary_operator";
+		case "overloadable_binary_operator13": return "overloadable_binary_operator";
+		case "overloadable_binary_operator14": return "overloadable_binary_operator";
+		case "overloadable_binary_operator15": return "overloadable_binary_operator";
+		case "overloadable_binary_operator16": return "overloadable_binary_operator";
+		case "overloadable_binary_operator2": return "overloadable_binary_operator";
+		case "overloadable_binary_operator3": return "overloadable_binary_operator";
+		case "overloadable_binary_operator4": return "overloadable_binary_operator";
+		case "overloadable_binary_operator5": return "overloadable_binary_operator";
+		case "overloadable_binary_operator6": return "overloadable_binary_operator";
+		case "overloadable_binary_operator7": return "overloadable_binary_operator";
+		case "overloadable_binary_operator8": return "overloadable_binary_operator";
+		case "overloadable_binary_operator9": return "overloadable_binary_operator";
+		case "overloadable_unary_operator1": return "overloadable_unary_operator";
+		case "overloadable_unary_operator2": return "overloadable_unary_operator";
+		case "overloadable_unary_operator3": return "overloadable_unary_operator";
+		case "overloadable_unary_operator4": return "overloadable_unary_operator";
+		case "overloadable_unary_operator5": return "overloadable_unary_operator";
+		case "overloadable_unary_operator6": return "overloadable_unary_operator";
+		case "overloadable_unary_operator7": return "overloadable_unary_operator";
+		case "overloadable_unary_operator8": return "overloadable_unary_operator";
+		case "parameter_modifier1": return "parameter_modifier";
+		case "parameter_modifier2": return "parameter_modifier";
+		case "parameter_modifier3": return "parameter_modifier";
+		case "predefined_type1": return "predefined_type";
+		case "predefined_type2": return "predefined_type";
+		case "predefined_type3": return "predefined_type";
+		case "predefined_type4": return "predefined_type";
+		case "primary_constraint1": return "primary_constraint";
+		case "primary_constraint2": return "primary_constraint";
+		case "primary_constraint3": return "primary_constraint";
+		case "primary_expression1": return "primary_expression";
+		case "primary_expression2": return "primary_expression";
+		case "primary_expression_postfixInternal1": return "primary_expression_postfixInternal";
+		case "primary_expression_postfixInternal2": return "primary_expression_postfixInternal";
+		case "primary_expression_postfixInternal3": return "primary_expression_postfixInternal";
+		case "primary_expression_postfixInternal4": return "primary_expression_postfixInternal";
+		case "primary_expression_postfixInternal5": return "primary_expression_postfixInternal";
+		case "primary_expression_postfixInternal6": return "primary_expression_postfixInternal";
+		case "primary_expression_start1": return "primary_expression_start";
+		case "primary_expression_start10": return "primary_expression_start";
+		case "primary_expression_start11": return "primary_expression_start";
+		case "primary_expression_start12": return "primary_expression_start";
+		case "primary_expression_start13": return "primary_expression_start";
+		case "primary_expression_start2": return "primary_expression_start";
+		case "primary_expression_start3": return "primary_expression_start";
+		case "primary_expression_start4": return "primary_expression_start";
+		case "primary_expression_start5": return "primary_expression_start";
+		case "primary_expression_start6": return "primary_expression_start";
+		case "primary_expression_start7": return "primary_expression_start";
+		case "primary_expression_start8": return "primary_expression_start";
+		case "primary_expression_start9": return "primary_expression_start";
+		case "query_body_clause1": return "query_body_clause";
+		case "query_body_clause2": return "query_body_clause";
+		case "query_body_clause3": return "query_body_clause";
+		case "relational_expressionInternal1": return "relational_expressionInternal";
+		case "relational_expressionInternal2": return "relational_expressionInternal";
+		case "relational_operator1": return "relational_operator";
+		case "relational_operator2": return "relational_operator";
+		case "relational_operator2I1": return "relational_operator2I";
+		case "relational_operator2I2": return "relational_operator2I";
+		case "relational_operator3": return "relational_operator";
+		case "relational_operator4": return "relational_operator";
+		case "resource_acquisition1": return "resource_acquisition";
+		case "resource_acquisition2": return "resource_acquisition";
+		case "rest_of_array_initializer1": return "rest_of_array_initializer";
+		case "rest_of_array_initializer2": return "rest_of_array_initializer";
+		case "rest_of_array_initializerEnd1": return "rest_of_array_initializerEnd";
+		case "rest_of_array_initializerEnd2": return "rest_of_array_initializerEnd";
+		case "rest_of_enum_body1": return "rest_of_enum_body";
+		case "rest_of_enum_body2": return "rest_of_enum_body";
+		case "rest_of_enum_bodyEnd1": return "rest_of_enum_bodyEnd";
+		case "rest_of_enum_bodyEnd2": return "rest_of_enum_bodyEnd";
+		case "secondary_constraints1": return "secondary_constraints";
+		case "secondary_constraints2": return "secondary_constraints";
+		case "secondary_constraintsEnd1": return "secondary_constraintsEnd";
+		case "secondary_constraintsEnd2": return "secondary_constraintsEnd";
+		case "select_or_group_clause1": return "select_or_group_clause";
+		case "select_or_group_clause2": return "select_or_group_clause";
+		case "selection_statement1": return "selection_statement";
+		case "selection_statement2": return "selection_statement";
+		case "shift_operator1": return "shift_operator";
+		case "shift_operator2": return "shift_operator";
+		case "simple_type1": return "simple_type";
+		case "simple_type2": return "simple_type";
+		case "statement1": return "statement";
+		case "statement2": return "statement";
+		case "statement3": return "statement";
+		case "statement4": return "statement";
+		case "switch_label1": return "switch_label";
+		case "switch_label2": return "switch_label";
+		case "try_statement_clauses1": return "try_statement_clauses";
+		case "try_statement_clauses2": return "try_statement_clauses";
+		case "typeEnd2": return "typeEnd";
+		case "typeEnd3": return "typeEnd";
+		case "typeEnd4": return "typeEnd";
+		case "typeEnd5": return "typeEnd";
+		case "type_declaration1": return "type_declaration";
+		case "type_declaration2": return "type_declaration";
+		case "type_declaration3": return "type_declaration";
+		case "type_declaration4": return "type_declaration";
+		case "type_declaration5": return "type_declaration";
+		case "type_name_or_parameter1": return "type_name_or_parameter";
+		case "type_name_or_parameter2": return "type_name_or_parameter";
+		case "type_parameter_constraints1": return "type_parameter_constraints";
+		case "type_parameter_constraints2": return "type_parameter_constraints";
+		case "type_parameter_constraints3": return "type_parameter_constraints";
+		case "unary_expression1": return "unary_expression";
+		case "unary_expression2": return "unary_expression";
+		case "unary_expression3": return "unary_expression";
+		case "unary_operator1": return "unary_operator";
+		case "unary_operator2": return "unary_operator";
+		case "unary_operator3": return "unary_operator";
+		case "unary_operator4": return "unary_operator";
+		case "unary_operator5": return "unary_operator";
+		case "unary_operator6": return "unary_operator";
+		case "unary_operator7": return "unary_operator";
+		case "unary_operator8": return "unary_operator";
+		case "using_directiveEnd1": return "using_directiveEnd";
+		case "using_directiveEnd2": return "using_directiveEnd";
+		case "variable_initializer1": return "variable_initializer";
+		case "variable_initializer2": return "variable_initializer";
+		case "variable_initializer3": return "variable_initializer";
+		case "yield_statement_body1": return "yield_statement_body";
+		case "yield_statement_body2": return "yield_statement_body";
+		default: return null;
+		}
+	}
 	protected boolean isSubtype(String type, String expectedType) {
-		if (type.equals(expectedType)) return true;
-		if (type.equals("type_declaration2") && expectedType.equals("type_declaration")) return true;
-		if (type.equals("integral_type1") && expectedType.equals("integral_type")) return true;
-		if (type.equals("primary_expression_start12") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("local_variable_initializer3") && expectedType.equals("local_variable_initializer")) return true;
-		if (type.equals("class_modifier7") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("assignment_operator13") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("embedded_statement12") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("predefined_type2") && expectedType.equals("predefined_type")) return true;
-		if (type.equals("IDENTIFIER_CSHARP9") && expectedType.equals("IDENTIFIER_CSHARP")) return true;
-		if (type.equals("unary_operator6") && expectedType.equals("unary_operator")) return true;
-		if (type.equals("primary_constraint1") && expectedType.equals("primary_constraint")) return true;
-		if (type.equals("primary_expression2") && expectedType.equals("primary_expression")) return true;
-		if (type.equals("primary_expression_start1") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("numeric_type3") && expectedType.equals("numeric_type")) return true;
-		if (type.equals("assignment_operator2") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("MethodDecl") && expectedType.equals("type_nameEnd")) return true;
-		if (type.equals("using_directiveEnd2") && expectedType.equals("using_directiveEnd")) return true;
-		if (type.equals("assignment_operator14") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("class_modifier6") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("type_declaration3") && expectedType.equals("type_declaration")) return true;
-		if (type.equals("integral_type2") && expectedType.equals("integral_type")) return true;
-		if (type.equals("try_statement_clauses1") && expectedType.equals("try_statement_clauses")) return true;
-		if (type.equals("local_variable_initializer2") && expectedType.equals("local_variable_initializer")) return true;
-		if (type.equals("predefined_type1") && expectedType.equals("predefined_type")) return true;
-		if (type.equals("embedded_statement13") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("primary_expression_start11") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("IDENTIFIER_CSHARP8") && expectedType.equals("IDENTIFIER_CSHARP")) return true;
-		if (type.equals("unary_operator7") && expectedType.equals("unary_operator")) return true;
-		if (type.equals("primary_expression_start2") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("creation_expressionPostFix1") && expectedType.equals("creation_expressionPostFix")) return true;
-		if (type.equals("assignment_operator1") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("using_directiveEnd1") && expectedType.equals("using_directiveEnd")) return true;
-		if (type.equals("class_modifier9") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("creation_expressionPostFix2") && expectedType.equals("creation_expressionPostFix")) return true;
-		if (type.equals("assignment_operator11") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("try_statement_clauses2") && expectedType.equals("try_statement_clauses")) return true;
-		if (type.equals("FieldDecl") && expectedType.equals("type_nameEnd")) return true;
-		if (type.equals("type_declaration4") && expectedType.equals("type_declaration")) return true;
-		if (type.equals("conversion_operator2") && expectedType.equals("conversion_operator")) return true;
-		if (type.equals("explicit_anonymous_function_parameter_modifier1") && expectedType.equals("explicit_anonymous_function_parameter_modifier")) return true;
-		if (type.equals("embedded_statement14") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("catch_clauseEnd2") && expectedType.equals("catch_clauseEnd")) return true;
-		if (type.equals("attribute_target3") && expectedType.equals("attribute_target")) return true;
-		if (type.equals("unary_operator8") && expectedType.equals("unary_operator")) return true;
-		if (type.equals("namespace_member_declaration_no_attr2") && expectedType.equals("namespace_member_declaration_no_attr")) return true;
-		if (type.equals("assignment_operator4") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("assignment_operator12") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("class_modifier8") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("unary_expression3") && expectedType.equals("unary_expression")) return true;
-		if (type.equals("creation_expressionPostFix3") && expectedType.equals("creation_expressionPostFix")) return true;
-		if (type.equals("type_declaration5") && expectedType.equals("type_declaration")) return true;
-		if (type.equals("primary_expression_start13") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("explicit_anonymous_function_parameter_modifier2") && expectedType.equals("explicit_anonymous_function_parameter_modifier")) return true;
-		if (type.equals("conversion_operator1") && expectedType.equals("conversion_operator")) return true;
-		if (type.equals("catch_clauseEnd1") && expectedType.equals("catch_clauseEnd")) return true;
-		if (type.equals("namespace_member_declaration_no_attr1") && expectedType.equals("namespace_member_declaration_no_attr")) return true;
-		if (type.equals("assignment_operator3") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("attribute_target_specifier_mod2") && expectedType.equals("attribute_target_specifier_mod")) return true;
-		if (type.equals("goto_statementEnd3") && expectedType.equals("goto_statementEnd")) return true;
-		if (type.equals("accessor_modifier3") && expectedType.equals("accessor_modifier")) return true;
-		if (type.equals("select_or_group_clause2") && expectedType.equals("select_or_group_clause")) return true;
-		if (type.equals("body2") && expectedType.equals("body")) return true;
-		if (type.equals("integral_type5") && expectedType.equals("integral_type")) return true;
-		if (type.equals("class_modifier13") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("unary_expression2") && expectedType.equals("unary_expression")) return true;
-		if (type.equals("class_modifier14") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("primary_expression_start5") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("event_declarationInt1") && expectedType.equals("event_declarationInt")) return true;
-		if (type.equals("overloadable_unary_operator1") && expectedType.equals("overloadable_unary_operator")) return true;
-		if (type.equals("global_attribute_target2") && expectedType.equals("global_attribute_target")) return true;
-		if (type.equals("interface_member_declarationEnd2") && expectedType.equals("interface_member_declarationEnd")) return true;
-		if (type.equals("attribute_target1") && expectedType.equals("attribute_target")) return true;
-		if (type.equals("unary_operator2") && expectedType.equals("unary_operator")) return true;
-		if (type.equals("integral_type6") && expectedType.equals("integral_type")) return true;
-		if (type.equals("goto_statementEnd2") && expectedType.equals("goto_statementEnd")) return true;
-		if (type.equals("attribute_target_specifier_mod1") && expectedType.equals("attribute_target_specifier_mod")) return true;
-		if (type.equals("overloadable_binary_operator1") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("embedded_statement1") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("accessor_modifier2") && expectedType.equals("accessor_modifier")) return true;
-		if (type.equals("selection_statement1") && expectedType.equals("selection_statement")) return true;
-		if (type.equals("body1") && expectedType.equals("body")) return true;
-		if (type.equals("relational_operator1") && expectedType.equals("relational_operator")) return true;
-		if (type.equals("class_modifier12") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("unary_expression1") && expectedType.equals("unary_expression")) return true;
-		if (type.equals("primary_expression_start6") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("formal_parameter_listEndInt1") && expectedType.equals("formal_parameter_listEndInt")) return true;
-		if (type.equals("identifier3") && expectedType.equals("identifier")) return true;
-		if (type.equals("event_declarationInt2") && expectedType.equals("event_declarationInt")) return true;
-		if (type.equals("type_name_or_parameter2") && expectedType.equals("type_name_or_parameter")) return true;
-		if (type.equals("global_attribute_target1") && expectedType.equals("global_attribute_target")) return true;
-		if (type.equals("attribute_target2") && expectedType.equals("attribute_target")) return true;
-		if (type.equals("rest_of_array_initializerEnd2") && expectedType.equals("rest_of_array_initializerEnd")) return true;
-		if (type.equals("unary_operator3") && expectedType.equals("unary_operator")) return true;
-		if (type.equals("selection_statement2") && expectedType.equals("selection_statement")) return true;
-		if (type.equals("accessor_modifier1") && expectedType.equals("accessor_modifier")) return true;
-		if (type.equals("embedded_statement2") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("boolean_literal2") && expectedType.equals("boolean_literal")) return true;
-		if (type.equals("class_modifier11") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("integral_type3") && expectedType.equals("integral_type")) return true;
-		if (type.equals("local_variable_initializer1") && expectedType.equals("local_variable_initializer")) return true;
-		if (type.equals("operator_declaration1") && expectedType.equals("operator_declaration")) return true;
-		if (type.equals("identifier2") && expectedType.equals("identifier")) return true;
-		if (type.equals("rest_of_array_initializer1") && expectedType.equals("rest_of_array_initializer")) return true;
-		if (type.equals("overloadable_unary_operator3") && expectedType.equals("overloadable_unary_operator")) return true;
-		if (type.equals("formal_parameter_listEndInt2") && expectedType.equals("formal_parameter_listEndInt")) return true;
-		if (type.equals("floating_point_type2") && expectedType.equals("floating_point_type")) return true;
-		if (type.equals("indexer_baseInt1") && expectedType.equals("indexer_baseInt")) return true;
-		if (type.equals("primary_expression_start3") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("unary_operator4") && expectedType.equals("unary_operator")) return true;
-		if (type.equals("type_declaration1") && expectedType.equals("type_declaration")) return true;
-		if (type.equals("predefined_type3") && expectedType.equals("predefined_type")) return true;
-		if (type.equals("PropertyDecl") && expectedType.equals("type_nameEnd")) return true;
-		if (type.equals("boolean_literal1") && expectedType.equals("boolean_literal")) return true;
-		if (type.equals("embedded_statement3") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("class_modifier10") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("integral_type4") && expectedType.equals("integral_type")) return true;
-		if (type.equals("overloadable_unary_operator2") && expectedType.equals("overloadable_unary_operator")) return true;
-		if (type.equals("operator_declaration2") && expectedType.equals("operator_declaration")) return true;
-		if (type.equals("rest_of_array_initializer2") && expectedType.equals("rest_of_array_initializer")) return true;
-		if (type.equals("ConstructorDecl") && expectedType.equals("typeEnd")) return true;
-		if (type.equals("identifier1") && expectedType.equals("identifier")) return true;
-		if (type.equals("floating_point_type1") && expectedType.equals("floating_point_type")) return true;
-		if (type.equals("indexer_baseInt2") && expectedType.equals("indexer_baseInt")) return true;
-		if (type.equals("primary_expression_start4") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("predefined_type4") && expectedType.equals("predefined_type")) return true;
-		if (type.equals("unary_operator5") && expectedType.equals("unary_operator")) return true;
-		if (type.equals("class_modifier15") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("query_body_clause2") && expectedType.equals("query_body_clause")) return true;
-		if (type.equals("overloadable_binary_operator12") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("interface_member_modifier1") && expectedType.equals("interface_member_modifier")) return true;
-		if (type.equals("iteration_statement4") && expectedType.equals("iteration_statement")) return true;
-		if (type.equals("literal6") && expectedType.equals("literal")) return true;
-		if (type.equals("overloadable_unary_operator5") && expectedType.equals("overloadable_unary_operator")) return true;
-		if (type.equals("simple_type1") && expectedType.equals("simple_type")) return true;
-		if (type.equals("class_member_declarationEnd3") && expectedType.equals("class_member_declarationEnd")) return true;
-		if (type.equals("primary_expression_start9") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("overloadable_binary_operator5") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("relational_operator4") && expectedType.equals("relational_operator")) return true;
-		if (type.equals("base_access1") && expectedType.equals("base_access")) return true;
-		if (type.equals("yield_statement_body2") && expectedType.equals("yield_statement_body")) return true;
-		if (type.equals("embedded_statement4") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("for_initializer1") && expectedType.equals("for_initializer")) return true;
-		if (type.equals("integral_type9") && expectedType.equals("integral_type")) return true;
-		if (type.equals("namespace_member_declaration2") && expectedType.equals("namespace_member_declaration")) return true;
-		if (type.equals("shift_operator1") && expectedType.equals("shift_operator")) return true;
-		if (type.equals("overloadable_binary_operator11") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("rest_of_enum_body1") && expectedType.equals("rest_of_enum_body")) return true;
-		if (type.equals("query_body_clause3") && expectedType.equals("query_body_clause")) return true;
-		if (type.equals("interface_member_modifier2") && expectedType.equals("interface_member_modifier")) return true;
-		if (type.equals("literal5") && expectedType.equals("literal")) return true;
-		if (type.equals("overloadable_unary_operator4") && expectedType.equals("overloadable_unary_operator")) return true;
-		if (type.equals("array_creation_postfix_expressionInternal1") && expectedType.equals("array_creation_postfix_expressionInternal")) return true;
-		if (type.equals("simple_type2") && expectedType.equals("simple_type")) return true;
-		if (type.equals("class_member_declarationEnd2") && expectedType.equals("class_member_declarationEnd")) return true;
-		if (type.equals("base_access2") && expectedType.equals("base_access")) return true;
-		if (type.equals("yield_statement_body1") && expectedType.equals("yield_statement_body")) return true;
-		if (type.equals("overloadable_binary_operator4") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("IDENTIFIER_CSHARP1") && expectedType.equals("IDENTIFIER_CSHARP")) return true;
-		if (type.equals("for_initializer2") && expectedType.equals("for_initializer")) return true;
-		if (type.equals("embedded_statement5") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("primary_expression_postfixInternal1") && expectedType.equals("primary_expression_postfixInternal")) return true;
-		if (type.equals("rest_of_array_initializerEnd1") && expectedType.equals("rest_of_array_initializerEnd")) return true;
-		if (type.equals("iteration_statement2") && expectedType.equals("iteration_statement")) return true;
-		if (type.equals("overloadable_binary_operator10") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("type_name_or_parameter1") && expectedType.equals("type_name_or_parameter")) return true;
-		if (type.equals("statement1") && expectedType.equals("statement")) return true;
-		if (type.equals("rest_of_enum_body2") && expectedType.equals("rest_of_enum_body")) return true;
-		if (type.equals("typeEnd2") && expectedType.equals("typeEnd")) return true;
-		if (type.equals("class_member_declarationEnd1") && expectedType.equals("class_member_declarationEnd")) return true;
-		if (type.equals("class_modifier1") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("overloadable_unary_operator7") && expectedType.equals("overloadable_unary_operator")) return true;
-		if (type.equals("primary_expression_start7") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("IDENTIFIER_CSHARP2") && expectedType.equals("IDENTIFIER_CSHARP")) return true;
-		if (type.equals("multiplicative_operator3") && expectedType.equals("multiplicative_operator")) return true;
-		if (type.equals("relational_operator2") && expectedType.equals("relational_operator")) return true;
-		if (type.equals("jump_statement2") && expectedType.equals("jump_statement")) return true;
-		if (type.equals("overloadable_binary_operator3") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("formal_parameter_listEnd2") && expectedType.equals("formal_parameter_listEnd")) return true;
-		if (type.equals("primary_expression_postfixInternal2") && expectedType.equals("primary_expression_postfixInternal")) return true;
-		if (type.equals("secondary_constraints1") && expectedType.equals("secondary_constraints")) return true;
-		if (type.equals("embedded_statement6") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("integral_type7") && expectedType.equals("integral_type")) return true;
-		if (type.equals("goto_statementEnd1") && expectedType.equals("goto_statementEnd")) return true;
-		if (type.equals("resource_acquisition1") && expectedType.equals("resource_acquisition")) return true;
-		if (type.equals("iteration_statement3") && expectedType.equals("iteration_statement")) return true;
-		if (type.equals("query_body_clause1") && expectedType.equals("query_body_clause")) return true;
-		if (type.equals("literal7") && expectedType.equals("literal")) return true;
-		if (type.equals("unary_operator1") && expectedType.equals("unary_operator")) return true;
-		if (type.equals("statement2") && expectedType.equals("statement")) return true;
-		if (type.equals("interface_member_declarationEnd1") && expectedType.equals("interface_member_declarationEnd")) return true;
-		if (type.equals("typeEnd3") && expectedType.equals("typeEnd")) return true;
-		if (type.equals("primary_expression_start8") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("overloadable_unary_operator6") && expectedType.equals("overloadable_unary_operator")) return true;
-		if (type.equals("IDENTIFIER_CSHARP3") && expectedType.equals("IDENTIFIER_CSHARP")) return true;
-		if (type.equals("embedded_statement7") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("relational_operator3") && expectedType.equals("relational_operator")) return true;
-		if (type.equals("overloadable_binary_operator2") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("select_or_group_clause1") && expectedType.equals("select_or_group_clause")) return true;
-		if (type.equals("primary_expression_postfixInternal3") && expectedType.equals("primary_expression_postfixInternal")) return true;
-		if (type.equals("jump_statement1") && expectedType.equals("jump_statement")) return true;
-		if (type.equals("integral_type8") && expectedType.equals("integral_type")) return true;
-		if (type.equals("namespace_member_declaration1") && expectedType.equals("namespace_member_declaration")) return true;
-		if (type.equals("secondary_constraints2") && expectedType.equals("secondary_constraints")) return true;
-		if (type.equals("resource_acquisition2") && expectedType.equals("resource_acquisition")) return true;
-		if (type.equals("type_parameter_constraints3") && expectedType.equals("type_parameter_constraints")) return true;
-		if (type.equals("shift_operator2") && expectedType.equals("shift_operator")) return true;
-		if (type.equals("interface_member_declarationEndTypeIdentifier2") && expectedType.equals("interface_member_declarationEndTypeIdentifier")) return true;
-		if (type.equals("class_member_declarationEnd7") && expectedType.equals("class_member_declarationEnd")) return true;
-		if (type.equals("relational_expressionInternal1") && expectedType.equals("relational_expressionInternal")) return true;
-		if (type.equals("overloadable_binary_operator16") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("typeEnd4") && expectedType.equals("typeEnd")) return true;
-		if (type.equals("class_type1") && expectedType.equals("class_type")) return true;
-		if (type.equals("statement3") && expectedType.equals("statement")) return true;
-		if (type.equals("jump_statement4") && expectedType.equals("jump_statement")) return true;
-		if (type.equals("literal2") && expectedType.equals("literal")) return true;
-		if (type.equals("secondary_constraintsEnd2") && expectedType.equals("secondary_constraintsEnd")) return true;
-		if (type.equals("array_creation_postfix_expressionInternal4") && expectedType.equals("array_creation_postfix_expressionInternal")) return true;
-		if (type.equals("implicit_anonymous_function_signature1") && expectedType.equals("implicit_anonymous_function_signature")) return true;
-		if (type.equals("variable_initializer2") && expectedType.equals("variable_initializer")) return true;
-		if (type.equals("assignment_operator8") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("equality_operator1") && expectedType.equals("equality_operator")) return true;
-		if (type.equals("primary_expression_postfixInternal4") && expectedType.equals("primary_expression_postfixInternal")) return true;
-		if (type.equals("attribute_sectionEnd3") && expectedType.equals("attribute_sectionEnd")) return true;
-		if (type.equals("type_parameter_constraints2") && expectedType.equals("type_parameter_constraints")) return true;
-		if (type.equals("class_modifier3") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("rest_of_enum_bodyEnd1") && expectedType.equals("rest_of_enum_bodyEnd")) return true;
-		if (type.equals("overloadable_binary_operator9") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("IDENTIFIER_CSHARP4") && expectedType.equals("IDENTIFIER_CSHARP")) return true;
-		if (type.equals("multiplicative_operator1") && expectedType.equals("multiplicative_operator")) return true;
-		if (type.equals("embedded_statement8") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("interface_member_declarationEndTypeIdentifier1") && expectedType.equals("interface_member_declarationEndTypeIdentifier")) return true;
-		if (type.equals("class_member_declarationEnd6") && expectedType.equals("class_member_declarationEnd")) return true;
-		if (type.equals("overloadable_binary_operator15") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("typeEnd5") && expectedType.equals("typeEnd")) return true;
-		if (type.equals("class_modifier2") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("relational_expressionInternal2") && expectedType.equals("relational_expressionInternal")) return true;
-		if (type.equals("jump_statement3") && expectedType.equals("jump_statement")) return true;
-		if (type.equals("literal1") && expectedType.equals("literal")) return true;
-		if (type.equals("iteration_statement1") && expectedType.equals("iteration_statement")) return true;
-		if (type.equals("overloadable_unary_operator8") && expectedType.equals("overloadable_unary_operator")) return true;
-		if (type.equals("class_type2") && expectedType.equals("class_type")) return true;
-		if (type.equals("array_creation_postfix_expressionInternal5") && expectedType.equals("array_creation_postfix_expressionInternal")) return true;
-		if (type.equals("parameter_modifier2") && expectedType.equals("parameter_modifier")) return true;
-		if (type.equals("statement4") && expectedType.equals("statement")) return true;
-		if (type.equals("parameter_modifier1") && expectedType.equals("parameter_modifier")) return true;
-		if (type.equals("variable_initializer1") && expectedType.equals("variable_initializer")) return true;
-		if (type.equals("assignment_operator9") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("attribute_sectionEnd2") && expectedType.equals("attribute_sectionEnd")) return true;
-		if (type.equals("formal_parameter_listEnd1") && expectedType.equals("formal_parameter_listEnd")) return true;
-		if (type.equals("rest_of_enum_bodyEnd2") && expectedType.equals("rest_of_enum_bodyEnd")) return true;
-		if (type.equals("argumentPrefix1") && expectedType.equals("argumentPrefix")) return true;
-		if (type.equals("type_parameter_constraints1") && expectedType.equals("type_parameter_constraints")) return true;
-		if (type.equals("primary_expression_postfixInternal5") && expectedType.equals("primary_expression_postfixInternal")) return true;
-		if (type.equals("multiplicative_operator2") && expectedType.equals("multiplicative_operator")) return true;
-		if (type.equals("additive_operator1") && expectedType.equals("additive_operator")) return true;
-		if (type.equals("assignment_operator10") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("overloadable_binary_operator8") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("IDENTIFIER_CSHARP5") && expectedType.equals("IDENTIFIER_CSHARP")) return true;
-		if (type.equals("embedded_statement9") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("overloadable_binary_operator14") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("attribute_section_start1") && expectedType.equals("attribute_section_start")) return true;
-		if (type.equals("constructor_initializerInt1") && expectedType.equals("constructor_initializerInt")) return true;
-		if (type.equals("non_array_type1") && expectedType.equals("non_array_type")) return true;
-		if (type.equals("numeric_type1") && expectedType.equals("numeric_type")) return true;
-		if (type.equals("class_member_declarationEnd5") && expectedType.equals("class_member_declarationEnd")) return true;
-		if (type.equals("namespace_member_declarationEnd2") && expectedType.equals("namespace_member_declarationEnd")) return true;
-		if (type.equals("parameter_modifier3") && expectedType.equals("parameter_modifier")) return true;
-		if (type.equals("assignment_operator5") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("literal4") && expectedType.equals("literal")) return true;
-		if (type.equals("array_creation_postfix_expressionInternal2") && expectedType.equals("array_creation_postfix_expressionInternal")) return true;
-		if (type.equals("relational_operator2I1") && expectedType.equals("relational_operator2I")) return true;
-		if (type.equals("class_type3") && expectedType.equals("class_type")) return true;
-		if (type.equals("expression2") && expectedType.equals("expression")) return true;
-		if (type.equals("primary_constraint3") && expectedType.equals("primary_constraint")) return true;
-		if (type.equals("primary_expression_start10") && expectedType.equals("primary_expression_start")) return true;
-		if (type.equals("attribute_sectionEnd1") && expectedType.equals("attribute_sectionEnd")) return true;
-		if (type.equals("embedded_statement10") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("anonymous_function_body2") && expectedType.equals("anonymous_function_body")) return true;
-		if (type.equals("IDENTIFIER_CSHARP6") && expectedType.equals("IDENTIFIER_CSHARP")) return true;
-		if (type.equals("additive_operator2") && expectedType.equals("additive_operator")) return true;
-		if (type.equals("interface_member_declarationEndType1") && expectedType.equals("interface_member_declarationEndType")) return true;
-		if (type.equals("switch_label1") && expectedType.equals("switch_label")) return true;
-		if (type.equals("argumentPrefix2") && expectedType.equals("argumentPrefix")) return true;
-		if (type.equals("primary_expression_postfixInternal6") && expectedType.equals("primary_expression_postfixInternal")) return true;
-		if (type.equals("overloadable_binary_operator7") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("class_modifier5") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("overloadable_binary_operator13") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("class_member_declarationEnd4") && expectedType.equals("class_member_declarationEnd")) return true;
-		if (type.equals("namespace_member_declarationEnd1") && expectedType.equals("namespace_member_declarationEnd")) return true;
-		if (type.equals("primary_expression1") && expectedType.equals("primary_expression")) return true;
-		if (type.equals("non_array_type2") && expectedType.equals("non_array_type")) return true;
-		if (type.equals("numeric_type2") && expectedType.equals("numeric_type")) return true;
-		if (type.equals("attribute_section_start2") && expectedType.equals("attribute_section_start")) return true;
-		if (type.equals("constructor_initializerInt2") && expectedType.equals("constructor_initializerInt")) return true;
-		if (type.equals("primary_constraint2") && expectedType.equals("primary_constraint")) return true;
-		if (type.equals("expression1") && expectedType.equals("expression")) return true;
-		if (type.equals("expression3") && expectedType.equals("expression")) return true;
-		if (type.equals("secondary_constraintsEnd1") && expectedType.equals("secondary_constraintsEnd")) return true;
-		if (type.equals("relational_operator2I2") && expectedType.equals("relational_operator2I")) return true;
-		if (type.equals("assignment_operator6") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("array_creation_postfix_expressionInternal3") && expectedType.equals("array_creation_postfix_expressionInternal")) return true;
-		if (type.equals("literal3") && expectedType.equals("literal")) return true;
-		if (type.equals("jump_statement5") && expectedType.equals("jump_statement")) return true;
-		if (type.equals("implicit_anonymous_function_signature2") && expectedType.equals("implicit_anonymous_function_signature")) return true;
-		if (type.equals("assignment_operator7") && expectedType.equals("assignment_operator")) return true;
-		if (type.equals("IDENTIFIER_CSHARP7") && expectedType.equals("IDENTIFIER_CSHARP")) return true;
-		if (type.equals("anonymous_function_body1") && expectedType.equals("anonymous_function_body")) return true;
-		if (type.equals("variable_initializer3") && expectedType.equals("variable_initializer")) return true;
-		if (type.equals("embedded_statement11") && expectedType.equals("embedded_statement")) return true;
-		if (type.equals("interface_member_declarationEndType2") && expectedType.equals("interface_member_declarationEndType")) return true;
-		if (type.equals("overloadable_binary_operator6") && expectedType.equals("overloadable_binary_operator")) return true;
-		if (type.equals("switch_label2") && expectedType.equals("switch_label")) return true;
-		if (type.equals("equality_operator2") && expectedType.equals("equality_operator")) return true;
-		if (type.equals("class_modifier4") && expectedType.equals("class_modifier")) return true;
-		if (type.equals("argumentPrefix3") && expectedType.equals("argumentPrefix")) return true;
-		return false;
+		return type.equals(expectedType) || expectedType.equals(getSupertype(type));
 	}
 }
@@ -4,6 +4,7 @@ import java.util.*;
 import cide.gast.*;
 
 import java.io.PrintStream;
+import java.io.Writer;
 
 import cide.languages.*;
 
@@ -13,71 +14,81 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 	public SimplePrintVisitor(PrintStream out) {
 		super(out); generateSpaces=true;
 	}
+	public SimplePrintVisitor(Writer out) {
+		super(out); generateSpaces=true;
+	}
 	public SimplePrintVisitor() {
 		super(); generateSpaces=true;
 	}
 	public boolean visit(FSTNonTerminal nonTerminal) {
-		if (nonTerminal.getType().equals("TypeDeclaration")) {
+		switch (nonTerminal.getType()) {
+		case "TypeDeclaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("class");
 			{
-				FSTNode v=getChild(nonTerminal, "Name");
+				FSTNode v=children.getChild("Name");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("extends");
 			{
-				FSTNode v=getChild(nonTerminal, "ExtendedType");
+				FSTNode v=children.getChild("ExtendedType");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("{");
-			for (FSTNode v : getChildren(nonTerminal,"VarDeclaration")) {
+			for (FSTNode v : children.getChildren("VarDeclaration")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ClassConstructor");
+				FSTNode v=children.getChild("ClassConstructor");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
-			for (FSTNode v : getChildren(nonTerminal,"MethodDeclaration")) {
+			for (FSTNode v : children.getChildren("MethodDeclaration")) {
 				v.accept(this);
 			}
 			printToken("}");
 			printFeatures(nonTerminal,false);
 			return false;
 		}
+		}
 		throw new RuntimeException("Unknown Non Terminal in FST "+nonTerminal);
 	}
+	protected String getSupertype(String type) {
+		switch (type) {
+		case "BinaryOperator1": return "BinaryOperator";
+		case "BinaryOperator2": return "BinaryOperator";
+		case "BinaryOperator3": return "BinaryOperator";
+		case "BinaryOperator4": return "BinaryOperator";
+		case "ExtendedType1": return "ExtendedType";
+		case "ExtendedType2": return "ExtendedType";
+		case "InvokeTarget1": return "InvokeTarget";
+		case "InvokeTarget2": return "InvokeTarget";
+		case "InvokeTarget3": return "InvokeTarget";
+		case "InvokeTarget4": return "InvokeTarget";
+		case "PlusOrMinus1": return "PlusOrMinus";
+		case "PlusOrMinus2": return "PlusOrMinus";
+		case "PrimaryExpression1": return "PrimaryExpression";
+		case "PrimaryExpression2": return "PrimaryExpression";
+		case "PrimaryExpression3": return "PrimaryExpression";
+		case "PrimaryExpression4": return "PrimaryExpression";
+		case "PrimaryExpression5": return "PrimaryExpression";
+		case "PrimaryExpression6": return "PrimaryExpression";
+		case "PrimaryExpression7": return "PrimaryExpression";
+		case "TimesOrDivide1": return "TimesOrDivide";
+		case "TimesOrDivide2": return "TimesOrDivide";
+		case "Type1": return "Type";
+		case "Type2": return "Type";
+		case "Type3": return "Type";
+		default: return null;
+		}
+	}
 	protected boolean isSubtype(String type, String expectedType) {
-		if (type.equals(expectedType)) return true;
-		if (type.equals("BinaryOperator1") && expectedType.equals("BinaryOperator")) return true;
-		if (type.equals("InvokeTarget4") && expectedType.equals("InvokeTarget")) return true;
-		if (type.equals("BinaryOperator2") && expectedType.equals("BinaryOperator")) return true;
-		if (type.equals("PrimaryExpression3") && expectedType.equals("PrimaryExpression")) return true;
-		if (type.equals("PrimaryExpression2") && expectedType.equals("PrimaryExpression")) return true;
-		if (type.equals("PlusOrMinus2") && expectedType.equals("PlusOrMinus")) return true;
-		if (type.equals("PrimaryExpression4") && expectedType.equals("PrimaryExpression")) return true;
-		if (type.equals("PrimaryExpression1") && expectedType.equals("PrimaryExpression")) return true;
-		if (type.equals("PrimaryExpression6") && expectedType.equals("PrimaryExpression")) return true;
-		if (type.equals("PlusOrMinus1") && expectedType.equals("PlusOrMinus")) return true;
-		if (type.equals("PrimaryExpression5") && expectedType.equals("PrimaryExpression")) return true;
-		if (type.equals("ExtendedType2") && expectedType.equals("ExtendedType")) return true;
-		if (type.equals("Type2") && expectedType.equals("Type")) return true;
-		if (type.equals("Type3") && expectedType.equals("Type")) return true;
-		if (type.equals("TimesOrDivide1") && expectedType.equals("TimesOrDivide")) return true;
-		if (type.equals("Type1") && expectedType.equals("Type")) return true;
-		if (type.equals("BinaryOperator3") && expectedType.equals("BinaryOperator")) return true;
-		if (type.equals("ExtendedType1") && expectedType.equals("ExtendedType")) return true;
-		if (type.equals("BinaryOperator4") && expectedType.equals("BinaryOperator")) return true;
-		if (type.equals("PrimaryExpression7") && expectedType.equals("PrimaryExpression")) return true;
-		if (type.equals("TimesOrDivide2") && expectedType.equals("TimesOrDivide")) return true;
-		if (type.equals("InvokeTarget3") && expectedType.equals("InvokeTarget")) return true;
-		if (type.equals("InvokeTarget1") && expectedType.equals("InvokeTarget")) return true;
-		if (type.equals("InvokeTarget2") && expectedType.equals("InvokeTarget")) return true;
-		return false;
+		return type.equals(expectedType) || expectedType.equals(getSupertype(type));
 	}
 }
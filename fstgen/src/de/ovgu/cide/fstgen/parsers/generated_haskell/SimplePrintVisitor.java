@@ -4,6 +4,7 @@ import java.util.*;
 import cide.gast.*;
 
 import java.io.PrintStream;
+import java.io.Writer;
 
 import cide.languages.*;
 
@@ -13,14 +14,19 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 	public SimplePrintVisitor(PrintStream out) {
 		super(out); generateSpaces=true;
 	}
+	public SimplePrintVisitor(Writer out) {
+		super(out); generateSpaces=true;
+	}
 	public SimplePrintVisitor() {
 		super(); generateSpaces=true;
 	}
 	public boolean visit(FSTNonTerminal nonTerminal) {
-		if (nonTerminal.getType().equals("module")) {
+		switch (nonTerminal.getType()) {
+		case "module": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "moduleHeader");
+				FSTNode v=children.getChild("moduleHeader");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -29,7 +35,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			hintIncIndent();
 			hintNewLine();
 			{
-				FSTNode v=getChild(nonTerminal, "body");
+				FSTNode v=children.getChild("body");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -40,16 +46,17 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("body")) {
+		case "body": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "imports");
+				FSTNode v=children.getChild("imports");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "definitions");
+				FSTNode v=children.getChild("definitions");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -57,9 +64,10 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("imports")) {
+		case "imports": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "importDecl").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("importDecl").iterator();
 			if (listElements.hasNext()) {
 				listElements.next().accept(this);
 			}
@@ -73,17 +81,18 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("moduleHeader")) {
+		case "moduleHeader": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("module");
 			{
-				FSTNode v=getChild(nonTerminal, "naam");
+				FSTNode v=children.getChild("naam");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "exports");
+				FSTNode v=children.getChild("exports");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -93,11 +102,12 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("exports")) {
+		case "exports": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("(");
 			{
-				FSTNode v=getChild(nonTerminal, "exportList");
+				FSTNode v=children.getChild("exportList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -106,9 +116,10 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("exportList")) {
+		case "exportList": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "export").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("export").iterator();
 			if (listElements.hasNext()) {
 				listElements.next().accept(this);
 			}
@@ -119,9 +130,10 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("definitions")) {
+		case "definitions": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "definition").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("definition").iterator();
 			if (listElements.hasNext()) {
 				listElements.next().accept(this);
 			}
@@ -134,18 +146,19 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("typedecl")) {
+		case "typedecl": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("type");
 			{
-				FSTNode v=getChild(nonTerminal, "simpletype");
+				FSTNode v=children.getChild("simpletype");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("=");
 			{
-				FSTNode v=getChild(nonTerminal, "functiontype");
+				FSTNode v=children.getChild("functiontype");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -153,30 +166,31 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("datadecl")) {
+		case "datadecl": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("data");
 			{
-				FSTNode v=getChild(nonTerminal, "context");
+				FSTNode v=children.getChild("context");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "simpletype");
+				FSTNode v=children.getChild("simpletype");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("=");
 			{
-				FSTNode v=getChild(nonTerminal, "constrs");
+				FSTNode v=children.getChild("constrs");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "deriving");
+				FSTNode v=children.getChild("deriving");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -184,36 +198,37 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("newtypedecl")) {
+		case "newtypedecl": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("newtype");
 			{
-				FSTNode v=getChild(nonTerminal, "context");
+				FSTNode v=children.getChild("context");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "simpletype");
+				FSTNode v=children.getChild("simpletype");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("=");
 			{
-				FSTNode v=getChild(nonTerminal, "naam");
+				FSTNode v=children.getChild("naam");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "newtypeParam");
+				FSTNode v=children.getChild("newtypeParam");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "deriving");
+				FSTNode v=children.getChild("deriving");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -221,26 +236,27 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("classdecl")) {
+		case "classdecl": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("class");
 			{
-				FSTNode v=getChild(nonTerminal, "context");
+				FSTNode v=children.getChild("context");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "naam");
+				FSTNode v=children.getChild("naam");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
-			for (FSTNode v : getChildren(nonTerminal,"var")) {
+			for (FSTNode v : children.getChildren("var")) {
 				v.accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "whereDecls");
+				FSTNode v=children.getChild("whereDecls");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -248,23 +264,24 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("instancedecl")) {
+		case "instancedecl": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("instance");
 			{
-				FSTNode v=getChild(nonTerminal, "context");
+				FSTNode v=children.getChild("context");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "inst");
+				FSTNode v=children.getChild("inst");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "whereDecls");
+				FSTNode v=children.getChild("whereDecls");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -272,11 +289,12 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("defaultdecl")) {
+		case "defaultdecl": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("default");
 			{
-				FSTNode v=getChild(nonTerminal, "functiontypeList");
+				FSTNode v=children.getChild("functiontypeList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -284,9 +302,10 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("constrs")) {
+		case "constrs": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "constr").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("constr").iterator();
 			hintIncIndent();
 			if (listElements.hasNext()) {
 				listElements.next().accept(this);
@@ -300,12 +319,13 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("decls")) {
+		case "decls": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("{");
 			hintIncIndent();
 			{
-				FSTNode v=getChild(nonTerminal, "declarationList");
+				FSTNode v=children.getChild("declarationList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -315,9 +335,10 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("declarationList")) {
+		case "declarationList": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "declaration").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("declaration").iterator();
 			if (listElements.hasNext()) {
 				listElements.next().accept(this);
 			}
@@ -329,13 +350,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("whereDecls")) {
+		case "whereDecls": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("where");
 			hintIncIndent();
 			hintNewLine();
 			{
-				FSTNode v=getChild(nonTerminal, "decls");
+				FSTNode v=children.getChild("decls");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -344,117 +366,122 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
+		}
 		throw new RuntimeException("Unknown Non Terminal in FST "+nonTerminal);
 	}
+	protected String getSupertype(String type) {
+		switch (type) {
+		case "altSpecial1": return "altSpecial";
+		case "altSpecial2": return "altSpecial";
+		case "altSpecial3": return "altSpecial";
+		case "caseInner1": return "caseInner";
+		case "caseInner2": return "caseInner";
+		case "classdecl": return "definition";
+		case "conop1": return "conop";
+		case "conop2": return "conop";
+		case "constr1": return "constr";
+		case "constr2": return "constr";
+		case "constr3": return "constr";
+		case "constructorNaam": return "patroonMain";
+		case "context1": return "context";
+		case "context2": return "context";
+		case "context3": return "context";
+		case "datadecl": return "definition";
+		case "declaration": return "definition";
+		case "declaration1": return "declaration";
+		case "declaration2": return "declaration";
+		case "declaration3": return "declaration";
+		case "declaration4": return "declaration";
+		case "declaration5": return "declaration";
+		case "declaration6": return "declaration";
+		case "declaration7": return "declaration";
+		case "declaration8": return "declaration";
+		case "defaultdecl": return "definition";
+		case "deriving1": return "deriving";
+		case "deriving2": return "deriving";
+		case "export1": return "export";
+		case "export2": return "export";
+		case "export3": return "export";
+		case "exportNaamParam1": return "exportNaamParam";
+		case "exportNaamParam2": return "exportNaamParam";
+		case "exprListSpecial1": return "exprListSpecial";
+		case "exprListSpecial2": return "exprListSpecial";
+		case "exprListSpecial3": return "exprListSpecial";
+		case "exprMain1": return "exprMain";
+		case "exprMain2": return "exprMain";
+		case "exprMain3": return "exprMain";
+		case "exprMain4": return "exprMain";
+		case "exprMain5": return "exprMain";
+		case "exprMain6": return "exprMain";
+		case "exprMain7": return "exprMain";
+		case "expressie1": return "expressie";
+		case "expressie2": return "expressie";
+		case "expressie3": return "expressie";
+		case "expressie4": return "expressie";
+		case "expressie5": return "expressie";
+		case "expressie6": return "expressie";
+		case "expressie7": return "expressie";
+		case "expressie8": return "expressie";
+		case "function1": return "function";
+		case "function2": return "function";
+		case "function3": return "function";
+		case "gconsym1": return "gconsym";
+		case "gconsym2": return "gconsym";
+		case "instancedecl": return "definition";
+		case "klasseTypeVar1": return "klasseTypeVar";
+		case "klasseTypeVar2": return "klasseTypeVar";
+		case "literal1": return "literal";
+		case "literal2": return "literal";
+		case "literal3": return "literal";
+		case "literal4": return "literal";
+		case "naamOrVar1": return "naamOrVar";
+		case "naamOrVar2": return "naamOrVar";
+		case "newtypeParam1": return "newtypeParam";
+		case "newtypeParam2": return "newtypeParam";
+		case "newtypedecl": return "definition";
+		case "op1": return "op";
+		case "op2": return "op";
+		case "op3": return "op";
+		case "otherOperators1": return "otherOperators";
+		case "otherOperators2": return "otherOperators";
+		case "otherOperators3": return "otherOperators";
+		case "otherOperators4": return "otherOperators";
+		case "patrMain1": return "patrMain";
+		case "patrMain2": return "patrMain";
+		case "patrMain3": return "patrMain";
+		case "patroonMain1": return "patroonMain";
+		case "patroonMain2": return "patroonMain";
+		case "patroonMain3": return "patroonMain";
+		case "patroonMain5": return "patroonMain";
+		case "patroonMain6": return "patroonMain";
+		case "patroonMain7": return "patroonMain";
+		case "patroonPrefix1": return "patroonPrefix";
+		case "patroonPrefix2": return "patroonPrefix";
+		case "qcon1": return "qcon";
+		case "qcon2": return "qcon";
+		case "qconop1": return "qconop";
+		case "qconop2": return "qconop";
+		case "qop1": return "qop";
+		case "qop2": return "qop";
+		case "qop3": return "qop";
+		case "qvarop1": return "qvarop";
+		case "qvarop2": return "qvarop";
+		case "type1": return "type";
+		case "type2": return "type";
+		case "type3": return "type";
+		case "type4": return "type";
+		case "type5": return "type";
+		case "typedecl": return "definition";
+		case "varMain1": return "varMain";
+		case "varMain2": return "varMain";
+		case "varop1": return "varop";
+		case "varop2": return "varop";
+		case "varsym1": return "varsym";
+		case "varsym2": return "varsym";
+		default: return null;
+		}
+	}
 	protected boolean isSubtype(String type, String expectedType) {
-		if (type.equals(expectedType)) return true;
-		if (type.equals("altSpecial1") && expectedType.equals("altSpecial")) return true;
-		if (type.equals("patroonPrefix1") && expectedType.equals("patroonPrefix")) return true;
-		if (type.equals("otherOperators1") && expectedType.equals("otherOperators")) return true;
-		if (type.equals("varsym2") && expectedType.equals("varsym")) return true;
-		if (type.equals("qop2") && expectedType.equals("qop")) return true;
-		if (type.equals("patrMain1") && expectedType.equals("patrMain")) return true;
-		if (type.equals("op1") && expectedType.equals("op")) return true;
-		if (type.equals("export2") && expectedType.equals("export")) return true;
-		if (type.equals("patroonMain7") && expectedType.equals("patroonMain")) return true;
-		if (type.equals("exprMain7") && expectedType.equals("exprMain")) return true;
-		if (type.equals("qconop1") && expectedType.equals("qconop")) return true;
-		if (type.equals("exprListSpecial2") && expectedType.equals("exprListSpecial")) return true;
-		if (type.equals("newtypeParam2") && expectedType.equals("newtypeParam")) return true;
-		if (type.equals("conop1") && expectedType.equals("conop")) return true;
-		if (type.equals("datadecl") && expectedType.equals("definition")) return true;
-		if (type.equals("deriving2") && expectedType.equals("deriving")) return true;
-		if (type.equals("declaration5") && expectedType.equals("declaration")) return true;
-		if (type.equals("patroonPrefix2") && expectedType.equals("patroonPrefix")) return true;
-		if (type.equals("qop3") && expectedType.equals("qop")) return true;
-		if (type.equals("expressie2") && expectedType.equals("expressie")) return true;
-		if (type.equals("op2") && expectedType.equals("op")) return true;
-		if (type.equals("qop1") && expectedType.equals("qop")) return true;
-		if (type.equals("otherOperators2") && expectedType.equals("otherOperators")) return true;
-		if (type.equals("classdecl") && expectedType.equals("definition")) return true;
-		if (type.equals("altSpecial2") && expectedType.equals("altSpecial")) return true;
-		if (type.equals("export3") && expectedType.equals("export")) return true;
-		if (type.equals("exprMain6") && expectedType.equals("exprMain")) return true;
-		if (type.equals("qconop2") && expectedType.equals("qconop")) return true;
-		if (type.equals("exprListSpecial3") && expectedType.equals("exprListSpecial")) return true;
-		if (type.equals("newtypeParam1") && expectedType.equals("newtypeParam")) return true;
-		if (type.equals("conop2") && expectedType.equals("conop")) return true;
-		if (type.equals("declaration") && expectedType.equals("definition")) return true;
-		if (type.equals("deriving1") && expectedType.equals("deriving")) return true;
-		if (type.equals("declaration4") && expectedType.equals("declaration")) return true;
-		if (type.equals("expressie3") && expectedType.equals("expressie")) return true;
-		if (type.equals("context3") && expectedType.equals("context")) return true;
-		if (type.equals("patroonMain5") && expectedType.equals("patroonMain")) return true;
-		if (type.equals("varop1") && expectedType.equals("varop")) return true;
-		if (type.equals("patrMain3") && expectedType.equals("patrMain")) return true;
-		if (type.equals("otherOperators3") && expectedType.equals("otherOperators")) return true;
-		if (type.equals("expressie8") && expectedType.equals("expressie")) return true;
-		if (type.equals("altSpecial3") && expectedType.equals("altSpecial")) return true;
-		if (type.equals("constr2") && expectedType.equals("constr")) return true;
-		if (type.equals("qcon1") && expectedType.equals("qcon")) return true;
-		if (type.equals("newtypedecl") && expectedType.equals("definition")) return true;
-		if (type.equals("naamOrVar1") && expectedType.equals("naamOrVar")) return true;
-		if (type.equals("context2") && expectedType.equals("context")) return true;
-		if (type.equals("declaration7") && expectedType.equals("declaration")) return true;
-		if (type.equals("gconsym2") && expectedType.equals("gconsym")) return true;
-		if (type.equals("patrMain2") && expectedType.equals("patrMain")) return true;
-		if (type.equals("patroonMain6") && expectedType.equals("patroonMain")) return true;
-		if (type.equals("type1") && expectedType.equals("type")) return true;
-		if (type.equals("constr3") && expectedType.equals("constr")) return true;
-		if (type.equals("naamOrVar2") && expectedType.equals("naamOrVar")) return true;
-		if (type.equals("exprListSpecial1") && expectedType.equals("exprListSpecial")) return true;
-		if (type.equals("otherOperators4") && expectedType.equals("otherOperators")) return true;
-		if (type.equals("expressie1") && expectedType.equals("expressie")) return true;
-		if (type.equals("context1") && expectedType.equals("context")) return true;
-		if (type.equals("declaration6") && expectedType.equals("declaration")) return true;
-		if (type.equals("defaultdecl") && expectedType.equals("definition")) return true;
-		if (type.equals("gconsym1") && expectedType.equals("gconsym")) return true;
-		if (type.equals("constructorNaam") && expectedType.equals("patroonMain")) return true;
-		if (type.equals("type2") && expectedType.equals("type")) return true;
-		if (type.equals("function3") && expectedType.equals("function")) return true;
-		if (type.equals("literal2") && expectedType.equals("literal")) return true;
-		if (type.equals("exprMain1") && expectedType.equals("exprMain")) return true;
-		if (type.equals("constr1") && expectedType.equals("constr")) return true;
-		if (type.equals("qvarop1") && expectedType.equals("qvarop")) return true;
-		if (type.equals("qvarop2") && expectedType.equals("qvarop")) return true;
-		if (type.equals("expressie6") && expectedType.equals("expressie")) return true;
-		if (type.equals("declaration1") && expectedType.equals("declaration")) return true;
-		if (type.equals("type3") && expectedType.equals("type")) return true;
-		if (type.equals("declaration8") && expectedType.equals("declaration")) return true;
-		if (type.equals("literal1") && expectedType.equals("literal")) return true;
-		if (type.equals("varMain2") && expectedType.equals("varMain")) return true;
-		if (type.equals("caseInner1") && expectedType.equals("caseInner")) return true;
-		if (type.equals("exprMain2") && expectedType.equals("exprMain")) return true;
-		if (type.equals("exprMain3") && expectedType.equals("exprMain")) return true;
-		if (type.equals("expressie7") && expectedType.equals("expressie")) return true;
-		if (type.equals("varop2") && expectedType.equals("varop")) return true;
-		if (type.equals("patroonMain3") && expectedType.equals("patroonMain")) return true;
-		if (type.equals("exportNaamParam1") && expectedType.equals("exportNaamParam")) return true;
-		if (type.equals("type4") && expectedType.equals("type")) return true;
-		if (type.equals("klasseTypeVar2") && expectedType.equals("klasseTypeVar")) return true;
-		if (type.equals("literal4") && expectedType.equals("literal")) return true;
-		if (type.equals("caseInner2") && expectedType.equals("caseInner")) return true;
-		if (type.equals("varMain1") && expectedType.equals("varMain")) return true;
-		if (type.equals("function1") && expectedType.equals("function")) return true;
-		if (type.equals("expressie4") && expectedType.equals("expressie")) return true;
-		if (type.equals("exprMain4") && expectedType.equals("exprMain")) return true;
-		if (type.equals("declaration3") && expectedType.equals("declaration")) return true;
-		if (type.equals("typedecl") && expectedType.equals("definition")) return true;
-		if (type.equals("patroonMain2") && expectedType.equals("patroonMain")) return true;
-		if (type.equals("qcon2") && expectedType.equals("qcon")) return true;
-		if (type.equals("op3") && expectedType.equals("op")) return true;
-		if (type.equals("exportNaamParam2") && expectedType.equals("exportNaamParam")) return true;
-		if (type.equals("type5") && expectedType.equals("type")) return true;
-		if (type.equals("klasseTypeVar1") && expectedType.equals("klasseTypeVar")) return true;
-		if (type.equals("literal3") && expectedType.equals("literal")) return true;
-		if (type.equals("function2") && expectedType.equals("function")) return true;
-		if (type.equals("varsym1") && expectedType.equals("varsym")) return true;
-		if (type.equals("exprMain5") && expectedType.equals("exprMain")) return true;
-		if (type.equals("instancedecl") && expectedType.equals("definition")) return true;
-		if (type.equals("declaration2") && expectedType.equals("declaration")) return true;
-		if (type.equals("export1") && expectedType.equals("export")) return true;
-		if (type.equals("patroonMain1") && expectedType.equals("patroonMain")) return true;
-		if (type.equals("expressie5") && expectedType.equals("expressie")) return true;
-		return false;
+		return type.equals(expectedType) || expectedType.equals(getSupertype(type));
 	}
 }
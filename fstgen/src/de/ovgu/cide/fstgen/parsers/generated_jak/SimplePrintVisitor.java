@@ -4,6 +4,7 @@ import java.util.*;
 import cide.gast.*;
 
 import java.io.PrintStream;
+import java.io.Writer;
 
 import cide.languages.*;
 
@@ -13,37 +14,43 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 	public SimplePrintVisitor(PrintStream out) {
 		super(out); generateSpaces=true;
 	}
+	public SimplePrintVisitor(Writer out) {
+		super(out); generateSpaces=true;
+	}
 	public SimplePrintVisitor() {
 		super(); generateSpaces=true;
 	}
 	public boolean visit(FSTNonTerminal nonTerminal) {
-		if (nonTerminal.getType().equals("CompilationUnit")) {
+		switch (nonTerminal.getType()) {
+		case "CompilationUnit": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "LayerDeclaration");
+				FSTNode v=children.getChild("LayerDeclaration");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "PackageDeclaration");
+				FSTNode v=children.getChild("PackageDeclaration");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
-			for (FSTNode v : getChildren(nonTerminal,"ImportDeclaration")) {
+			for (FSTNode v : children.getChildren("ImportDeclaration")) {
 				v.accept(this);
 			}
-			for (FSTNode v : getChildren(nonTerminal,"TypeDeclaration")) {
+			for (FSTNode v : children.getChildren("TypeDeclaration")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("AnnotationTypeDeclaration")) {
+		case "AnnotationTypeDeclaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -51,53 +58,54 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printToken("@");
 			printToken("interface");
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("{");
-			for (FSTNode v : getChildren(nonTerminal,"AnnotationTypeMemberDeclaration")) {
+			for (FSTNode v : children.getChildren("AnnotationTypeMemberDeclaration")) {
 				v.accept(this);
 			}
 			printToken("}");
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ClassDeclaration")) {
+		case "ClassDeclaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ClassOrInterface");
+				FSTNode v=children.getChild("ClassOrInterface");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "TypeParameters");
+				FSTNode v=children.getChild("TypeParameters");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ExtendsList");
+				FSTNode v=children.getChild("ExtendsList");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -105,7 +113,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printToken("{");
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"ClassOrInterfaceBodyDeclaration")) {
+			for (FSTNode v : children.getChildren("ClassOrInterfaceBodyDeclaration")) {
 				v.accept(this);
 				hintNewLine();
 				hintNewLine();
@@ -116,24 +124,25 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("EnumDecl")) {
+		case "EnumDecl": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "EnumConstant").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("EnumConstant").iterator();
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("enum");
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -147,7 +156,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 				listElements.next().accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "EnumBodyInternal");
+				FSTNode v=children.getChild("EnumBodyInternal");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -156,49 +165,51 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("EnumBodyInternal")) {
+		case "EnumBodyInternal": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken(";");
-			for (FSTNode v : getChildren(nonTerminal,"ClassOrInterfaceBodyDeclaration")) {
+			for (FSTNode v : children.getChildren("ClassOrInterfaceBodyDeclaration")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("InnerClassDecl")) {
+		case "InnerClassDecl": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ClassOrInterface");
+				FSTNode v=children.getChild("ClassOrInterface");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "TypeParameters");
+				FSTNode v=children.getChild("TypeParameters");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ExtendsList");
+				FSTNode v=children.getChild("ExtendsList");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -206,7 +217,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printToken("{");
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"ClassOrInterfaceBodyDeclaration")) {
+			for (FSTNode v : children.getChildren("ClassOrInterfaceBodyDeclaration")) {
 				v.accept(this);
 				hintNewLine();
 				hintNewLine();
@@ -217,24 +228,25 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("InnerEnumDecl")) {
+		case "InnerEnumDecl": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "EnumConstant").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("EnumConstant").iterator();
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("enum");
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -248,7 +260,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 				listElements.next().accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "EnumBodyInternal");
+				FSTNode v=children.getChild("EnumBodyInternal");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -257,10 +269,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("AnnotationInnerAnnotation")) {
+		case "AnnotationInnerAnnotation": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -268,53 +281,54 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printToken("@");
 			printToken("interface");
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("{");
-			for (FSTNode v : getChildren(nonTerminal,"AnnotationTypeMemberDeclaration")) {
+			for (FSTNode v : children.getChildren("AnnotationTypeMemberDeclaration")) {
 				v.accept(this);
 			}
 			printToken("}");
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("AnnotationInnerClass")) {
+		case "AnnotationInnerClass": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ClassOrInterface");
+				FSTNode v=children.getChild("ClassOrInterface");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "TypeParameters");
+				FSTNode v=children.getChild("TypeParameters");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ExtendsList");
+				FSTNode v=children.getChild("ExtendsList");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -322,7 +336,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printToken("{");
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"ClassOrInterfaceBodyDeclaration")) {
+			for (FSTNode v : children.getChildren("ClassOrInterfaceBodyDeclaration")) {
 				v.accept(this);
 				hintNewLine();
 				hintNewLine();
@@ -333,24 +347,25 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("AnnotationInnerEnum")) {
+		case "AnnotationInnerEnum": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "EnumConstant").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("EnumConstant").iterator();
 			{
-				FSTNode v=getChild(nonTerminal, "Modifiers");
+				FSTNode v=children.getChild("Modifiers");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("enum");
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "ImplementsList");
+				FSTNode v=children.getChild("ImplementsList");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -364,7 +379,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 				listElements.next().accept(this);
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "EnumBodyInternal");
+				FSTNode v=children.getChild("EnumBodyInternal");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -373,186 +388,191 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
+		}
 		throw new RuntimeException("Unknown Non Terminal in FST "+nonTerminal);
 	}
+	protected String getSupertype(String type) {
+		switch (type) {
+		case "AdditiveOp1": return "AdditiveOp";
+		case "AdditiveOp2": return "AdditiveOp";
+		case "AllocationExpression1": return "AllocationExpression";
+		case "AllocationExpression2": return "AllocationExpression";
+		case "AllocationExpressionInit1": return "AllocationExpressionInit";
+		case "AllocationExpressionInit2": return "AllocationExpressionInit";
+		case "AnnoationEmptyDecl": return "AnnotationTypeMemberDeclaration";
+		case "Annotation1": return "Annotation";
+		case "Annotation2": return "Annotation";
+		case "Annotation3": return "Annotation";
+		case "AnnotationFieldDecl": return "AnnotationTypeMemberDeclaration";
+		case "AnnotationInnerAnnotation": return "AnnotationTypeMemberDeclaration";
+		case "AnnotationInnerClass": return "AnnotationTypeMemberDeclaration";
+		case "AnnotationInnerEnum": return "AnnotationTypeMemberDeclaration";
+		case "AnnotationMethodDecl": return "AnnotationTypeMemberDeclaration";
+		case "AnnotationTypeDeclaration": return "TypeDeclaration";
+		case "ArrayDimsAndInits1": return "ArrayDimsAndInits";
+		case "ArrayDimsAndInits2": return "ArrayDimsAndInits";
+		case "AssignmentOperator1": return "AssignmentOperator";
+		case "AssignmentOperator10": return "AssignmentOperator";
+		case "AssignmentOperator11": return "AssignmentOperator";
+		case "AssignmentOperator12": return "AssignmentOperator";
+		case "AssignmentOperator2": return "AssignmentOperator";
+		case "AssignmentOperator3": return "AssignmentOperator";
+		case "AssignmentOperator4": return "AssignmentOperator";
+		case "AssignmentOperator5": return "AssignmentOperator";
+		case "AssignmentOperator6": return "AssignmentOperator";
+		case "AssignmentOperator7": return "AssignmentOperator";
+		case "AssignmentOperator8": return "AssignmentOperator";
+		case "AssignmentOperator9": return "AssignmentOperator";
+		case "BlockStatement1": return "BlockStatement";
+		case "BlockStatement2": return "BlockStatement";
+		case "BlockStatement3": return "BlockStatement";
+		case "BooleanLiteral1": return "BooleanLiteral";
+		case "BooleanLiteral2": return "BooleanLiteral";
+		case "CastExpression1": return "CastExpression";
+		case "CastExpression2": return "CastExpression";
+		case "CastLAOp1": return "CastLAOp";
+		case "CastLAOp2": return "CastLAOp";
+		case "CastLAOp3": return "CastLAOp";
+		case "CastLAOp4": return "CastLAOp";
+		case "CastLAOp5": return "CastLAOp";
+		case "CastLAOp6": return "CastLAOp";
+		case "CastLAOp7": return "CastLAOp";
+		case "CastLAOp8": return "CastLAOp";
+		case "CastLAOp9": return "CastLAOp";
+		case "CastLookahead1": return "CastLookahead";
+		case "CastLookahead2": return "CastLookahead";
+		case "CastLookahead3": return "CastLookahead";
+		case "ClassDeclaration": return "TypeDeclaration";
+		case "ClassOrInterface1": return "ClassOrInterface";
+		case "ClassOrInterface2": return "ClassOrInterface";
+		case "ConditionalExpression1": return "ConditionalExpression";
+		case "ConditionalExpression2": return "ConditionalExpression";
+		case "ConstructorDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "EmptyDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "EmptyTypeDecl": return "TypeDeclaration";
+		case "EnumDecl": return "TypeDeclaration";
+		case "EqualityOp1": return "EqualityOp";
+		case "EqualityOp2": return "EqualityOp";
+		case "ExplicitConstructorInvocation1": return "ExplicitConstructorInvocation";
+		case "ExplicitConstructorInvocation2": return "ExplicitConstructorInvocation";
+		case "FieldDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "ForInit1": return "ForInit";
+		case "ForInit2": return "ForInit";
+		case "ForStatementInternal1": return "ForStatementInternal";
+		case "ForStatementInternal2": return "ForStatementInternal";
+		case "InitializerDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "InnerClassDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "InnerEnumDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "Literal1": return "Literal";
+		case "Literal2": return "Literal";
+		case "Literal3": return "Literal";
+		case "Literal4": return "Literal";
+		case "Literal5": return "Literal";
+		case "Literal6": return "Literal";
+		case "MemberValue1": return "MemberValue";
+		case "MemberValue2": return "MemberValue";
+		case "MemberValue3": return "MemberValue";
+		case "MethodDecl": return "ClassOrInterfaceBodyDeclaration";
+		case "MethodDeclarationBody1": return "MethodDeclarationBody";
+		case "MethodDeclarationBody2": return "MethodDeclarationBody";
+		case "Modifier1": return "Modifier";
+		case "Modifier10": return "Modifier";
+		case "Modifier11": return "Modifier";
+		case "Modifier12": return "Modifier";
+		case "Modifier13": return "Modifier";
+		case "Modifier2": return "Modifier";
+		case "Modifier3": return "Modifier";
+		case "Modifier4": return "Modifier";
+		case "Modifier5": return "Modifier";
+		case "Modifier6": return "Modifier";
+		case "Modifier7": return "Modifier";
+		case "Modifier8": return "Modifier";
+		case "Modifier9": return "Modifier";
+		case "MultiplicativeOp1": return "MultiplicativeOp";
+		case "MultiplicativeOp2": return "MultiplicativeOp";
+		case "MultiplicativeOp3": return "MultiplicativeOp";
+		case "PostfixOp1": return "PostfixOp";
+		case "PostfixOp2": return "PostfixOp";
+		case "PrimaryPrefix1": return "PrimaryPrefix";
+		case "PrimaryPrefix2": return "PrimaryPrefix";
+		case "PrimaryPrefix3": return "PrimaryPrefix";
+		case "PrimaryPrefix4": return "PrimaryPrefix";
+		case "PrimaryPrefix5": return "PrimaryPrefix";
+		case "PrimaryPrefix6": return "PrimaryPrefix";
+		case "PrimaryPrefix7": return "PrimaryPrefix";
+		case "PrimaryPrefix8": return "PrimaryPrefix";
+		case "PrimarySuffix1": return "PrimarySuffix";
+		case "PrimarySuffix2": return "PrimarySuffix";
+		case "PrimarySuffix3": return "PrimarySuffix";
+		case "PrimarySuffix4": return "PrimarySuffix";
+		case "PrimarySuffix5": return "PrimarySuffix";
+		case "PrimarySuffix6": return "PrimarySuffix";
+		case "PrimitiveType1": return "PrimitiveType";
+		case "PrimitiveType2": return "PrimitiveType";
+		case "PrimitiveType3": return "PrimitiveType";
+		case "PrimitiveType4": return "PrimitiveType";
+		case "PrimitiveType5": return "PrimitiveType";
+		case "PrimitiveType6": return "PrimitiveType";
+		case "PrimitiveType7": return "PrimitiveType";
+		case "PrimitiveType8": return "PrimitiveType";
+		case "ReferenceTypeP1": return "ReferenceTypeP";
+		case "ReferenceTypeP2": return "ReferenceTypeP";
+		case "RelationalOp1": return "RelationalOp";
+		case "RelationalOp2": return "RelationalOp";
+		case "RelationalOp3": return "RelationalOp";
+		case "RelationalOp4": return "RelationalOp";
+		case "ResultType1": return "ResultType";
+		case "ResultType2": return "ResultType";
+		case "ShiftOp1": return "ShiftOp";
+		case "ShiftOp2": return "ShiftOp";
+		case "ShiftOp3": return "ShiftOp";
+		case "Statement1": return "Statement";
+		case "Statement10": return "Statement";
+		case "Statement11": return "Statement";
+		case "Statement12": return "Statement";
+		case "Statement13": return "Statement";
+		case "Statement14": return "Statement";
+		case "Statement15": return "Statement";
+		case "Statement16": return "Statement";
+		case "Statement2": return "Statement";
+		case "Statement3": return "Statement";
+		case "Statement4": return "Statement";
+		case "Statement5": return "Statement";
+		case "Statement6": return "Statement";
+		case "Statement7": return "Statement";
+		case "Statement8": return "Statement";
+		case "Statement9": return "Statement";
+		case "StatementExpression1": return "StatementExpression";
+		case "StatementExpression2": return "StatementExpression";
+		case "StatementExpression3": return "StatementExpression";
+		case "StatementExpressionAssignment1": return "StatementExpressionAssignment";
+		case "StatementExpressionAssignment2": return "StatementExpressionAssignment";
+		case "StatementExpressionAssignment3": return "StatementExpressionAssignment";
+		case "SwitchLabel1": return "SwitchLabel";
+		case "SwitchLabel2": return "SwitchLabel";
+		case "TryStatementEnd1": return "TryStatementEnd";
+		case "TryStatementEnd2": return "TryStatementEnd";
+		case "Type1": return "Type";
+		case "Type2": return "Type";
+		case "TypeArgument1": return "TypeArgument";
+		case "TypeArgument2": return "TypeArgument";
+		case "UnaryExpression1": return "UnaryExpression";
+		case "UnaryExpression2": return "UnaryExpression";
+		case "UnaryExpression3": return "UnaryExpression";
+		case "UnaryExpression4": return "UnaryExpression";
+		case "UnaryExpressionNotPlusMinus1": return "UnaryExpressionNotPlusMinus";
+		case "UnaryExpressionNotPlusMinus2": return "UnaryExpressionNotPlusMinus";
+		case "UnaryExpressionNotPlusMinus3": return "UnaryExpressionNotPlusMinus";
+		case "UnaryOp1": return "UnaryOp";
+		case "UnaryOp2": return "UnaryOp";
+		case "VariableInitializer1": return "VariableInitializer";
+		case "VariableInitializer2": return "VariableInitializer";
+		case "WildcardBounds1": return "WildcardBounds";
+		case "WildcardBounds2": return "WildcardBounds";
+		default: return null;
+		}
+	}
 	protected boolean isSubtype(String type, String expectedType) {
-		if (type.equals(expectedType)) return true;
-		if (type.equals("ClassDeclaration") && expectedType.equals("TypeDeclaration")) return true;
-		if (type.equals("AllocationExpressionInit1") && expectedType.equals("AllocationExpressionInit")) return true;
-		if (type.equals("TypeArgument1") && expectedType.equals("TypeArgument")) return true;
-		if (type.equals("ReferenceTypeP2") && expectedType.equals("ReferenceTypeP")) return true;
-		if (type.equals("AssignmentOperator10") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("Statement10") && expectedType.equals("Statement")) return true;
-		if (type.equals("PrimitiveType5") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("ExplicitConstructorInvocation1") && expectedType.equals("ExplicitConstructorInvocation")) return true;
-		if (type.equals("StatementExpressionAssignment2") && expectedType.equals("StatementExpressionAssignment")) return true;
-		if (type.equals("AssignmentOperator2") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("ArrayDimsAndInits1") && expectedType.equals("ArrayDimsAndInits")) return true;
-		if (type.equals("Modifier2") && expectedType.equals("Modifier")) return true;
-		if (type.equals("RelationalOp2") && expectedType.equals("RelationalOp")) return true;
-		if (type.equals("ForInit1") && expectedType.equals("ForInit")) return true;
-		if (type.equals("CastExpression2") && expectedType.equals("CastExpression")) return true;
-		if (type.equals("TryStatementEnd2") && expectedType.equals("TryStatementEnd")) return true;
-		if (type.equals("Annotation3") && expectedType.equals("Annotation")) return true;
-		if (type.equals("UnaryExpression3") && expectedType.equals("UnaryExpression")) return true;
-		if (type.equals("Statement3") && expectedType.equals("Statement")) return true;
-		if (type.equals("PostfixOp1") && expectedType.equals("PostfixOp")) return true;
-		if (type.equals("CastLAOp3") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("MethodDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("AllocationExpressionInit2") && expectedType.equals("AllocationExpressionInit")) return true;
-		if (type.equals("ReferenceTypeP1") && expectedType.equals("ReferenceTypeP")) return true;
-		if (type.equals("SwitchLabel2") && expectedType.equals("SwitchLabel")) return true;
-		if (type.equals("Statement11") && expectedType.equals("Statement")) return true;
-		if (type.equals("AssignmentOperator9") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("Literal1") && expectedType.equals("Literal")) return true;
-		if (type.equals("StatementExpressionAssignment3") && expectedType.equals("StatementExpressionAssignment")) return true;
-		if (type.equals("PrimitiveType6") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("ArrayDimsAndInits2") && expectedType.equals("ArrayDimsAndInits")) return true;
-		if (type.equals("Modifier3") && expectedType.equals("Modifier")) return true;
-		if (type.equals("Modifier13") && expectedType.equals("Modifier")) return true;
-		if (type.equals("InnerClassDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("AssignmentOperator3") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("RelationalOp3") && expectedType.equals("RelationalOp")) return true;
-		if (type.equals("PrimarySuffix6") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("CastExpression1") && expectedType.equals("CastExpression")) return true;
-		if (type.equals("Statement16") && expectedType.equals("Statement")) return true;
-		if (type.equals("TryStatementEnd1") && expectedType.equals("TryStatementEnd")) return true;
-		if (type.equals("AllocationExpression2") && expectedType.equals("AllocationExpression")) return true;
-		if (type.equals("PostfixOp2") && expectedType.equals("PostfixOp")) return true;
-		if (type.equals("Statement2") && expectedType.equals("Statement")) return true;
-		if (type.equals("UnaryExpression2") && expectedType.equals("UnaryExpression")) return true;
-		if (type.equals("ForInit2") && expectedType.equals("ForInit")) return true;
-		if (type.equals("CastLAOp4") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("SwitchLabel1") && expectedType.equals("SwitchLabel")) return true;
-		if (type.equals("Modifier4") && expectedType.equals("Modifier")) return true;
-		if (type.equals("AnnotationFieldDecl") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("FieldDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("Statement9") && expectedType.equals("Statement")) return true;
-		if (type.equals("ShiftOp2") && expectedType.equals("ShiftOp")) return true;
-		if (type.equals("PrimitiveType7") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("CastLAOp9") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("AdditiveOp1") && expectedType.equals("AdditiveOp")) return true;
-		if (type.equals("CastLookahead2") && expectedType.equals("CastLookahead")) return true;
-		if (type.equals("Type2") && expectedType.equals("Type")) return true;
-		if (type.equals("EqualityOp1") && expectedType.equals("EqualityOp")) return true;
-		if (type.equals("AdditiveOp2") && expectedType.equals("AdditiveOp")) return true;
-		if (type.equals("PrimarySuffix5") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("PrimaryPrefix1") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("MemberValue1") && expectedType.equals("MemberValue")) return true;
-		if (type.equals("CastLAOp1") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("InitializerDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("MultiplicativeOp3") && expectedType.equals("MultiplicativeOp")) return true;
-		if (type.equals("Literal6") && expectedType.equals("Literal")) return true;
-		if (type.equals("Statement1") && expectedType.equals("Statement")) return true;
-		if (type.equals("AssignmentOperator12") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("MethodDeclarationBody2") && expectedType.equals("MethodDeclarationBody")) return true;
-		if (type.equals("UnaryOp2") && expectedType.equals("UnaryOp")) return true;
-		if (type.equals("Statement8") && expectedType.equals("Statement")) return true;
-		if (type.equals("TypeArgument2") && expectedType.equals("TypeArgument")) return true;
-		if (type.equals("Modifier5") && expectedType.equals("Modifier")) return true;
-		if (type.equals("ShiftOp1") && expectedType.equals("ShiftOp")) return true;
-		if (type.equals("PrimarySuffix3") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("RelationalOp1") && expectedType.equals("RelationalOp")) return true;
-		if (type.equals("PrimitiveType8") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("AnnotationInnerClass") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("AssignmentOperator1") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("StatementExpressionAssignment1") && expectedType.equals("StatementExpressionAssignment")) return true;
-		if (type.equals("CastLookahead1") && expectedType.equals("CastLookahead")) return true;
-		if (type.equals("PrimaryPrefix8") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("EqualityOp2") && expectedType.equals("EqualityOp")) return true;
-		if (type.equals("Type1") && expectedType.equals("Type")) return true;
-		if (type.equals("PrimaryPrefix2") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("MemberValue2") && expectedType.equals("MemberValue")) return true;
-		if (type.equals("PrimarySuffix4") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("UnaryExpression4") && expectedType.equals("UnaryExpression")) return true;
-		if (type.equals("MultiplicativeOp2") && expectedType.equals("MultiplicativeOp")) return true;
-		if (type.equals("CastLAOp2") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("AssignmentOperator11") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("AssignmentOperator6") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("BlockStatement3") && expectedType.equals("BlockStatement")) return true;
-		if (type.equals("CastLAOp7") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("Statement14") && expectedType.equals("Statement")) return true;
-		if (type.equals("WildcardBounds1") && expectedType.equals("WildcardBounds")) return true;
-		if (type.equals("VariableInitializer1") && expectedType.equals("VariableInitializer")) return true;
-		if (type.equals("MultiplicativeOp1") && expectedType.equals("MultiplicativeOp")) return true;
-		if (type.equals("StatementExpression1") && expectedType.equals("StatementExpression")) return true;
-		if (type.equals("Modifier10") && expectedType.equals("Modifier")) return true;
-		if (type.equals("Modifier6") && expectedType.equals("Modifier")) return true;
-		if (type.equals("ClassOrInterface2") && expectedType.equals("ClassOrInterface")) return true;
-		if (type.equals("UnaryOp1") && expectedType.equals("UnaryOp")) return true;
-		if (type.equals("EnumDecl") && expectedType.equals("TypeDeclaration")) return true;
-		if (type.equals("EmptyDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("ForStatementInternal2") && expectedType.equals("ForStatementInternal")) return true;
-		if (type.equals("PrimarySuffix2") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("Literal4") && expectedType.equals("Literal")) return true;
-		if (type.equals("Statement7") && expectedType.equals("Statement")) return true;
-		if (type.equals("MemberValue3") && expectedType.equals("MemberValue")) return true;
-		if (type.equals("AnnotationInnerAnnotation") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("PrimitiveType1") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("UnaryExpressionNotPlusMinus2") && expectedType.equals("UnaryExpressionNotPlusMinus")) return true;
-		if (type.equals("PrimaryPrefix7") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("AssignmentOperator5") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("AnnotationInnerEnum") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("EmptyTypeDecl") && expectedType.equals("TypeDeclaration")) return true;
-		if (type.equals("PrimitiveType2") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("CastLAOp8") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("Statement15") && expectedType.equals("Statement")) return true;
-		if (type.equals("WildcardBounds2") && expectedType.equals("WildcardBounds")) return true;
-		if (type.equals("VariableInitializer2") && expectedType.equals("VariableInitializer")) return true;
-		if (type.equals("BlockStatement2") && expectedType.equals("BlockStatement")) return true;
-		if (type.equals("ShiftOp3") && expectedType.equals("ShiftOp")) return true;
-		if (type.equals("Modifier7") && expectedType.equals("Modifier")) return true;
-		if (type.equals("ClassOrInterface1") && expectedType.equals("ClassOrInterface")) return true;
-		if (type.equals("UnaryExpressionNotPlusMinus3") && expectedType.equals("UnaryExpressionNotPlusMinus")) return true;
-		if (type.equals("ForStatementInternal1") && expectedType.equals("ForStatementInternal")) return true;
-		if (type.equals("CastLookahead3") && expectedType.equals("CastLookahead")) return true;
-		if (type.equals("Statement6") && expectedType.equals("Statement")) return true;
-		if (type.equals("PrimarySuffix1") && expectedType.equals("PrimarySuffix")) return true;
-		if (type.equals("Literal5") && expectedType.equals("Literal")) return true;
-		if (type.equals("AssignmentOperator4") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("PrimaryPrefix6") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("StatementExpression3") && expectedType.equals("StatementExpression")) return true;
-		if (type.equals("BlockStatement1") && expectedType.equals("BlockStatement")) return true;
-		if (type.equals("RelationalOp4") && expectedType.equals("RelationalOp")) return true;
-		if (type.equals("CastLAOp5") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("ResultType1") && expectedType.equals("ResultType")) return true;
-		if (type.equals("AnnotationTypeDeclaration") && expectedType.equals("TypeDeclaration")) return true;
-		if (type.equals("Annotation1") && expectedType.equals("Annotation")) return true;
-		if (type.equals("PrimitiveType3") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("Statement12") && expectedType.equals("Statement")) return true;
-		if (type.equals("PrimaryPrefix4") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("AssignmentOperator8") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("ConditionalExpression2") && expectedType.equals("ConditionalExpression")) return true;
-		if (type.equals("Modifier8") && expectedType.equals("Modifier")) return true;
-		if (type.equals("MethodDeclarationBody1") && expectedType.equals("MethodDeclarationBody")) return true;
-		if (type.equals("Modifier12") && expectedType.equals("Modifier")) return true;
-		if (type.equals("Statement5") && expectedType.equals("Statement")) return true;
-		if (type.equals("AnnoationEmptyDecl") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("Literal2") && expectedType.equals("Literal")) return true;
-		if (type.equals("AnnotationMethodDecl") && expectedType.equals("AnnotationTypeMemberDeclaration")) return true;
-		if (type.equals("UnaryExpression1") && expectedType.equals("UnaryExpression")) return true;
-		if (type.equals("AllocationExpression1") && expectedType.equals("AllocationExpression")) return true;
-		if (type.equals("PrimaryPrefix5") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("Statement13") && expectedType.equals("Statement")) return true;
-		if (type.equals("ResultType2") && expectedType.equals("ResultType")) return true;
-		if (type.equals("StatementExpression2") && expectedType.equals("StatementExpression")) return true;
-		if (type.equals("Annotation2") && expectedType.equals("Annotation")) return true;
-		if (type.equals("PrimaryPrefix3") && expectedType.equals("PrimaryPrefix")) return true;
-		if (type.equals("CastLAOp6") && expectedType.equals("CastLAOp")) return true;
-		if (type.equals("AssignmentOperator7") && expectedType.equals("AssignmentOperator")) return true;
-		if (type.equals("PrimitiveType4") && expectedType.equals("PrimitiveType")) return true;
-		if (type.equals("ExplicitConstructorInvocation2") && expectedType.equals("ExplicitConstructorInvocation")) return true;
-		if (type.equals("Modifier9") && expectedType.equals("Modifier")) return true;
-		if (type.equals("ConditionalExpression1") && expectedType.equals("ConditionalExpression")) return true;
-		if (type.equals("Modifier11") && expectedType.equals("Modifier")) return true;
-		if (type.equals("Modifier1") && expectedType.equals("Modifier")) return true;
-		if (type.equals("Statement4") && expectedType.equals("Statement")) return true;
-		if (type.equals("ConstructorDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("Literal3") && expectedType.equals("Literal")) return true;
-		if (type.equals("BooleanLiteral2") && expectedType.equals("BooleanLiteral")) return true;
-		if (type.equals("InnerEnumDecl") && expectedType.equals("ClassOrInterfaceBodyDeclaration")) return true;
-		if (type.equals("BooleanLiteral1") && expectedType.equals("BooleanLiteral")) return true;
-		if (type.equals("UnaryExpressionNotPlusMinus1") && expectedType.equals("UnaryExpressionNotPlusMinus")) return true;
-		return false;
+		return type.equals(expectedType) || expectedType.equals(getSupertype(type));
 	}
 }
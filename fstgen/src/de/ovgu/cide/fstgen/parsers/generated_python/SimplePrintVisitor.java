@@ -4,6 +4,7 @@ import java.util.*;
 import cide.gast.*;
 
 import java.io.PrintStream;
+import java.io.Writer;
 
 import cide.languages.*;
 
@@ -13,23 +14,29 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 	public SimplePrintVisitor(PrintStream out) {
 		super(out); generateSpaces=true;
 	}
+	public SimplePrintVisitor(Writer out) {
+		super(out); generateSpaces=true;
+	}
 	public SimplePrintVisitor() {
 		super(); generateSpaces=true;
 	}
 	public boolean visit(FSTNonTerminal nonTerminal) {
-		if (nonTerminal.getType().equals("file_input")) {
+		switch (nonTerminal.getType()) {
+		case "file_input": {
 			printFeatures(nonTerminal,true);
-			for (FSTNode v : getChildren(nonTerminal,"stmt")) {
+			ChildGroups children = groupChildren(nonTerminal);
+			for (FSTNode v : children.getChildren("stmt")) {
 				v.accept(this);
 				hintNewLine();
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("stmt1")) {
+		case "stmt1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "simple_stmt");
+				FSTNode v=children.getChild("simple_stmt");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -37,10 +44,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ClassDefinition")) {
+		case "ClassDefinition": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "classdef");
+				FSTNode v=children.getChild("classdef");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -48,9 +56,10 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("simple_stmt")) {
+		case "simple_stmt": {
 			printFeatures(nonTerminal,true);
-			Iterator<FSTNode> listElements = getChildren(nonTerminal, "small_stmt").iterator();
+			ChildGroups children = groupChildren(nonTerminal);
+			Iterator<FSTNode> listElements = children.getChildren("small_stmt").iterator();
 			if (listElements.hasNext()) {
 				listElements.next().accept(this);
 			}
@@ -61,23 +70,24 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("classdef")) {
+		case "classdef": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "decorators");
+				FSTNode v=children.getChild("decorators");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("class");
 			{
-				FSTNode v=getChild(nonTerminal, "ClassName");
+				FSTNode v=children.getChild("ClassName");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "testlist");
+				FSTNode v=children.getChild("testlist");
 				if (v!=null) {
 					printToken("(");
 					v.accept(this);
@@ -86,26 +96,28 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			}
 			printToken(":");
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"classdef_End")) {
+			for (FSTNode v : children.getChildren("classdef_End")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("classdef_End2")) {
+		case "classdef_End2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			hintIncIndent();
-			for (FSTNode v : getChildren(nonTerminal,"classsimple_stmt")) {
+			for (FSTNode v : children.getChildren("classsimple_stmt")) {
 				v.accept(this);
 			}
 			hintDecIndent();
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("classsimple_stmt")) {
+		case "classsimple_stmt": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "classsmall_stmt");
+				FSTNode v=children.getChild("classsmall_stmt");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -114,10 +126,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("classsmall_stmt2")) {
+		case "classsmall_stmt2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "classdef");
+				FSTNode v=children.getChild("classdef");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -125,198 +138,203 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
+		}
 		throw new RuntimeException("Unknown Non Terminal in FST "+nonTerminal);
 	}
+	protected String getSupertype(String type) {
+		switch (type) {
+		case "AnyName1": return "AnyName";
+		case "AnyName10": return "AnyName";
+		case "AnyName11": return "AnyName";
+		case "AnyName12": return "AnyName";
+		case "AnyName13": return "AnyName";
+		case "AnyName14": return "AnyName";
+		case "AnyName15": return "AnyName";
+		case "AnyName16": return "AnyName";
+		case "AnyName17": return "AnyName";
+		case "AnyName18": return "AnyName";
+		case "AnyName19": return "AnyName";
+		case "AnyName2": return "AnyName";
+		case "AnyName20": return "AnyName";
+		case "AnyName21": return "AnyName";
+		case "AnyName22": return "AnyName";
+		case "AnyName23": return "AnyName";
+		case "AnyName24": return "AnyName";
+		case "AnyName25": return "AnyName";
+		case "AnyName26": return "AnyName";
+		case "AnyName27": return "AnyName";
+		case "AnyName28": return "AnyName";
+		case "AnyName29": return "AnyName";
+		case "AnyName3": return "AnyName";
+		case "AnyName30": return "AnyName";
+		case "AnyName31": return "AnyName";
+		case "AnyName4": return "AnyName";
+		case "AnyName5": return "AnyName";
+		case "AnyName6": return "AnyName";
+		case "AnyName7": return "AnyName";
+		case "AnyName8": return "AnyName";
+		case "AnyName9": return "AnyName";
+		case "ClassDefinition": return "stmt";
+		case "FunctionDefinition": return "stmt";
+		case "ImportFrom1": return "ImportFrom";
+		case "ImportFrom2": return "ImportFrom";
+		case "ImportFromEnd1": return "ImportFromEnd";
+		case "ImportFromEnd2": return "ImportFromEnd";
+		case "Name1": return "Name";
+		case "Name2": return "Name";
+		case "Number1": return "Number";
+		case "Number2": return "Number";
+		case "Number3": return "Number";
+		case "Number4": return "Number";
+		case "Number5": return "Number";
+		case "StringNode1": return "StringNode";
+		case "StringNode2": return "StringNode";
+		case "StringNode3": return "StringNode";
+		case "StringNode4": return "StringNode";
+		case "StringNode5": return "StringNode";
+		case "StringNode6": return "StringNode";
+		case "StringNode7": return "StringNode";
+		case "StringNode8": return "StringNode";
+		case "arglist1": return "arglist";
+		case "arglist1EndEnd1": return "arglist1EndEnd";
+		case "arglist1EndEnd2": return "arglist1EndEnd";
+		case "arglist2": return "arglist";
+		case "arith_exprEnd1": return "arith_exprEnd";
+		case "arith_exprEnd2": return "arith_exprEnd";
+		case "atom1": return "atom";
+		case "atom2": return "atom";
+		case "atom3": return "atom";
+		case "atom4": return "atom";
+		case "atom5": return "atom";
+		case "atom6": return "atom";
+		case "atom7": return "atom";
+		case "atom8": return "atom";
+		case "atom9": return "atom";
+		case "atomtrailerEnd1": return "atomtrailerEnd";
+		case "atomtrailerEnd2": return "atomtrailerEnd";
+		case "atomtrailerEnd3": return "atomtrailerEnd";
+		case "atomtrailerEnd4": return "atomtrailerEnd";
+		case "classdef_End1": return "classdef_End";
+		case "classdef_End2": return "classdef_End";
+		case "classsmall_stmt1": return "classsmall_stmt";
+		case "classsmall_stmt10": return "classsmall_stmt";
+		case "classsmall_stmt11": return "classsmall_stmt";
+		case "classsmall_stmt12": return "classsmall_stmt";
+		case "classsmall_stmt13": return "classsmall_stmt";
+		case "classsmall_stmt14": return "classsmall_stmt";
+		case "classsmall_stmt15": return "classsmall_stmt";
+		case "classsmall_stmt2": return "classsmall_stmt";
+		case "classsmall_stmt3": return "classsmall_stmt";
+		case "classsmall_stmt4": return "classsmall_stmt";
+		case "classsmall_stmt5": return "classsmall_stmt";
+		case "classsmall_stmt6": return "classsmall_stmt";
+		case "classsmall_stmt7": return "classsmall_stmt";
+		case "classsmall_stmt8": return "classsmall_stmt";
+		case "classsmall_stmt9": return "classsmall_stmt";
+		case "comp_op1": return "comp_op";
+		case "comp_op10": return "comp_op";
+		case "comp_op11": return "comp_op";
+		case "comp_op2": return "comp_op";
+		case "comp_op3": return "comp_op";
+		case "comp_op4": return "comp_op";
+		case "comp_op5": return "comp_op";
+		case "comp_op6": return "comp_op";
+		case "comp_op7": return "comp_op";
+		case "comp_op8": return "comp_op";
+		case "comp_op9": return "comp_op";
+		case "decorator_End1": return "decorator_End";
+		case "decorator_End2": return "decorator_End";
+		case "decorator_End_Par1": return "decorator_End_Par";
+		case "decorator_End_Par2": return "decorator_End_Par";
+		case "elif_stmt_End1": return "elif_stmt_End";
+		case "elif_stmt_End2": return "elif_stmt_End";
+		case "else_stmt_End1": return "else_stmt_End";
+		case "else_stmt_End2": return "else_stmt_End";
+		case "except_clause_End1": return "except_clause_End";
+		case "except_clause_End2": return "except_clause_End";
+		case "except_clause_test_End1": return "except_clause_test_End";
+		case "except_clause_test_End2": return "except_clause_test_End";
+		case "expr_stmtEnd1": return "expr_stmtEnd";
+		case "expr_stmtEnd10": return "expr_stmtEnd";
+		case "expr_stmtEnd11": return "expr_stmtEnd";
+		case "expr_stmtEnd12": return "expr_stmtEnd";
+		case "expr_stmtEnd13": return "expr_stmtEnd";
+		case "expr_stmtEnd2": return "expr_stmtEnd";
+		case "expr_stmtEnd3": return "expr_stmtEnd";
+		case "expr_stmtEnd4": return "expr_stmtEnd";
+		case "expr_stmtEnd5": return "expr_stmtEnd";
+		case "expr_stmtEnd6": return "expr_stmtEnd";
+		case "expr_stmtEnd7": return "expr_stmtEnd";
+		case "expr_stmtEnd8": return "expr_stmtEnd";
+		case "expr_stmtEnd9": return "expr_stmtEnd";
+		case "factor1": return "factor";
+		case "factor2": return "factor";
+		case "factor3": return "factor";
+		case "factor4": return "factor";
+		case "finally_stmt_End1": return "finally_stmt_End";
+		case "finally_stmt_End2": return "finally_stmt_End";
+		case "flow_stmt1": return "flow_stmt";
+		case "flow_stmt2": return "flow_stmt";
+		case "flow_stmt3": return "flow_stmt";
+		case "flow_stmt4": return "flow_stmt";
+		case "flow_stmt5": return "flow_stmt";
+		case "for_stmt_End1": return "for_stmt_End";
+		case "for_stmt_End2": return "for_stmt_End";
+		case "fpdef1": return "fpdef";
+		case "fpdef2": return "fpdef";
+		case "funcdef_End1": return "funcdef_End";
+		case "funcdef_End2": return "funcdef_End";
+		case "if_stmt_End1": return "if_stmt_End";
+		case "if_stmt_End2": return "if_stmt_End";
+		case "import_stmt1": return "import_stmt";
+		case "import_stmt2": return "import_stmt";
+		case "listmakerEnd1": return "listmakerEnd";
+		case "listmakerEnd2": return "listmakerEnd";
+		case "not_test1": return "not_test";
+		case "not_test2": return "not_test";
+		case "power1": return "power";
+		case "power2": return "power";
+		case "print_stmt1": return "print_stmt";
+		case "print_stmt2": return "print_stmt";
+		case "print_stmt3": return "print_stmt";
+		case "shift_exprEnd1": return "shift_exprEnd";
+		case "shift_exprEnd2": return "shift_exprEnd";
+		case "small_stmt1": return "small_stmt";
+		case "small_stmt10": return "small_stmt";
+		case "small_stmt2": return "small_stmt";
+		case "small_stmt3": return "small_stmt";
+		case "small_stmt4": return "small_stmt";
+		case "small_stmt5": return "small_stmt";
+		case "small_stmt6": return "small_stmt";
+		case "small_stmt7": return "small_stmt";
+		case "small_stmt8": return "small_stmt";
+		case "small_stmt9": return "small_stmt";
+		case "stmt1": return "stmt";
+		case "stmt2": return "stmt";
+		case "stmt3": return "stmt";
+		case "stmt4": return "stmt";
+		case "stmt5": return "stmt";
+		case "stmt6": return "stmt";
+		case "subscript1": return "subscript";
+		case "subscript2": return "subscript";
+		case "subscript3": return "subscript";
+		case "termEnd1": return "termEnd";
+		case "termEnd2": return "termEnd";
+		case "termEnd3": return "termEnd";
+		case "termEnd4": return "termEnd";
+		case "test1": return "test";
+		case "test2": return "test";
+		case "try_stmt_End1": return "try_stmt_End";
+		case "try_stmt_End2": return "try_stmt_End";
+		case "varargslist1": return "varargslist";
+		case "varargslist2": return "varargslist";
+		case "varargslist3": return "varargslist";
+		case "while_stmt_End1": return "while_stmt_End";
+		case "while_stmt_End2": return "while_stmt_End";
+		default: return null;
+		}
+	}
 	protected boolean isSubtype(String type, String expectedType) {
-		if (type.equals(expectedType)) return true;
-		if (type.equals("funcdef_End1") && expectedType.equals("funcdef_End")) return true;
-		if (type.equals("ImportFromEnd1") && expectedType.equals("ImportFromEnd")) return true;
-		if (type.equals("classsmall_stmt5") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("expr_stmtEnd10") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("AnyName9") && expectedType.equals("AnyName")) return true;
-		if (type.equals("classsmall_stmt15") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("atom2") && expectedType.equals("atom")) return true;
-		if (type.equals("StringNode6") && expectedType.equals("StringNode")) return true;
-		if (type.equals("AnyName18") && expectedType.equals("AnyName")) return true;
-		if (type.equals("else_stmt_End1") && expectedType.equals("else_stmt_End")) return true;
-		if (type.equals("while_stmt_End2") && expectedType.equals("while_stmt_End")) return true;
-		if (type.equals("varargslist2") && expectedType.equals("varargslist")) return true;
-		if (type.equals("stmt1") && expectedType.equals("stmt")) return true;
-		if (type.equals("AnyName30") && expectedType.equals("AnyName")) return true;
-		if (type.equals("classdef_End2") && expectedType.equals("classdef_End")) return true;
-		if (type.equals("expr_stmtEnd7") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("varargslist3") && expectedType.equals("varargslist")) return true;
-		if (type.equals("fpdef1") && expectedType.equals("fpdef")) return true;
-		if (type.equals("comp_op5") && expectedType.equals("comp_op")) return true;
-		if (type.equals("small_stmt1") && expectedType.equals("small_stmt")) return true;
-		if (type.equals("AnyName23") && expectedType.equals("AnyName")) return true;
-		if (type.equals("except_clause_test_End1") && expectedType.equals("except_clause_test_End")) return true;
-		if (type.equals("arglist1EndEnd2") && expectedType.equals("arglist1EndEnd")) return true;
-		if (type.equals("atom1") && expectedType.equals("atom")) return true;
-		if (type.equals("arglist1EndEnd1") && expectedType.equals("arglist1EndEnd")) return true;
-		if (type.equals("not_test1") && expectedType.equals("not_test")) return true;
-		if (type.equals("classsmall_stmt14") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("classsmall_stmt4") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("flow_stmt1") && expectedType.equals("flow_stmt")) return true;
-		if (type.equals("atomtrailerEnd1") && expectedType.equals("atomtrailerEnd")) return true;
-		if (type.equals("StringNode5") && expectedType.equals("StringNode")) return true;
-		if (type.equals("AnyName17") && expectedType.equals("AnyName")) return true;
-		if (type.equals("arglist2") && expectedType.equals("arglist")) return true;
-		if (type.equals("decorator_End1") && expectedType.equals("decorator_End")) return true;
-		if (type.equals("AnyName1") && expectedType.equals("AnyName")) return true;
-		if (type.equals("varargslist1") && expectedType.equals("varargslist")) return true;
-		if (type.equals("while_stmt_End1") && expectedType.equals("while_stmt_End")) return true;
-		if (type.equals("expr_stmtEnd8") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("comp_op4") && expectedType.equals("comp_op")) return true;
-		if (type.equals("AnyName10") && expectedType.equals("AnyName")) return true;
-		if (type.equals("try_stmt_End2") && expectedType.equals("try_stmt_End")) return true;
-		if (type.equals("termEnd1") && expectedType.equals("termEnd")) return true;
-		if (type.equals("AnyName24") && expectedType.equals("AnyName")) return true;
-		if (type.equals("Number5") && expectedType.equals("Number")) return true;
-		if (type.equals("comp_op11") && expectedType.equals("comp_op")) return true;
-		if (type.equals("not_test2") && expectedType.equals("not_test")) return true;
-		if (type.equals("classsmall_stmt7") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("shift_exprEnd1") && expectedType.equals("shift_exprEnd")) return true;
-		if (type.equals("decorator_End2") && expectedType.equals("decorator_End")) return true;
-		if (type.equals("expr_stmtEnd12") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("atomtrailerEnd2") && expectedType.equals("atomtrailerEnd")) return true;
-		if (type.equals("atom8") && expectedType.equals("atom")) return true;
-		if (type.equals("arglist1") && expectedType.equals("arglist")) return true;
-		if (type.equals("StringNode4") && expectedType.equals("StringNode")) return true;
-		if (type.equals("flow_stmt2") && expectedType.equals("flow_stmt")) return true;
-		if (type.equals("comp_op3") && expectedType.equals("comp_op")) return true;
-		if (type.equals("AnyName11") && expectedType.equals("AnyName")) return true;
-		if (type.equals("listmakerEnd1") && expectedType.equals("listmakerEnd")) return true;
-		if (type.equals("print_stmt3") && expectedType.equals("print_stmt")) return true;
-		if (type.equals("Number4") && expectedType.equals("Number")) return true;
-		if (type.equals("small_stmt8") && expectedType.equals("small_stmt")) return true;
-		if (type.equals("expr_stmtEnd5") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("AnyName21") && expectedType.equals("AnyName")) return true;
-		if (type.equals("subscript3") && expectedType.equals("subscript")) return true;
-		if (type.equals("import_stmt2") && expectedType.equals("import_stmt")) return true;
-		if (type.equals("AnyName6") && expectedType.equals("AnyName")) return true;
-		if (type.equals("small_stmt3") && expectedType.equals("small_stmt")) return true;
-		if (type.equals("termEnd2") && expectedType.equals("termEnd")) return true;
-		if (type.equals("funcdef_End2") && expectedType.equals("funcdef_End")) return true;
-		if (type.equals("AnyName29") && expectedType.equals("AnyName")) return true;
-		if (type.equals("AnyName8") && expectedType.equals("AnyName")) return true;
-		if (type.equals("classsmall_stmt6") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("comp_op10") && expectedType.equals("comp_op")) return true;
-		if (type.equals("factor4") && expectedType.equals("factor")) return true;
-		if (type.equals("ClassDefinition") && expectedType.equals("stmt")) return true;
-		if (type.equals("AnyName31") && expectedType.equals("AnyName")) return true;
-		if (type.equals("atom9") && expectedType.equals("atom")) return true;
-		if (type.equals("atomtrailerEnd3") && expectedType.equals("atomtrailerEnd")) return true;
-		if (type.equals("expr_stmtEnd11") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("shift_exprEnd2") && expectedType.equals("shift_exprEnd")) return true;
-		if (type.equals("StringNode3") && expectedType.equals("StringNode")) return true;
-		if (type.equals("decorator_End_Par2") && expectedType.equals("decorator_End_Par")) return true;
-		if (type.equals("AnyName19") && expectedType.equals("AnyName")) return true;
-		if (type.equals("flow_stmt3") && expectedType.equals("flow_stmt")) return true;
-		if (type.equals("comp_op1") && expectedType.equals("comp_op")) return true;
-		if (type.equals("else_stmt_End2") && expectedType.equals("else_stmt_End")) return true;
-		if (type.equals("AnyName12") && expectedType.equals("AnyName")) return true;
-		if (type.equals("comp_op2") && expectedType.equals("comp_op")) return true;
-		if (type.equals("expr_stmtEnd6") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("stmt6") && expectedType.equals("stmt")) return true;
-		if (type.equals("Number3") && expectedType.equals("Number")) return true;
-		if (type.equals("factor3") && expectedType.equals("factor")) return true;
-		if (type.equals("AnyName22") && expectedType.equals("AnyName")) return true;
-		if (type.equals("termEnd3") && expectedType.equals("termEnd")) return true;
-		if (type.equals("AnyName7") && expectedType.equals("AnyName")) return true;
-		if (type.equals("listmakerEnd2") && expectedType.equals("listmakerEnd")) return true;
-		if (type.equals("subscript2") && expectedType.equals("subscript")) return true;
-		if (type.equals("import_stmt1") && expectedType.equals("import_stmt")) return true;
-		if (type.equals("power2") && expectedType.equals("power")) return true;
-		if (type.equals("small_stmt2") && expectedType.equals("small_stmt")) return true;
-		if (type.equals("small_stmt9") && expectedType.equals("small_stmt")) return true;
-		if (type.equals("subscript1") && expectedType.equals("subscript")) return true;
-		if (type.equals("Name1") && expectedType.equals("Name")) return true;
-		if (type.equals("small_stmt10") && expectedType.equals("small_stmt")) return true;
-		if (type.equals("factor1") && expectedType.equals("factor")) return true;
-		if (type.equals("StringNode2") && expectedType.equals("StringNode")) return true;
-		if (type.equals("atom6") && expectedType.equals("atom")) return true;
-		if (type.equals("fpdef2") && expectedType.equals("fpdef")) return true;
-		if (type.equals("classsmall_stmt11") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("stmt5") && expectedType.equals("stmt")) return true;
-		if (type.equals("decorator_End_Par1") && expectedType.equals("decorator_End_Par")) return true;
-		if (type.equals("AnyName14") && expectedType.equals("AnyName")) return true;
-		if (type.equals("small_stmt5") && expectedType.equals("small_stmt")) return true;
-		if (type.equals("AnyName28") && expectedType.equals("AnyName")) return true;
-		if (type.equals("print_stmt1") && expectedType.equals("print_stmt")) return true;
-		if (type.equals("AnyName4") && expectedType.equals("AnyName")) return true;
-		if (type.equals("ImportFromEnd2") && expectedType.equals("ImportFromEnd")) return true;
-		if (type.equals("flow_stmt4") && expectedType.equals("flow_stmt")) return true;
-		if (type.equals("if_stmt_End2") && expectedType.equals("if_stmt_End")) return true;
-		if (type.equals("ImportFrom1") && expectedType.equals("ImportFrom")) return true;
-		if (type.equals("atomtrailerEnd4") && expectedType.equals("atomtrailerEnd")) return true;
-		if (type.equals("expr_stmtEnd3") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("FunctionDefinition") && expectedType.equals("stmt")) return true;
-		if (type.equals("termEnd4") && expectedType.equals("termEnd")) return true;
-		if (type.equals("for_stmt_End2") && expectedType.equals("for_stmt_End")) return true;
-		if (type.equals("Number2") && expectedType.equals("Number")) return true;
-		if (type.equals("power1") && expectedType.equals("power")) return true;
-		if (type.equals("classsmall_stmt2") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("finally_stmt_End1") && expectedType.equals("finally_stmt_End")) return true;
-		if (type.equals("comp_op9") && expectedType.equals("comp_op")) return true;
-		if (type.equals("arith_exprEnd2") && expectedType.equals("arith_exprEnd")) return true;
-		if (type.equals("atom5") && expectedType.equals("atom")) return true;
-		if (type.equals("AnyName27") && expectedType.equals("AnyName")) return true;
-		if (type.equals("factor2") && expectedType.equals("factor")) return true;
-		if (type.equals("Name2") && expectedType.equals("Name")) return true;
-		if (type.equals("StringNode1") && expectedType.equals("StringNode")) return true;
-		if (type.equals("expr_stmtEnd13") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("atom7") && expectedType.equals("atom")) return true;
-		if (type.equals("stmt4") && expectedType.equals("stmt")) return true;
-		if (type.equals("classsmall_stmt10") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("classsmall_stmt8") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("print_stmt2") && expectedType.equals("print_stmt")) return true;
-		if (type.equals("AnyName13") && expectedType.equals("AnyName")) return true;
-		if (type.equals("small_stmt4") && expectedType.equals("small_stmt")) return true;
-		if (type.equals("flow_stmt5") && expectedType.equals("flow_stmt")) return true;
-		if (type.equals("if_stmt_End1") && expectedType.equals("if_stmt_End")) return true;
-		if (type.equals("AnyName5") && expectedType.equals("AnyName")) return true;
-		if (type.equals("Number1") && expectedType.equals("Number")) return true;
-		if (type.equals("ImportFrom2") && expectedType.equals("ImportFrom")) return true;
-		if (type.equals("AnyName20") && expectedType.equals("AnyName")) return true;
-		if (type.equals("classsmall_stmt9") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("expr_stmtEnd4") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("classsmall_stmt3") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("comp_op8") && expectedType.equals("comp_op")) return true;
-		if (type.equals("stmt3") && expectedType.equals("stmt")) return true;
-		if (type.equals("AnyName26") && expectedType.equals("AnyName")) return true;
-		if (type.equals("AnyName16") && expectedType.equals("AnyName")) return true;
-		if (type.equals("classsmall_stmt13") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("small_stmt7") && expectedType.equals("small_stmt")) return true;
-		if (type.equals("test1") && expectedType.equals("test")) return true;
-		if (type.equals("expr_stmtEnd9") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("except_clause_End2") && expectedType.equals("except_clause_End")) return true;
-		if (type.equals("elif_stmt_End1") && expectedType.equals("elif_stmt_End")) return true;
-		if (type.equals("AnyName2") && expectedType.equals("AnyName")) return true;
-		if (type.equals("except_clause_End1") && expectedType.equals("except_clause_End")) return true;
-		if (type.equals("expr_stmtEnd1") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("try_stmt_End1") && expectedType.equals("try_stmt_End")) return true;
-		if (type.equals("comp_op7") && expectedType.equals("comp_op")) return true;
-		if (type.equals("atom3") && expectedType.equals("atom")) return true;
-		if (type.equals("stmt2") && expectedType.equals("stmt")) return true;
-		if (type.equals("AnyName25") && expectedType.equals("AnyName")) return true;
-		if (type.equals("AnyName15") && expectedType.equals("AnyName")) return true;
-		if (type.equals("classsmall_stmt12") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("test2") && expectedType.equals("test")) return true;
-		if (type.equals("StringNode8") && expectedType.equals("StringNode")) return true;
-		if (type.equals("small_stmt6") && expectedType.equals("small_stmt")) return true;
-		if (type.equals("elif_stmt_End2") && expectedType.equals("elif_stmt_End")) return true;
-		if (type.equals("AnyName3") && expectedType.equals("AnyName")) return true;
-		if (type.equals("classsmall_stmt1") && expectedType.equals("classsmall_stmt")) return true;
-		if (type.equals("except_clause_test_End2") && expectedType.equals("except_clause_test_End")) return true;
-		if (type.equals("for_stmt_End1") && expectedType.equals("for_stmt_End")) return true;
-		if (type.equals("expr_stmtEnd2") && expectedType.equals("expr_stmtEnd")) return true;
-		if (type.equals("StringNode7") && expectedType.equals("StringNode")) return true;
-		if (type.equals("classdef_End1") && expectedType.equals("classdef_End")) return true;
-		if (type.equals("atom4") && expectedType.equals("atom")) return true;
-		if (type.equals("finally_stmt_End2") && expectedType.equals("finally_stmt_End")) return true;
-		if (type.equals("comp_op6") && expectedType.equals("comp_op")) return true;
-		if (type.equals("arith_exprEnd1") && expectedType.equals("arith_exprEnd")) return true;
-		return false;
+		return type.equals(expectedType) || expectedType.equals(getSupertype(type));
 	}
 }
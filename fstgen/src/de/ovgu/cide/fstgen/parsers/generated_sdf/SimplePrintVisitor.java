@@ -4,6 +4,7 @@ import java.util.*;
 import cide.gast.*;
 
 import java.io.PrintStream;
+import java.io.Writer;
 
 import cide.languages.*;
 
@@ -13,14 +14,19 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 	public SimplePrintVisitor(PrintStream out) {
 		super(out); generateSpaces=true;
 	}
+	public SimplePrintVisitor(Writer out) {
+		super(out); generateSpaces=true;
+	}
 	public SimplePrintVisitor() {
 		super(); generateSpaces=true;
 	}
 	public boolean visit(FSTNonTerminal nonTerminal) {
-		if (nonTerminal.getType().equals("Module")) {
+		switch (nonTerminal.getType()) {
+		case "Module": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "ModuleDeclaration");
+				FSTNode v=children.getChild("ModuleDeclaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -28,7 +34,7 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			hintNewLine();
 			hintNewLine();
 			{
-				FSTNode v=getChild(nonTerminal, "ImportDeclaration");
+				FSTNode v=children.getChild("ImportDeclaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -36,13 +42,13 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			hintDecIndent();
 			hintNewLine();
 			{
-				FSTNode v=getChild(nonTerminal, "ExportDeclaration");
+				FSTNode v=children.getChild("ExportDeclaration");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			{
-				FSTNode v=getChild(nonTerminal, "HiddenDeclaration");
+				FSTNode v=children.getChild("HiddenDeclaration");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -50,24 +56,26 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ImportDeclaration")) {
+		case "ImportDeclaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("imports");
 			hintIncIndent();
-			for (FSTNode v : getChildren(nonTerminal,"ModName")) {
+			for (FSTNode v : children.getChildren("ModName")) {
 				v.accept(this);
 			}
 			hintNewLine();
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ExportDeclaration")) {
+		case "ExportDeclaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("exports");
 			hintNewLine();
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"Grammar")) {
+			for (FSTNode v : children.getChildren("Grammar")) {
 				v.accept(this);
 			}
 			hintDecIndent();
@@ -75,13 +83,14 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("HiddenDeclaration")) {
+		case "HiddenDeclaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("hiddens");
 			hintNewLine();
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"Grammar")) {
+			for (FSTNode v : children.getChildren("Grammar")) {
 				v.accept(this);
 			}
 			hintDecIndent();
@@ -89,11 +98,12 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Grammar1")) {
+		case "Grammar1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("sorts");
 			hintIncIndent();
-			for (FSTNode v : getChildren(nonTerminal,"Sort")) {
+			for (FSTNode v : children.getChildren("Sort")) {
 				v.accept(this);
 			}
 			hintDecIndent();
@@ -102,20 +112,22 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Grammar2")) {
+		case "Grammar2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("context-free start-symbols");
 			hintIncIndent();
-			for (FSTNode v : getChildren(nonTerminal,"Sort")) {
+			for (FSTNode v : children.getChildren("Sort")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Grammar3")) {
+		case "Grammar3": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Productions");
+				FSTNode v=children.getChild("Productions");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -123,10 +135,11 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Grammar4")) {
+		case "Grammar4": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "Disambiguations");
+				FSTNode v=children.getChild("Disambiguations");
 				if (v!=null) {
 					v.accept(this);
 				}
@@ -134,16 +147,17 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Productions")) {
+		case "Productions": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "ProdPart");
+				FSTNode v=children.getChild("ProdPart");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			hintIncIndent();
-			for (FSTNode v : getChildren(nonTerminal,"Production")) {
+			for (FSTNode v : children.getChildren("Production")) {
 				v.accept(this);
 			}
 			hintDecIndent();
@@ -151,113 +165,121 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Disambiguations1")) {
+		case "Disambiguations1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("context-free priorities");
-			for (FSTNode v : getChildren(nonTerminal,"Priority")) {
+			for (FSTNode v : children.getChildren("Priority")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Disambiguations2")) {
+		case "Disambiguations2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("lexical restrictions");
-			for (FSTNode v : getChildren(nonTerminal,"Restriction")) {
+			for (FSTNode v : children.getChildren("Restriction")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Disambiguations3")) {
+		case "Disambiguations3": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("context-free restrictions");
-			for (FSTNode v : getChildren(nonTerminal,"Restriction")) {
+			for (FSTNode v : children.getChildren("Restriction")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
+		}
 		throw new RuntimeException("Unknown Non Terminal in FST "+nonTerminal);
 	}
+	protected String getSupertype(String type) {
+		switch (type) {
+		case "Attribute1": return "Attribute";
+		case "Attribute10": return "Attribute";
+		case "Attribute11": return "Attribute";
+		case "Attribute2": return "Attribute";
+		case "Attribute3": return "Attribute";
+		case "Attribute4": return "Attribute";
+		case "Attribute5": return "Attribute";
+		case "Attribute6": return "Attribute";
+		case "Attribute7": return "Attribute";
+		case "Attribute8": return "Attribute";
+		case "Attribute9": return "Attribute";
+		case "CFOrLEX1": return "CFOrLEX";
+		case "CFOrLEX2": return "CFOrLEX";
+		case "CharClass1": return "CharClass";
+		case "CharClass2": return "CharClass";
+		case "CharClass3": return "CharClass";
+		case "CharClass4": return "CharClass";
+		case "Constructor1": return "Constructor";
+		case "Constructor2": return "Constructor";
+		case "Disambiguations1": return "Disambiguations";
+		case "Disambiguations2": return "Disambiguations";
+		case "Disambiguations3": return "Disambiguations";
+		case "Grammar1": return "Grammar";
+		case "Grammar2": return "Grammar";
+		case "Grammar3": return "Grammar";
+		case "Grammar4": return "Grammar";
+		case "ModuleSort1": return "ModuleSort";
+		case "ModuleSort2": return "ModuleSort";
+		case "Priority1": return "Priority";
+		case "Priority2": return "Priority";
+		case "ProdPart1": return "ProdPart";
+		case "ProdPart2": return "ProdPart";
+		case "ProdPart3": return "ProdPart";
+		case "ProdPart4": return "ProdPart";
+		case "ProdPart5": return "ProdPart";
+		case "Sort1": return "Sort";
+		case "Sort2": return "Sort";
+		case "Sort3": return "Sort";
+		case "Sort4": return "Sort";
+		case "Sort5": return "Sort";
+		case "SortOp1": return "SortOp";
+		case "SortOp2": return "SortOp";
+		case "SortOp3": return "SortOp";
+		case "SpecialSign1": return "SpecialSign";
+		case "SpecialSign10": return "SpecialSign";
+		case "SpecialSign11": return "SpecialSign";
+		case "SpecialSign12": return "SpecialSign";
+		case "SpecialSign13": return "SpecialSign";
+		case "SpecialSign14": return "SpecialSign";
+		case "SpecialSign15": return "SpecialSign";
+		case "SpecialSign16": return "SpecialSign";
+		case "SpecialSign17": return "SpecialSign";
+		case "SpecialSign18": return "SpecialSign";
+		case "SpecialSign19": return "SpecialSign";
+		case "SpecialSign2": return "SpecialSign";
+		case "SpecialSign20": return "SpecialSign";
+		case "SpecialSign21": return "SpecialSign";
+		case "SpecialSign22": return "SpecialSign";
+		case "SpecialSign23": return "SpecialSign";
+		case "SpecialSign24": return "SpecialSign";
+		case "SpecialSign25": return "SpecialSign";
+		case "SpecialSign26": return "SpecialSign";
+		case "SpecialSign27": return "SpecialSign";
+		case "SpecialSign28": return "SpecialSign";
+		case "SpecialSign29": return "SpecialSign";
+		case "SpecialSign3": return "SpecialSign";
+		case "SpecialSign4": return "SpecialSign";
+		case "SpecialSign5": return "SpecialSign";
+		case "SpecialSign6": return "SpecialSign";
+		case "SpecialSign7": return "SpecialSign";
+		case "SpecialSign8": return "SpecialSign";
+		case "SpecialSign9": return "SpecialSign";
+		case "Symbol1": return "Symbol";
+		case "Symbol2": return "Symbol";
+		case "Symbol3": return "Symbol";
+		case "Symbol4": return "Symbol";
+		default: return null;
+		}
+	}
 	protected boolean isSubtype(String type, String expectedType) {
-		if (type.equals(expectedType)) return true;
-		if (type.equals("SpecialSign14") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Attribute2") && expectedType.equals("Attribute")) return true;
-		if (type.equals("SortOp1") && expectedType.equals("SortOp")) return true;
-		if (type.equals("ProdPart4") && expectedType.equals("ProdPart")) return true;
-		if (type.equals("CharClass3") && expectedType.equals("CharClass")) return true;
-		if (type.equals("SpecialSign18") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Attribute6") && expectedType.equals("Attribute")) return true;
-		if (type.equals("SpecialSign28") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("SpecialSign24") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Attribute11") && expectedType.equals("Attribute")) return true;
-		if (type.equals("SpecialSign20") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("SpecialSign2") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Symbol2") && expectedType.equals("Symbol")) return true;
-		if (type.equals("Symbol1") && expectedType.equals("Symbol")) return true;
-		if (type.equals("SpecialSign8") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Disambiguations2") && expectedType.equals("Disambiguations")) return true;
-		if (type.equals("CharClass2") && expectedType.equals("CharClass")) return true;
-		if (type.equals("Sort4") && expectedType.equals("Sort")) return true;
-		if (type.equals("SpecialSign10") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("CharClass4") && expectedType.equals("CharClass")) return true;
-		if (type.equals("Attribute3") && expectedType.equals("Attribute")) return true;
-		if (type.equals("ProdPart5") && expectedType.equals("ProdPart")) return true;
-		if (type.equals("SpecialSign15") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("SpecialSign19") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Priority1") && expectedType.equals("Priority")) return true;
-		if (type.equals("Attribute7") && expectedType.equals("Attribute")) return true;
-		if (type.equals("SpecialSign6") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("SpecialSign29") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("ModuleSort1") && expectedType.equals("ModuleSort")) return true;
-		if (type.equals("Grammar1") && expectedType.equals("Grammar")) return true;
-		if (type.equals("SpecialSign25") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Attribute10") && expectedType.equals("Attribute")) return true;
-		if (type.equals("ProdPart1") && expectedType.equals("ProdPart")) return true;
-		if (type.equals("SpecialSign21") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Grammar4") && expectedType.equals("Grammar")) return true;
-		if (type.equals("Symbol3") && expectedType.equals("Symbol")) return true;
-		if (type.equals("SpecialSign3") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("SpecialSign7") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Sort1") && expectedType.equals("Sort")) return true;
-		if (type.equals("Disambiguations1") && expectedType.equals("Disambiguations")) return true;
-		if (type.equals("SpecialSign11") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Sort5") && expectedType.equals("Sort")) return true;
-		if (type.equals("CharClass1") && expectedType.equals("CharClass")) return true;
-		if (type.equals("CFOrLEX1") && expectedType.equals("CFOrLEX")) return true;
-		if (type.equals("SpecialSign12") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Sort2") && expectedType.equals("Sort")) return true;
-		if (type.equals("SortOp3") && expectedType.equals("SortOp")) return true;
-		if (type.equals("ProdPart2") && expectedType.equals("ProdPart")) return true;
-		if (type.equals("Priority2") && expectedType.equals("Priority")) return true;
-		if (type.equals("SpecialSign26") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Constructor1") && expectedType.equals("Constructor")) return true;
-		if (type.equals("Attribute4") && expectedType.equals("Attribute")) return true;
-		if (type.equals("SpecialSign5") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("SpecialSign16") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Symbol4") && expectedType.equals("Symbol")) return true;
-		if (type.equals("Grammar3") && expectedType.equals("Grammar")) return true;
-		if (type.equals("SpecialSign22") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("ModuleSort2") && expectedType.equals("ModuleSort")) return true;
-		if (type.equals("Attribute8") && expectedType.equals("Attribute")) return true;
-		if (type.equals("Attribute5") && expectedType.equals("Attribute")) return true;
-		if (type.equals("SpecialSign13") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Attribute1") && expectedType.equals("Attribute")) return true;
-		if (type.equals("SortOp2") && expectedType.equals("SortOp")) return true;
-		if (type.equals("Constructor2") && expectedType.equals("Constructor")) return true;
-		if (type.equals("SpecialSign27") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("SpecialSign17") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("ProdPart3") && expectedType.equals("ProdPart")) return true;
-		if (type.equals("SpecialSign4") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("CFOrLEX2") && expectedType.equals("CFOrLEX")) return true;
-		if (type.equals("Disambiguations3") && expectedType.equals("Disambiguations")) return true;
-		if (type.equals("SpecialSign1") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Grammar2") && expectedType.equals("Grammar")) return true;
-		if (type.equals("SpecialSign23") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Sort3") && expectedType.equals("Sort")) return true;
-		if (type.equals("SpecialSign9") && expectedType.equals("SpecialSign")) return true;
-		if (type.equals("Attribute9") && expectedType.equals("Attribute")) return true;
-		return false;
+		return type.equals(expectedType) || expectedType.equals(getSupertype(type));
 	}
 }
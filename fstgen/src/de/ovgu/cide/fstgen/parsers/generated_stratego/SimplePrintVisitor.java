@@ -4,6 +4,7 @@ import java.util.*;
 import cide.gast.*;
 
 import java.io.PrintStream;
+import java.io.Writer;
 
 import cide.languages.*;
 
@@ -13,134 +14,148 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 	public SimplePrintVisitor(PrintStream out) {
 		super(out); generateSpaces=true;
 	}
+	public SimplePrintVisitor(Writer out) {
+		super(out); generateSpaces=true;
+	}
 	public SimplePrintVisitor() {
 		super(); generateSpaces=true;
 	}
 	public boolean visit(FSTNonTerminal nonTerminal) {
-		if (nonTerminal.getType().equals("Module")) {
+		switch (nonTerminal.getType()) {
+		case "Module": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			{
-				FSTNode v=getChild(nonTerminal, "ModuleDeclaration");
+				FSTNode v=children.getChild("ModuleDeclaration");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			hintNewLine();
 			{
-				FSTNode v=getChild(nonTerminal, "ImportDeclaration");
+				FSTNode v=children.getChild("ImportDeclaration");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
-			for (FSTNode v : getChildren(nonTerminal,"Declaration")) {
+			for (FSTNode v : children.getChildren("Declaration")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("ImportDeclaration")) {
+		case "ImportDeclaration": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("imports");
 			hintIncIndent();
 			hintNewLine();
-			for (FSTNode v : getChildren(nonTerminal,"ModName")) {
+			for (FSTNode v : children.getChildren("ModName")) {
 				v.accept(this);
 			}
 			hintNewLine();
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Declaration1")) {
+		case "Declaration1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("rules");
-			for (FSTNode v : getChildren(nonTerminal,"Definition")) {
+			for (FSTNode v : children.getChildren("Definition")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Declaration2")) {
+		case "Declaration2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("strategies");
-			for (FSTNode v : getChildren(nonTerminal,"Definition")) {
+			for (FSTNode v : children.getChildren("Definition")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Declaration3")) {
+		case "Declaration3": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("signature");
-			for (FSTNode v : getChildren(nonTerminal,"SigDeclaration")) {
+			for (FSTNode v : children.getChildren("SigDeclaration")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Declaration4")) {
+		case "Declaration4": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("signatures");
-			for (FSTNode v : getChildren(nonTerminal,"SigDeclaration")) {
+			for (FSTNode v : children.getChildren("SigDeclaration")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("Declaration5")) {
+		case "Declaration5": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("overlays");
-			for (FSTNode v : getChildren(nonTerminal,"Overlay")) {
+			for (FSTNode v : children.getChildren("Overlay")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SigDeclaration1")) {
+		case "SigDeclaration1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("sorts");
-			for (FSTNode v : getChildren(nonTerminal,"TrafoSort")) {
+			for (FSTNode v : children.getChildren("TrafoSort")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("SigDeclaration2")) {
+		case "SigDeclaration2": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("constructors");
-			for (FSTNode v : getChildren(nonTerminal,"OpDeclaration")) {
+			for (FSTNode v : children.getChildren("OpDeclaration")) {
 				v.accept(this);
 			}
 			printFeatures(nonTerminal,false);
 			return false;
 		}
-		if (nonTerminal.getType().equals("StrategyDef1")) {
+		case "StrategyDef1": {
 			printFeatures(nonTerminal,true);
+			ChildGroups children = groupChildren(nonTerminal);
 			printToken("external");
 			hintIncIndent();
 			hintNewLine();
 			{
-				FSTNode v=getChild(nonTerminal, "Id");
+				FSTNode v=children.getChild("Id");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("(");
 			{
-				FSTNode v=getChild(nonTerminal, "TypedIdList");
+				FSTNode v=children.getChild("TypedIdList");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken("|");
 			{
-				FSTNode v=getChild(nonTerminal, "TypedIdList");
+				FSTNode v=children.getChild("TypedIdList");
 				if (v!=null) {
 					v.accept(this);
 				}
 			}
 			printToken(")");
 			{
-				FSTNode v=getChild(nonTerminal, "Strategy");
+				FSTNode v=children.getChild("Strategy");
 				if (v!=null) {
 					printToken("=");
 					v.accept(this);
@@ -149,141 +164,146 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 			printFeatures(nonTerminal,false);
 			return false;
 		}
+		}
 		throw new RuntimeException("Unknown Non Terminal in FST "+nonTerminal);
 	}
+	protected String getSupertype(String type) {
+		switch (type) {
+		case "AlternativeOperator1": return "AlternativeOperator";
+		case "AlternativeOperator2": return "AlternativeOperator";
+		case "AlternativeOperator3": return "AlternativeOperator";
+		case "AlternativeOperator4": return "AlternativeOperator";
+		case "AlternativeStrategy1": return "AlternativeStrategy";
+		case "AlternativeStrategy2": return "AlternativeStrategy";
+		case "AlternativeTerm1": return "AlternativeTerm";
+		case "AlternativeTerm2": return "AlternativeTerm";
+		case "AlternativeTerm3": return "AlternativeTerm";
+		case "Anno1": return "Anno";
+		case "Anno2": return "Anno";
+		case "Anno3": return "Anno";
+		case "ArgType1": return "ArgType";
+		case "ArgType2": return "ArgType";
+		case "BracketSort1": return "BracketSort";
+		case "BracketSort2": return "BracketSort";
+		case "Declaration1": return "Declaration";
+		case "Declaration2": return "Declaration";
+		case "Declaration3": return "Declaration";
+		case "Declaration4": return "Declaration";
+		case "Declaration5": return "Declaration";
+		case "Def1": return "Def";
+		case "Def2": return "Def";
+		case "DynRuleDef1": return "DynRuleDef";
+		case "DynRuleDef2": return "DynRuleDef";
+		case "DynRuleDef3": return "DynRuleDef";
+		case "DynRuleDef4": return "DynRuleDef";
+		case "DynRuleDef5": return "DynRuleDef";
+		case "DynRuleScopeId1": return "DynRuleScopeId";
+		case "DynRuleScopeId2": return "DynRuleScopeId";
+		case "ModuleDeclaration1": return "ModuleDeclaration";
+		case "ModuleDeclaration2": return "ModuleDeclaration";
+		case "OptIdTerm1": return "OptIdTerm";
+		case "OptIdTerm2": return "OptIdTerm";
+		case "OptIdTerm3": return "OptIdTerm";
+		case "OptOpDecl21": return "OptOpDecl2";
+		case "OptOpDecl22": return "OptOpDecl2";
+		case "OptRuleOrStrategy1": return "OptRuleOrStrategy";
+		case "OptRuleOrStrategy2": return "OptRuleOrStrategy";
+		case "OptTerms1": return "OptTerms";
+		case "OptTerms10": return "OptTerms";
+		case "OptTerms2": return "OptTerms";
+		case "OptTerms3": return "OptTerms";
+		case "OptTerms4": return "OptTerms";
+		case "OptTerms5": return "OptTerms";
+		case "OptTerms6": return "OptTerms";
+		case "OptTerms7": return "OptTerms";
+		case "OptTerms8": return "OptTerms";
+		case "OptTerms9": return "OptTerms";
+		case "RuleCond1": return "RuleCond";
+		case "RuleCond2": return "RuleCond";
+		case "RuleDecOperator1": return "RuleDecOperator";
+		case "RuleDecOperator2": return "RuleDecOperator";
+		case "RuleNames1": return "RuleNames";
+		case "RuleNames2": return "RuleNames";
+		case "RuleOrTerm1": return "RuleOrTerm";
+		case "RuleOrTerm2": return "RuleOrTerm";
+		case "ScopeLabels1": return "ScopeLabels";
+		case "ScopeLabels2": return "ScopeLabels";
+		case "SigDeclaration1": return "SigDeclaration";
+		case "SigDeclaration2": return "SigDeclaration";
+		case "Strat1": return "Strat";
+		case "Strat2": return "Strat";
+		case "Strat3": return "Strat";
+		case "Strat4": return "Strat";
+		case "Strat5": return "Strat";
+		case "Strat6": return "Strat";
+		case "Strat7": return "Strat";
+		case "Strategy1": return "Strategy";
+		case "Strategy10": return "Strategy";
+		case "Strategy11": return "Strategy";
+		case "Strategy12": return "Strategy";
+		case "Strategy13": return "Strategy";
+		case "Strategy14": return "Strategy";
+		case "Strategy15": return "Strategy";
+		case "Strategy16": return "Strategy";
+		case "Strategy17": return "Strategy";
+		case "Strategy18": return "Strategy";
+		case "Strategy19": return "Strategy";
+		case "Strategy2": return "Strategy";
+		case "Strategy20": return "Strategy";
+		case "Strategy21": return "Strategy";
+		case "Strategy22": return "Strategy";
+		case "Strategy23": return "Strategy";
+		case "Strategy24": return "Strategy";
+		case "Strategy25": return "Strategy";
+		case "Strategy3": return "Strategy";
+		case "Strategy4": return "Strategy";
+		case "Strategy5": return "Strategy";
+		case "Strategy6": return "Strategy";
+		case "Strategy7": return "Strategy";
+		case "Strategy8": return "Strategy";
+		case "Strategy9": return "Strategy";
+		case "StrategyDef1": return "StrategyDef";
+		case "StrategyDef2": return "StrategyDef";
+		case "Term1": return "Term";
+		case "Term10": return "Term";
+		case "Term11": return "Term";
+		case "Term12": return "Term";
+		case "Term13": return "Term";
+		case "Term14": return "Term";
+		case "Term15": return "Term";
+		case "Term16": return "Term";
+		case "Term17": return "Term";
+		case "Term18": return "Term";
+		case "Term19": return "Term";
+		case "Term2": return "Term";
+		case "Term20": return "Term";
+		case "Term21": return "Term";
+		case "Term22": return "Term";
+		case "Term23": return "Term";
+		case "Term24": return "Term";
+		case "Term25": return "Term";
+		case "Term26": return "Term";
+		case "Term27": return "Term";
+		case "Term28": return "Term";
+		case "Term29": return "Term";
+		case "Term3": return "Term";
+		case "Term4": return "Term";
+		case "Term5": return "Term";
+		case "Term6": return "Term";
+		case "Term7": return "Term";
+		case "Term8": return "Term";
+		case "Term9": return "Term";
+		case "TermOperator1": return "TermOperator";
+		case "TermOperator2": return "TermOperator";
+		case "TermOperator3": return "TermOperator";
+		case "TrafoSort1": return "TrafoSort";
+		case "TrafoSort2": return "TrafoSort";
+		case "Type1": return "Type";
+		case "Type2": return "Type";
+		default: return null;
+		}
+	}
 	protected boolean isSubtype(String type, String expectedType) {
-		if (type.equals(expectedType)) return true;
-		if (type.equals("Term14") && expectedType.equals("Term")) return true;
-		if (type.equals("Strategy16") && expectedType.equals("Strategy")) return true;
-		if (type.equals("Declaration3") && expectedType.equals("Declaration")) return true;
-		if (type.equals("Anno3") && expectedType.equals("Anno")) return true;
-		if (type.equals("DynRuleScopeId2") && expectedType.equals("DynRuleScopeId")) return true;
-		if (type.equals("Strategy9") && expectedType.equals("Strategy")) return true;
-		if (type.equals("TermOperator1") && expectedType.equals("TermOperator")) return true;
-		if (type.equals("AlternativeTerm2") && expectedType.equals("AlternativeTerm")) return true;
-		if (type.equals("RuleDecOperator1") && expectedType.equals("RuleDecOperator")) return true;
-		if (type.equals("Term7") && expectedType.equals("Term")) return true;
-		if (type.equals("Strat1") && expectedType.equals("Strat")) return true;
-		if (type.equals("Term21") && expectedType.equals("Term")) return true;
-		if (type.equals("Strategy21") && expectedType.equals("Strategy")) return true;
-		if (type.equals("Term28") && expectedType.equals("Term")) return true;
-		if (type.equals("DynRuleDef2") && expectedType.equals("DynRuleDef")) return true;
-		if (type.equals("Anno2") && expectedType.equals("Anno")) return true;
-		if (type.equals("Term18") && expectedType.equals("Term")) return true;
-		if (type.equals("OptTerms1") && expectedType.equals("OptTerms")) return true;
-		if (type.equals("Term13") && expectedType.equals("Term")) return true;
-		if (type.equals("AlternativeTerm1") && expectedType.equals("AlternativeTerm")) return true;
-		if (type.equals("Declaration4") && expectedType.equals("Declaration")) return true;
-		if (type.equals("Strategy8") && expectedType.equals("Strategy")) return true;
-		if (type.equals("TermOperator2") && expectedType.equals("TermOperator")) return true;
-		if (type.equals("Strategy17") && expectedType.equals("Strategy")) return true;
-		if (type.equals("DynRuleScopeId1") && expectedType.equals("DynRuleScopeId")) return true;
-		if (type.equals("OptTerms9") && expectedType.equals("OptTerms")) return true;
-		if (type.equals("AlternativeOperator4") && expectedType.equals("AlternativeOperator")) return true;
-		if (type.equals("TrafoSort1") && expectedType.equals("TrafoSort")) return true;
-		if (type.equals("Term6") && expectedType.equals("Term")) return true;
-		if (type.equals("OptTerms8") && expectedType.equals("OptTerms")) return true;
-		if (type.equals("Term27") && expectedType.equals("Term")) return true;
-		if (type.equals("DynRuleDef1") && expectedType.equals("DynRuleDef")) return true;
-		if (type.equals("Term22") && expectedType.equals("Term")) return true;
-		if (type.equals("Strategy20") && expectedType.equals("Strategy")) return true;
-		if (type.equals("Strategy7") && expectedType.equals("Strategy")) return true;
-		if (type.equals("Term17") && expectedType.equals("Term")) return true;
-		if (type.equals("Anno1") && expectedType.equals("Anno")) return true;
-		if (type.equals("Strategy14") && expectedType.equals("Strategy")) return true;
-		if (type.equals("RuleCond1") && expectedType.equals("RuleCond")) return true;
-		if (type.equals("OptRuleOrStrategy2") && expectedType.equals("OptRuleOrStrategy")) return true;
-		if (type.equals("Term12") && expectedType.equals("Term")) return true;
-		if (type.equals("Declaration1") && expectedType.equals("Declaration")) return true;
-		if (type.equals("TermOperator3") && expectedType.equals("TermOperator")) return true;
-		if (type.equals("BracketSort1") && expectedType.equals("BracketSort")) return true;
-		if (type.equals("DynRuleDef5") && expectedType.equals("DynRuleDef")) return true;
-		if (type.equals("Strategy6") && expectedType.equals("Strategy")) return true;
-		if (type.equals("DynRuleDef4") && expectedType.equals("DynRuleDef")) return true;
-		if (type.equals("Type2") && expectedType.equals("Type")) return true;
-		if (type.equals("RuleOrTerm2") && expectedType.equals("RuleOrTerm")) return true;
-		if (type.equals("ScopeLabels2") && expectedType.equals("ScopeLabels")) return true;
-		if (type.equals("OptTerms7") && expectedType.equals("OptTerms")) return true;
-		if (type.equals("Strat3") && expectedType.equals("Strat")) return true;
-		if (type.equals("Term5") && expectedType.equals("Term")) return true;
-		if (type.equals("OptOpDecl22") && expectedType.equals("OptOpDecl2")) return true;
-		if (type.equals("OptIdTerm3") && expectedType.equals("OptIdTerm")) return true;
-		if (type.equals("Term16") && expectedType.equals("Term")) return true;
-		if (type.equals("Strategy15") && expectedType.equals("Strategy")) return true;
-		if (type.equals("RuleCond2") && expectedType.equals("RuleCond")) return true;
-		if (type.equals("Term15") && expectedType.equals("Term")) return true;
-		if (type.equals("Term11") && expectedType.equals("Term")) return true;
-		if (type.equals("AlternativeTerm3") && expectedType.equals("AlternativeTerm")) return true;
-		if (type.equals("ModuleDeclaration1") && expectedType.equals("ModuleDeclaration")) return true;
-		if (type.equals("SigDeclaration1") && expectedType.equals("SigDeclaration")) return true;
-		if (type.equals("Declaration2") && expectedType.equals("Declaration")) return true;
-		if (type.equals("Term20") && expectedType.equals("Term")) return true;
-		if (type.equals("Strategy5") && expectedType.equals("Strategy")) return true;
-		if (type.equals("RuleOrTerm1") && expectedType.equals("RuleOrTerm")) return true;
-		if (type.equals("Term4") && expectedType.equals("Term")) return true;
-		if (type.equals("Term29") && expectedType.equals("Term")) return true;
-		if (type.equals("DynRuleDef3") && expectedType.equals("DynRuleDef")) return true;
-		if (type.equals("Type1") && expectedType.equals("Type")) return true;
-		if (type.equals("OptTerms6") && expectedType.equals("OptTerms")) return true;
-		if (type.equals("Strat2") && expectedType.equals("Strat")) return true;
-		if (type.equals("ScopeLabels1") && expectedType.equals("ScopeLabels")) return true;
-		if (type.equals("RuleDecOperator2") && expectedType.equals("RuleDecOperator")) return true;
-		if (type.equals("OptOpDecl21") && expectedType.equals("OptOpDecl2")) return true;
-		if (type.equals("ModuleDeclaration2") && expectedType.equals("ModuleDeclaration")) return true;
-		if (type.equals("Def2") && expectedType.equals("Def")) return true;
-		if (type.equals("RuleNames2") && expectedType.equals("RuleNames")) return true;
-		if (type.equals("Strategy22") && expectedType.equals("Strategy")) return true;
-		if (type.equals("OptTerms4") && expectedType.equals("OptTerms")) return true;
-		if (type.equals("Strategy12") && expectedType.equals("Strategy")) return true;
-		if (type.equals("OptIdTerm1") && expectedType.equals("OptIdTerm")) return true;
-		if (type.equals("Term10") && expectedType.equals("Term")) return true;
-		if (type.equals("Strategy4") && expectedType.equals("Strategy")) return true;
-		if (type.equals("AlternativeStrategy2") && expectedType.equals("AlternativeStrategy")) return true;
-		if (type.equals("ArgType1") && expectedType.equals("ArgType")) return true;
-		if (type.equals("BracketSort2") && expectedType.equals("BracketSort")) return true;
-		if (type.equals("Strat5") && expectedType.equals("Strat")) return true;
-		if (type.equals("Term25") && expectedType.equals("Term")) return true;
-		if (type.equals("Term3") && expectedType.equals("Term")) return true;
-		if (type.equals("Def1") && expectedType.equals("Def")) return true;
-		if (type.equals("Strategy23") && expectedType.equals("Strategy")) return true;
-		if (type.equals("StrategyDef2") && expectedType.equals("StrategyDef")) return true;
-		if (type.equals("Strategy3") && expectedType.equals("Strategy")) return true;
-		if (type.equals("Strat4") && expectedType.equals("Strat")) return true;
-		if (type.equals("OptTerms5") && expectedType.equals("OptTerms")) return true;
-		if (type.equals("OptRuleOrStrategy1") && expectedType.equals("OptRuleOrStrategy")) return true;
-		if (type.equals("OptIdTerm2") && expectedType.equals("OptIdTerm")) return true;
-		if (type.equals("Strategy13") && expectedType.equals("Strategy")) return true;
-		if (type.equals("AlternativeStrategy1") && expectedType.equals("AlternativeStrategy")) return true;
-		if (type.equals("Term26") && expectedType.equals("Term")) return true;
-		if (type.equals("Term2") && expectedType.equals("Term")) return true;
-		if (type.equals("Term9") && expectedType.equals("Term")) return true;
-		if (type.equals("StrategyDef1") && expectedType.equals("StrategyDef")) return true;
-		if (type.equals("AlternativeOperator3") && expectedType.equals("AlternativeOperator")) return true;
-		if (type.equals("Strategy24") && expectedType.equals("Strategy")) return true;
-		if (type.equals("Declaration5") && expectedType.equals("Declaration")) return true;
-		if (type.equals("Strategy10") && expectedType.equals("Strategy")) return true;
-		if (type.equals("OptTerms2") && expectedType.equals("OptTerms")) return true;
-		if (type.equals("Strategy2") && expectedType.equals("Strategy")) return true;
-		if (type.equals("Strat7") && expectedType.equals("Strat")) return true;
-		if (type.equals("Strategy18") && expectedType.equals("Strategy")) return true;
-		if (type.equals("Term1") && expectedType.equals("Term")) return true;
-		if (type.equals("TrafoSort2") && expectedType.equals("TrafoSort")) return true;
-		if (type.equals("OptTerms10") && expectedType.equals("OptTerms")) return true;
-		if (type.equals("Term23") && expectedType.equals("Term")) return true;
-		if (type.equals("AlternativeOperator2") && expectedType.equals("AlternativeOperator")) return true;
-		if (type.equals("RuleNames1") && expectedType.equals("RuleNames")) return true;
-		if (type.equals("Strategy25") && expectedType.equals("Strategy")) return true;
-		if (type.equals("ArgType2") && expectedType.equals("ArgType")) return true;
-		if (type.equals("Strategy11") && expectedType.equals("Strategy")) return true;
-		if (type.equals("Term8") && expectedType.equals("Term")) return true;
-		if (type.equals("OptTerms3") && expectedType.equals("OptTerms")) return true;
-		if (type.equals("Strategy1") && expectedType.equals("Strategy")) return true;
-		if (type.equals("Strat6") && expectedType.equals("Strat")) return true;
-		if (type.equals("Strategy19") && expectedType.equals("Strategy")) return true;
-		if (type.equals("Term19") && expectedType.equals("Term")) return true;
-		if (type.equals("SigDeclaration2") && expectedType.equals("SigDeclaration")) return true;
-		if (type.equals("Term24") && expectedType.equals("Term")) return true;
-		if (type.equals("AlternativeOperator1") && expectedType.equals("AlternativeOperator")) return true;
-		return false;
+		return type.equals(expectedType) || expectedType.equals(getSupertype(type));
 	}
 }
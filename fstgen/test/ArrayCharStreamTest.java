@@ -0,0 +1,50 @@
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import cide.gparser.ArrayCharStream;
+import cide.gparser.CharStream;
+import cide.gparser.OffsetCharStream;
+import cide.gparser.Token;
+import de.ovgu.cide.fstgen.parsers.generated_java15.Java15ParserConstants;
+import de.ovgu.cide.fstgen.parsers.generated_java15.Java15ParserTokenManager;
+
+public class ArrayCharStreamTest {
+
+	private static void assertSameTokens(CharStream expected, CharStream actual) {
+		Java15ParserTokenManager e = new Java15ParserTokenManager(expected);
+		Java15ParserTokenManager a = new Java15ParserTokenManager(actual);
+		Token t;
+		do {
+			t = e.getNextToken();
+			Token u = a.getNextToken();
+			assertEquals(t.kind, u.kind);
+			assertEquals(t.image, u.image);
+			assertEquals(t.beginLine, u.beginLine);
+			assertEquals(t.beginColumn, u.beginColumn);
+			assertEquals(t.endLine, u.endLine);
+			assertEquals(t.endColumn, u.endColumn);
+			assertEquals(t.offset, u.offset);
+			assertEquals(t.length, u.length);
+		} while (t.kind != Java15ParserConstants.EOF);
+	}
+
+	@Test
+	public void fileTokensMatchOffsetCharStream() throws IOException {
+		File file = new File("test/java_testfiles/Test.java");
+		assertSameTokens(new OffsetCharStream(new FileInputStream(file)), new ArrayCharStream(file));
+	}
+
+	@Test
+	public void lineEndsAndTabsMatchOffsetCharStream() {
+		String[] texts = { "", "class A {}", "class A {\r\n\tint x;\r\n}\r\n", "class\rA\n{\t\tint\r\r\n x; }",
+				"/* a\n\tb */ class A { // c\r}", "class A { int x; }\t" };
+		for (String text : texts)
+			assertSameTokens(new OffsetCharStream(new StringReader(text)), new ArrayCharStream(text));
+	}
+}
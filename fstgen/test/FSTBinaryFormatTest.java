@@ -0,0 +1,228 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Test;
+
+import cide.gparser.ArrayCharStream;
+import cide.gparser.ParseException;
+import de.ovgu.cide.fstgen.ast.FSTBinaryReader;
+import de.ovgu.cide.fstgen.ast.FSTBinaryWriter;
+import de.ovgu.cide.fstgen.ast.FSTFeatureNode;
+import de.ovgu.cide.fstgen.ast.FSTNode;
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+import de.ovgu.cide.fstgen.parsers.generated_AsmetaL.AsmetaLParser;
+import de.ovgu.cide.fstgen.parsers.generated_alloy.AlloyParser;
+import de.ovgu.cide.fstgen.parsers.generated_capprox.CApproxParser;
+import de.ovgu.cide.fstgen.parsers.generated_csharp.CSharpParser;
+import de.ovgu.cide.fstgen.parsers.generated_csharp_merge.CSharpMergeParser;
+import de.ovgu.cide.fstgen.parsers.generated_fj.FJParser;
+import de.ovgu.cide.fstgen.parsers.generated_haskell.HaskellParser;
+import de.ovgu.cide.fstgen.parsers.generated_java15.Java15Parser;
+import de.ovgu.cide.fstgen.parsers.generated_java15_merge.Java15MergeParser;
+import de.ovgu.cide.fstgen.parsers.generated_javacc.JavaCCParser;
+import de.ovgu.cide.fstgen.parsers.generated_jcop.JCopParser;
+import de.ovgu.cide.fstgen.parsers.generated_jml_contract_composition.JMLParser;
+import de.ovgu.cide.fstgen.parsers.generated_python.PythonParser;
+import de.ovgu.cide.fstgen.parsers.generated_sdf.SDFParser;
+import de.ovgu.cide.fstgen.parsers.generated_stratego.StrategoParser;
+
+public class FSTBinaryFormatTest {
+
+	private static ArrayCharStream file(String name) throws IOException {
+		return new ArrayCharStream(new File("test/" + name));
+	}
+
+	private static byte[] write(FSTNode... trees) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		FSTBinaryWriter writer = new FSTBinaryWriter(bytes);
+		for (FSTNode tree : trees)
+			writer.write(tree);
+		writer.close();
+		return bytes.toByteArray();
+	}
+
+	private static void assertRoundTrip(FSTNode tree) throws IOException {
+		FSTBinaryReader reader = new FSTBinaryReader(new ByteArrayInputStream(write(tree)));
+		FSTNode read = reader.read();
+		assertNull(reader.read());
+		reader.close();
+		assertSameTree(tree, read);
+	}
+
+	private static void assertSameTree(FSTNode expected, FSTNode actual) {
+		assertSame(expected.getClass(), actual.getClass());
+		assertEquals(expected.getType(), actual.getType());
+		assertEquals(expected.getName(), actual.getName());
+		if (expected instanceof FSTNonTerminal) {
+			List<FSTNode> expectedChildren = ((FSTNonTerminal) expected).getChildren();
+			List<FSTNode> actualChildren = ((FSTNonTerminal) actual).getChildren();
+			assertEquals(expectedChildren.size(), actualChildren.size());
+			for (int i = 0; i < expectedChildren.size(); i++) {
+				assertSame(actual, actualChildren.get(i).getParent());
+				assertSameTree(expectedChildren.get(i), actualChildren.get(i));
+			}
+		} else {
+			FSTTerminal e = (FSTTerminal) expected;
+			FSTTerminal a = (FSTTerminal) actual;
+			assertEquals(e.getBody(), a.getBody());
+			assertEquals(e.getSpecialTokenPrefix(), a.getSpecialTokenPrefix());
+			assertEquals(e.getCompositionMechanism(), a.getCompositionMechanism());
+			assertEquals(e.getMergingMechanism(), a.getMergingMechanism());
+			assertEquals(e.getContractCompKey(), a.getContractCompKey());
+			assertEquals(e.getOriginalFeatureName(), a.getOriginalFeatureName());
+			assertEquals(e.beginLine, a.beginLine);
+			assertEquals(e.endLine, a.endLine);
+		}
+	}
+
+	@Test
+	public void alloy() throws IOException, ParseException {
+		AlloyParser p = new AlloyParser(file("Test.als"));
+		p.Specification(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void asmetal() throws IOException, ParseException {
+		AsmetaLParser p = new AsmetaLParser(file("test.asm"));
+		p.CompilationUnit(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void c() throws IOException, ParseException {
+		CApproxParser p = new CApproxParser(file("Test.c"));
+		p.TranslationUnit(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void csharp() throws IOException, ParseException {
+		CSharpParser p = new CSharpParser(file("Test.cs"));
+		p.compilation_unit(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void csharpMerge() throws IOException, ParseException {
+		CSharpMergeParser p = new CSharpMergeParser(file("Test_Merge.cs"));
+		p.compilation_unit(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void featherweightJava() throws IOException, ParseException {
+		FJParser p = new FJParser(file("TestCase.fj"));
+		p.TypeDeclaration(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void haskell() throws IOException, ParseException {
+		HaskellParser p = new HaskellParser(file("Test.hs"));
+		p.module(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void java() throws IOException, ParseException {
+		Java15Parser p = new Java15Parser(file("Test.java"));
+		p.CompilationUnit(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void javaMerge() throws IOException, ParseException {
+		Java15MergeParser p = new Java15MergeParser(file("Test.java"));
+		p.CompilationUnit(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void javaContracts() throws IOException, ParseException {
+		JMLParser p = new JMLParser(file("TestJML.java"));
+		p.CompilationUnit(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void javacc() throws IOException, ParseException {
+		JavaCCParser p = new JavaCCParser(file("java15_fst.jj"));
+		p.javacc_input(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void jcop() throws IOException, ParseException {
+		JCopParser p = new JCopParser(file("Test.jcop"));
+		p.disable_tracing();
+		p.CompilationUnit(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void python() throws IOException, ParseException {
+		PythonParser p = new PythonParser(file("Test.py"));
+		p.file_input(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void sdf() throws IOException, ParseException {
+		SDFParser p = new SDFParser(file("Test.sdf"));
+		p.Module(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void stratego() throws IOException, ParseException {
+		StrategoParser p = new StrategoParser(file("Test.str"));
+		p.Module(false);
+		assertRoundTrip(p.getRoot());
+	}
+
+	@Test
+	public void severalTreesShareTheStringTable() throws IOException, ParseException {
+		Java15Parser p = new Java15Parser(file("Test.java"));
+		p.CompilationUnit(false);
+		FSTNode java = p.getRoot();
+		FSTFeatureNode feature = new FSTFeatureNode("Base");
+		FSTTerminal terminal = new FSTTerminal("Modifiers", "-", "", "\n\t",
+				"ModifierListSpecialization", "Default", -1, -1);
+		terminal.setOriginalFeatureName("Base");
+		feature.addChild(terminal);
+		feature.addChild(new FSTTerminal("ContractCompKey", "-", "final_contract", ""));
+
+		FSTNode clone = java.getDeepClone();
+		byte[] once = write(java);
+		byte[] twice = write(java, feature, clone);
+		assertTrue(twice.length < 2 * once.length);
+
+		FSTBinaryReader reader = new FSTBinaryReader(new ByteArrayInputStream(twice));
+		assertSameTree(java, reader.read());
+		assertSameTree(feature, reader.read());
+		assertSameTree(clone, reader.read());
+		assertNull(reader.read());
+		reader.close();
+	}
+
+	@Test
+	public void otherStreamsAreRejected() throws IOException {
+		try {
+			new FSTBinaryReader(new ByteArrayInputStream("class A {}".getBytes()));
+			fail();
+		} catch (IOException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,88 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.ovgu.cide.fstgen.ast.FSTFeatureNode;
+import de.ovgu.cide.fstgen.ast.FSTNode;
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+
+public class FSTNonTerminalTest {
+
+	private static FSTTerminal terminal(String type, String name) {
+		return new FSTTerminal(type, name, name, "");
+	}
+
+	@Test
+	public void compatibleChildFollowsModifications() {
+		FSTNonTerminal parent = new FSTNonTerminal("ClassDeclaration", "A");
+		FSTTerminal m = terminal("MethodDecl", "m()");
+		FSTTerminal f = terminal("FieldDecl", "x");
+		parent.addChild(m);
+		parent.addChild(f, 0);
+
+		assertSame(m, parent.getCompatibleChild(terminal("MethodDecl", "m()")));
+		assertSame(f, parent.getCompatibleChild(terminal("FieldDecl", "x")));
+		assertNull(parent.getCompatibleChild(terminal("FieldDecl", "m()")));
+
+		parent.removeChild(m);
+		assertNull(parent.getCompatibleChild(terminal("MethodDecl", "m()")));
+
+		f.setName("y");
+		assertNull(parent.getCompatibleChild(terminal("FieldDecl", "x")));
+		assertSame(f, parent.getCompatibleChild(terminal("FieldDecl", "y")));
+
+		Iterator<FSTNode> it = parent.getChildren().iterator();
+		it.next();
+		it.remove();
+		assertNull(parent.getCompatibleChild(terminal("FieldDecl", "y")));
+
+		List<FSTNode> newChildren = new LinkedList<FSTNode>();
+		newChildren.add(m);
+		parent.setChildren(newChildren);
+		assertSame(m, parent.getCompatibleChild(terminal("MethodDecl", "m()")));
+	}
+
+	@Test
+	public void firstOfDuplicateChildrenIsReturned() {
+		FSTNonTerminal parent = new FSTNonTerminal("ClassDeclaration", "A");
+		FSTTerminal first = terminal("MethodDecl", "m()");
+		FSTTerminal second = terminal("MethodDecl", "m()");
+		parent.addChild(second);
+		parent.addChild(first, 0);
+		assertSame(first, parent.getCompatibleChild(terminal("MethodDecl", "m()")));
+		parent.removeChild(first);
+		assertSame(second, parent.getCompatibleChild(terminal("MethodDecl", "m()")));
+		assertEquals(1, parent.getChildren().size());
+	}
+
+	@Test
+	public void customCompatibilityIsRespected() {
+		FSTNonTerminal root = new FSTNonTerminal("Root", "r");
+		FSTFeatureNode feature = new FSTFeatureNode("Base");
+		root.addChild(feature);
+		assertSame(feature, root.getCompatibleChild(new FSTFeatureNode("Other")));
+	}
+
+	@Test
+	public void typesAndMechanismsAreCanonical() {
+		FSTNonTerminal parent = new FSTNonTerminal(new String("ClassDeclaration"), "A");
+		FSTTerminal m = new FSTTerminal(new String("MethodDecl"), "m()", "", "",
+				new String("Replacement"), new String("Default"));
+		parent.addChild(m);
+		assertSame("ClassDeclaration", parent.getType());
+		assertSame("MethodDecl", m.getType());
+		assertSame("Replacement", m.getCompositionMechanism());
+		assertSame("Default", m.getMergingMechanism());
+
+		m.setType(new String("FieldDecl"));
+		assertSame("FieldDecl", m.getType());
+		assertSame(m, parent.getCompatibleChild(terminal(new String("FieldDecl"), "m()")));
+	}
+}
@@ -0,0 +1,57 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import cide.gparser.OffsetCharStream;
+import cide.gparser.ParseException;
+import de.ovgu.cide.fstgen.ast.FSTNode;
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+import de.ovgu.cide.fstgen.parsers.generated_java15.Java15Parser;
+
+public class FSTTerminalTextTest {
+
+	private static void collectTerminals(FSTNode node, List<FSTTerminal> terminals) {
+		if (node instanceof FSTTerminal) {
+			terminals.add((FSTTerminal) node);
+		} else {
+			for (FSTNode child : ((FSTNonTerminal) node).getChildren())
+				collectTerminals(child, terminals);
+		}
+	}
+
+	@Test
+	public void parsedTextIsBuiltOnDemand() throws IOException, ParseException {
+		Java15Parser p = new Java15Parser(new OffsetCharStream(new FileInputStream("test/java_testfiles/Test.java")));
+		p.CompilationUnit(false);
+		List<FSTTerminal> terminals = new ArrayList<FSTTerminal>();
+		collectTerminals(p.getRoot(), terminals);
+		assertFalse(terminals.isEmpty());
+
+		for (FSTTerminal terminal : terminals) {
+			CharSequence text = terminal.getBodyText();
+			if (text.length() > 0)
+				assertFalse(text instanceof String);
+			FSTTerminal clone = (FSTTerminal) terminal.getDeepClone();
+			assertSame(text, clone.getBodyText());
+
+			String body = terminal.getBody();
+			assertEquals(text.toString(), body);
+			assertSame(body, terminal.getBodyText());
+			assertEquals(terminal.getSpecialTokenPrefixText().toString(), terminal.getSpecialTokenPrefix());
+
+			clone.setBody("changed");
+			assertEquals("changed", clone.getBody());
+			assertEquals(body, terminal.getBody());
+		}
+		assertTrue(terminals.get(0).getBody().length() > 0);
+	}
+}
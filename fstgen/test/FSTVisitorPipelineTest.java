@@ -0,0 +1,130 @@
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import de.ovgu.cide.fstgen.ast.FSTFeatureNode;
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+import de.ovgu.cide.fstgen.ast.FSTVisitor;
+import de.ovgu.cide.fstgen.ast.FSTVisitorPipeline;
+
+public class FSTVisitorPipelineTest {
+
+	/**
+	 * records the visits and does not descend into nonterminals of the
+	 * given type
+	 */
+	private static class RecordingVisitor extends FSTVisitor {
+		final List<String> events = new ArrayList<String>();
+
+		private final String skippedType;
+
+		RecordingVisitor(String skippedType) {
+			this.skippedType = skippedType;
+		}
+
+		@Override
+		public boolean visit(FSTNonTerminal nonTerminal) {
+			events.add("enter " + nonTerminal.getName());
+			return !nonTerminal.getType().equals(skippedType);
+		}
+
+		@Override
+		public void postVisit(FSTNonTerminal nonTerminal) {
+			events.add("leave " + nonTerminal.getName());
+		}
+
+		@Override
+		public boolean visit(FSTTerminal terminal) {
+			events.add("visit " + terminal.getName());
+			return true;
+		}
+
+		@Override
+		public void postVisit(FSTTerminal terminal) {
+			events.add("post " + terminal.getName());
+		}
+	}
+
+	private static FSTNonTerminal tree() {
+		FSTNonTerminal root = new FSTFeatureNode("F");
+		FSTNonTerminal a = new FSTNonTerminal("Class", "A");
+		a.addChild(new FSTTerminal("Method", "m", "", ""));
+		FSTNonTerminal inner = new FSTNonTerminal("Inner", "I");
+		inner.addChild(new FSTTerminal("Method", "n", "", ""));
+		a.addChild(inner);
+		a.addChild(new FSTTerminal("Field", "f", "", ""));
+		root.addChild(a);
+		root.addChild(new FSTNonTerminal("Class", "B"));
+		return root;
+	}
+
+	@Test
+	public void visitorsSeeTheTreeAsWithAccept() {
+		for (String skippedType : new String[] {null, "Inner", "Class", "Feature"}) {
+			RecordingVisitor expected = new RecordingVisitor(skippedType);
+			tree().accept(expected);
+
+			RecordingVisitor all = new RecordingVisitor(null);
+			RecordingVisitor skipping = new RecordingVisitor(skippedType);
+			new FSTVisitorPipeline().add(all).add(skipping).traverse(tree());
+
+			assertEquals(expected.events, skipping.events);
+			RecordingVisitor unrestricted = new RecordingVisitor(null);
+			tree().accept(unrestricted);
+			assertEquals(unrestricted.events, all.events);
+		}
+	}
+
+	@Test
+	public void visitorsAreCalledInOrderAtEachNode() {
+		final List<String> calls = new ArrayList<String>();
+		FSTVisitor first = new FSTVisitor() {
+			@Override
+			public boolean visit(FSTTerminal terminal) {
+				calls.add("1 " + terminal.getName());
+				return true;
+			}
+		};
+		FSTVisitor second = new FSTVisitor() {
+			@Override
+			public boolean visit(FSTTerminal terminal) {
+				calls.add("2 " + terminal.getName());
+				return true;
+			}
+		};
+		new FSTVisitorPipeline().add(first).add(second).traverse(tree());
+		assertEquals("[1 m, 2 m, 1 n, 2 n, 1 f, 2 f]", calls.toString());
+	}
+
+	@Test
+	public void deepTreesDoNotOverflowTheStack() {
+		FSTNonTerminal root = new FSTFeatureNode("F");
+		FSTNonTerminal current = root;
+		for (int i = 0; i < 200000; i++) {
+			FSTNonTerminal child = new FSTNonTerminal("Block", "b" + i);
+			current.addChild(child);
+			current = child;
+		}
+		current.addChild(new FSTTerminal("Stmt", "s", "", ""));
+		final int[] counts = new int[2];
+		new FSTVisitorPipeline().add(new FSTVisitor() {
+			@Override
+			public boolean visit(FSTNonTerminal nonTerminal) {
+				counts[0]++;
+				return true;
+			}
+
+			@Override
+			public boolean visit(FSTTerminal terminal) {
+				counts[1]++;
+				return true;
+			}
+		}).traverse(root);
+		assertEquals(200001, counts[0]);
+		assertEquals(1, counts[1]);
+	}
+}
@@ -0,0 +1,50 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+
+import org.junit.Test;
+
+import cide.gparser.OffsetCharStream;
+import cide.gparser.ParseException;
+import de.ovgu.cide.fstgen.ast.AbstractFSTPrintVisitor;
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.parsers.generated_java15.Java15Parser;
+import de.ovgu.cide.fstgen.parsers.generated_java15.SimplePrintVisitor;
+
+public class PrintVisitorOutputTest {
+
+	private static FSTNonTerminal parse() throws IOException, ParseException {
+		Java15Parser p = new Java15Parser(new OffsetCharStream(new FileInputStream("test/java_testfiles/Test.java")));
+		p.CompilationUnit(false);
+		return (FSTNonTerminal) p.getRoot();
+	}
+
+	@Test
+	public void writerReceivesPrintedText() throws IOException, ParseException {
+		SimplePrintVisitor inMemory = new SimplePrintVisitor();
+		parse().accept(inMemory);
+		String expected = inMemory.getResult();
+
+		StringWriter out = new StringWriter();
+		SimplePrintVisitor streaming = new SimplePrintVisitor(out);
+		parse().accept(streaming);
+		streaming.close();
+		assertEquals(expected, out.toString());
+		assertNull(streaming.getResult());
+
+		File file = File.createTempFile("printed", ".java");
+		try {
+			SimplePrintVisitor toFile = new SimplePrintVisitor(AbstractFSTPrintVisitor.openOutput(file));
+			parse().accept(toFile);
+			toFile.close();
+			assertEquals(expected, new String(Files.readAllBytes(file.toPath())));
+		} finally {
+			file.delete();
+		}
+	}
+}
@@ -1,6 +1,7 @@
 import java.util.*;
 
 import java.io.PrintStream;
+import java.io.Writer;
 import java.util.Iterator;
 
 import de.ovgu.cide.fstgen.ast.AbstractFSTPrintVisitor;
@@ -12,6 +13,9 @@ public class SimplePrintVisitor extends AbstractFSTPrintVisitor  {
 	public SimplePrintVisitor(PrintStream out) {
 		super(out); generateSpaces=true;
 	}
+	public SimplePrintVisitor(Writer out) {
+		super(out); generateSpaces=true;
+	}
 	public SimplePrintVisitor() {
 		super(); generateSpaces=true;
 	}
@@ -1,12 +1,11 @@
 package builder.csharpm;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_csharp_merge.CSharpMergeParser;
@@ -19,7 +18,7 @@ public class CSharpMergeBuilder extends ArtifactBuilder {
 	public void processNode(FSTNonTerminal parent, StringTokenizer st, File inputFile) throws FileNotFoundException, ParseException {
 		FSTNonTerminal rootDocument = new FSTNonTerminal("CSharp-File", st.nextToken());
 		parent.addChild(rootDocument);
-		CSharpMergeParser p = new CSharpMergeParser(new OffsetCharStream(new FileInputStream(inputFile)));
+		CSharpMergeParser p = new CSharpMergeParser(new ArrayCharStream(inputFile));
 		p.compilation_unit(false);
 		rootDocument.addChild(p.getRoot());
 	}
@@ -1,14 +1,14 @@
 package builder.pythonm;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.PrintStream;
+import java.io.IOException;
 import java.util.StringTokenizer;
 
 import builder.ArtifactBuilder;
-import cide.gparser.OffsetCharStream;
+import cide.gparser.ArrayCharStream;
 import cide.gparser.ParseException;
+import de.ovgu.cide.fstgen.ast.AbstractFSTPrintVisitor;
 import de.ovgu.cide.fstgen.ast.FSTNode;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.parsers.generated_python.PythonParser;
@@ -22,7 +22,7 @@ public class PythonMergeBuilder extends ArtifactBuilder {
 	public void processNode(FSTNonTerminal parent, StringTokenizer st, File inputFile) throws FileNotFoundException, ParseException {
 		FSTNonTerminal rootDocument = new FSTNonTerminal("Python-File", st.nextToken());
 		parent.addChild(rootDocument);
-		PythonParser p = new PythonParser(new OffsetCharStream(new FileInputStream(inputFile)));
+		PythonParser p = new PythonParser(new ArrayCharStream(inputFile));
 		p.file_input(false);
 		rootDocument.addChild(p.getRoot());
 
@@ -31,10 +31,10 @@ public class PythonMergeBuilder extends ArtifactBuilder {
 			for (FSTNode child : rootDocument.getChildren()) {
 				SimplePrintVisitor visitor;
 				try {
-					visitor = new SimplePrintVisitor(new PrintStream(inputFile));
+					visitor = new SimplePrintVisitor(AbstractFSTPrintVisitor.openOutput(inputFile));
 					visitor.visit((FSTNonTerminal) child);
-					visitor.getResult();
-				} catch (FileNotFoundException e) {
+					visitor.close();
+				} catch (IOException e) {
 				}
 			}
 		}
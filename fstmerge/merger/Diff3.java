@@ -0,0 +1,514 @@
+package merger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process three-way merge of texts line by line. It has the semantics
+ * and the output of <code>diff3 -E -am</code>, which the RCS tool
+ * <code>merge -p</code> runs: changes of only one revision are taken over,
+ * identical changes of both revisions are taken over once, and different
+ * changes of both revisions to the same or adjacent lines of the base are
+ * bracketed as conflict:
+ *
+ * <pre>
+ * &lt;&lt;&lt;&lt;&lt;&lt;&lt; label of the first revision
+ * lines of the first revision
+ * =======
+ * lines of the second revision
+ * &gt;&gt;&gt;&gt;&gt;&gt;&gt; label of the second revision
+ * </pre>
+ *
+ * The line differences are computed like GNU diff does: lines that do not
+ * occur in the other file are discarded, the remaining lines are compared
+ * with Myers' algorithm (linear space variant), and the changed regions are
+ * shifted to merge them with neighboring ones.
+ */
+public class Diff3 {
+
+	/**
+	 * number of identical lines at the beginning and end of two files that
+	 * are compared (diff3 runs diff with <code>--horizon-lines=100</code>)
+	 */
+	private static final int HORIZON = 100;
+
+	/** lines of the first revision, the base and the second revision */
+	private final String[] mine, base, yours;
+
+	private Diff3(String mine, String base, String yours) {
+		this.mine = splitLines(mine);
+		this.base = splitLines(base);
+		this.yours = splitLines(yours);
+	}
+
+	/**
+	 * merges the changes from <code>base</code> to <code>yours</code> into
+	 * <code>mine</code>
+	 *
+	 * @return the merged text, with conflict markers if the changes overlap
+	 */
+	public static String merge(String mine, String base, String yours,
+			String mineLabel, String yoursLabel) {
+		return new Diff3(mine, base, yours).merge(mineLabel, yoursLabel);
+	}
+
+	/**
+	 * @return the lines of the given text, each with its line feed; the last
+	 *         line has none if the text does not end with a line feed
+	 */
+	static String[] splitLines(String text) {
+		List<String> lines = new ArrayList<String>();
+		int start = 0;
+		while (start < text.length()) {
+			int end = text.indexOf('\n', start);
+			end = (end < 0) ? text.length() : end + 1;
+			lines.add(text.substring(start, end));
+			start = end;
+		}
+		return lines.toArray(new String[lines.size()]);
+	}
+
+	private String merge(String mineLabel, String yoursLabel) {
+		// equal lines get equal numbers, so that lines are compared only once
+		Map<String, Integer> numbers = new HashMap<String, Integer>();
+		int[] baseNumbers = number(base, numbers);
+		// as diff3, which runs "diff mine base" and "diff yours base"
+		List<int[]> mineHunks = reverse(diff(number(mine, numbers), baseNumbers));
+		List<int[]> yoursHunks = reverse(diff(number(yours, numbers), baseNumbers));
+
+		StringBuilder result = new StringBuilder();
+		int minePos = 0;
+		int m = 0, y = 0;
+		while (m < mineHunks.size() || y < yoursHunks.size()) {
+			// combine the hunks of both revisions that overlap or touch
+			int firstMine = m, firstYours = y;
+			boolean takeMine = y == yoursHunks.size()
+					|| (m < mineHunks.size() && mineHunks.get(m)[0] <= yoursHunks.get(y)[0]);
+			int low = takeMine ? mineHunks.get(m)[0] : yoursHunks.get(y)[0];
+			int high = takeMine ? mineHunks.get(m++)[1] : yoursHunks.get(y++)[1];
+			while (true) {
+				if (m < mineHunks.size() && mineHunks.get(m)[0] <= high) {
+					high = Math.max(high, mineHunks.get(m++)[1]);
+				} else if (y < yoursHunks.size() && yoursHunks.get(y)[0] <= high) {
+					high = Math.max(high, yoursHunks.get(y++)[1]);
+				} else {
+					break;
+				}
+			}
+			int[] mineRange = range(mineHunks, firstMine, m, low, high);
+			int[] yoursRange = range(yoursHunks, firstYours, y, low, high);
+
+			append(result, mine, minePos, mineRange[0]);
+			minePos = mineRange[1];
+			if (firstYours == y || equal(mine, mineRange, yours, yoursRange)) {
+				append(result, mine, mineRange[0], mineRange[1]);
+			} else if (firstMine == m) {
+				append(result, yours, yoursRange[0], yoursRange[1]);
+			} else {
+				result.append("<<<<<<< ").append(mineLabel).append('\n');
+				append(result, mine, mineRange[0], mineRange[1]);
+				result.append("=======\n");
+				append(result, yours, yoursRange[0], yoursRange[1]);
+				result.append(">>>>>>> ").append(yoursLabel).append('\n');
+			}
+		}
+		append(result, mine, minePos, mine.length);
+		return result.toString();
+	}
+
+	/**
+	 * @return the hunks of the difference from y to x, given those from x to y
+	 */
+	private static List<int[]> reverse(List<int[]> hunks) {
+		for (int[] hunk : hunks) {
+			int xLow = hunk[0], xHigh = hunk[1];
+			hunk[0] = hunk[2];
+			hunk[1] = hunk[3];
+			hunk[2] = xLow;
+			hunk[3] = xHigh;
+		}
+		return hunks;
+	}
+
+	private static int[] number(String[] lines, Map<String, Integer> numbers) {
+		int[] result = new int[lines.length];
+		for (int i = 0; i < lines.length; i++) {
+			Integer number = numbers.get(lines[i]);
+			if (number == null) {
+				number = numbers.size();
+				numbers.put(lines[i], number);
+			}
+			result[i] = number;
+		}
+		return result;
+	}
+
+	/**
+	 * @return the lines of a revision that correspond to the lines
+	 *         <code>low</code> to <code>high</code> of the base, given the
+	 *         hunks <code>first</code> to <code>last</code> (exclusive) of its
+	 *         diff to the base that lie in this range
+	 */
+	private static int[] range(List<int[]> hunks, int first, int last, int low, int high) {
+		if (first == last) {
+			// unchanged lines; use the offset of the preceding hunk
+			int offset = (first == 0) ? 0 : hunks.get(first - 1)[3] - hunks.get(first - 1)[1];
+			return new int[] {low + offset, high + offset};
+		}
+		int[] firstHunk = hunks.get(first);
+		int[] lastHunk = hunks.get(last - 1);
+		return new int[] {firstHunk[2] - (firstHunk[0] - low), lastHunk[3] + (high - lastHunk[1])};
+	}
+
+	private static boolean equal(String[] a, int[] aRange, String[] b, int[] bRange) {
+		if (aRange[1] - aRange[0] != bRange[1] - bRange[0])
+			return false;
+		for (int i = 0; i < aRange[1] - aRange[0]; i++) {
+			if (!a[aRange[0] + i].equals(b[bRange[0] + i]))
+				return false;
+		}
+		return true;
+	}
+
+	private static void append(StringBuilder result, String[] lines, int from, int to) {
+		for (int i = from; i < to; i++)
+			result.append(lines[i]);
+	}
+
+	/**
+	 * @return the hunks of the difference between x and y as arrays
+	 *         <code>{xLow, xHigh, yLow, yHigh}</code> (exclusive upper
+	 *         bounds), in ascending order
+	 */
+	static List<int[]> diff(int[] x, int[] y) {
+		// identical lines at the beginning and end beyond the horizon are left out
+		int prefix = 0;
+		while (prefix < x.length && prefix < y.length && x[prefix] == y[prefix])
+			prefix++;
+		int suffix = 0;
+		while (suffix < x.length - prefix && suffix < y.length - prefix
+				&& x[x.length - 1 - suffix] == y[y.length - 1 - suffix])
+			suffix++;
+		int skip = Math.max(0, prefix - HORIZON);
+		x = Arrays.copyOfRange(x, skip, x.length - Math.max(0, suffix - HORIZON));
+		y = Arrays.copyOfRange(y, skip, y.length - Math.max(0, suffix - HORIZON));
+
+		// changed flags with a sentinel before and after the lines
+		boolean[] xChanged = new boolean[x.length + 2];
+		boolean[] yChanged = new boolean[y.length + 2];
+		new LineDiff(x, y, xChanged, yChanged).compare();
+		shiftBoundaries(x, xChanged, yChanged);
+		shiftBoundaries(y, yChanged, xChanged);
+
+		List<int[]> hunks = new ArrayList<int[]>();
+		int i = 0, j = 0;
+		while (i < x.length || j < y.length) {
+			if (xChanged[i + 1] || yChanged[j + 1]) {
+				int xLow = i, yLow = j;
+				while (xChanged[i + 1])
+					i++;
+				while (yChanged[j + 1])
+					j++;
+				hunks.add(new int[] {skip + xLow, skip + i, skip + yLow, skip + j});
+			}
+			i++;
+			j++;
+		}
+		return hunks;
+	}
+
+	/**
+	 * Moves each run of changed lines of a file back and forth over equal
+	 * lines, to merge it with neighboring runs and else as far down as
+	 * possible, preferably next to a run of changes in the other file (as
+	 * <code>shift_boundaries</code> of GNU diff).
+	 */
+	private static void shiftBoundaries(int[] lines, boolean[] changed, boolean[] otherChanged) {
+		// indices into the flags are shifted by one because of the sentinel
+		int i = 0, j = 0, end = lines.length;
+		while (true) {
+			// find the beginning of the next run and the corresponding point in the other file
+			while (i < end && !changed[i + 1]) {
+				while (otherChanged[1 + j++])
+					;
+				i++;
+			}
+			if (i == end)
+				break;
+			int start = i;
+			while (changed[1 + ++i])
+				;
+			while (otherChanged[1 + j])
+				j++;
+
+			int runLength, corresponding;
+			do {
+				runLength = i - start;
+				// move back as long as the previous unchanged line equals the last changed one
+				while (start > 0 && lines[start - 1] == lines[i - 1]) {
+					changed[1 + --start] = true;
+					changed[1 + --i] = false;
+					while (changed[start])
+						start--;
+					while (otherChanged[1 + --j])
+						;
+				}
+				corresponding = otherChanged[j] ? i : end;
+				// move forward as long as the first changed line equals the following unchanged one
+				while (i != end && lines[start] == lines[i]) {
+					changed[1 + start++] = false;
+					changed[1 + i++] = true;
+					while (changed[1 + i])
+						i++;
+					while (otherChanged[1 + ++j])
+						corresponding = i;
+				}
+			} while (runLength != i - start);
+
+			// move back to a corresponding run of changes in the other file
+			while (corresponding < i) {
+				changed[1 + --start] = true;
+				changed[1 + --i] = false;
+				while (otherChanged[1 + --j])
+					;
+			}
+		}
+	}
+
+	/**
+	 * marks the lines that differ between two files, with the divide and
+	 * conquer variant of Myers' O(ND) algorithm
+	 */
+	private static class LineDiff {
+		/** lines that are compared and their indices in the files */
+		private final int[] x, y, xIndex, yIndex;
+		private final boolean[] xChanged, yChanged;
+		/** furthest reaching x of the forward and backward paths per diagonal */
+		private final int[] fd, bd;
+		private final int offset;
+
+		LineDiff(int[] xLines, int[] yLines, boolean[] xChanged, boolean[] yChanged) {
+			this.xChanged = xChanged;
+			this.yChanged = yChanged;
+			int classes = 0;
+			for (int line : xLines)
+				classes = Math.max(classes, line + 1);
+			for (int line : yLines)
+				classes = Math.max(classes, line + 1);
+			int[] xCounts = new int[classes], yCounts = new int[classes];
+			for (int line : xLines)
+				xCounts[line]++;
+			for (int line : yLines)
+				yCounts[line]++;
+			byte[] xDiscards = discards(xLines, yCounts);
+			byte[] yDiscards = discards(yLines, xCounts);
+			xIndex = undiscarded(xDiscards, xChanged);
+			yIndex = undiscarded(yDiscards, yChanged);
+			x = new int[xIndex.length];
+			for (int i = 0; i < x.length; i++)
+				x[i] = xLines[xIndex[i]];
+			y = new int[yIndex.length];
+			for (int i = 0; i < y.length; i++)
+				y[i] = yLines[yIndex[i]];
+			fd = new int[x.length + y.length + 3];
+			bd = new int[x.length + y.length + 3];
+			offset = y.length + 1;
+		}
+
+		/**
+		 * @return for each line whether it is discarded (1), i.e., it does
+		 *         not occur in the other file, or if it is in a run of such
+		 *         lines and occurs many times in the other file (as
+		 *         <code>discard_confusing_lines</code> of GNU diff)
+		 */
+		private static byte[] discards(int[] lines, int[] otherCounts) {
+			int end = lines.length;
+			byte[] discards = new byte[end];
+			int many = 5;
+			for (int tem = end / 64; (tem >>= 2) > 0;)
+				many *= 2;
+			for (int i = 0; i < end; i++) {
+				int matches = otherCounts[lines[i]];
+				if (matches == 0)
+					discards[i] = 1;
+				else if (matches > many)
+					discards[i] = 2;
+			}
+
+			// keep provisional discards (2) only inside of runs of discards
+			for (int i = 0; i < end; i++) {
+				if (discards[i] == 2) {
+					discards[i] = 0;
+				} else if (discards[i] != 0) {
+					int j, provisional = 0;
+					for (j = i; j < end && discards[j] != 0; j++) {
+						if (discards[j] == 2)
+							provisional++;
+					}
+					while (j > i && discards[j - 1] == 2) {
+						discards[--j] = 0;
+						provisional--;
+					}
+					int length = j - i;
+					if (provisional * 4 > length) {
+						while (j > i) {
+							if (discards[--j] == 2)
+								discards[j] = 0;
+						}
+					} else {
+						// cancel subruns of at least about sqrt(length / 4) provisionals
+						int minimum = 1;
+						for (int tem = length >> 2; (tem >>= 2) > 0;)
+							minimum <<= 1;
+						minimum++;
+						int consec = 0;
+						for (j = 0; j < length; j++) {
+							if (discards[i + j] != 2)
+								consec = 0;
+							else if (minimum == ++consec)
+								j -= consec;
+							else if (minimum < consec)
+								discards[i + j] = 0;
+						}
+						// cancel provisionals at the beginning and the end of the run
+						consec = 0;
+						for (j = 0; j < length; j++) {
+							if (j >= 8 && discards[i + j] == 1)
+								break;
+							if (discards[i + j] == 2) {
+								consec = 0;
+								discards[i + j] = 0;
+							} else if (discards[i + j] == 0) {
+								consec = 0;
+							} else {
+								consec++;
+							}
+							if (consec == 3)
+								break;
+						}
+						i += length - 1;
+						consec = 0;
+						for (j = 0; j < length; j++) {
+							if (j >= 8 && discards[i - j] == 1)
+								break;
+							if (discards[i - j] == 2) {
+								consec = 0;
+								discards[i - j] = 0;
+							} else if (discards[i - j] == 0) {
+								consec = 0;
+							} else {
+								consec++;
+							}
+							if (consec == 3)
+								break;
+						}
+					}
+				}
+			}
+			return discards;
+		}
+
+		/**
+		 * marks the discarded lines as changed
+		 *
+		 * @return the indices of the other lines
+		 */
+		private static int[] undiscarded(byte[] discards, boolean[] changed) {
+			int[] index = new int[discards.length];
+			int count = 0;
+			for (int i = 0; i < discards.length; i++) {
+				if (discards[i] == 0)
+					index[count++] = i;
+				else
+					changed[1 + i] = true;
+			}
+			return Arrays.copyOf(index, count);
+		}
+
+		void compare() {
+			compare(0, x.length, 0, y.length);
+		}
+
+		private void compare(int xOff, int xLim, int yOff, int yLim) {
+			while (xOff < xLim && yOff < yLim && x[xOff] == y[yOff]) {
+				xOff++;
+				yOff++;
+			}
+			while (xOff < xLim && yOff < yLim && x[xLim - 1] == y[yLim - 1]) {
+				xLim--;
+				yLim--;
+			}
+			if (xOff == xLim) {
+				while (yOff < yLim)
+					yChanged[1 + yIndex[yOff++]] = true;
+			} else if (yOff == yLim) {
+				while (xOff < xLim)
+					xChanged[1 + xIndex[xOff++]] = true;
+			} else {
+				int[] mid = middleSnake(xOff, xLim, yOff, yLim);
+				compare(xOff, mid[0], yOff, mid[1]);
+				compare(mid[0], xLim, mid[1], yLim);
+			}
+		}
+
+		/**
+		 * @return a point on an optimal path from (xOff, yOff) to (xLim, yLim)
+		 *         that splits it into two paths with about the same number of
+		 *         differences
+		 */
+		private int[] middleSnake(int xOff, int xLim, int yOff, int yLim) {
+			int dMin = xOff - yLim, dMax = xLim - yOff;
+			int fMid = xOff - yOff, bMid = xLim - yLim;
+			int fMin = fMid, fMax = fMid, bMin = bMid, bMax = bMid;
+			boolean odd = ((fMid - bMid) & 1) != 0;
+			fd[offset + fMid] = xOff;
+			bd[offset + bMid] = xLim;
+			while (true) {
+				if (fMin > dMin)
+					fd[offset + --fMin - 1] = -1;
+				else
+					fMin++;
+				if (fMax < dMax)
+					fd[offset + ++fMax + 1] = -1;
+				else
+					fMax--;
+				for (int d = fMax; d >= fMin; d -= 2) {
+					int tLo = fd[offset + d - 1], tHi = fd[offset + d + 1];
+					int px = (tLo >= tHi) ? tLo + 1 : tHi;
+					int py = px - d;
+					while (px < xLim && py < yLim && x[px] == y[py]) {
+						px++;
+						py++;
+					}
+					fd[offset + d] = px;
+					if (odd && bMin <= d && d <= bMax && bd[offset + d] <= px)
+						return new int[] {px, py};
+				}
+
+				if (bMin > dMin)
+					bd[offset + --bMin - 1] = Integer.MAX_VALUE;
+				else
+					bMin++;
+				if (bMax < dMax)
+					bd[offset + ++bMax + 1] = Integer.MAX_VALUE;
+				else
+					bMax--;
+				for (int d = bMax; d >= bMin; d -= 2) {
+					int tLo = bd[offset + d - 1], tHi = bd[offset + d + 1];
+					int px = (tLo < tHi) ? tLo : tHi - 1;
+					int py = px - d;
+					while (px > xOff && py > yOff && x[px - 1] == y[py - 1]) {
+						px--;
+						py--;
+					}
+					bd[offset + d] = px;
+					if (!odd && fMin <= d && d <= fMax && px <= fd[offset + d])
+						return new int[] {px, py};
+				}
+			}
+		}
+	}
+}
@@ -4,8 +4,16 @@ import jargs.gnu.CmdLineParser;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import printer.PrintVisitorException;
 import printer.PrintVisitorInterface;
@@ -15,6 +23,7 @@ import printer.javam.JavaMergePrintVisitor;
 import printer.csharpm.CSharpMergePrintVisitor;
 import printer.pythonm.PythonMergePrintVisitor;
 import printer.textm.TextMergePrintVisitor;
+import builder.ArtifactBuilder;
 import builder.ArtifactBuilderInterface;
 import builder.csharp.CSharpBuilder;
 import builder.csharpm.CSharpMergeBuilder;
@@ -25,23 +34,26 @@ import builder.textm.TextMergeBuilder;
 
 
 import composer.FSTGenProcessor;
+import composer.FileLoader;
 
-import de.ovgu.cide.fstgen.ast.AbstractFSTParser;
 import de.ovgu.cide.fstgen.ast.FSTNode;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTSession;
 import de.ovgu.cide.fstgen.ast.FSTTerminal;
 
 public class FSTGenMerger extends FSTGenProcessor {
 	
 	static final String MERGE_SEPARATOR = "##FSTMerge##";
 	static final String SEMANTIC_MERGE_MARKER = "~~FSTMerge~~";
-	private static LinkedList<FSTNode> baseNodes = new LinkedList<FSTNode>();
-	
 	private MergeVisitor mergeVisitor = new MergeVisitor();
+
+	private LineBasedMerger lineBasedMerger = new LineBasedMerger();
+
+	private int exitCode = 0;
 		
 	public FSTGenMerger() {
 		super();
-		mergeVisitor.registerMerger(new LineBasedMerger());
+		mergeVisitor.registerMerger(lineBasedMerger);
 		ArtifactBuilderInterface stdJavaBuilder = null;
 		ArtifactBuilderInterface stdCSharpBuilder = null;
 		for(ArtifactBuilderInterface builder : this.getArtifactBuilders()) {
@@ -86,10 +98,14 @@ public class FSTGenMerger extends FSTGenProcessor {
 		System.err.println(
 "Usage: FSTGenMerger [-h, --help] [-o, --output-directory] \n" +
 "                    [-b, --base-directory] [-p, --preprocess-files] \n" +
-"                    <-e, --expression>|<-f, --filemerge> myfile parentfile yourfile \n");
+"                    [-t, --parse-threads] [-m, --merge-threads] \n" +
+"                    [-x, --external-merge] [-u, --copy-unchanged] \n" +
+"                    <-e, --expression>|<-f, --filemerge> myfile parentfile yourfile [path]\n" +
+"                    |<-d, --merge-driver> manifest|- \n");
 	}
 	
 	public void run(String[] args) {
+		exitCode = 0;
 		// configuration options
 		CmdLineParser cmdparser = new CmdLineParser();
 		CmdLineParser.Option outputdir = cmdparser.addStringOption('o',	"output-directory");
@@ -100,6 +116,11 @@ public class FSTGenMerger extends FSTGenProcessor {
 		CmdLineParser.Option preprocessfiles = cmdparser.addBooleanOption('p', "preprocess-files");
 		CmdLineParser.Option quiet = cmdparser.addBooleanOption('q', "quiet");
 		CmdLineParser.Option filemerge = cmdparser.addBooleanOption('f', "filemerge");
+		CmdLineParser.Option parsethreads = cmdparser.addIntegerOption('t', "parse-threads");
+		CmdLineParser.Option mergethreads = cmdparser.addIntegerOption('m', "merge-threads");
+		CmdLineParser.Option externalmerge = cmdparser.addBooleanOption('x', "external-merge");
+		CmdLineParser.Option copyunchanged = cmdparser.addBooleanOption('u', "copy-unchanged");
+		CmdLineParser.Option mergedriver = cmdparser.addStringOption('d', "merge-driver");
 		
 		try {
 			cmdparser.parse(args);
@@ -111,9 +132,20 @@ public class FSTGenMerger extends FSTGenProcessor {
 		
 		Boolean preprocessfilesval = (Boolean)cmdparser.getOptionValue(preprocessfiles, Boolean.FALSE);
 		fileLoader.setPreprocessFiles(preprocessfilesval);
+		Integer parsethreadsval = (Integer)cmdparser.getOptionValue(parsethreads, Integer.valueOf(1));
+		fileLoader.setParseThreads(parsethreadsval);
+		Integer mergethreadsval = (Integer)cmdparser.getOptionValue(mergethreads, Integer.valueOf(1));
+		mergeVisitor.setMergeThreads(mergethreadsval);
+		Boolean externalmergeval = (Boolean)cmdparser.getOptionValue(externalmerge, Boolean.FALSE);
+		lineBasedMerger.setExternalMerge(externalmergeval);
 		Boolean filemergeval = (Boolean)cmdparser.getOptionValue(filemerge);
+		String mergedriverval = (String)cmdparser.getOptionValue(mergedriver);
+		if (null != filemergeval || null != mergedriverval) {
+			exitCode = runMergeDriver(mergedriverval, cmdparser.getRemainingArgs(), mergethreadsval);
+			return;
+		}
 		String expressionval = (String)cmdparser.getOptionValue(expression);
-		if (null == expressionval && null == filemergeval) {
+		if (null == expressionval) {
 			printUsage();
 			System.exit(2);
 		}
@@ -123,19 +155,23 @@ public class FSTGenMerger extends FSTGenProcessor {
 		}
 		String outputdirval = (String)cmdparser.getOptionValue(outputdir);
 		Boolean quietval = (Boolean)cmdparser.getOptionValue(quiet, Boolean.FALSE);
+		Boolean copyunchangedval = (Boolean)cmdparser.getOptionValue(copyunchanged, Boolean.FALSE);
 		
 		try {
+			if (null != outputdirval) featureVisitor.setWorkingDir(outputdirval);
+			else featureVisitor.setWorkingDir(basedirval);
+			featureVisitor.setExpressionName(expressionval);
+
 			try {
-				fileLoader.loadFiles(expressionval, basedirval, false);
+				if (copyunchangedval)
+					loadChangedFiles(expressionval, basedirval, quietval);
+				else
+					fileLoader.loadFiles(expressionval, basedirval, false);
 			} catch (cide.gparser.ParseException e1) {
 				fireParseErrorOccured(e1);
 				e1.printStackTrace();
 			}
 
-			if (null != outputdirval) featureVisitor.setWorkingDir(outputdirval);
-			else featureVisitor.setWorkingDir(basedirval);
-			featureVisitor.setExpressionName(expressionval);
-
 			for (ArtifactBuilderInterface builder : getArtifactBuilders()) {
 				LinkedList<FSTNonTerminal> features = builder.getFeatures();
 
@@ -168,7 +204,7 @@ public class FSTGenMerger extends FSTGenProcessor {
 					}
 				}
 			}
-			setFstnodes(AbstractFSTParser.fstnodes);
+			setFstnodes(FSTSession.current().getFSTNodes());
 		} catch (MergeException me) {
 			System.err.println(me.toString());
 			me.printStackTrace();
@@ -177,137 +213,232 @@ public class FSTGenMerger extends FSTGenProcessor {
 		}
 	}
 
+	/**
+	 * Merges single files with a {@link MergeDriver}: those listed in the
+	 * given manifest or, without a manifest, the file given as arguments,
+	 * which is merged into myfile. The merge threads are the number of files
+	 * merged at the same time.
+	 *
+	 * @return the exit code of the driver
+	 */
+	private int runMergeDriver(String manifest, String[] files, int threads) {
+		mergeVisitor.setMergeThreads(1);
+		MergeDriver driver = new MergeDriver(this, mergeVisitor, threads);
+		if (manifest != null) {
+			try {
+				return driver.run(manifest, System.out);
+			} catch (IOException e) {
+				System.err.println("Could not read " + manifest + ": " + e.getMessage());
+				return 2;
+			}
+		}
+		if (files.length != 3 && files.length != 4) {
+			printUsage();
+			return 2;
+		}
+		MergeDriver.Result result = driver.merge(new File(files[0]), new File(files[1]), new File(files[2]),
+				new File(files[0]), files.length == 4 ? files[3] : files[0]);
+		System.out.println(result);
+		return result.getExitCode();
+	}
+
+	/**
+	 * Copies each file that one revision did not change to the output
+	 * directory, since the other revision is the result of merging it, and
+	 * loads only the remaining files. Files are compared byte by byte; only
+	 * files that exist in all three revisions and that are merged with the
+	 * merge builders are copied.
+	 */
+	private void loadChangedFiles(String expression, String baseDirectory, boolean quiet) throws FileNotFoundException, cide.gparser.ParseException {
+		List<String> revisions = new ArrayList<String>();
+		for (String revision : FileLoader.readFeatures(new File(expression)))
+			if (revision.trim().length() > 0)
+				revisions.add(revision.trim());
+		String[] features = revisions.toArray(new String[revisions.size()]);
+		Map<String, List<File>> files = features.length == 3 ? fileLoader.collectFiles(features, baseDirectory, false) : null;
+		if (files == null) {
+			fileLoader.loadFiles(expression, baseDirectory, false);
+			return;
+		}
+		File productDirectory = featureVisitor.getProductDirectory();
+		Set<String> changed = new HashSet<String>();
+		int copied = 0;
+		for (String path : files.keySet()) {
+			File left = new File(new File(baseDirectory, features[0]), path);
+			File base = new File(new File(baseDirectory, features[1]), path);
+			File right = new File(new File(baseDirectory, features[2]), path);
+			File result = null;
+			try {
+				if (left.isFile() && base.isFile() && right.isFile() && isMergedByMergeBuilders(base))
+					result = getUnchangedMerge(left, base, right);
+				if (result != null) {
+					copyResult(result, productDirectory, path);
+					copied++;
+					continue;
+				}
+			} catch (IOException e) {
+				System.err.println("Could not copy " + path + ", merging it: " + e.getMessage());
+			}
+			changed.add(path);
+		}
+		if (!quiet)
+			System.out.println("copied " + copied + " files changed in at most one revision");
+		fileLoader.loadFeatures(features, baseDirectory, false, changed);
+	}
+
+	private boolean isMergedByMergeBuilders(File file) {
+		boolean accepted = false;
+		for (ArtifactBuilderInterface builder : getArtifactBuilders()) {
+			if (acceptsFileName(builder, file)) {
+				if (!(builder instanceof JavaMergeBuilder || builder instanceof CSharpMergeBuilder
+						|| builder instanceof PythonMergeBuilder || builder instanceof TextMergeBuilder))
+					return false;
+				accepted = true;
+			}
+		}
+		return accepted;
+	}
+
+	/**
+	 * like {@link ArtifactBuilderInterface#acceptFile(File)}, but without
+	 * remembering a language node for a file that may not be parsed
+	 */
+	private static boolean acceptsFileName(ArtifactBuilderInterface builder, File file) {
+		return builder instanceof ArtifactBuilder && ((ArtifactBuilder) builder).acceptFileName(file.getName());
+	}
+
+	/**
+	 * @return the revision that is the result of merging the given files if
+	 *         one of the other revisions is identical to the base, otherwise
+	 *         null
+	 */
+	static File getUnchangedMerge(File left, File base, File right) throws IOException {
+		byte[] baseContent = Files.readAllBytes(base.toPath());
+		if (hasContent(left, baseContent))
+			return right;
+		if (hasContent(right, baseContent))
+			return left;
+		return null;
+	}
+
+	private static boolean hasContent(File file, byte[] content) throws IOException {
+		return file.length() == content.length && Arrays.equals(Files.readAllBytes(file.toPath()), content);
+	}
+
+	/**
+	 * copies the given file to where each merge builder that accepts it
+	 * prints the merged file
+	 */
+	private void copyResult(File result, File productDirectory, String path) throws IOException {
+		for (ArtifactBuilderInterface builder : getArtifactBuilders()) {
+			if (acceptsFileName(builder, result)) {
+				File target = new File(productDirectory, builder instanceof TextMergeBuilder ? path + ".merge" : path);
+				target.getParentFile().mkdirs();
+				Files.copy(result.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+
+	/**
+	 * @return the exit code of the last run with <code>--filemerge</code> or
+	 *         <code>--merge-driver</code>: 0 if all files merged cleanly, 1
+	 *         if a file has conflicts and 2 if a file could not be merged
+	 */
+	public int getExitCode() {
+		return exitCode;
+	}
+
 	public static void main(String[] args) {
 		FSTGenMerger merger = new FSTGenMerger();
 		merger.run(args);
+		if (merger.getExitCode() != 0)
+			System.exit(merger.getExitCode());
 	}
 	
-	private static FSTNode merge(List<FSTNonTerminal> tl) throws MergeException {
+	FSTNode merge(List<FSTNonTerminal> tl) throws MergeException {
 		
 		if(tl.size() != 3)
 			throw new MergeException(tl);
 		
-		tl.get(0).index = 0;
-		tl.get(1).index = 1;
-		tl.get(2).index = 2;
-		
-		FSTNode mergeLeftBase = merge(tl.get(0), tl.get(1), true);
-		FSTNode mergeLeftBaseRight = merge(mergeLeftBase, tl.get(2), false);
-		removeLoneBaseNodes(mergeLeftBaseRight);
-		return mergeLeftBaseRight;
-	}
-
-	public static FSTNode merge(FSTNode nodeA, FSTNode nodeB, boolean firstPass) {
-		return merge(nodeA, nodeB, null, firstPass);
+		return merge(tl.get(0), tl.get(1), tl.get(2), null);
 	}
 
-	public static FSTNode merge(FSTNode nodeA, FSTNode nodeB, FSTNonTerminal compParent, boolean firstPass) {
-		
-		//System.err.println("nodeA: " + nodeA.getName() + " index: " + nodeA.index);
-		//System.err.println("nodeB: " + nodeB.getName() + " index: " + nodeB.index);
-		
-		if (nodeA.compatibleWith(nodeB)) {
-			FSTNode compNode = nodeA.getShallowClone();
-			compNode.index = nodeB.index;
-			compNode.setParent(compParent);
-
-			if (nodeA instanceof FSTNonTerminal	&& nodeB instanceof FSTNonTerminal) {
-				FSTNonTerminal nonterminalA = (FSTNonTerminal) nodeA;
-				FSTNonTerminal nonterminalB = (FSTNonTerminal) nodeB;
-				FSTNonTerminal nonterminalComp = (FSTNonTerminal) compNode;
+	/**
+	 * Merges the corresponding nodes of the left, base and right revision in
+	 * a single traversal. Any of them may be missing (null), but not all.
+	 * <p>
+	 * The children of the merged node are those of the right revision,
+	 * followed by those of the base revision and then those of the left
+	 * revision that are not in the right revision. Nodes of the base revision
+	 * that both other revisions deleted are dropped; below a node that is
+	 * missing in one revision, the nodes of the others are kept.
+	 */
+	private FSTNode merge(FSTNode left, FSTNode base, FSTNode right, FSTNonTerminal compParent) {
+		FSTNode first = left != null ? left : base != null ? base : right;
+		if ((left == null ? 0 : 1) + (base == null ? 0 : 1) + (right == null ? 0 : 1) == 1) {
+			FSTNode clone = first.getDeepClone();
+			clone.setParent(compParent);
+			return clone;
+		}
+		boolean nonterminal = first instanceof FSTNonTerminal;
+		if (!isKind(left, nonterminal) || !isKind(base, nonterminal) || !isKind(right, nonterminal))
+			return null;
+		if (nonterminal) {
+			FSTNonTerminal nonterminalLeft = (FSTNonTerminal) left;
+			FSTNonTerminal nonterminalBase = (FSTNonTerminal) base;
+			FSTNonTerminal nonterminalRight = (FSTNonTerminal) right;
+			FSTNonTerminal nonterminalComp = (FSTNonTerminal) first.getShallowClone();
+			nonterminalComp.setParent(compParent);
 
-				for (FSTNode childB : nonterminalB.getChildren()) {
-					FSTNode childA = nonterminalA.getCompatibleChild(childB);
-					if (childA == null) {
-						FSTNode cloneB = childB.getDeepClone();
-						if(childB.index == -1)
-							childB.index = nodeB.index;
-						cloneB.index = childB.index;
-						nonterminalComp.addChild(cloneB);
-						//System.err.println("cloneB: " + cloneB.getName() + " index: " + cloneB.index);
-						if(firstPass) {
-							baseNodes.add(cloneB);
-						}
-					} else {
-						if(childA.index == -1)
-							childA.index = nodeA.index;
-						if(childB.index == -1)
-							childB.index = nodeB.index;
-						nonterminalComp.addChild(merge(childA, childB, nonterminalComp, firstPass));
-					}
-				}
-				for (FSTNode childA : nonterminalA.getChildren()) {
-					FSTNode childB = nonterminalB.getCompatibleChild(childA);
-					if (childB == null) {
-						FSTNode cloneA = childA.getDeepClone();
-						if(childA.index == -1)
-							childA.index = nodeA.index;
-						cloneA.index = childA.index;
-						nonterminalComp.addChild(cloneA);
-						//System.err.println("cloneA: " + cloneA.getName() + " index: " + cloneA.index);
-						if(baseNodes.contains(childA)) {
-							baseNodes.remove(childA);
-							baseNodes.add(cloneA);
-						}
-					} else {
-						if(!firstPass) {
-							baseNodes.remove(childA);
-						}
-					}
+			if (right != null) {
+				for (FSTNode childRight : nonterminalRight.getChildren()) {
+					nonterminalComp.addChild(merge(getCompatibleChild(nonterminalLeft, childRight),
+							getCompatibleChild(nonterminalBase, childRight), childRight, nonterminalComp));
 				}
-				return nonterminalComp;
-			} else if (nodeA instanceof FSTTerminal && nodeB instanceof FSTTerminal && compParent instanceof FSTNonTerminal) {
-				FSTTerminal terminalA = (FSTTerminal) nodeA;
-				FSTTerminal terminalB = (FSTTerminal) nodeB;
-				FSTTerminal terminalComp = (FSTTerminal) compNode;
-				
-				// SPECIAL CONFLICT HANDLER
-				if (!terminalA.getMergingMechanism().equals("Default")) {
-					terminalComp.setBody(mergeBody(terminalA.getBody(), terminalB.getBody(), firstPass, terminalA.index, terminalB.index));
-				} 
-				return terminalComp;
 			}
-			return null;
-		} else
-			return null;
-	}
-	
-	private static String mergeBody(String bodyA, String bodyB, boolean firstPass, int indexA, int indexB) {
-
-		//System.err.println(firstPass);
-		//System.err.println("#" + bodyA + "#");
-		//System.err.println("#" + bodyB + "#");
-		
-		if (bodyA.contains(SEMANTIC_MERGE_MARKER)) {
-			return bodyA + " " + bodyB;
-		}
-		else {
-			if(firstPass) {
-				return SEMANTIC_MERGE_MARKER + " " + bodyA + " " + MERGE_SEPARATOR + " " + bodyB + " " + MERGE_SEPARATOR;
-			} else {
-				if(indexA == 0)
-					return SEMANTIC_MERGE_MARKER + " " + bodyA + " " + MERGE_SEPARATOR + " " + MERGE_SEPARATOR + " " + bodyB;
-				else
-					return SEMANTIC_MERGE_MARKER + " " + MERGE_SEPARATOR + " " + bodyA + " " + MERGE_SEPARATOR + " " + bodyB;
-			}	
-		}
-	}
-	private static void removeLoneBaseNodes(FSTNode mergeLeftBaseRight) {
-		boolean removed = false;
-		for(FSTNode loneBaseNode : baseNodes) {
-			if(mergeLeftBaseRight == loneBaseNode) {
-				FSTNonTerminal parent = (FSTNonTerminal)mergeLeftBaseRight.getParent();
-				if(parent != null) {
-					parent.removeChild(mergeLeftBaseRight);
-					removed = true;
+			if (base != null) {
+				for (FSTNode childBase : nonterminalBase.getChildren()) {
+					if (getCompatibleChild(nonterminalRight, childBase) != null)
+						continue;
+					FSTNode childLeft = getCompatibleChild(nonterminalLeft, childBase);
+					// deleted in both other revisions
+					if (childLeft == null && left != null && right != null)
+						continue;
+					nonterminalComp.addChild(merge(childLeft, childBase, null, nonterminalComp));
 				}
 			}
-		}
-		if(!removed && mergeLeftBaseRight instanceof FSTNonTerminal) {
-			Object[] children = ((FSTNonTerminal)mergeLeftBaseRight).getChildren().toArray();
-			for(Object child : children) {
-				removeLoneBaseNodes((FSTNode)child);
+			if (left != null) {
+				for (FSTNode childLeft : nonterminalLeft.getChildren()) {
+					if (getCompatibleChild(nonterminalBase, childLeft) == null
+							&& getCompatibleChild(nonterminalRight, childLeft) == null)
+						nonterminalComp.addChild(merge(childLeft, null, null, nonterminalComp));
+				}
 			}
+			return nonterminalComp;
+		} else if (compParent instanceof FSTNonTerminal) {
+			FSTTerminal terminalFirst = (FSTTerminal) first;
+			FSTTerminal terminalComp;
+			
+			// SPECIAL CONFLICT HANDLER
+			if (!terminalFirst.getMergingMechanism().equals("Default"))
+				terminalComp = new MergeTerminal(terminalFirst, getBody(left), getBody(base), getBody(right));
+			else
+				terminalComp = (FSTTerminal) terminalFirst.getShallowClone();
+			terminalComp.setParent(compParent);
+			return terminalComp;
 		}
+		return null;
+	}
+
+	private static String getBody(FSTNode terminal) {
+		return terminal == null ? null : ((FSTTerminal) terminal).getBody();
+	}
+
+	private static boolean isKind(FSTNode node, boolean nonterminal) {
+		return node == null || (node instanceof FSTNonTerminal) == nonterminal;
+	}
+
+	private static FSTNode getCompatibleChild(FSTNonTerminal parent, FSTNode node) {
+		return parent == null ? null : parent.getCompatibleChild(node);
 	}
 }
@@ -6,27 +6,46 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 
 import de.ovgu.cide.fstgen.ast.FSTTerminal;
 
+/**
+ * Merges the bodies of terminals line by line. By default, the revisions are
+ * merged in process ({@link Diff3}); optionally, the external RCS tool
+ * <code>merge</code> is run for each terminal. Different terminals may be
+ * merged at the same time (see {@link MergeVisitor#setMergeThreads(int)}).
+ */
 public class LineBasedMerger implements MergerInterface {
 	
 	String encoding = "UTF-8";
 
-	public void merge(FSTTerminal node) throws ContentMergeException {
-		
-		String body = node.getBody() + " ";
-		String[] tokens = body.split(FSTGenMerger.MERGE_SEPARATOR);
+	private boolean externalMerge = false;
+
+	public LineBasedMerger() {
+	}
+
+	/**
+	 * @param externalMerge whether the revisions are merged with the external tool <code>merge</code>
+	 */
+	public LineBasedMerger(boolean externalMerge) {
+		this.externalMerge = externalMerge;
+	}
+
+	public boolean isExternalMerge() {
+		return externalMerge;
+	}
+
+	public void setExternalMerge(boolean externalMerge) {
+		this.externalMerge = externalMerge;
+	}
+
+	public void merge(MergeTerminal node) throws ContentMergeException {
 		
-		try {
-			tokens[0] = tokens[0].replace(FSTGenMerger.SEMANTIC_MERGE_MARKER, "").trim();
-			tokens[1] = tokens[1].trim();
-			tokens[2] = tokens[2].trim();
-		} catch (ArrayIndexOutOfBoundsException e) {
-			System.err.println("|"+body+"|");
-			e.printStackTrace();
-		}
+		String[] tokens = { trim(node.getLeft()), trim(node.getBase()), trim(node.getRight()) };
 
 		//System.out.println("|" + tokens[0] + "|");
 		//System.out.println("|" + tokens[1] + "|");
@@ -59,42 +78,92 @@ public class LineBasedMerger implements MergerInterface {
 			return;
 		}
 
-	    try {
-	    	long time = System.currentTimeMillis();
-	    	File tmpDir = new File(System.getProperty("user.dir") + File.separator + "fstmerge_tmp"+time);
-	    	tmpDir.mkdir();
-	    	
-			File fileVar1 = File.createTempFile("fstmerge_var1_", "", tmpDir);
-			File fileBase = File.createTempFile("fstmerge_base_", "", tmpDir);
-			File fileVar2 = File.createTempFile("fstmerge_var2_", "", tmpDir);
-			
+		String var1 = mergeInput(node, tokens[0]);
+		String base = mergeInput(node, tokens[1]);
+		String var2 = mergeInput(node, tokens[2]);
+		// changed in at most one revision: the merge results in that revision
+		String merged = null;
+		if (var1.equals(base) || var1.equals(var2))
+			merged = var2;
+		else if (var2.equals(base))
+			merged = var1;
+		if (externalMerge && merged == null) {
+			try {
+				node.setBody(mergeExternally(var1, base, var2));
+				return;
+			} catch (IOException e) {
+				System.err.println("Could not run merge, merging in process: " + e.getMessage());
+			}
+		}
+		try {
+			if (merged == null)
+				merged = Diff3.merge(var1, base, var2, "fstmerge_var1", "fstmerge_var2");
+			node.setBody(toLines(merged));
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * @return the trimmed body of a revision, or the empty string if the
+	 *         terminal is missing in the revision
+	 */
+	private static String trim(String body) {
+		return body == null ? "" : body.trim();
+	}
+
+	/**
+	 * @return the text of a revision as it is merged: with a final line feed,
+	 *         unless the node is the content of a file or the text is empty
+	 */
+	private static String mergeInput(FSTTerminal node, String token) {
+		if (node.getType().contains("-Content") || token.length() == 0)
+			return token;
+		return token + "\n";
+	}
+
+	/**
+	 * @return the lines of the given text, each terminated by a line feed
+	 */
+	private static String toLines(String text) throws IOException {
+		BufferedReader buf = new BufferedReader(new StringReader(text));
+		StringBuilder res = new StringBuilder();
+		String line;
+		while ((line = buf.readLine()) != null) {
+			res.append(line).append('\n');
+		}
+		return res.toString();
+	}
+
+	/**
+	 * merges the revisions with the external RCS tool <code>merge</code>
+	 */
+	private String mergeExternally(String var1, String base, String var2) throws IOException {
+		// a directory of its own, since several terminals may be merged at the same time
+		File tmpDir = Files.createTempDirectory(Paths.get(System.getProperty("user.dir")), "fstmerge_tmp").toFile();
+
+		File fileVar1 = File.createTempFile("fstmerge_var1_", "", tmpDir);
+		File fileBase = File.createTempFile("fstmerge_base_", "", tmpDir);
+		File fileVar2 = File.createTempFile("fstmerge_var2_", "", tmpDir);
+		try {
 			BufferedWriter writerVar1 = new BufferedWriter(new FileWriter(fileVar1));
-	        if(node.getType().contains("-Content") || tokens[0].length() == 0)
-	        	writerVar1.write(tokens[0]);
-	        else 
-	        	writerVar1.write(tokens[0] + "\n");
-	        writerVar1.close();
-	        
-	        BufferedWriter writerBase = new BufferedWriter(new FileWriter(fileBase));
-	        if(node.getType().contains("-Content") || tokens[1].length() == 0)
-	        	writerBase.write(tokens[1]);
-	        else 
-	        	writerBase.write(tokens[1] + "\n");
-	        writerBase.close();
-
-	        BufferedWriter writerVar2 = new BufferedWriter(new FileWriter(fileVar2));
-	        if(node.getType().contains("-Content") || tokens[2].length() == 0)
-	        	writerVar2.write(tokens[2]);
-	        else 
-	        	writerVar2.write(tokens[2] + "\n");
-	        writerVar2.close();
-
-	        String mergeCmd = ""; 
-	        if(System.getProperty("os.name").contains("Windows"))
-	        	mergeCmd = "C:\\Programme\\cygwin\\bin\\merge.exe -q -p " + "\"" + fileVar1.getPath() + "\"" + " " + "\"" + fileBase.getPath() + "\"" + " " + "\"" + fileVar2.getPath() + "\"";// + " > " + fileVar1.getName() + "_output";
-	        else
-	        	mergeCmd = "merge -q -p " + fileVar1.getPath() + " " + fileBase.getPath() + " " + fileVar2.getPath();// + " > " + fileVar1.getName() + "_output";
-	        Runtime run = Runtime.getRuntime();
+			writerVar1.write(var1);
+			writerVar1.close();
+
+			BufferedWriter writerBase = new BufferedWriter(new FileWriter(fileBase));
+			writerBase.write(base);
+			writerBase.close();
+
+			BufferedWriter writerVar2 = new BufferedWriter(new FileWriter(fileVar2));
+			writerVar2.write(var2);
+			writerVar2.close();
+
+			String mergeCmd = "";
+			if(System.getProperty("os.name").contains("Windows"))
+				mergeCmd = "C:\\Programme\\cygwin\\bin\\merge.exe -q -p " + "\"" + fileVar1.getPath() + "\"" + " " + "\"" + fileBase.getPath() + "\"" + " " + "\"" + fileVar2.getPath() + "\"";// + " > " + fileVar1.getName() + "_output";
+			else
+				mergeCmd = "merge -q -p " + fileVar1.getPath() + " " + fileBase.getPath() + " " + fileVar2.getPath();// + " > " + fileVar1.getName() + "_output";
+			Runtime run = Runtime.getRuntime();
 			Process pr = run.exec(mergeCmd);
 
 			BufferedReader buf = new BufferedReader(new InputStreamReader(pr.getInputStream()));
@@ -104,22 +173,19 @@ public class LineBasedMerger implements MergerInterface {
 				res += line + "\n";
 			}
 			pr.getInputStream().close();
-			node.setBody(res);
-			
+
 			buf = new BufferedReader(new InputStreamReader(pr.getErrorStream()));
 			while ((line=buf.readLine())!=null) {
 				System.err.println(line);
 			}
 			pr.getErrorStream().close();
 			pr.getOutputStream().close();
-	        
-		    fileVar1.delete();
-		    fileBase.delete();
-		    fileVar2.delete();
-		    tmpDir.delete();
-
-	    } catch (IOException e) {
-	    	e.printStackTrace();
-	    }
+			return res;
+		} finally {
+			fileVar1.delete();
+			fileBase.delete();
+			fileVar2.delete();
+			tmpDir.delete();
+		}
 	}
 }
\ No newline at end of file
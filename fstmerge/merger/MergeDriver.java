@@ -0,0 +1,347 @@
+package merger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import printer.PrintVisitorException;
+import printer.PrintVisitorInterface;
+import builder.ArtifactBuilder;
+import builder.ArtifactBuilderInterface;
+import builder.csharpm.CSharpMergeBuilder;
+import builder.javam.JavaMergeBuilder;
+import builder.pythonm.PythonMergeBuilder;
+import cide.gparser.ParseException;
+import cide.gparser.TokenMgrError;
+import de.ovgu.cide.fstgen.ast.FSTFeatureNode;
+import de.ovgu.cide.fstgen.ast.FSTNode;
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTSession;
+
+/**
+ * Merges single files, as a merge driver of a version control system does,
+ * but many of them in one run, so that the parsers are loaded once.
+ * <p>
+ * Each line of the manifest names the revisions of one file and where the
+ * merged file is written, separated by tabs:
+ *
+ * <pre>
+ * mine	base	yours	output[	path]
+ * </pre>
+ *
+ * The optional path (e.g. the path of the file in the repository) selects the
+ * language by its suffix, for outputs that are temporary files; it defaults
+ * to the output. The output may be the file of one revision. A missing
+ * revision file is merged as an empty file.
+ * <p>
+ * Files of a language with a merge builder are merged structurally, others
+ * and files that do not parse are merged line by line. Several files are
+ * merged at the same time, each in its own {@link FSTSession}. For each line
+ * of the manifest, in the order of the manifest, one line is written to the
+ * status stream as soon as the file is merged:
+ *
+ * <pre>
+ * status	conflicts	output
+ * </pre>
+ *
+ * where the status is <code>clean</code>, <code>conflict</code> or
+ * <code>error</code>, and conflicts is the number of conflicts in the merged
+ * file.
+ */
+public class MergeDriver {
+
+	public static final String CLEAN = "clean";
+
+	public static final String CONFLICT = "conflict";
+
+	public static final String ERROR = "error";
+
+	private static final String CONFLICT_MARKER = "<<<<<<< ";
+
+	private static final Charset ENCODING = Charset.forName("UTF-8");
+
+	private static final String[] REVISION_NAMES = { "mine", "base", "yours" };
+
+	private final FSTGenMerger merger;
+
+	private final MergeVisitor mergeVisitor;
+
+	private final int threads;
+
+	/**
+	 * @param threads the number of files merged at the same time
+	 */
+	MergeDriver(FSTGenMerger merger, MergeVisitor mergeVisitor, int threads) {
+		this.merger = merger;
+		this.mergeVisitor = mergeVisitor;
+		this.threads = Math.max(1, threads);
+	}
+
+	/**
+	 * The result of merging one file, as written to the status stream.
+	 */
+	public static class Result {
+		private final String status;
+
+		private final int conflicts;
+
+		private final String output;
+
+		Result(String status, int conflicts, String output) {
+			this.status = status;
+			this.conflicts = conflicts;
+			this.output = output;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		public int getConflicts() {
+			return conflicts;
+		}
+
+		/**
+		 * @return 0 for a clean merge, 1 for conflicts and 2 for an error
+		 */
+		public int getExitCode() {
+			return status.equals(ERROR) ? 2 : status.equals(CONFLICT) ? 1 : 0;
+		}
+
+		@Override
+		public String toString() {
+			return status + "\t" + conflicts + "\t" + output;
+		}
+	}
+
+	/**
+	 * merges the files listed in the given manifest, "-" for the standard
+	 * input, and writes their status lines to the given stream
+	 *
+	 * @return 0 if all files merged cleanly, 1 if a file has conflicts and 2
+	 *         if a file could not be merged
+	 */
+	public int run(String manifest, PrintStream status) throws IOException {
+		InputStream in = manifest.equals("-") ? System.in : new FileInputStream(manifest);
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, ENCODING));
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		int exitCode = 0;
+		try {
+			// a few files ahead of the one whose status is written next
+			Deque<Future<Result>> pending = new ArrayDeque<Future<Result>>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.trim().length() == 0)
+					continue;
+				final String entry = line;
+				pending.add(pool.submit(new Callable<Result>() {
+					public Result call() {
+						return merge(entry);
+					}
+				}));
+				while (!pending.isEmpty() && (pending.peek().isDone() || pending.size() > 4 * threads))
+					exitCode = Math.max(exitCode, report(pending.poll(), status));
+			}
+			while (!pending.isEmpty())
+				exitCode = Math.max(exitCode, report(pending.poll(), status));
+		} finally {
+			pool.shutdownNow();
+			if (in != System.in)
+				reader.close();
+		}
+		return exitCode;
+	}
+
+	private static int report(Future<Result> job, PrintStream status) throws IOException {
+		Result result;
+		try {
+			result = job.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+		status.println(result);
+		status.flush();
+		return result.getExitCode();
+	}
+
+	/**
+	 * merges the file described by the given line of a manifest
+	 */
+	Result merge(String entry) {
+		String[] fields = entry.split("\t");
+		if (fields.length != 4 && fields.length != 5) {
+			System.err.println("Expected mine, base, yours, output and optionally path, separated by tabs: " + entry);
+			return new Result(ERROR, 0, entry);
+		}
+		return merge(new File(fields[0]), new File(fields[1]), new File(fields[2]),
+				new File(fields[3]), fields.length == 5 ? fields[4] : fields[3]);
+	}
+
+	/**
+	 * merges the given revisions of a file into the output
+	 *
+	 * @param path the name of the file, whose suffix selects the language
+	 */
+	public Result merge(File mine, File base, File yours, File output, String path) {
+		try {
+			File unchanged = null;
+			if (mine.isFile() && base.isFile() && yours.isFile())
+				unchanged = FSTGenMerger.getUnchangedMerge(mine, base, yours);
+			if (unchanged != null) {
+				if (!unchanged.getAbsoluteFile().equals(output.getAbsoluteFile()))
+					Files.copy(unchanged.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				return new Result(CLEAN, 0, output.getPath());
+			}
+			ArtifactBuilder builder = getMergeBuilder(new File(path).getName());
+			if (builder != null) {
+				try {
+					return mergeStructured(builder, new File[] { mine, base, yours }, output);
+				} catch (ParseException e) {
+					System.err.println("Could not parse " + path + ", merging it line by line: " + e.getMessage());
+				} catch (TokenMgrError e) {
+					System.err.println("Could not parse " + path + ", merging it line by line: " + e.getMessage());
+				}
+			}
+			return mergeLineBased(mine, base, yours, output);
+		} catch (IOException e) {
+			System.err.println("Could not merge " + output + ": " + e.getMessage());
+		} catch (MergeException e) {
+			System.err.println("Could not merge " + output + ": " + e.toString());
+		} catch (PrintVisitorException e) {
+			System.err.println("Could not merge " + output + ": " + e.getMessage());
+		} catch (RuntimeException e) {
+			System.err.println("Could not merge " + output + ": " + e.toString());
+		}
+		return new Result(ERROR, 0, output.getPath());
+	}
+
+	/**
+	 * @return the builder that parses files with the given name for merging,
+	 *         or null if they are merged line by line
+	 */
+	private ArtifactBuilder getMergeBuilder(String fileName) {
+		for (ArtifactBuilderInterface builder : merger.getArtifactBuilders()) {
+			if ((builder instanceof JavaMergeBuilder || builder instanceof CSharpMergeBuilder
+					|| builder instanceof PythonMergeBuilder)
+					&& ((ArtifactBuilder) builder).acceptFileName(fileName))
+				return (ArtifactBuilder) builder;
+		}
+		return null;
+	}
+
+	private Result mergeStructured(ArtifactBuilder builder, File[] revisions, File output)
+			throws IOException, ParseException, MergeException, PrintVisitorException {
+		String fileName = output.getName();
+		FSTSession previous = new FSTSession().activate();
+		try {
+			List<FSTNonTerminal> features = new ArrayList<FSTNonTerminal>(revisions.length);
+			for (int i = 0; i < revisions.length; i++) {
+				FSTNonTerminal feature = new FSTFeatureNode(REVISION_NAMES[i]);
+				if (revisions[i].isFile() && revisions[i].length() > 0)
+					builder.processNode(feature, new StringTokenizer(fileName, File.separator), revisions[i]);
+				features.add(feature);
+			}
+			FSTNode merged = merger.merge(features);
+			mergeVisitor.visit(merged);
+			print((FSTNonTerminal) merged, output);
+			int conflicts = countConflicts(merged);
+			return new Result(conflicts == 0 ? CLEAN : CONFLICT, conflicts, output.getPath());
+		} finally {
+			FSTSession.restore(previous);
+		}
+	}
+
+	/**
+	 * prints the merged file to a directory next to the output and moves it
+	 * there, since the printers name the file after its node
+	 */
+	private void print(FSTNonTerminal merged, File output) throws IOException, PrintVisitorException {
+		File directory = output.getAbsoluteFile().getParentFile();
+		File printDirectory = Files.createTempDirectory(directory.toPath(), ".fstmerge").toFile();
+		try {
+			for (FSTNode file : merged.getChildren()) {
+				for (PrintVisitorInterface printer : merger.getPrintVisitors()) {
+					if (printer.acceptNode(file))
+						printer.processNode(file, printDirectory);
+				}
+			}
+			File printed = new File(printDirectory, output.getName());
+			if (printed.isFile())
+				Files.move(printed.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			else
+				Files.write(output.toPath(), new byte[0]);
+		} finally {
+			File[] left = printDirectory.listFiles();
+			if (left != null)
+				for (File file : left)
+					file.delete();
+			printDirectory.delete();
+		}
+	}
+
+	private static Result mergeLineBased(File mine, File base, File yours, File output) throws IOException {
+		String merged = Diff3.merge(read(mine), read(base), read(yours), "fstmerge_var1", "fstmerge_var2");
+		Files.write(output.toPath(), merged.getBytes(ENCODING));
+		int conflicts = countMarkers(merged);
+		return new Result(conflicts == 0 ? CLEAN : CONFLICT, conflicts, output.getPath());
+	}
+
+	private static String read(File file) throws IOException {
+		return file.isFile() ? new String(Files.readAllBytes(file.toPath()), ENCODING) : "";
+	}
+
+	/**
+	 * @return the number of terminals that no merger could merge and of
+	 *         conflicts in the bodies merged line by line
+	 */
+	private static int countConflicts(FSTNode node) {
+		if (node instanceof FSTNonTerminal) {
+			int conflicts = 0;
+			for (FSTNode child : ((FSTNonTerminal) node).getChildren())
+				conflicts += countConflicts(child);
+			return conflicts;
+		}
+		if (node instanceof MergeTerminal) {
+			String body = ((MergeTerminal) node).getBody();
+			if (body.startsWith(FSTGenMerger.SEMANTIC_MERGE_MARKER))
+				return 1;
+			return countMarkers(body);
+		}
+		return 0;
+	}
+
+	private static int countMarkers(String text) {
+		int markers = 0;
+		int start = 0;
+		while (start < text.length()) {
+			if (text.startsWith(CONFLICT_MARKER, start))
+				markers++;
+			int end = text.indexOf('\n', start);
+			if (end < 0)
+				break;
+			start = end + 1;
+		}
+		return markers;
+	}
+}
@@ -0,0 +1,76 @@
+package merger;
+
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+
+/**
+ * A terminal whose merging mechanism is not <code>Default</code> and that
+ * occurs in more than one revision. It keeps the bodies of the revisions
+ * until a {@link MergerInterface} sets the merged body.
+ */
+public class MergeTerminal extends FSTTerminal {
+
+	private final String left;
+
+	private final String base;
+
+	private final String right;
+
+	private boolean merged = false;
+
+	/**
+	 * @param terminal the terminal whose type, name, prefix and mechanisms
+	 *            the merged terminal gets
+	 * @param left the body in the left revision, or null if the terminal is
+	 *            missing there; the same for base and right
+	 */
+	public MergeTerminal(FSTTerminal terminal, String left, String base, String right) {
+		super(terminal.getType(), terminal.getName(), "", terminal.getSpecialTokenPrefix(),
+				terminal.getCompositionMechanism(), terminal.getMergingMechanism());
+		setOriginalFeatureName(terminal.getOriginalFeatureName());
+		this.left = left;
+		this.base = base;
+		this.right = right;
+	}
+
+	public String getLeft() {
+		return left;
+	}
+
+	public String getBase() {
+		return base;
+	}
+
+	public String getRight() {
+		return right;
+	}
+
+	/**
+	 * @return whether the merged body has been set
+	 */
+	public boolean isMerged() {
+		return merged;
+	}
+
+	@Override
+	public void setBody(String b) {
+		super.setBody(b);
+		merged = true;
+	}
+
+	/**
+	 * @return the revisions in the form in which a conflict that no merger
+	 *         resolves is written to the merged file
+	 */
+	public String getConflictBody() {
+		StringBuilder conflict = new StringBuilder(FSTGenMerger.SEMANTIC_MERGE_MARKER);
+		if (left != null)
+			conflict.append(' ').append(left);
+		conflict.append(' ').append(FSTGenMerger.MERGE_SEPARATOR);
+		if (base != null)
+			conflict.append(' ').append(base);
+		conflict.append(' ').append(FSTGenMerger.MERGE_SEPARATOR);
+		if (right != null)
+			conflict.append(' ').append(right);
+		return conflict.toString();
+	}
+}
@@ -1,42 +1,141 @@
 package merger;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import de.ovgu.cide.fstgen.ast.FSTNode;
 import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
 import de.ovgu.cide.fstgen.ast.FSTTerminal;
 
+/**
+ * Merges the conflicting terminals of a merged tree with the registered
+ * mergers. With several merge threads, the terminals are merged in parallel:
+ * each terminal is merged by one job, which only sets the body of its
+ * terminal, and the errors of the jobs are reported in the order of the
+ * terminals in the tree. Registered mergers must therefore allow merging
+ * different terminals at the same time.
+ */
 public class MergeVisitor {
-	
+
 	private LinkedList<MergerInterface> mergerList = new LinkedList<MergerInterface>();
-	
+
+	private int mergeThreads = 1;
+
 	public void registerMerger(MergerInterface merger) {
 		mergerList.add(merger);
 	}
-	
+
 	private LinkedList<MergerInterface> getMergerList() {
 		return mergerList;
 	}
-	
+
+	public int getMergeThreads() {
+		return mergeThreads;
+	}
+
+	/**
+	 * @param mergeThreads the number of terminals merged at the same time
+	 */
+	public void setMergeThreads(int mergeThreads) {
+		this.mergeThreads = Math.max(1, mergeThreads);
+	}
+
 	public void visit(FSTNode current) {
+		if(mergeThreads == 1) {
+			visitSequentially(current);
+			return;
+		}
+		List<MergeTerminal> terminals = new ArrayList<MergeTerminal>();
+		collect(current, terminals);
+		if(terminals.size() < 2) {
+			for(MergeTerminal terminal : terminals)
+				report(merge(terminal));
+			return;
+		}
+		ForkJoinPool pool = new ForkJoinPool(Math.min(mergeThreads, terminals.size()));
+		try {
+			List<Future<List<ContentMergeException>>> jobs = new ArrayList<Future<List<ContentMergeException>>>(terminals.size());
+			for(final MergeTerminal terminal : terminals) {
+				jobs.add(pool.submit(new Callable<List<ContentMergeException>>() {
+					public List<ContentMergeException> call() {
+						return merge(terminal);
+					}
+				}));
+			}
+			for(Future<List<ContentMergeException>> job : jobs)
+				report(job.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			if(e.getCause() instanceof RuntimeException)
+				throw (RuntimeException)e.getCause();
+			throw new RuntimeException(e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private void visitSequentially(FSTNode current) {
 		if(current instanceof FSTNonTerminal) {
 			for(FSTNode child : ((FSTNonTerminal)current).getChildren())
-				visit(child);
+				visitSequentially(child);
+		} else if(current instanceof MergeTerminal) {
+			report(merge((MergeTerminal)current));
 		} else if(current instanceof FSTTerminal) {
-			for(MergerInterface merger : getMergerList()) {
-				try {
-					
-					if(((FSTTerminal)current).getBody().contains(FSTGenMerger.MERGE_SEPARATOR)) {
-						merger.merge((FSTTerminal)current);
-					}
-						
-				} catch (ContentMergeException e) {
-					System.err.println(e.toString());
-				} 
-			}
-				
+			// a single revision or merged by default
 		} else {
-			System.err.println("MergerVisitor: node is neither non-terminal nor terminal!");			
+			System.err.println("MergerVisitor: node is neither non-terminal nor terminal!");
+		}
+	}
+
+	/**
+	 * collects the conflicting terminals in the order in which
+	 * {@link #visitSequentially(FSTNode)} merges them
+	 */
+	private static void collect(FSTNode current, List<MergeTerminal> terminals) {
+		if(current instanceof FSTNonTerminal) {
+			for(FSTNode child : ((FSTNonTerminal)current).getChildren())
+				collect(child, terminals);
+		} else if(current instanceof MergeTerminal) {
+			terminals.add((MergeTerminal)current);
+		} else if(!(current instanceof FSTTerminal)) {
+			System.err.println("MergerVisitor: node is neither non-terminal nor terminal!");
 		}
 	}
+
+	/**
+	 * merges the given terminal with the first merger that can merge it
+	 *
+	 * @return the errors of the mergers
+	 */
+	private List<ContentMergeException> merge(MergeTerminal terminal) {
+		List<ContentMergeException> errors = null;
+		for(MergerInterface merger : getMergerList()) {
+			try {
+
+				if(!terminal.isMerged()) {
+					merger.merge(terminal);
+				}
+
+			} catch (ContentMergeException e) {
+				if(errors == null)
+					errors = new ArrayList<ContentMergeException>(1);
+				errors.add(e);
+			}
+		}
+		if(!terminal.isMerged())
+			terminal.setBody(terminal.getConflictBody());
+		return errors;
+	}
+
+	private static void report(List<ContentMergeException> errors) {
+		if(errors != null)
+			for(ContentMergeException e : errors)
+				System.err.println(e.toString());
+	}
 }
@@ -1,7 +1,9 @@
 package merger;
 
-import de.ovgu.cide.fstgen.ast.FSTTerminal;
-
 public interface MergerInterface {
-	void merge(FSTTerminal node) throws ContentMergeException;
+	/**
+	 * sets the merged body of the given terminal, unless it cannot merge
+	 * the revisions
+	 */
+	void merge(MergeTerminal node) throws ContentMergeException;
 }
@@ -0,0 +1,68 @@
+package merger;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * The expected results are the output of GNU
+ * <code>diff3 -E -am -L fstmerge_var1 -L base -L fstmerge_var2 mine base yours</code>.
+ */
+public class Diff3Test {
+
+	private static String merge(String mine, String base, String yours) {
+		return Diff3.merge(mine, base, yours, "fstmerge_var1", "fstmerge_var2");
+	}
+
+	@Test
+	public void changesOfBothRevisionsAtDifferentLinesAreTakenOver() {
+		assertEquals("a\nB\nc\nd\nE\n",
+				merge("a\nB\nc\nd\ne\n", "a\nb\nc\nd\ne\n", "a\nb\nc\nd\nE\n"));
+	}
+
+	@Test
+	public void identicalChangesAreTakenOverOnce() {
+		assertEquals("a\nX\nc\n", merge("a\nX\nc\n", "a\nb\nc\n", "a\nX\nc\n"));
+	}
+
+	@Test
+	public void differentChangesOfTheSameLinesConflict() {
+		assertEquals("a\n<<<<<<< fstmerge_var1\nB\n=======\nX\n>>>>>>> fstmerge_var2\nc\n",
+				merge("a\nB\nc\n", "a\nb\nc\n", "a\nX\nc\n"));
+	}
+
+	@Test
+	public void changesOfAdjacentLinesConflictAsOneHunk() {
+		assertEquals("a\n<<<<<<< fstmerge_var1\nB\nc\n=======\nb\nC\n>>>>>>> fstmerge_var2\nd\n",
+				merge("a\nB\nc\nd\n", "a\nb\nc\nd\n", "a\nb\nC\nd\n"));
+	}
+
+	@Test
+	public void insertionsAtTheStartAndTheEnd() {
+		assertEquals("0\na\nb\nz\n", merge("0\na\nb\n", "a\nb\n", "a\nb\nz\n"));
+		assertEquals("a\nb\n<<<<<<< fstmerge_var1\nm\n=======\ny\n>>>>>>> fstmerge_var2\n",
+				merge("a\nb\nm\n", "a\nb\n", "a\nb\ny\n"));
+	}
+
+	@Test
+	public void emptyBase() {
+		assertEquals("<<<<<<< fstmerge_var1\na\nb\n=======\na\nc\n>>>>>>> fstmerge_var2\n",
+				merge("a\nb\n", "", "a\nc\n"));
+		assertEquals("a\n", merge("a\n", "", "a\n"));
+	}
+
+	@Test
+	public void emptyRevision() {
+		assertEquals("", merge("", "a\nb\n", "a\nb\n"));
+		assertEquals("<<<<<<< fstmerge_var1\n=======\na\nb\nc\n>>>>>>> fstmerge_var2\n",
+				merge("", "a\nb\n", "a\nb\nc\n"));
+	}
+
+	@Test
+	public void missingFinalLineFeed() {
+		assertEquals("A\nb\nc", merge("a\nb\nc", "a\nb\nc\n", "A\nb\nc\n"));
+		assertEquals("a\nc", merge("a\nb", "a\nb", "a\nc"));
+		assertEquals("a\n<<<<<<< fstmerge_var1\nx=======\ny>>>>>>> fstmerge_var2\n",
+				merge("a\nx", "a\nb\n", "a\ny"));
+	}
+}
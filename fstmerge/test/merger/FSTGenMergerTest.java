@@ -0,0 +1,154 @@
+package merger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import de.ovgu.cide.fstgen.ast.FSTFeatureNode;
+import de.ovgu.cide.fstgen.ast.FSTNode;
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+
+public class FSTGenMergerTest {
+
+	private static FSTNonTerminal nonterminal(String name, FSTNode... children) {
+		FSTNonTerminal node = new FSTNonTerminal("Class", name);
+		for (FSTNode child : children)
+			node.addChild(child);
+		return node;
+	}
+
+	private static FSTNonTerminal feature(String name, FSTNode... children) {
+		FSTNonTerminal node = new FSTFeatureNode(name);
+		for (FSTNode child : children)
+			node.addChild(child);
+		return node;
+	}
+
+	private static FSTTerminal method(String name, String body) {
+		return new FSTTerminal("Method", name, body, "", "Replacement", "LineBased");
+	}
+
+	private static FSTTerminal field(String name, String body) {
+		return new FSTTerminal("Field", name, body, "");
+	}
+
+	/**
+	 * @return the types, names and bodies of the given tree, with the
+	 *         conflict bodies of the terminals that are still to be merged
+	 */
+	static String print(FSTNode node, String indent) {
+		if (node instanceof FSTNonTerminal) {
+			StringBuilder result = new StringBuilder(indent + node.getType() + " " + node.getName() + "\n");
+			for (FSTNode child : ((FSTNonTerminal) node).getChildren())
+				result.append(print(child, indent + "  "));
+			return result.toString();
+		}
+		String body = node instanceof MergeTerminal && !((MergeTerminal) node).isMerged()
+				? ((MergeTerminal) node).getConflictBody() : ((FSTTerminal) node).getBody();
+		return indent + node.getType() + " " + node.getName() + " = " + body + "\n";
+	}
+
+	private static FSTNode merge(FSTNonTerminal left, FSTNonTerminal base, FSTNonTerminal right) throws MergeException {
+		return new FSTGenMerger().merge(Arrays.asList(left, base, right));
+	}
+
+	@Test
+	public void mergedTreeHasTheNodesOfAllRevisions() throws MergeException {
+		FSTNonTerminal left = feature("left",
+				nonterminal("C",
+						method("m", "l-m"),
+						method("p", "l-p"),
+						method("q", "l-q"),
+						method("onlyL", "x"),
+						field("e", "l-e")),
+				nonterminal("L", method("t", "t")));
+		FSTNonTerminal base = feature("base",
+				nonterminal("C",
+						method("m", "b-m"),
+						method("p", "b-p"),
+						method("r", "b-r"),
+						method("gone", "g"),
+						field("e", "b-e")),
+				nonterminal("D",
+						method("d1", "b-d1"),
+						method("d2", "b-d2")));
+		FSTNonTerminal right = feature("right",
+				nonterminal("C",
+						method("r", "r-r"),
+						method("m", "r-m"),
+						method("q", "r-q"),
+						method("onlyR", "y"),
+						field("e", "r-e")),
+				nonterminal("D",
+						method("d2", "r-d2"),
+						method("d3", "r-d3")));
+
+		assertEquals("Feature left\n"
+				// the children of the right revision first
+				+ "  Class C\n"
+				+ "    Method r = ~~FSTMerge~~ ##FSTMerge## b-r ##FSTMerge## r-r\n"
+				+ "    Method m = ~~FSTMerge~~ l-m ##FSTMerge## b-m ##FSTMerge## r-m\n"
+				+ "    Method q = ~~FSTMerge~~ l-q ##FSTMerge## ##FSTMerge## r-q\n"
+				+ "    Method onlyR = y\n"
+				// merged by default: the left revision
+				+ "    Field e = l-e\n"
+				// then those of the base revision; gone was deleted in both others
+				+ "    Method p = ~~FSTMerge~~ l-p ##FSTMerge## b-p ##FSTMerge##\n"
+				// then those only in the left revision
+				+ "    Method onlyL = x\n"
+				// missing in the left revision: the base nodes are kept
+				+ "  Class D\n"
+				+ "    Method d2 = ~~FSTMerge~~ ##FSTMerge## b-d2 ##FSTMerge## r-d2\n"
+				+ "    Method d3 = r-d3\n"
+				+ "    Method d1 = b-d1\n"
+				+ "  Class L\n"
+				+ "    Method t = t\n",
+				print(merge(left, base, right), ""));
+	}
+
+	@Test
+	public void mergedNodesAreCopies() throws MergeException {
+		FSTNonTerminal left = feature("left", nonterminal("C", method("m", "l"), field("f", "f")));
+		FSTNonTerminal base = feature("base", nonterminal("C", method("m", "b")));
+		FSTNonTerminal right = feature("right", nonterminal("C", method("m", "r")));
+		FSTNonTerminal merged = (FSTNonTerminal) merge(left, base, right);
+
+		FSTNonTerminal c = (FSTNonTerminal) merged.getChildren().get(0);
+		assertTrue(c.getParent() == merged);
+		for (FSTNode child : c.getChildren())
+			assertTrue(child.getParent() == c);
+		FSTNode f = c.getChildren().get(1);
+		FSTNonTerminal leftC = (FSTNonTerminal) left.getChildren().get(0);
+		assertTrue(f != leftC.getChildren().get(1));
+		assertEquals(2, leftC.getChildren().size());
+	}
+
+	@Test
+	public void conflictBodyKeepsTheRevisions() {
+		FSTTerminal terminal = method("m", "");
+		assertEquals("~~FSTMerge~~ l ##FSTMerge## b ##FSTMerge## r",
+				new MergeTerminal(terminal, "l", "b", "r").getConflictBody());
+		assertEquals("~~FSTMerge~~ l ##FSTMerge## ##FSTMerge## r",
+				new MergeTerminal(terminal, "l", null, "r").getConflictBody());
+		assertEquals("~~FSTMerge~~ ##FSTMerge## b ##FSTMerge## r",
+				new MergeTerminal(terminal, null, "b", "r").getConflictBody());
+		assertEquals("~~FSTMerge~~ l ##FSTMerge## b ##FSTMerge##",
+				new MergeTerminal(terminal, "l", "b", null).getConflictBody());
+	}
+
+	@Test
+	public void mergeTerminalIsMergedOnceItsBodyIsSet() {
+		MergeTerminal terminal = new MergeTerminal(method("m", "l"), "l", "b", "r");
+		assertEquals("Method", terminal.getType());
+		assertEquals("LineBased", terminal.getMergingMechanism());
+		assertEquals("", terminal.getBody());
+		assertTrue(!terminal.isMerged());
+		terminal.setBody("merged");
+		assertTrue(terminal.isMerged());
+		assertEquals("merged", terminal.getBody());
+	}
+}
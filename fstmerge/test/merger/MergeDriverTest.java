@@ -0,0 +1,109 @@
+package merger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MergeDriverTest {
+
+	private static final String CLASS_A = "package p;\n\npublic class A {\n\tint m() {\n\t\treturn %d;\n\t}\n}\n";
+
+	private File directory;
+
+	@Before
+	public void createDirectory() throws IOException {
+		directory = Files.createTempDirectory("mergedriver").toFile();
+	}
+
+	@After
+	public void deleteDirectory() {
+		for (File file : directory.listFiles())
+			file.delete();
+		directory.delete();
+	}
+
+	private File write(String name, String content) throws IOException {
+		File file = new File(directory, name);
+		Files.write(file.toPath(), content.getBytes("UTF-8"));
+		return file;
+	}
+
+	private String read(String name) throws IOException {
+		return new String(Files.readAllBytes(new File(directory, name).toPath()), "UTF-8");
+	}
+
+	private static String entry(File mine, File base, File yours, File output, String path) {
+		return mine + "\t" + base + "\t" + yours + "\t" + output + (path == null ? "" : "\t" + path) + "\n";
+	}
+
+	/**
+	 * writes a manifest with an unchanged file, a conflicting Java file, a
+	 * text file with a path column, a Java file that does not parse and a
+	 * malformed line
+	 */
+	private File manifest() throws IOException {
+		StringBuilder manifest = new StringBuilder();
+		manifest.append(entry(write("U.mine.java", "class U {}\n"), write("U.base.java", "class U {}\n"),
+				write("U.yours.java", "class U { int u; }\n"), new File(directory, "U.java"), null));
+		manifest.append(entry(write("A.mine", String.format(CLASS_A, 1)), write("A.base", String.format(CLASS_A, 0)),
+				write("A.yours", String.format(CLASS_A, 2)), new File(directory, ".merge_A"), "p/A.java"));
+		manifest.append(entry(write("notes.mine", "one\n2\n3\n4\n5\n"), write("notes.base", "1\n2\n3\n4\n5\n"),
+				write("notes.yours", "1\n2\n3\n4\nfive\n"), new File(directory, ".merge_notes"), "notes.txt"));
+		manifest.append(entry(write("B.mine.java", "class B {\n\tint a(;\n}\n\n// b\n"), write("B.base.java", "class B {\n\n}\n\n// b\n"),
+				write("B.yours.java", "class B {\n\n}\n\n// c\n"), new File(directory, "B.java"), null));
+		manifest.append("malformed\tline\n");
+		return write("manifest", manifest.toString());
+	}
+
+	@Test
+	public void statusLinesFollowTheManifest() throws IOException {
+		ByteArrayOutputStream status = new ByteArrayOutputStream();
+		MergeVisitor mergeVisitor = new MergeVisitor();
+		mergeVisitor.registerMerger(new LineBasedMerger());
+		MergeDriver driver = new MergeDriver(new FSTGenMerger(), mergeVisitor, 4);
+
+		assertEquals(2, driver.run(manifest().getPath(), new PrintStream(status, true, "UTF-8")));
+		assertEquals("clean\t0\t" + new File(directory, "U.java") + "\n"
+				+ "conflict\t1\t" + new File(directory, ".merge_A") + "\n"
+				+ "clean\t0\t" + new File(directory, ".merge_notes") + "\n"
+				+ "clean\t0\t" + new File(directory, "B.java") + "\n"
+				+ "error\t0\tmalformed\tline\n",
+				status.toString("UTF-8").replace(System.getProperty("line.separator"), "\n"));
+
+		// unchanged in one revision: the other one
+		assertEquals("class U { int u; }\n", read("U.java"));
+		// merged as Java, selected by the path
+		String merged = read(".merge_A");
+		assertTrue(merged.contains("int m() {"));
+		assertTrue(merged.contains("<<<<<<< fstmerge_var1"));
+		// merged line by line
+		assertEquals("one\n2\n3\n4\nfive\n", read(".merge_notes"));
+		// does not parse, merged line by line
+		assertEquals("class B {\n\tint a(;\n}\n\n// c\n", read("B.java"));
+	}
+
+	@Test
+	public void exitCodeIsStoredByRun() throws IOException {
+		File mine = write("A.java", String.format(CLASS_A, 1));
+		File base = write("A.base", String.format(CLASS_A, 0));
+		File yours = write("A.yours", String.format(CLASS_A, 0));
+		FSTGenMerger merger = new FSTGenMerger();
+		merger.run(new String[] {"--filemerge", mine.getPath(), base.getPath(), yours.getPath()});
+		assertEquals(0, merger.getExitCode());
+		assertEquals(String.format(CLASS_A, 1), read("A.java"));
+
+		write("A.yours", String.format(CLASS_A, 2));
+		merger.run(new String[] {"--filemerge", mine.getPath(), base.getPath(), yours.getPath()});
+		assertEquals(1, merger.getExitCode());
+		assertTrue(read("A.java").contains("<<<<<<< fstmerge_var1"));
+	}
+}
@@ -0,0 +1,70 @@
+package merger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import de.ovgu.cide.fstgen.ast.FSTFeatureNode;
+import de.ovgu.cide.fstgen.ast.FSTNode;
+import de.ovgu.cide.fstgen.ast.FSTNonTerminal;
+import de.ovgu.cide.fstgen.ast.FSTTerminal;
+
+public class MergeVisitorTest {
+
+	private static final String[] REVISIONS = { "left", "base", "right" };
+
+	/**
+	 * @return a revision of a class whose methods are changed in the left,
+	 *         the right or both revisions, and whose modifiers are merged
+	 *         as tokens
+	 */
+	private static FSTNonTerminal revision(int revision) {
+		FSTNonTerminal feature = new FSTFeatureNode(REVISIONS[revision]);
+		for (int c = 0; c < 4; c++) {
+			FSTNonTerminal type = new FSTNonTerminal("Class", "C" + c);
+			for (int m = 0; m < 25; m++) {
+				StringBuilder body = new StringBuilder();
+				for (int line = 0; line < 6; line++) {
+					boolean changed = revision != 1 && (line == m % 6 && (m % 3 == revision || m % 3 == 1)
+							|| revision == 0 && line == (m + 2) % 6 && m % 4 == 0);
+					body.append(changed ? REVISIONS[revision] + " " + line : "line " + line).append('\n');
+				}
+				type.addChild(new FSTTerminal("Method", "m" + m, body.toString(), "", "Replacement", "LineBased"));
+			}
+			String modifiers = c % 2 == 0 && revision != 1 ? REVISIONS[revision] : "public";
+			type.addChild(new FSTTerminal("Modifiers", "mod", modifiers, "", "Replacement", "Tokens"));
+			feature.addChild(type);
+		}
+		return feature;
+	}
+
+	private static String mergeWithThreads(int threads) throws MergeException {
+		FSTNode merged = new FSTGenMerger().merge(Arrays.asList(revision(0), revision(1), revision(2)));
+		MergeVisitor visitor = new MergeVisitor();
+		visitor.registerMerger(new LineBasedMerger());
+		visitor.setMergeThreads(threads);
+		visitor.visit(merged);
+		return FSTGenMergerTest.print(merged, "");
+	}
+
+	@Test
+	public void parallelMergeGivesTheSequentialTree() throws MergeException {
+		String sequential = mergeWithThreads(1);
+		assertTrue(sequential.contains("<<<<<<< fstmerge_var1"));
+		assertTrue(sequential.contains("left 0"));
+		assertTrue(sequential.contains("right 2"));
+		assertTrue(sequential.contains("Modifiers mod = ~~FSTMerge~~ left ##FSTMerge## public ##FSTMerge## right"));
+		for (int i = 0; i < 3; i++)
+			assertEquals(sequential, mergeWithThreads(4));
+	}
+
+	@Test
+	public void mergeThreadsAreAtLeastOne() {
+		MergeVisitor visitor = new MergeVisitor();
+		visitor.setMergeThreads(0);
+		assertEquals(1, visitor.getMergeThreads());
+	}
+}